@@ -44,4 +44,20 @@ public enum StatementOrder {
 		throw new IllegalStateException("Unknown StatementOrder: " + this);
 	}
 
+	@Experimental
+	public Value getValue(Statement statement) {
+		switch (this) {
+		case S:
+			return statement.getSubject();
+		case P:
+			return statement.getPredicate();
+		case O:
+			return statement.getObject();
+		case C:
+			return statement.getContext();
+		}
+
+		throw new IllegalStateException("Unknown StatementOrder: " + this);
+	}
+
 }
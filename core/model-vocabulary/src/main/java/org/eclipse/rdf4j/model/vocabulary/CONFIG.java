@@ -252,6 +252,9 @@ public class CONFIG {
 
 		/** <var>tag:rdf4j.org,2023:config/mem.syncDelay</var> */
 		public final static IRI syncDelay = createIRI(NAMESPACE, "mem.syncDelay");
+
+		/** <var>tag:rdf4j.org,2023:config/mem.sharedScans</var> */
+		public final static IRI sharedScans = createIRI(NAMESPACE, "mem.sharedScans");
 	}
 
 	/**
@@ -309,6 +312,8 @@ public class CONFIG {
 		public final static IRI walAutoRecoverOnOpen = createIRI(NAMESPACE, "native.walAutoRecoverOnOpen");
 		/** <var>tag:rdf4j.org,2025:config/native.walEnabled</var> */
 		public final static IRI walEnabled = createIRI(NAMESPACE, "native.walEnabled");
+		/** <var>tag:rdf4j.org,2023:config/native.nodeCacheSize</var> */
+		public final static IRI nodeCacheSize = createIRI(NAMESPACE, "native.nodeCacheSize");
 	}
 
 	/**
@@ -87,6 +87,9 @@ public final class TelemetryMetricNames {
 	public static final String EXPR_NULL_COUNT_ACTUAL = "exprNullCountActual";
 	public static final String EXPR_ERROR_COUNT_ACTUAL = "exprErrorCountActual";
 	public static final String SHORT_CIRCUIT_COUNT_ACTUAL = "shortCircuitCountActual";
+	public static final String MEMO_HITS_ACTUAL = "memoHitsActual";
+	public static final String MEMO_MISSES_ACTUAL = "memoMissesActual";
+	public static final String MEMO_HIT_RATE_ACTUAL = "memoHitRateActual";
 
 	public static final String ROWS_SORTED_ACTUAL = "rowsSortedActual";
 	public static final String SPILL_COUNT_ACTUAL = "spillCountActual";
@@ -126,6 +129,8 @@ public final class TelemetryMetricNames {
 	public static final String PLANNED_UNCERTAINTY_ROWS = "plannedUncertaintyRows";
 	public static final String FILTER_SELECTIVITY_SOURCE = "filterSelectivitySource";
 	public static final String PLANNED_INDEX_ACCESS_MODE = "plannedIndexAccessMode";
+	public static final String PLANNED_AGGREGATE_ACCESS_MODE = "plannedAggregateAccessMode";
+	public static final String PLANNED_STATEMENT_OFFSET = "plannedStatementOffset";
 	public static final String PLANNED_ACCESS_ROWS = "plannedAccessRows";
 	public static final String PLANNED_ACCESS_ROWS_AFTER_FILTER = "plannedAccessRowsAfterFilter";
 	public static final String PLANNED_ACCESS_PATH_CANDIDATES = "plannedAccessPathCandidates";
@@ -12,11 +12,13 @@
 package org.eclipse.rdf4j.query.algebra.evaluation;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.OffsetIteration;
 import org.eclipse.rdf4j.common.order.AvailableStatementOrder;
 import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.model.IRI;
@@ -73,6 +75,81 @@ public interface TripleSource extends AvailableStatementOrder {
 		return count;
 	}
 
+	/**
+	 * Gets the statements matching the supplied pattern, skipping the first <var>offset</var> of them. The statements
+	 * are skipped in the order in which {@link #getStatements(Resource, IRI, Value, Resource...)} would return them.
+	 * Stores can override this to step over the skipped statements without materializing their values.
+	 * <p>
+	 * Note that this method is experimental and may be changed or removed without notice.
+	 *
+	 * @param offset   The number of matching statements to skip, must be larger than or equal to 0.
+	 * @param subj     A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred     A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param obj      A Value specifying the object, or <var>null</var> for a wildcard.
+	 * @param contexts The context(s) to get the statements from. Note that this parameter is a vararg and as such is
+	 *                 optional. If no contexts are supplied the method operates on the entire repository.
+	 * @return An iterator over the relevant statements after the offset.
+	 * @throws QueryEvaluationException If the triple source failed to get the statements.
+	 */
+	@Experimental
+	default CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws QueryEvaluationException {
+		CloseableIteration<? extends Statement> statements = getStatements(subj, pred, obj, contexts);
+		return offset > 0 ? new OffsetIteration<>(statements, offset) : statements;
+	}
+
+	/**
+	 * Gets the statements matching the supplied pattern whose object may lie within the supplied range. The result
+	 * may include statements whose object is outside of the range, so callers must still check the objects; stores
+	 * can override this to restrict an index scan to the objects within the range.
+	 * <p>
+	 * Note that this method is experimental and may be changed or removed without notice.
+	 *
+	 * @param subj        A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred        A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param objectRange The range of the object.
+	 * @param contexts    The context(s) to get the statements from. Note that this parameter is a vararg and as such
+	 *                    is optional. If no contexts are supplied the method operates on the entire repository.
+	 * @return An iterator over a superset of the statements whose object lies within the range.
+	 * @throws QueryEvaluationException If the triple source failed to get the statements.
+	 */
+	@Experimental
+	default CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws QueryEvaluationException {
+		return getStatements(subj, pred, null, contexts);
+	}
+
+	/**
+	 * Counts the distinct values that occur in the given statement component of the statements matching the supplied
+	 * pattern. Stores that keep their indexes sorted can answer this without materializing any values. The
+	 * <var>null</var> context is not counted as a value when <var>component</var> is {@link StatementOrder#C}.
+	 * <p>
+	 * Note that this method is experimental and may be changed or removed without notice.
+	 *
+	 * @param component The statement component whose distinct values should be counted.
+	 * @param subj      A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred      A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param obj       A Value specifying the object, or <var>null</var> for a wildcard.
+	 * @param contexts  The context(s) to get the statements from. Note that this parameter is a vararg and as such is
+	 *                  optional. If no contexts are supplied the method operates on the entire repository.
+	 * @return The number of distinct values in the component.
+	 * @throws QueryEvaluationException If the triple source failed to count the values.
+	 */
+	@Experimental
+	default long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws QueryEvaluationException {
+		Set<Value> distinct = new HashSet<>();
+		try (CloseableIteration<? extends Statement> statements = getStatements(subj, pred, obj, contexts)) {
+			while (statements.hasNext()) {
+				Value value = component.getValue(statements.next());
+				if (value != null) {
+					distinct.add(value);
+				}
+			}
+		}
+		return distinct.size();
+	}
+
 	/**
 	 * Gets all statements that have a specific subject, predicate and/or object. All three parameters may be null to
 	 * indicate wildcards. Optionally a (set of) context(s) may be specified in which case the result will be restricted
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation;
+
+import java.util.Objects;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.Literal;
+
+/**
+ * A range of literal values with optional lower and upper bounds, as expressed by comparisons such as
+ * <code>FILTER(?x &gt; 30 &amp;&amp; ?x &lt;= 50)</code>. Values are compared with the SPARQL operator mapping, so a
+ * numeric range covers values of all numeric datatypes.
+ * <p>
+ * Note that this class is experimental and may be changed or removed without notice.
+ */
+@Experimental
+public final class ValueRange {
+
+	private final Literal lowerBound;
+	private final boolean lowerInclusive;
+	private final Literal upperBound;
+	private final boolean upperInclusive;
+
+	/**
+	 * @param lowerBound     the lower bound or <code>null</code> if the range has no lower bound
+	 * @param lowerInclusive whether values equal to the lower bound are part of the range
+	 * @param upperBound     the upper bound or <code>null</code> if the range has no upper bound
+	 * @param upperInclusive whether values equal to the upper bound are part of the range
+	 */
+	public ValueRange(Literal lowerBound, boolean lowerInclusive, Literal upperBound, boolean upperInclusive) {
+		this.lowerBound = lowerBound;
+		this.lowerInclusive = lowerInclusive;
+		this.upperBound = upperBound;
+		this.upperInclusive = upperInclusive;
+	}
+
+	/**
+	 * @return the lower bound or <code>null</code>
+	 */
+	public Literal getLowerBound() {
+		return lowerBound;
+	}
+
+	public boolean isLowerInclusive() {
+		return lowerInclusive;
+	}
+
+	/**
+	 * @return the upper bound or <code>null</code>
+	 */
+	public Literal getUpperBound() {
+		return upperBound;
+	}
+
+	public boolean isUpperInclusive() {
+		return upperInclusive;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ValueRange)) {
+			return false;
+		}
+		ValueRange other = (ValueRange) o;
+		return lowerInclusive == other.lowerInclusive && upperInclusive == other.upperInclusive
+				&& Objects.equals(lowerBound, other.lowerBound) && Objects.equals(upperBound, other.upperBound);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(lowerBound, lowerInclusive, upperBound, upperInclusive);
+	}
+
+	@Override
+	public String toString() {
+		return (lowerBound == null ? "(*" : (lowerInclusive ? "[" : "(") + lowerBound) + ", "
+				+ (upperBound == null ? "*)" : upperBound + (upperInclusive ? "]" : ")"));
+	}
+}
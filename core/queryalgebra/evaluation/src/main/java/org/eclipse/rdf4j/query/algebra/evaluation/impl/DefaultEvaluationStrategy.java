@@ -127,6 +127,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.QueryValueEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryValueEvaluationStep.ConstantQueryValueEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
 import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedService;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolverClient;
@@ -136,6 +137,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.function.TupleFunction;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.TupleFunctionRegistry;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.datetime.Now;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.BindingSetAssignmentQueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.CountAggregateQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.EncodedTripleTermQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.IntersectionQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.JoinQueryEvaluationStep;
@@ -168,6 +170,10 @@ import org.eclipse.rdf4j.query.algebra.evaluation.iterator.FilterIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.GroupIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.MultiProjectionIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.PathIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer.CountAggregatePlan;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ObjectRangeFilterOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.SliceOffsetPushdownOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.MathUtil;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.OrderComparator;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.QueryEvaluationUtil;
@@ -595,7 +601,13 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	}
 
 	protected QueryEvaluationStep prepare(Group node, QueryEvaluationContext context) throws QueryEvaluationException {
-		return bindings -> new GroupIterator(DefaultEvaluationStrategy.this, node, bindings, context);
+		QueryEvaluationStep groupStep = bindings -> new GroupIterator(DefaultEvaluationStrategy.this, node, bindings,
+				context);
+		CountAggregatePlan countPlan = CountAggregateOptimizer.getPlan(node);
+		if (countPlan != null) {
+			return new CountAggregateQueryEvaluationStep(countPlan, tripleSource, context, groupStep);
+		}
+		return groupStep;
 	}
 
 	protected QueryEvaluationStep prepare(Intersection node, QueryEvaluationContext context)
@@ -647,7 +659,12 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	protected QueryEvaluationStep prepare(StatementPattern node, QueryEvaluationContext context)
 			throws QueryEvaluationException {
-		return new StatementPatternQueryEvaluationStep(node, context, tripleSource);
+		ValueRange objectRange = ObjectRangeFilterOptimizer.getObjectRange(node);
+		if (objectRange != null) {
+			return new StatementPatternQueryEvaluationStep(node, context, tripleSource, objectRange);
+		}
+		return new StatementPatternQueryEvaluationStep(node, context, tripleSource,
+				SliceOffsetPushdownOptimizer.getStatementOffset(node));
 	}
 
 	protected QueryEvaluationStep prepare(Union node, QueryEvaluationContext context) throws QueryEvaluationException {
@@ -659,6 +676,10 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	protected QueryEvaluationStep prepare(Slice node, QueryEvaluationContext context) throws QueryEvaluationException {
 		QueryEvaluationStep arg = precompile(node.getArg(), context);
+		if (SliceOffsetPushdownOptimizer.isOffsetPushedDown(node)) {
+			// the offset is applied by the statement pattern below
+			return SliceQueryEvaluationStep.supply(0, node.getLimit(), arg);
+		}
 		return SliceQueryEvaluationStep.supply(node, arg);
 	}
 
@@ -1518,7 +1539,7 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		}
 
 		QueryEvaluationStep subquery = precompile(subQuery, context);
-		return new ExistsQueryValueEvaluationStep(subquery);
+		return ExistsQueryValueEvaluationStep.supply(subquery, node);
 	}
 
 	@Override
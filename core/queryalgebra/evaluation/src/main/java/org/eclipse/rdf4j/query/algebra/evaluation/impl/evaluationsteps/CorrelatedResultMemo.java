@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.BNodeGenerator;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.FunctionCall;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.Service;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.function.FunctionRegistry;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.explanation.TelemetryMetricNames;
+
+/**
+ * A bounded, least recently used cache for the results of a correlated sub-expression (such as the subquery of an
+ * EXISTS or the right-hand side of a LATERAL join), keyed by the values of the bindings that the sub-expression can
+ * observe. An instance belongs to a single prepared evaluation step and therefore lives no longer than the query that
+ * prepared it.
+ * <p>
+ * When runtime telemetry is enabled on the metric target, the number of hits and misses and the resulting hit rate are
+ * recorded as actual metrics so that they show up in the query explanation.
+ *
+ * @param <V> the type of the memoized results
+ */
+@Experimental
+public final class CorrelatedResultMemo<V> {
+
+	private final String[] bindingNames;
+	private final Map<Key, V> entries;
+	private final QueryModelNode metricTarget;
+
+	private long hits;
+	private long misses;
+
+	/**
+	 * @param bindingNames the names of the bindings that determine the result of the memoized expression
+	 * @param maxEntries   the maximum number of results to keep
+	 * @param metricTarget the node on which hit and miss counts are recorded, may be <code>null</code>
+	 */
+	public CorrelatedResultMemo(Collection<String> bindingNames, int maxEntries, QueryModelNode metricTarget) {
+		this.bindingNames = bindingNames.toArray(new String[0]);
+		this.metricTarget = metricTarget;
+		this.entries = new LinkedHashMap<>(Math.min(maxEntries, 256) + 1, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the memoized result for the supplied bindings, computing and remembering it on a miss. A computed result
+	 * of <code>null</code> is returned but not remembered.
+	 */
+	public V get(BindingSet bindings, Function<BindingSet, V> compute) {
+		Key key = key(bindings);
+		V result;
+		synchronized (this) {
+			result = entries.get(key);
+			if (result != null) {
+				hits++;
+			} else {
+				misses++;
+			}
+		}
+		if (result == null) {
+			result = compute.apply(bindings);
+			if (result != null) {
+				synchronized (this) {
+					entries.put(key, result);
+				}
+			}
+		}
+		recordMetrics();
+		return result;
+	}
+
+	/**
+	 * @return the number of lookups that were answered from the memo
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of lookups that had to evaluate the memoized expression
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	private Key key(BindingSet bindings) {
+		Value[] values = new Value[bindingNames.length];
+		for (int i = 0; i < bindingNames.length; i++) {
+			values[i] = bindings.getValue(bindingNames[i]);
+		}
+		return new Key(values);
+	}
+
+	private void recordMetrics() {
+		if (metricTarget == null || !metricTarget.isRuntimeTelemetryEnabled()) {
+			return;
+		}
+		long currentHits;
+		long currentMisses;
+		synchronized (this) {
+			currentHits = hits;
+			currentMisses = misses;
+		}
+		metricTarget.setLongMetricActual(TelemetryMetricNames.MEMO_HITS_ACTUAL, currentHits);
+		metricTarget.setLongMetricActual(TelemetryMetricNames.MEMO_MISSES_ACTUAL, currentMisses);
+		metricTarget.setDoubleMetricActual(TelemetryMetricNames.MEMO_HIT_RATE_ACTUAL,
+				currentHits / (double) (currentHits + currentMisses));
+	}
+
+	/**
+	 * Collects the names of all bindings that the evaluation of the supplied expression can read from its input
+	 * bindings.
+	 */
+	public static Set<String> getReferencedBindingNames(TupleExpr expr) {
+		Set<String> names = new LinkedHashSet<>();
+		expr.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			protected void meetNode(QueryModelNode node) {
+				if (node instanceof TupleExpr) {
+					names.addAll(((TupleExpr) node).getBindingNames());
+				}
+				super.meetNode(node);
+			}
+
+			@Override
+			public void meet(Var node) {
+				if (!node.hasValue()) {
+					names.add(node.getName());
+				}
+			}
+
+			@Override
+			public void meet(ProjectionElem node) {
+				names.add(node.getName());
+				names.add(node.getProjectionAlias().orElse(node.getName()));
+			}
+
+			@Override
+			public void meet(ExtensionElem node) {
+				names.add(node.getName());
+				super.meet(node);
+			}
+		});
+		return names;
+	}
+
+	/**
+	 * @return <code>true</code> if evaluating the supplied expression twice with the same input bindings is known to
+	 *         produce the same results, i.e. it calls no remote services and no functions such as RAND(), UUID() or
+	 *         BNODE() that must return a different result on every invocation
+	 */
+	public static boolean isDeterministic(TupleExpr expr) {
+		boolean[] deterministic = { true };
+		expr.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+
+			@Override
+			public void meet(Service node) {
+				deterministic[0] = false;
+			}
+
+			@Override
+			public void meet(BNodeGenerator node) {
+				deterministic[0] = false;
+			}
+
+			@Override
+			public void meet(FunctionCall node) {
+				Optional<org.eclipse.rdf4j.query.algebra.evaluation.function.Function> function = FunctionRegistry
+						.getInstance()
+						.get(node.getURI());
+				if (function.isEmpty() || function.get().mustReturnDifferentResult()) {
+					deterministic[0] = false;
+				} else {
+					super.meet(node);
+				}
+			}
+		});
+		return deterministic[0];
+	}
+
+	private static final class Key {
+
+		private final Value[] values;
+		private final int hashCode;
+
+		private Key(Value[] values) {
+			this.values = values;
+			this.hashCode = Arrays.hashCode(values);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return hashCode == other.hashCode && Arrays.equals(values, other.values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
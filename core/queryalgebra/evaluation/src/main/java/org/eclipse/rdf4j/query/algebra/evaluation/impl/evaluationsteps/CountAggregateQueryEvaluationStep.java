@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.SingletonIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF4J;
+import org.eclipse.rdf4j.model.vocabulary.SESAME;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer.CountAggregatePlan;
+
+/**
+ * Evaluates a single COUNT aggregate over a single statement pattern by asking the {@link TripleSource} for the count
+ * instead of iterating the matching statements. Falls back to the regular group evaluation when the incoming bindings
+ * bind one of the pattern variables.
+ *
+ * @see org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer
+ */
+public class CountAggregateQueryEvaluationStep implements QueryEvaluationStep {
+
+	private static final Resource[] ALL_CONTEXTS = new Resource[0];
+
+	private final CountAggregatePlan plan;
+	private final TripleSource tripleSource;
+	private final QueryEvaluationContext context;
+	private final QueryEvaluationStep fallback;
+	private final Predicate<BindingSet>[] patternVarBound;
+	private final BiConsumer<Value, MutableBindingSet> setCount;
+
+	private final Resource subj;
+	private final IRI pred;
+	private final Value obj;
+	private final Resource[] contexts;
+
+	@SuppressWarnings("unchecked")
+	public CountAggregateQueryEvaluationStep(CountAggregatePlan plan, TripleSource tripleSource,
+			QueryEvaluationContext context, QueryEvaluationStep fallback) {
+		this.plan = plan;
+		this.tripleSource = tripleSource;
+		this.context = context;
+		this.fallback = fallback;
+
+		StatementPattern pattern = plan.getPattern();
+		this.patternVarBound = pattern.getVarList()
+				.stream()
+				.filter(var -> !var.hasValue())
+				.map(var -> context.hasBinding(var.getName()))
+				.toArray(Predicate[]::new);
+		this.setCount = context.setBinding(plan.getBindingName());
+
+		this.subj = (Resource) valueOf(pattern.getSubjectVar());
+		this.pred = (IRI) valueOf(pattern.getPredicateVar());
+		this.obj = valueOf(pattern.getObjectVar());
+
+		Value contextValue = valueOf(pattern.getContextVar());
+		if (contextValue == null) {
+			this.contexts = ALL_CONTEXTS;
+		} else if (RDF4J.NIL.equals(contextValue) || SESAME.NIL.equals(contextValue)) {
+			this.contexts = new Resource[] { null };
+		} else {
+			this.contexts = new Resource[] { (Resource) contextValue };
+		}
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+		if (context.getDataset() != null || isPatternVarBound(bindings)) {
+			return fallback.evaluate(bindings);
+		}
+
+		long count;
+		if (plan.getDistinctComponent() == null) {
+			count = tripleSource.getStatementCount(subj, pred, obj, contexts);
+		} else {
+			count = tripleSource.getDistinctValueCount(plan.getDistinctComponent(), subj, pred, obj, contexts);
+		}
+
+		MutableBindingSet result = context.createBindingSet(bindings);
+		setCount.accept(SimpleValueFactory.getInstance().createLiteral(count, CoreDatatype.XSD.INTEGER), result);
+		return new SingletonIteration<>(result);
+	}
+
+	private boolean isPatternVarBound(BindingSet bindings) {
+		if (bindings.isEmpty()) {
+			return false;
+		}
+		for (Predicate<BindingSet> bound : patternVarBound) {
+			if (bound.test(bindings)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Value valueOf(Var var) throws QueryEvaluationException {
+		return var == null ? null : var.getValue();
+	}
+}
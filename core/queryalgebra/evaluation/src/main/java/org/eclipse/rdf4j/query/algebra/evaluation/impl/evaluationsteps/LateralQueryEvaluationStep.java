@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -20,6 +21,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.DualUnionIteration;
 import org.eclipse.rdf4j.query.Binding;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.algebra.Distinct;
@@ -43,12 +46,17 @@ import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
 import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 
 public final class LateralQueryEvaluationStep implements QueryEvaluationStep {
+	private static final int MEMO_MAX_ENTRIES = 1024;
+	private static final int MEMO_MAX_ROWS_PER_ENTRY = 64;
+
 	private final QueryEvaluationStep left;
 	private final QueryEvaluationStep right;
 	private final EvaluationStrategy strategy;
 	private final TupleExpr rightArg;
 	private final QueryEvaluationContext context;
 	private final Set<String> rightInputBindingNames;
+	private final Lateral lateral;
+	private final boolean memoizeRight;
 
 	public static QueryEvaluationStep supply(EvaluationStrategy strategy, Lateral lateral,
 			QueryEvaluationContext context) {
@@ -63,6 +71,8 @@ public final class LateralQueryEvaluationStep implements QueryEvaluationStep {
 		this.rightArg = null;
 		this.context = null;
 		this.rightInputBindingNames = lateral.getRightInputBindingNames();
+		this.lateral = lateral;
+		this.memoizeRight = false;
 	}
 
 	private LateralQueryEvaluationStep(QueryEvaluationStep left, EvaluationStrategy strategy, TupleExpr rightArg,
@@ -73,6 +83,8 @@ public final class LateralQueryEvaluationStep implements QueryEvaluationStep {
 		this.context = context;
 		this.right = strategy.precompile(rightArg, context);
 		this.rightInputBindingNames = lateral.getRightInputBindingNames();
+		this.lateral = lateral;
+		this.memoizeRight = CorrelatedResultMemo.isDeterministic(rightArg);
 	}
 
 	@Override
@@ -85,8 +97,45 @@ public final class LateralQueryEvaluationStep implements QueryEvaluationStep {
 		}
 
 		QueryEvaluationStep rightForBindings = prepareRight(bindings);
+		if (!memoizeRight) {
+			return LateralIterator.getInstance(leftResults,
+					leftBindings -> rightForBindings.evaluate(filterRightInput(bindings, leftBindings)));
+		}
+
+		// the right input only differs in the lateral bindings, so left solutions that agree on them share the results
+		CorrelatedResultMemo<List<BindingSet>> memo = new CorrelatedResultMemo<>(rightInputBindingNames,
+				MEMO_MAX_ENTRIES, lateral);
 		return LateralIterator.getInstance(leftResults,
-				leftBindings -> rightForBindings.evaluate(filterRightInput(bindings, leftBindings)));
+				leftBindings -> evaluateRight(memo, rightForBindings, filterRightInput(bindings, leftBindings)));
+	}
+
+	private static CloseableIteration<BindingSet> evaluateRight(CorrelatedResultMemo<List<BindingSet>> memo,
+			QueryEvaluationStep right, BindingSet rightInput) {
+		List<CloseableIteration<BindingSet>> uncached = new ArrayList<>(1);
+		List<BindingSet> rows = memo.get(rightInput, input -> {
+			CloseableIteration<BindingSet> iter = right.evaluate(input);
+			List<BindingSet> buffered = new ArrayList<>();
+			try {
+				while (iter.hasNext()) {
+					if (buffered.size() == MEMO_MAX_ROWS_PER_ENTRY) {
+						// too large to remember, hand out what was read so far followed by the rest
+						uncached.add(DualUnionIteration.getInstance(new CloseableIteratorIteration<>(buffered.iterator()),
+								iter));
+						return null;
+					}
+					buffered.add(iter.next());
+				}
+			} catch (RuntimeException e) {
+				iter.close();
+				throw e;
+			}
+			iter.close();
+			return buffered;
+		});
+		if (rows == null) {
+			return uncached.get(0);
+		}
+		return new CloseableIteratorIteration<>(rows.iterator());
 	}
 
 	private QueryEvaluationStep prepareRight(BindingSet originalBindings) {
@@ -20,16 +20,26 @@ import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 public interface SliceQueryEvaluationStep extends QueryEvaluationStep {
 
 	static QueryEvaluationStep supply(Slice slice, QueryEvaluationStep argument) {
+		return supply(slice.getOffset(), slice.getLimit(), argument);
+	}
+
+	/**
+	 * @param offset the number of solutions to skip, values smaller than 1 mean no offset
+	 * @param limit  the maximum number of solutions, negative values mean no limit
+	 */
+	static QueryEvaluationStep supply(long offset, long limit, QueryEvaluationStep argument) {
+		boolean hasOffset = offset > 0;
+		boolean hasLimit = limit >= 0;
 		// if there is no offset nor limit then the operator does nothing
 		// pass through the argument in one go.
-		if (!slice.hasOffset() && !slice.hasLimit()) {
+		if (!hasOffset && !hasLimit) {
 			return argument;
-		} else if (slice.hasOffset() && slice.hasLimit()) {
-			return new OffSetAndLimitQueryEvaluationStep(slice.getOffset(), slice.getLimit(), argument);
-		} else if (slice.hasOffset() && !slice.hasLimit()) {
-			return new OnlyOffsetQueryEvaluationStep(slice.getOffset(), argument);
+		} else if (hasOffset && hasLimit) {
+			return new OffSetAndLimitQueryEvaluationStep(offset, limit, argument);
+		} else if (hasOffset) {
+			return new OnlyOffsetQueryEvaluationStep(offset, argument);
 		} else {
-			return new OnlyLimitQueryEvaluationStep(slice.getLimit(), argument);
+			return new OnlyLimitQueryEvaluationStep(limit, argument);
 		}
 	}
 
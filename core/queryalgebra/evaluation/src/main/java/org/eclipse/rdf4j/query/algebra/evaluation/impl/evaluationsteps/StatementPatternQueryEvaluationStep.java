@@ -12,6 +12,7 @@
 package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
 import org.eclipse.rdf4j.common.iteration.IndexReportingIterator;
+import org.eclipse.rdf4j.common.iteration.OffsetIteration;
 import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
@@ -45,6 +47,7 @@ import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
 import org.eclipse.rdf4j.query.algebra.Var;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
 import org.eclipse.rdf4j.query.explanation.TelemetryMetricNames;
 
@@ -86,6 +89,27 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 
 	private volatile Map<DirectLookupKey, DirectLookupCacheEntry> directLookupCache;
 
+	/**
+	 * Creates a step that skips the first <var>offset</var> statements of every lookup in the store, using
+	 * {@link TripleSource#getStatementsFromOffset(long, Resource, IRI, Value, Resource...)}. Only valid for patterns
+	 * whose statements are converted one-to-one into solutions, i.e. without repeated variables, statement order or
+	 * context filtering.
+	 */
+	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
+			TripleSource tripleSource, long offset) {
+		this(statementPattern, context, offset > 0 ? new OffsetTripleSource(tripleSource, offset) : tripleSource);
+	}
+
+	/**
+	 * Creates a step that restricts lookups with an unbound object to the supplied range, using
+	 * {@link TripleSource#getStatementsInObjectRange(Resource, IRI, ValueRange, Resource...)}. The range must be
+	 * enforced by a filter above this pattern, as stores may return statements outside of it.
+	 */
+	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
+			TripleSource tripleSource, ValueRange objectRange) {
+		this(statementPattern, context, new ObjectRangeTripleSource(tripleSource, objectRange));
+	}
+
 	// We try to do as much work as possible in the constructor.
 	// With the aim of making the evaluate method as cheap as possible.
 	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
@@ -1318,4 +1342,120 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 		return pred.and(and);
 	}
 
+
+	/**
+	 * Skips a fixed number of statements of every lookup in the underlying triple source.
+	 */
+	private static final class OffsetTripleSource implements TripleSource {
+
+		private final TripleSource delegate;
+		private final long offset;
+
+		private OffsetTripleSource(TripleSource delegate, long offset) {
+			this.delegate = delegate;
+			this.offset = offset;
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			return delegate.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+				Value obj, Resource... contexts) throws QueryEvaluationException {
+			return delegate.getStatementsFromOffset(this.offset + offset, subj, pred, obj, contexts);
+		}
+
+		@Override
+		public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts)
+				throws QueryEvaluationException {
+			return Math.max(0, delegate.getStatementCount(subj, pred, obj, contexts) - offset);
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(StatementOrder order, Resource subj, IRI pred,
+				Value obj, Resource... contexts) throws QueryEvaluationException {
+			return new OffsetIteration<>(delegate.getStatements(order, subj, pred, obj, contexts), offset);
+		}
+
+		@Override
+		public Set<StatementOrder> getSupportedOrders(Resource subj, IRI pred, Value obj, Resource... contexts) {
+			return delegate.getSupportedOrders(subj, pred, obj, contexts);
+		}
+
+		@Override
+		public Comparator<Value> getComparator() {
+			return delegate.getComparator();
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return delegate.getValueFactory();
+		}
+	}
+
+	/**
+	 * Restricts lookups with an unbound object of the underlying triple source to a range of values.
+	 */
+	private static final class ObjectRangeTripleSource implements TripleSource {
+
+		private final TripleSource delegate;
+		private final ValueRange objectRange;
+
+		private ObjectRangeTripleSource(TripleSource delegate, ValueRange objectRange) {
+			this.delegate = delegate;
+			this.objectRange = objectRange;
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			if (obj != null) {
+				return delegate.getStatements(subj, pred, obj, contexts);
+			}
+			return delegate.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+		}
+
+		@Override
+		public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts)
+				throws QueryEvaluationException {
+			return delegate.getStatementCount(subj, pred, obj, contexts);
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+				ValueRange objectRange, Resource... contexts) throws QueryEvaluationException {
+			return delegate.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+		}
+
+		@Override
+		public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			return delegate.getDistinctValueCount(component, subj, pred, obj, contexts);
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(StatementOrder order, Resource subj, IRI pred,
+				Value obj, Resource... contexts) throws QueryEvaluationException {
+			// ordered scans can not be restricted to the range, the filter of the range is evaluated on the results
+			return delegate.getStatements(order, subj, pred, obj, contexts);
+		}
+
+		@Override
+		public Set<StatementOrder> getSupportedOrders(Resource subj, IRI pred, Value obj, Resource... contexts) {
+			return delegate.getSupportedOrders(subj, pred, obj, contexts);
+		}
+
+		@Override
+		public Comparator<Value> getComparator() {
+			return delegate.getComparator();
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return delegate.getValueFactory();
+		}
+	}
 }
@@ -15,19 +15,53 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.BooleanLiteral;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.Exists;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryValueEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.CorrelatedResultMemo;
 
 public final class ExistsQueryValueEvaluationStep implements QueryValueEvaluationStep {
+	private static final int MEMO_MAX_ENTRIES = 4096;
+
 	private final QueryEvaluationStep subquery;
+	private final CorrelatedResultMemo<Value> memo;
 
 	public ExistsQueryValueEvaluationStep(QueryEvaluationStep subquery) {
+		this(subquery, null);
+	}
+
+	/**
+	 * @param subquery the prepared subquery
+	 * @param memo     remembers the outcome per combination of correlated binding values, may be <code>null</code>
+	 */
+	public ExistsQueryValueEvaluationStep(QueryEvaluationStep subquery, CorrelatedResultMemo<Value> memo) {
 		this.subquery = subquery;
+		this.memo = memo;
+	}
+
+	/**
+	 * Creates a step for the supplied EXISTS node that remembers the outcome of the subquery for each combination of
+	 * values of the bindings the subquery refers to, so that outer solutions sharing those values evaluate it only once.
+	 * Subqueries that are not deterministic are evaluated every time.
+	 */
+	public static ExistsQueryValueEvaluationStep supply(QueryEvaluationStep subquery, Exists node) {
+		if (!CorrelatedResultMemo.isDeterministic(node.getSubQuery())) {
+			return new ExistsQueryValueEvaluationStep(subquery);
+		}
+		return new ExistsQueryValueEvaluationStep(subquery, new CorrelatedResultMemo<>(
+				CorrelatedResultMemo.getReferencedBindingNames(node.getSubQuery()), MEMO_MAX_ENTRIES, node));
 	}
 
 	@Override
 	public Value evaluate(BindingSet bindings) throws ValueExprEvaluationException, QueryEvaluationException {
+		if (memo != null) {
+			return memo.get(bindings, this::evaluateSubquery);
+		}
+		return evaluateSubquery(bindings);
+	}
+
+	private Value evaluateSubquery(BindingSet bindings) {
 		try (CloseableIteration<BindingSet> iter = subquery.evaluate(bindings)) {
 			return BooleanLiteral.valueOf(iter.hasNext());
 		}
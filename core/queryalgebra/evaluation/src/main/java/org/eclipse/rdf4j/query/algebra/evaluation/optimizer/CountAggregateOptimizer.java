@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.optimizer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.order.StatementOrder;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.Count;
+import org.eclipse.rdf4j.query.algebra.Group;
+import org.eclipse.rdf4j.query.algebra.GroupElem;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.explanation.TelemetryMetricNames;
+
+/**
+ * Marks {@link Group} nodes that compute a single COUNT over a single {@link StatementPattern} so that they can be
+ * answered by {@link TripleSource#getStatementCount(Resource, IRI, org.eclipse.rdf4j.model.Value, Resource...)} or
+ * {@link TripleSource#getDistinctValueCount(StatementOrder, Resource, IRI, org.eclipse.rdf4j.model.Value, Resource...)}
+ * instead of iterating every matching statement. The supported forms are <code>COUNT(*)</code>,
+ * <code>COUNT(?x)</code> and <code>COUNT(DISTINCT ?x)</code> where <code>?x</code> is the subject, predicate or object
+ * variable of the pattern, without any GROUP BY and without repeated variables in the pattern.
+ * <p>
+ * Queries with a {@link Dataset} are left untouched, as are patterns in GRAPH clauses with an unbound graph variable.
+ *
+ * @see CountAggregatePlan
+ */
+@Experimental
+public class CountAggregateOptimizer implements QueryOptimizer {
+
+	/**
+	 * Metadata key used to mark a {@link Group} with {@link Group#setQueryModelMetadata(Object, Object)}.
+	 */
+	public static final String COUNT_AGGREGATE_FAST_PATH = CountAggregateOptimizer.class.getName() + ".fastPath";
+
+	@Override
+	public void optimize(TupleExpr tupleExpr, Dataset dataset, BindingSet bindings) {
+		if (dataset != null) {
+			return;
+		}
+		tupleExpr.visit(new CountAggregateVisitor());
+	}
+
+	/**
+	 * @return the plan attached to the supplied group by this optimizer, or <code>null</code> if the group can not be
+	 *         answered from a count
+	 */
+	public static CountAggregatePlan getPlan(Group group) {
+		if (!Boolean.TRUE.equals(group.getQueryModelMetadata(COUNT_AGGREGATE_FAST_PATH))) {
+			return null;
+		}
+		// derived from the group itself, because the marker survives cloning of the query model
+		return createPlan(group);
+	}
+
+	static CountAggregatePlan createPlan(Group group) {
+		if (!group.getGroupBindingNames().isEmpty()) {
+			return null;
+		}
+		List<GroupElem> elements = group.getGroupElements();
+		if (elements.size() != 1 || !(elements.get(0).getOperator() instanceof Count)) {
+			return null;
+		}
+		if (!(group.getArg() instanceof StatementPattern)) {
+			return null;
+		}
+
+		StatementPattern pattern = (StatementPattern) group.getArg();
+		Var contextVar = pattern.getContextVar();
+		if (contextVar != null ? !contextVar.hasValue() || !(contextVar.getValue() instanceof Resource)
+				: pattern.getScope() != Scope.DEFAULT_CONTEXTS) {
+			return null;
+		}
+		if (!isPatternSupported(pattern)) {
+			return null;
+		}
+
+		GroupElem element = elements.get(0);
+		Count count = (Count) element.getOperator();
+		if (count.getArg() == null) {
+			// COUNT(DISTINCT *) would have to remove statements that occur in more than one context
+			return count.isDistinct() ? null : new CountAggregatePlan(element.getName(), pattern, null);
+		}
+		if (!(count.getArg() instanceof Var) || ((Var) count.getArg()).hasValue()) {
+			return null;
+		}
+
+		String countedName = ((Var) count.getArg()).getName();
+		StatementOrder component = null;
+		if (isVariable(pattern.getSubjectVar(), countedName)) {
+			component = StatementOrder.S;
+		} else if (isVariable(pattern.getPredicateVar(), countedName)) {
+			component = StatementOrder.P;
+		} else if (isVariable(pattern.getObjectVar(), countedName)) {
+			component = StatementOrder.O;
+		}
+		if (component == null) {
+			return null;
+		}
+		return new CountAggregatePlan(element.getName(), pattern, count.isDistinct() ? component : null);
+	}
+
+	private static boolean isPatternSupported(StatementPattern pattern) {
+		Set<String> names = new HashSet<>();
+		for (Var var : pattern.getVarList()) {
+			if (var.hasValue()) {
+				continue;
+			}
+			if (!names.add(var.getName())) {
+				// repeated variables need a per statement equality check
+				return false;
+			}
+		}
+		Var subjectVar = pattern.getSubjectVar();
+		Var predicateVar = pattern.getPredicateVar();
+		return (!subjectVar.hasValue() || subjectVar.getValue() instanceof Resource)
+				&& (!predicateVar.hasValue() || predicateVar.getValue() instanceof IRI);
+	}
+
+	private static boolean isVariable(Var var, String name) {
+		return var != null && !var.hasValue() && var.getName().equals(name);
+	}
+
+	private static class CountAggregateVisitor extends AbstractSimpleQueryModelVisitor<RuntimeException> {
+
+		protected CountAggregateVisitor() {
+			super(false);
+		}
+
+		@Override
+		public void meet(Group group) {
+			super.meet(group);
+			CountAggregatePlan plan = createPlan(group);
+			if (plan != null) {
+				group.setQueryModelMetadata(COUNT_AGGREGATE_FAST_PATH, Boolean.TRUE);
+				group.setStringMetricPlanned(TelemetryMetricNames.PLANNED_AGGREGATE_ACCESS_MODE, plan.toString());
+			}
+		}
+	}
+
+	/**
+	 * Describes how a marked {@link Group} is answered: the name of the aggregate binding, the statement pattern that is
+	 * counted and, for <code>COUNT(DISTINCT ?x)</code>, the statement component whose distinct values are counted.
+	 */
+	@Experimental
+	public static final class CountAggregatePlan {
+
+		private final String bindingName;
+		private final StatementPattern pattern;
+		private final StatementOrder distinctComponent;
+
+		CountAggregatePlan(String bindingName, StatementPattern pattern, StatementOrder distinctComponent) {
+			this.bindingName = bindingName;
+			this.pattern = pattern;
+			this.distinctComponent = distinctComponent;
+		}
+
+		public String getBindingName() {
+			return bindingName;
+		}
+
+		public StatementPattern getPattern() {
+			return pattern;
+		}
+
+		/**
+		 * @return the component whose distinct values are counted, or <code>null</code> if statements are counted
+		 */
+		public StatementOrder getDistinctComponent() {
+			return distinctComponent;
+		}
+
+		@Override
+		public String toString() {
+			return distinctComponent == null ? "statementCount" : "distinctValueCount(" + distinctComponent + ")";
+		}
+	}
+}
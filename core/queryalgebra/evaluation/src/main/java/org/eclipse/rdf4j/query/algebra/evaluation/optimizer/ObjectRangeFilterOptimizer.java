@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.optimizer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.And;
+import org.eclipse.rdf4j.query.algebra.Compare;
+import org.eclipse.rdf4j.query.algebra.Compare.CompareOp;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.algebra.ValueExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+
+/**
+ * Marks {@link StatementPattern}s whose object variable is restricted to a range of numeric or calendar values by an
+ * enclosing {@link Filter}, e.g. <code>FILTER(?o &gt; 30 &amp;&amp; ?o &lt;= 50)</code>. Such patterns are evaluated
+ * with
+ * {@link TripleSource#getStatementsInObjectRange(org.eclipse.rdf4j.model.Resource, org.eclipse.rdf4j.model.IRI, ValueRange, org.eclipse.rdf4j.model.Resource...)}
+ * so that stores which keep these values in order can scan only the matching part of an index.
+ * <p>
+ * The filter itself is kept: a store may return more statements than the range matches, and the filter still removes
+ * values that fail the comparison. Only filters that apply to the pattern through joins and other filters are taken
+ * into account. This optimizer should run after filters have been placed and joins have been ordered.
+ */
+@Experimental
+public class ObjectRangeFilterOptimizer implements QueryOptimizer {
+
+	/**
+	 * Metadata key holding the {@link ValueRange} that restricts the object of a {@link StatementPattern}.
+	 */
+	public static final String OBJECT_RANGE = ObjectRangeFilterOptimizer.class.getName() + ".objectRange";
+
+	@Override
+	public void optimize(TupleExpr tupleExpr, Dataset dataset, BindingSet bindings) {
+		tupleExpr.visit(new FilterVisitor());
+	}
+
+	/**
+	 * @return the range that the object of the supplied pattern is restricted to, or <code>null</code>
+	 */
+	public static ValueRange getObjectRange(StatementPattern pattern) {
+		Object range = pattern.getQueryModelMetadata(OBJECT_RANGE);
+		return range instanceof ValueRange ? (ValueRange) range : null;
+	}
+
+	private static void markPatterns(TupleExpr expr, Map<String, ValueRange> ranges) {
+		if (expr instanceof Filter) {
+			Filter filter = (Filter) expr;
+			Map<String, ValueRange> nested = new HashMap<>(ranges);
+			collectRanges(filter.getCondition(), nested);
+			markPatterns(filter.getArg(), nested);
+		} else if (expr instanceof Join) {
+			markPatterns(((Join) expr).getLeftArg(), ranges);
+			markPatterns(((Join) expr).getRightArg(), ranges);
+		} else if (expr instanceof StatementPattern && !ranges.isEmpty()) {
+			StatementPattern pattern = (StatementPattern) expr;
+			Var objectVar = pattern.getObjectVar();
+			if (objectVar.hasValue() || pattern.getStatementOrder() != null || getObjectRange(pattern) != null) {
+				return;
+			}
+			ValueRange range = ranges.get(objectVar.getName());
+			if (range != null) {
+				pattern.setQueryModelMetadata(OBJECT_RANGE, range);
+			}
+		}
+	}
+
+	private static void collectRanges(ValueExpr condition, Map<String, ValueRange> ranges) {
+		if (condition instanceof And) {
+			collectRanges(((And) condition).getLeftArg(), ranges);
+			collectRanges(((And) condition).getRightArg(), ranges);
+		} else if (condition instanceof Compare) {
+			Compare compare = (Compare) condition;
+			CompareOp op = compare.getOperator();
+			Var var;
+			Literal bound;
+			if (isVariable(compare.getLeftArg()) && (bound = getRangeBound(compare.getRightArg())) != null) {
+				var = (Var) compare.getLeftArg();
+			} else if (isVariable(compare.getRightArg()) && (bound = getRangeBound(compare.getLeftArg())) != null) {
+				var = (Var) compare.getRightArg();
+				op = flip(op);
+			} else {
+				return;
+			}
+
+			ValueRange range = ranges.get(var.getName());
+			Literal lower = range == null ? null : range.getLowerBound();
+			boolean lowerInclusive = range != null && range.isLowerInclusive();
+			Literal upper = range == null ? null : range.getUpperBound();
+			boolean upperInclusive = range != null && range.isUpperInclusive();
+			// the first bound on each side is used, the filter applies any further ones
+			switch (op) {
+			case GT:
+			case GE:
+				if (lower != null) {
+					return;
+				}
+				lower = bound;
+				lowerInclusive = op == CompareOp.GE;
+				break;
+			case LT:
+			case LE:
+				if (upper != null) {
+					return;
+				}
+				upper = bound;
+				upperInclusive = op == CompareOp.LE;
+				break;
+			default:
+				return;
+			}
+			ranges.put(var.getName(), new ValueRange(lower, lowerInclusive, upper, upperInclusive));
+		}
+	}
+
+	private static boolean isVariable(ValueExpr expr) {
+		return expr instanceof Var && !((Var) expr).hasValue();
+	}
+
+	private static Literal getRangeBound(ValueExpr expr) {
+		Value value;
+		if (expr instanceof ValueConstant) {
+			value = ((ValueConstant) expr).getValue();
+		} else if (expr instanceof Var && ((Var) expr).hasValue()) {
+			value = ((Var) expr).getValue();
+		} else {
+			return null;
+		}
+		if (value == null || !value.isLiteral()) {
+			return null;
+		}
+		CoreDatatype.XSD datatype = ((Literal) value).getCoreDatatype().asXSDDatatypeOrNull();
+		if (datatype == null || !datatype.isNumericDatatype() && !datatype.isCalendarDatatype()) {
+			return null;
+		}
+		return (Literal) value;
+	}
+
+	private static CompareOp flip(CompareOp op) {
+		switch (op) {
+		case LT:
+			return CompareOp.GT;
+		case LE:
+			return CompareOp.GE;
+		case GT:
+			return CompareOp.LT;
+		case GE:
+			return CompareOp.LE;
+		default:
+			return op;
+		}
+	}
+
+	private static class FilterVisitor extends AbstractSimpleQueryModelVisitor<RuntimeException> {
+
+		protected FilterVisitor() {
+			super(false);
+		}
+
+		@Override
+		public void meet(Filter filter) {
+			if (!isNestedInFilter(filter)) {
+				markPatterns(filter, Map.of());
+			}
+			super.meet(filter);
+		}
+
+		/**
+		 * Filters below other filters and joins have been taken into account by the outermost filter.
+		 */
+		private static boolean isNestedInFilter(Filter filter) {
+			QueryModelNode parent = filter.getParentNode();
+			while (parent instanceof Filter || parent instanceof Join) {
+				if (parent instanceof Filter) {
+					return true;
+				}
+				parent = parent.getParentNode();
+			}
+			return false;
+		}
+	}
+}
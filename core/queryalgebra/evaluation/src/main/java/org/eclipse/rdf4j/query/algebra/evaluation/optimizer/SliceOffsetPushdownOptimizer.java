@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.optimizer;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.Slice;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.UnaryTupleOperator;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.explanation.TelemetryMetricNames;
+
+/**
+ * Pushes the OFFSET of a {@link Slice} down to a {@link StatementPattern} when every statement of the pattern becomes
+ * exactly one solution of the slice, i.e. when only {@link Projection}s and {@link Extension}s sit in between. The
+ * pattern is then evaluated with
+ * {@link TripleSource#getStatementsFromOffset(long, org.eclipse.rdf4j.model.Resource, org.eclipse.rdf4j.model.IRI, org.eclipse.rdf4j.model.Value, org.eclipse.rdf4j.model.Resource...)}
+ * so that stores can step over the skipped statements without materializing their values. The LIMIT stays on the
+ * slice, which stops pulling from the store once enough solutions have been produced.
+ * <p>
+ * The tree itself is not restructured: both nodes are marked with query model metadata that is read when the query is
+ * prepared for evaluation.
+ */
+@Experimental
+public class SliceOffsetPushdownOptimizer implements QueryOptimizer {
+
+	/**
+	 * Metadata key holding the offset (a {@link Long}) that a {@link StatementPattern} applies to its store lookups.
+	 */
+	public static final String STATEMENT_OFFSET = SliceOffsetPushdownOptimizer.class.getName() + ".statementOffset";
+
+	/**
+	 * Metadata key marking a {@link Slice} whose offset has been pushed down to a statement pattern.
+	 */
+	public static final String OFFSET_PUSHED_DOWN = SliceOffsetPushdownOptimizer.class.getName() + ".offsetPushedDown";
+
+	@Override
+	public void optimize(TupleExpr tupleExpr, Dataset dataset, BindingSet bindings) {
+		if (dataset != null) {
+			return;
+		}
+		tupleExpr.visit(new SliceVisitor());
+	}
+
+	/**
+	 * @return the offset that the supplied pattern should apply to its store lookups, or 0
+	 */
+	public static long getStatementOffset(StatementPattern pattern) {
+		Object offset = pattern.getQueryModelMetadata(STATEMENT_OFFSET);
+		return offset instanceof Long ? (Long) offset : 0;
+	}
+
+	/**
+	 * @return <code>true</code> if the offset of the supplied slice is applied by a statement pattern instead
+	 */
+	public static boolean isOffsetPushedDown(Slice slice) {
+		return Boolean.TRUE.equals(slice.getQueryModelMetadata(OFFSET_PUSHED_DOWN));
+	}
+
+	private static StatementPattern findPattern(Slice slice) {
+		TupleExpr arg = slice.getArg();
+		while (arg instanceof Projection || arg instanceof Extension) {
+			arg = ((UnaryTupleOperator) arg).getArg();
+		}
+		if (!(arg instanceof StatementPattern)) {
+			return null;
+		}
+
+		StatementPattern pattern = (StatementPattern) arg;
+		if (pattern.getStatementOrder() != null || getStatementOffset(pattern) > 0) {
+			return null;
+		}
+		Var contextVar = pattern.getContextVar();
+		if (pattern.getScope() == Scope.NAMED_CONTEXTS && (contextVar == null || !contextVar.hasValue())) {
+			// statements from the null context are filtered out after the lookup
+			return null;
+		}
+
+		Set<String> names = new HashSet<>();
+		for (Var var : pattern.getVarList()) {
+			if (!var.hasValue() && !names.add(var.getName())) {
+				// repeated variables are checked after the lookup
+				return null;
+			}
+		}
+		return pattern;
+	}
+
+	private static class SliceVisitor extends AbstractSimpleQueryModelVisitor<RuntimeException> {
+
+		protected SliceVisitor() {
+			super(false);
+		}
+
+		@Override
+		public void meet(Slice slice) {
+			super.meet(slice);
+			if (!slice.hasOffset() || isOffsetPushedDown(slice)) {
+				return;
+			}
+			StatementPattern pattern = findPattern(slice);
+			if (pattern != null) {
+				pattern.setQueryModelMetadata(STATEMENT_OFFSET, slice.getOffset());
+				pattern.setLongMetricPlanned(TelemetryMetricNames.PLANNED_STATEMENT_OFFSET, slice.getOffset());
+				slice.setQueryModelMetadata(OFFSET_PUSHED_DOWN, Boolean.TRUE);
+			}
+		}
+	}
+}
@@ -49,7 +49,9 @@ public class StandardQueryOptimizerPipeline implements QueryOptimizerPipeline {
 	public static final ProjectionRemovalOptimizer PROJECTION_REMOVAL_OPTIMIZER = new ProjectionRemovalOptimizer();
 	public static final IterativeEvaluationOptimizer ITERATIVE_EVALUATION_OPTIMIZER = new IterativeEvaluationOptimizer();
 	public static final FilterInValuesOptimizer FILTER_IN_VALUES_OPTIMIZER = new FilterInValuesOptimizer();
+	public static final CountAggregateOptimizer COUNT_AGGREGATE_OPTIMIZER = new CountAggregateOptimizer();
 	public static final OrderLimitOptimizer ORDER_LIMIT_OPTIMIZER = new OrderLimitOptimizer();
+	public static final SliceOffsetPushdownOptimizer SLICE_OFFSET_PUSHDOWN_OPTIMIZER = new SliceOffsetPushdownOptimizer();
 	private final EvaluationStatistics evaluationStatistics;
 	private final TripleSource tripleSource;
 	private final EvaluationStrategy strategy;
@@ -85,7 +87,9 @@ public class StandardQueryOptimizerPipeline implements QueryOptimizerPipeline {
 				new FilterOptimizer(evaluationStatistics, false, true),
 				FILTER_IN_VALUES_OPTIMIZER,
 				new FilterOptimizer(evaluationStatistics),
-				ORDER_LIMIT_OPTIMIZER
+				COUNT_AGGREGATE_OPTIMIZER,
+				ORDER_LIMIT_OPTIMIZER,
+				SLICE_OFFSET_PUSHDOWN_OPTIMIZER
 		);
 
 		if (assertsEnabled) {
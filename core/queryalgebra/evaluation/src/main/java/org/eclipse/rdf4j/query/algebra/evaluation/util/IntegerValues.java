@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.util;
+
+import java.math.BigInteger;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.query.algebra.MathExpr.MathOp;
+
+/**
+ * Primitive fast paths for literals with an integer datatype. Most integer values in practice fit in a
+ * <code>long</code>, so arithmetic and comparisons are done on primitive values and only fall back to
+ * {@link BigInteger} when a value or result does not fit.
+ */
+final class IntegerValues {
+
+	private IntegerValues() {
+	}
+
+	/**
+	 * @return <code>true</code> if every value of the supplied datatype fits in a <code>long</code>
+	 */
+	static boolean isLongDatatype(CoreDatatype.XSD datatype) {
+		switch (datatype) {
+		case LONG:
+		case INT:
+		case SHORT:
+		case BYTE:
+		case UNSIGNED_INT:
+		case UNSIGNED_SHORT:
+		case UNSIGNED_BYTE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the value of a literal with an integer datatype as a <code>long</code>. For datatypes such as xsd:int
+	 * the primitive value is used directly, avoiding the conversion to a {@link BigInteger}.
+	 *
+	 * @throws ArithmeticException   if the value does not fit in a <code>long</code>
+	 * @throws NumberFormatException if the lexical form of the literal is not a valid integer that fits in a
+	 *                               <code>long</code>
+	 */
+	static long longValueExact(Literal literal, CoreDatatype.XSD datatype) {
+		if (isLongDatatype(datatype)) {
+			return literal.longValue();
+		}
+		return literal.integerValue().longValueExact();
+	}
+
+	/**
+	 * Compares the values of two literals with integer datatypes.
+	 */
+	static int compare(Literal left, CoreDatatype.XSD leftDatatype, Literal right, CoreDatatype.XSD rightDatatype) {
+		try {
+			return Long.compare(longValueExact(left, leftDatatype), longValueExact(right, rightDatatype));
+		} catch (ArithmeticException | NumberFormatException e) {
+			// at least one of the values is out of the range of a long
+			return left.integerValue().compareTo(right.integerValue());
+		}
+	}
+
+	/**
+	 * Adds, subtracts or multiplies two literals with integer datatypes on their primitive values.
+	 *
+	 * @return the result, or <code>null</code> if an operand or the result does not fit in a <code>long</code>
+	 */
+	static BigInteger computeExact(Literal left, CoreDatatype.XSD leftDatatype, Literal right,
+			CoreDatatype.XSD rightDatatype, MathOp op) {
+		try {
+			long l = longValueExact(left, leftDatatype);
+			long r = longValueExact(right, rightDatatype);
+			switch (op) {
+			case PLUS:
+				return BigInteger.valueOf(Math.addExact(l, r));
+			case MINUS:
+				return BigInteger.valueOf(Math.subtractExact(l, r));
+			case MULTIPLY:
+				return BigInteger.valueOf(Math.multiplyExact(l, r));
+			default:
+				return null;
+			}
+		} catch (ArithmeticException | NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -79,6 +79,12 @@ public class MathUtil {
 			case DECIMAL:
 				return computeForXsdDecimal(leftLit, rightLit, op, vf);
 			default:
+				BigInteger result = IntegerValues.computeExact(leftLit, leftDatatypeXSD, rightLit, rightDatatypeXSD,
+						op);
+				if (result != null) {
+					return vf.createLiteral(result);
+				}
+				// an operand or the result does not fit in a long
 				return computeForXsdInteger(leftLit, rightLit, op, vf);
 			}
 		} catch (NumberFormatException | ArithmeticException e) {
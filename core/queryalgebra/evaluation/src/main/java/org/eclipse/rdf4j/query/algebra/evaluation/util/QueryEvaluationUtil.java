@@ -447,7 +447,9 @@ public class QueryEvaluationUtil {
 		boolean rLang = Literals.isLanguageLiteral(r);
 
 		if (!(lLang || rLang)) {
-			CoreDatatype.XSD common = getCommonDatatype(strict, ld.asXSDDatatypeOrNull(), rd.asXSDDatatypeOrNull());
+			CoreDatatype.XSD lxd = ld.asXSDDatatypeOrNull();
+			CoreDatatype.XSD rxd = rd.asXSDDatatypeOrNull();
+			CoreDatatype.XSD common = getCommonDatatype(strict, lxd, rxd);
 			if (common != null) {
 
 				try {
@@ -472,7 +474,7 @@ public class QueryEvaluationUtil {
 						return l.decimalValue().compareTo(r.decimalValue()) == 0;
 					}
 					if (common.isIntegerDatatype()) {
-						return l.integerValue().compareTo(r.integerValue()) == 0;
+						return IntegerValues.compare(l, lxd, r, rxd) == 0;
 					}
 
 					if (common.isCalendarDatatype()) {
@@ -545,7 +547,7 @@ public class QueryEvaluationUtil {
 						return _lt(l.decimalValue().compareTo(r.decimalValue()));
 					}
 					if (common.isIntegerDatatype()) {
-						return _lt(l.integerValue().compareTo(r.integerValue()));
+						return _lt(IntegerValues.compare(l, ld, r, rd));
 					}
 					if (common == CoreDatatype.XSD.BOOLEAN) {
 						return _lt(Boolean.compare(l.booleanValue(), r.booleanValue()));
@@ -235,7 +235,7 @@ public class QueryEvaluationUtility {
 		} else if (commonDatatype == CoreDatatype.XSD.DECIMAL) {
 			return Order.from(leftLit.decimalValue().compareTo(rightLit.decimalValue()));
 		} else if (commonDatatype.isIntegerDatatype()) {
-			return Order.from(leftLit.integerValue().compareTo(rightLit.integerValue()));
+			return Order.from(IntegerValues.compare(leftLit, leftCoreDatatype, rightLit, rightCoreDatatype));
 		} else if (commonDatatype == CoreDatatype.XSD.BOOLEAN) {
 			return Order.from(Boolean.compare(leftLit.booleanValue(), rightLit.booleanValue()));
 		} else if (commonDatatype.isCalendarDatatype()) {
@@ -107,6 +107,21 @@ public class ValueComparator implements Comparator<Value> {
 	}
 
 	private int compareLiterals(Literal leftLit, Literal rightLit) {
+		// Fast path for ordering numeric values of the same datatype, which avoids parsing the lexical forms for most
+		// integer and double literals
+		CoreDatatype.XSD leftXmlDatatype = leftLit.getCoreDatatype().asXSDDatatypeOrNull();
+		if (leftXmlDatatype != null && leftXmlDatatype == rightLit.getCoreDatatype()) {
+			try {
+				if (leftXmlDatatype.isIntegerDatatype()) {
+					return IntegerValues.compare(leftLit, leftXmlDatatype, rightLit, leftXmlDatatype);
+				} else if (leftXmlDatatype == CoreDatatype.XSD.DOUBLE) {
+					return Double.compare(leftLit.doubleValue(), rightLit.doubleValue());
+				}
+			} catch (NumberFormatException e) {
+				// not a valid lexical form, fall back to the general ordering
+			}
+		}
+
 		// Additional constraint for ORDER BY: "A plain literal is lower
 		// than an RDF literal with type CoreDatatype.XSD:string of the same lexical
 		// form."
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.order.StatementOrder;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.Group;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer.CountAggregatePlan;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+
+public class CountAggregateOptimizerTest {
+
+	@Test
+	public void countStar() {
+		CountAggregatePlan plan = optimize("SELECT (COUNT(*) AS ?c) WHERE { ?s a <urn:Foo> }");
+
+		assertNotNull(plan);
+		assertNull(plan.getDistinctComponent());
+	}
+
+	@Test
+	public void countVariable() {
+		CountAggregatePlan plan = optimize("SELECT (COUNT(?o) AS ?c) WHERE { ?s <urn:p> ?o }");
+
+		assertNotNull(plan);
+		assertNull(plan.getDistinctComponent());
+	}
+
+	@Test
+	public void countDistinctSubject() {
+		CountAggregatePlan plan = optimize("SELECT (COUNT(DISTINCT ?s) AS ?c) WHERE { ?s <urn:p> ?o }");
+
+		assertNotNull(plan);
+		assertEquals(StatementOrder.S, plan.getDistinctComponent());
+	}
+
+	@Test
+	public void countInNamedGraph() {
+		assertNotNull(optimize("SELECT (COUNT(*) AS ?c) WHERE { GRAPH <urn:g> { ?s ?p ?o } }"));
+		assertNull(optimize("SELECT (COUNT(*) AS ?c) WHERE { GRAPH ?g { ?s ?p ?o } }"));
+	}
+
+	@Test
+	public void unsupportedShapes() {
+		assertNull(optimize("SELECT (COUNT(DISTINCT *) AS ?c) WHERE { ?s ?p ?o }"));
+		assertNull(optimize("SELECT (COUNT(*) AS ?c) WHERE { ?s ?p ?s }"));
+		assertNull(optimize("SELECT (COUNT(*) AS ?c) WHERE { ?s ?p ?o . ?o ?p2 ?o2 }"));
+		assertNull(optimize("SELECT ?p (COUNT(*) AS ?c) WHERE { ?s ?p ?o } GROUP BY ?p"));
+		assertNull(optimize("SELECT (COUNT(*) AS ?c) (SUM(?o) AS ?sum) WHERE { ?s ?p ?o }"));
+		assertNull(optimize("SELECT (COUNT(?x) AS ?c) WHERE { ?s ?p ?o }"));
+	}
+
+	private static CountAggregatePlan optimize(String query) {
+		ParsedQuery pq = QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, null);
+		TupleExpr tupleExpr = pq.getTupleExpr();
+		new CountAggregateOptimizer().optimize(tupleExpr, null, null);
+
+		List<Group> groups = new ArrayList<>();
+		tupleExpr.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+			@Override
+			public void meet(Group node) {
+				groups.add(node);
+				super.meet(node);
+			}
+		});
+		assertEquals(1, groups.size());
+		return CountAggregateOptimizer.getPlan(groups.get(0));
+	}
+}
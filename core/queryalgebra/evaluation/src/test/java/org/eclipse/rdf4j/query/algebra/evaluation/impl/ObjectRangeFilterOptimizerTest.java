@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ObjectRangeFilterOptimizer;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+
+public class ObjectRangeFilterOptimizerTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void rangeIsCollectedFromConjunction() {
+		TupleExpr tupleExpr = optimize("SELECT * WHERE { ?s <urn:p> ?o FILTER(?o >= 30 && 50 > ?o) }");
+
+		assertEquals(new ValueRange(vf.createLiteral("30", XSD.INTEGER), true, vf.createLiteral("50", XSD.INTEGER),
+				false), ObjectRangeFilterOptimizer.getObjectRange(patterns(tupleExpr).get(0)));
+	}
+
+	@Test
+	public void rangeIsPushedThroughJoins() {
+		List<StatementPattern> patterns = patterns(optimize("SELECT * WHERE { ?s <urn:p> ?o . ?s <urn:q> ?d "
+				+ "FILTER(?d < \"2024-01-01T00:00:00Z\"^^<http://www.w3.org/2001/XMLSchema#dateTime>) }"));
+
+		assertNull(ObjectRangeFilterOptimizer.getObjectRange(patterns.get(0)));
+		assertEquals(new ValueRange(null, false, vf.createLiteral("2024-01-01T00:00:00Z", XSD.DATETIME), false),
+				ObjectRangeFilterOptimizer.getObjectRange(patterns.get(1)));
+	}
+
+	@Test
+	public void rangeIsNotCollectedFromOtherConditions() {
+		assertNoRange("SELECT * WHERE { ?s <urn:p> ?o FILTER(?o > 30 || ?o < 10) }");
+		assertNoRange("SELECT * WHERE { ?s <urn:p> ?o FILTER(?o > \"a\") }");
+		assertNoRange("SELECT * WHERE { ?s <urn:p> ?o FILTER(?o != 30) }");
+		assertNoRange("SELECT * WHERE { ?s <urn:p> ?v BIND(?v AS ?o) FILTER(?o > 30) }");
+		assertNoRange("SELECT * WHERE { ?s <urn:p> ?x OPTIONAL { ?s <urn:q> ?o } FILTER(?o > 30) }");
+	}
+
+	private static void assertNoRange(String query) {
+		for (StatementPattern pattern : patterns(optimize(query))) {
+			assertNull(ObjectRangeFilterOptimizer.getObjectRange(pattern));
+		}
+	}
+
+	private static TupleExpr optimize(String query) {
+		ParsedQuery pq = QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, null);
+		TupleExpr tupleExpr = pq.getTupleExpr();
+		new ObjectRangeFilterOptimizer().optimize(tupleExpr, null, null);
+		return tupleExpr;
+	}
+
+	private static List<StatementPattern> patterns(TupleExpr tupleExpr) {
+		List<StatementPattern> patterns = new ArrayList<>();
+		tupleExpr.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+			@Override
+			public void meet(StatementPattern node) {
+				patterns.add(node);
+			}
+		});
+		return patterns;
+	}
+}
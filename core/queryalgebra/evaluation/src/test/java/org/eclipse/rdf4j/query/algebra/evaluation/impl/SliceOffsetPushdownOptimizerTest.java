@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.Slice;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.SliceOffsetPushdownOptimizer;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+
+public class SliceOffsetPushdownOptimizerTest {
+
+	@Test
+	public void offsetIsPushedToSinglePattern() {
+		TupleExpr tupleExpr = optimize("SELECT ?s WHERE { ?s <urn:p> ?o } OFFSET 100 LIMIT 10");
+
+		assertTrue(SliceOffsetPushdownOptimizer.isOffsetPushedDown(slice(tupleExpr)));
+		assertEquals(100, SliceOffsetPushdownOptimizer.getStatementOffset(patterns(tupleExpr).get(0)));
+	}
+
+	@Test
+	public void offsetIsPushedThroughExtension() {
+		TupleExpr tupleExpr = optimize("SELECT (STR(?o) AS ?label) WHERE { ?s <urn:p> ?o } OFFSET 5");
+
+		assertEquals(5, SliceOffsetPushdownOptimizer.getStatementOffset(patterns(tupleExpr).get(0)));
+	}
+
+	@Test
+	public void offsetIsNotPushedWhenRowsChange() {
+		assertNotPushed("SELECT DISTINCT ?s WHERE { ?s <urn:p> ?o } OFFSET 100");
+		assertNotPushed("SELECT * WHERE { ?s <urn:p> ?o } ORDER BY ?o OFFSET 100");
+		assertNotPushed("SELECT * WHERE { ?s <urn:p> ?o . ?o <urn:q> ?x } OFFSET 100");
+		assertNotPushed("SELECT * WHERE { ?s <urn:p> ?s } OFFSET 100");
+		assertNotPushed("SELECT * WHERE { GRAPH ?g { ?s <urn:p> ?o } } OFFSET 100");
+		assertNotPushed("SELECT * WHERE { ?s <urn:p> ?o } LIMIT 10");
+	}
+
+	private static void assertNotPushed(String query) {
+		TupleExpr tupleExpr = optimize(query);
+
+		assertFalse(SliceOffsetPushdownOptimizer.isOffsetPushedDown(slice(tupleExpr)));
+		for (StatementPattern pattern : patterns(tupleExpr)) {
+			assertEquals(0, SliceOffsetPushdownOptimizer.getStatementOffset(pattern));
+		}
+	}
+
+	private static TupleExpr optimize(String query) {
+		ParsedQuery pq = QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, null);
+		TupleExpr tupleExpr = pq.getTupleExpr();
+		new SliceOffsetPushdownOptimizer().optimize(tupleExpr, null, null);
+		return tupleExpr;
+	}
+
+	private static Slice slice(TupleExpr tupleExpr) {
+		List<Slice> slices = new ArrayList<>();
+		tupleExpr.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+			@Override
+			public void meet(Slice node) {
+				slices.add(node);
+				super.meet(node);
+			}
+		});
+		assertEquals(1, slices.size());
+		return slices.get(0);
+	}
+
+	private static List<StatementPattern> patterns(TupleExpr tupleExpr) {
+		List<StatementPattern> patterns = new ArrayList<>();
+		tupleExpr.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+			@Override
+			public void meet(StatementPattern node) {
+				patterns.add(node);
+			}
+		});
+		return patterns;
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.SingletonIteration;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.BooleanLiteral;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.BNodeGenerator;
+import org.eclipse.rdf4j.query.algebra.Exists;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.explanation.TelemetryMetricNames;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.junit.jupiter.api.Test;
+
+class ExistsQueryValueEvaluationStepTest {
+
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+	@Test
+	void memoizesOutcomePerCorrelatedBinding() {
+		Exists exists = new Exists(pattern());
+		exists.setRuntimeTelemetryEnabled(true);
+		AtomicInteger evaluations = new AtomicInteger();
+
+		ExistsQueryValueEvaluationStep step = ExistsQueryValueEvaluationStep.supply(countingSubquery(evaluations),
+				exists);
+
+		assertThat(step.evaluate(bindings("s", "urn:a", "x", "urn:1"))).isEqualTo(BooleanLiteral.TRUE);
+		assertThat(step.evaluate(bindings("s", "urn:a", "x", "urn:2"))).isEqualTo(BooleanLiteral.TRUE);
+		assertThat(step.evaluate(bindings("s", "urn:b", "x", "urn:1"))).isEqualTo(BooleanLiteral.TRUE);
+
+		assertThat(evaluations).hasValue(2);
+		assertThat(exists.getLongMetricActual(TelemetryMetricNames.MEMO_HITS_ACTUAL)).isEqualTo(1L);
+		assertThat(exists.getLongMetricActual(TelemetryMetricNames.MEMO_MISSES_ACTUAL)).isEqualTo(2L);
+	}
+
+	@Test
+	void evaluatesNonDeterministicSubqueryEveryTime() {
+		Extension extension = new Extension(pattern(), new ExtensionElem(new BNodeGenerator(), "b"));
+		AtomicInteger evaluations = new AtomicInteger();
+
+		ExistsQueryValueEvaluationStep step = ExistsQueryValueEvaluationStep.supply(countingSubquery(evaluations),
+				new Exists(extension));
+
+		step.evaluate(EmptyBindingSet.getInstance());
+		step.evaluate(EmptyBindingSet.getInstance());
+
+		assertThat(evaluations).hasValue(2);
+	}
+
+	private static StatementPattern pattern() {
+		return new StatementPattern(Var.of("s"), Var.of("p", VF.createIRI("urn:p")), Var.of("o"));
+	}
+
+	private static QueryEvaluationStep countingSubquery(AtomicInteger evaluations) {
+		return bindings -> {
+			evaluations.incrementAndGet();
+			return new SingletonIteration<>(bindings);
+		};
+	}
+
+	private static BindingSet bindings(String name1, String iri1, String name2, String iri2) {
+		QueryBindingSet bindings = new QueryBindingSet();
+		bindings.addBinding(name1, VF.createIRI(iri1));
+		bindings.addBinding(name2, VF.createIRI(iri2));
+		return bindings;
+	}
+}
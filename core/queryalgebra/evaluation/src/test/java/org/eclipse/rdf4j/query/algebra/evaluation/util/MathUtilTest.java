@@ -14,6 +14,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.math.BigInteger;
+
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.base.CoreDatatype;
@@ -41,6 +43,23 @@ public class MathUtilTest {
 		assertComputeEquals(vf.createLiteral("6", CoreDatatype.XSD.DECIMAL), float1, float2, MathOp.DIVIDE);
 	}
 
+	@Test
+	public void testComputeLongOverflow() {
+		Literal max = vf.createLiteral(Long.MAX_VALUE);
+		Literal min = vf.createLiteral(Long.MIN_VALUE);
+		BigInteger maxValue = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger minValue = BigInteger.valueOf(Long.MIN_VALUE);
+
+		assertComputeEquals(vf.createLiteral(maxValue.add(BigInteger.ONE)), max, vf.createLiteral(1), MathOp.PLUS);
+		assertComputeEquals(vf.createLiteral(minValue.subtract(BigInteger.ONE)), min, vf.createLiteral(1L),
+				MathOp.MINUS);
+		assertComputeEquals(vf.createLiteral(maxValue.multiply(maxValue)), max, max, MathOp.MULTIPLY);
+		assertComputeEquals(vf.createLiteral(maxValue.multiply(maxValue).add(BigInteger.ONE)),
+				vf.createLiteral(maxValue.multiply(maxValue)), vf.createLiteral(1), MathOp.PLUS);
+		assertComputeEquals(vf.createLiteral("9223372036854775806", XSD.INTEGER), max, vf.createLiteral((byte) 1),
+				MathOp.MINUS);
+	}
+
 	/**
 	 * @link https://www.w3.org/TR/xpath-functions/#func-numeric-divide
 	 */
@@ -13,6 +13,8 @@ package org.eclipse.rdf4j.query.algebra.evaluation.util;
 
 import static org.eclipse.rdf4j.model.util.Values.literal;
 import static org.eclipse.rdf4j.query.algebra.Compare.CompareOp.EQ;
+import static org.eclipse.rdf4j.query.algebra.Compare.CompareOp.GT;
+import static org.eclipse.rdf4j.query.algebra.Compare.CompareOp.LE;
 import static org.eclipse.rdf4j.query.algebra.Compare.CompareOp.LT;
 import static org.eclipse.rdf4j.query.algebra.Compare.CompareOp.NE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -469,6 +471,50 @@ public class QueryEvaluationUtilTest {
 		assertCompareException(arg1yearMonthDuration, arg2unknown, LT);
 	}
 
+	@Test
+	public void testCompareMixedIntegerDatatypes() {
+		Literal intFive = f.createLiteral(5);
+		Literal longFive = f.createLiteral("5", XSD.LONG);
+		Literal integerFive = f.createLiteral("5", XSD.INTEGER);
+		Literal shortThree = f.createLiteral((short) 3);
+		Literal unsignedByteSeven = f.createLiteral("7", XSD.UNSIGNED_BYTE);
+		Literal negativeByte = f.createLiteral((byte) -1);
+
+		assertCompareTrue(intFive, longFive, EQ);
+		assertCompareTrue(integerFive, intFive, EQ);
+		assertCompareFalse(intFive, shortThree, EQ);
+		assertCompareTrue(intFive, unsignedByteSeven, NE);
+
+		assertCompareTrue(shortThree, integerFive, LT);
+		assertCompareFalse(longFive, shortThree, LT);
+		assertCompareTrue(negativeByte, unsignedByteSeven, LT);
+		assertCompareTrue(longFive, intFive, LE);
+		assertCompareTrue(unsignedByteSeven, longFive, GT);
+	}
+
+	@Test
+	public void testCompareIntegersOutsideLongRange() {
+		Literal maxLong = f.createLiteral(Long.MAX_VALUE);
+		Literal aboveMaxLong = f.createLiteral("9223372036854775808", XSD.INTEGER);
+		Literal large = f.createLiteral("99999999999999999999", XSD.INTEGER);
+		Literal largeNonNegative = f.createLiteral("99999999999999999999", XSD.NON_NEGATIVE_INTEGER);
+		Literal largeNegative = f.createLiteral("-99999999999999999999", XSD.NEGATIVE_INTEGER);
+		Literal zero = f.createLiteral(0);
+
+		assertCompareFalse(maxLong, aboveMaxLong, EQ);
+		assertCompareTrue(maxLong, aboveMaxLong, LT);
+		assertCompareTrue(aboveMaxLong, maxLong, GT);
+
+		assertCompareTrue(large, largeNonNegative, EQ);
+		assertCompareFalse(large, largeNonNegative, LT);
+		assertCompareTrue(largeNonNegative, large, LE);
+
+		assertCompareFalse(largeNegative, zero, EQ);
+		assertCompareTrue(largeNegative, zero, LT);
+		assertCompareTrue(zero, largeNegative, GT);
+		assertCompareTrue(largeNegative, large, LT);
+	}
+
 	/**
 	 * Assert that there is an exception as a result of comparing the two literals with the given operator.
 	 *
@@ -13,6 +13,7 @@ package org.eclipse.rdf4j.query.algebra.evaluation.util;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -170,6 +171,20 @@ public class ValueComparatorTest {
 		assertTrue(valueList.indexOf(int1000) < valueList.indexOf(float2000));
 	}
 
+	@Test
+	public void testIntegersOutsideLongRange() {
+		Literal big = vf.createLiteral(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+		Literal max = vf.createLiteral(Long.MAX_VALUE);
+		Literal min = vf.createLiteral(Long.MIN_VALUE);
+		Literal int5 = vf.createLiteral(5);
+
+		assertTrue(cmp.compare(big, max) > 0);
+		assertTrue(cmp.compare(max, big) < 0);
+		assertTrue(cmp.compare(min, int5) < 0);
+		assertTrue(cmp.compare(vf.createLiteral("5", XSD.INTEGER), int5) == 0);
+		assertTrue(cmp.compare(vf.createLiteral("05", XSD.INT), int5) == 0);
+	}
+
 	@Test
 	public void testNonStrictComparisons() {
 		cmp.setStrict(false);
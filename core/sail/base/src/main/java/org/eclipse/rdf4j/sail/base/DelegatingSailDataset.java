@@ -21,6 +21,7 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.TripleTerm;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.sail.SailException;
 
 /**
@@ -72,6 +73,34 @@ abstract class DelegatingSailDataset implements SailDataset {
 		return delegate.getStatements(subj, pred, obj, contexts);
 	}
 
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws SailException {
+		return delegate.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws SailException {
+		return delegate.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+	}
+
+	@Override
+	public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		return delegate.getStatementCount(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		return delegate.getSharedScanKey(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws SailException {
+		return delegate.getDistinctValueCount(component, subj, pred, obj, contexts);
+	}
+
 	@Override
 	public CloseableIteration<? extends TripleTerm> getTriples(Resource subj, IRI pred,
 			Value obj) throws SailException {
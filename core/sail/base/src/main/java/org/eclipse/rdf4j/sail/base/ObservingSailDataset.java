@@ -11,11 +11,13 @@
 package org.eclipse.rdf4j.sail.base;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.sail.SailException;
 
 /**
@@ -70,4 +72,37 @@ class ObservingSailDataset extends DelegatingSailDataset {
 		return super.getStatements(subj, pred, obj, contexts);
 	}
 
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws SailException {
+		observer.observe(subj, pred, obj, contexts);
+		return super.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws SailException {
+		observer.observe(subj, pred, null, contexts);
+		return super.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+	}
+
+	@Override
+	public Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		// a shared scan would bypass the observation
+		return null;
+	}
+
+	@Override
+	public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		observer.observe(subj, pred, obj, contexts);
+		return super.getStatementCount(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws SailException {
+		observer.observe(subj, pred, obj, contexts);
+		return super.getDistinctValueCount(component, subj, pred, obj, contexts);
+	}
+
 }
@@ -12,10 +12,12 @@
 package org.eclipse.rdf4j.sail.base;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.OffsetIteration;
 import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
@@ -24,6 +26,7 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.TripleTerm;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.sail.SailException;
 
 /**
@@ -107,6 +110,90 @@ public interface SailDataset extends SailClosable {
 		return count;
 	}
 
+	/**
+	 * Gets the statements that have a specific subject, predicate and/or object, skipping the first
+	 * <var>offset</var> of them in the order in which {@link #getStatements(Resource, IRI, Value, Resource...)} would
+	 * return them.
+	 *
+	 * @param offset   The number of matching statements to skip, must be larger than or equal to 0.
+	 * @param subj     A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred     A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param obj      A Value specifying the object, or <var>null</var> for a wildcard.
+	 * @param contexts The context(s) to get the statements from. Note that this parameter is a vararg and as such is
+	 *                 optional. If no contexts are supplied the method operates on all contexts.
+	 * @return An iterator over the relevant statements after the offset.
+	 * @throws SailException If the triple source failed to get the statements.
+	 */
+	@Experimental
+	default CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws SailException {
+		CloseableIteration<? extends Statement> statements = getStatements(subj, pred, obj, contexts);
+		return offset > 0 ? new OffsetIteration<>(statements, offset) : statements;
+	}
+
+	/**
+	 * Gets the statements that have a specific subject and/or predicate and whose object may lie within the supplied
+	 * range. The result may include statements whose object is outside of the range.
+	 *
+	 * @param subj        A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred        A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param objectRange The range of the object.
+	 * @param contexts    The context(s) to get the statements from. Note that this parameter is a vararg and as such
+	 *                    is optional. If no contexts are supplied the method operates on all contexts.
+	 * @return An iterator over a superset of the statements whose object lies within the range.
+	 * @throws SailException If the triple source failed to get the statements.
+	 */
+	@Experimental
+	default CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws SailException {
+		return getStatements(subj, pred, null, contexts);
+	}
+
+	/**
+	 * Returns a key that allows concurrent queries to share a scan of the statements that match the pattern. Datasets
+	 * that return equal keys for a pattern must return the same statements in the same order from
+	 * {@link #getStatements(Resource, IRI, Value, Resource...)}, for as long as they are open.
+	 *
+	 * @param subj     A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred     A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param obj      A Value specifying the object, or <var>null</var> for a wildcard.
+	 * @param contexts The context(s) to get the statements from.
+	 * @return the key, or <var>null</var> if scans of the pattern can not be shared
+	 * @see SharedScanCoordinator
+	 */
+	@Experimental
+	default Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		return null;
+	}
+
+	/**
+	 * Counts the distinct values that occur in the given statement component of the statements that have a specific
+	 * subject, predicate and/or object. The <var>null</var> context is not counted as a value.
+	 *
+	 * @param component The statement component whose distinct values should be counted.
+	 * @param subj      A Resource specifying the subject, or <var>null</var> for a wildcard.
+	 * @param pred      A IRI specifying the predicate, or <var>null</var> for a wildcard.
+	 * @param obj       A Value specifying the object, or <var>null</var> for a wildcard.
+	 * @param contexts  The context(s) to get the statements from. Note that this parameter is a vararg and as such is
+	 *                  optional. If no contexts are supplied the method operates on all contexts.
+	 * @return The number of distinct values in the component.
+	 * @throws SailException If the triple source failed to count the values.
+	 */
+	@Experimental
+	default long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws SailException {
+		Set<Value> distinct = new HashSet<>();
+		try (CloseableIteration<? extends Statement> statements = getStatements(subj, pred, obj, contexts)) {
+			while (statements.hasNext()) {
+				Value value = component.getValue(statements.next());
+				if (value != null) {
+					distinct.add(value);
+				}
+			}
+		}
+		return distinct.size();
+	}
+
 	/**
 	 * Gets all statements that have a specific subject, predicate and/or object. All three parameters may be null to
 	 * indicate wildcards. Optionally a (set of) context(s) may be specified in which case the result will be restricted
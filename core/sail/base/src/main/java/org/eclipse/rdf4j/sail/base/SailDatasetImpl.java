@@ -28,6 +28,7 @@ import org.eclipse.rdf4j.common.iteration.DistinctIteration;
 import org.eclipse.rdf4j.common.iteration.DualUnionIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Resource;
@@ -35,6 +36,7 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.TripleTerm;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.sail.SailException;
 
 /**
@@ -289,6 +291,57 @@ class SailDatasetImpl implements SailDataset {
 		}
 	}
 
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws SailException {
+		if (hasStatementChanges()) {
+			return SailDataset.super.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+		}
+		return derivedFrom.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws SailException {
+		if (hasStatementChanges()) {
+			return SailDataset.super.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+		}
+		return derivedFrom.getStatementsInObjectRange(subj, pred, objectRange, contexts);
+	}
+
+	@Override
+	public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		if (hasStatementChanges()) {
+			return SailDataset.super.getStatementCount(subj, pred, obj, contexts);
+		}
+		return derivedFrom.getStatementCount(subj, pred, obj, contexts);
+	}
+
+	@Override
+	public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws SailException {
+		if (hasStatementChanges()) {
+			return SailDataset.super.getDistinctValueCount(component, subj, pred, obj, contexts);
+		}
+		return derivedFrom.getDistinctValueCount(component, subj, pred, obj, contexts);
+	}
+
+	@Override
+	public Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (hasStatementChanges()) {
+			return null;
+		}
+		return derivedFrom.getSharedScanKey(subj, pred, obj, contexts);
+	}
+
+	/**
+	 * Counts, offsets and ranges can only be delegated to the backing dataset while no pending statement changes need to
+	 * be merged in.
+	 */
+	private boolean hasStatementChanges() {
+		return changes.isStatementCleared() || changes.hasDeprecated() || changes.hasApproved();
+	}
+
 	@Override
 	public CloseableIteration<? extends TripleTerm> getTriples(Resource subj, IRI pred, Value obj)
 			throws SailException {
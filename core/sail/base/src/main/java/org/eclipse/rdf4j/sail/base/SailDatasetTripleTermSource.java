@@ -28,6 +28,7 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.evaluation.NativeTripleTermSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.TripleSourceIterationWrapper;
 
@@ -56,7 +57,55 @@ public class SailDatasetTripleTermSource implements NativeTripleTermSource {
 			Value obj, Resource... contexts) throws QueryEvaluationException {
 		CloseableIteration<? extends Statement> statements = null;
 		try {
-			statements = dataset.getStatements(subj, pred, obj, contexts);
+			Object sharedScanKey = dataset.getSharedScanKey(subj, pred, obj, contexts);
+			if (sharedScanKey != null) {
+				statements = SharedScanCoordinator.getInstance()
+						.getStatements(sharedScanKey, dataset, subj, pred, obj, contexts);
+			} else {
+				statements = dataset.getStatements(subj, pred, obj, contexts);
+			}
+			if (statements instanceof EmptyIteration) {
+				return statements;
+			}
+			return new TripleSourceIterationWrapper<>(statements);
+		} catch (Throwable t) {
+			if (statements != null) {
+				statements.close();
+			}
+			if (t instanceof SailException) {
+				throw new QueryEvaluationException(t);
+			}
+			throw t;
+		}
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws QueryEvaluationException {
+		CloseableIteration<? extends Statement> statements = null;
+		try {
+			statements = dataset.getStatementsFromOffset(offset, subj, pred, obj, contexts);
+			if (statements instanceof EmptyIteration) {
+				return statements;
+			}
+			return new TripleSourceIterationWrapper<>(statements);
+		} catch (Throwable t) {
+			if (statements != null) {
+				statements.close();
+			}
+			if (t instanceof SailException) {
+				throw new QueryEvaluationException(t);
+			}
+			throw t;
+		}
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+			ValueRange objectRange, Resource... contexts) throws QueryEvaluationException {
+		CloseableIteration<? extends Statement> statements = null;
+		try {
+			statements = dataset.getStatementsInObjectRange(subj, pred, objectRange, contexts);
 			if (statements instanceof EmptyIteration) {
 				return statements;
 			}
@@ -82,6 +131,16 @@ public class SailDatasetTripleTermSource implements NativeTripleTermSource {
 		}
 	}
 
+	@Override
+	public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws QueryEvaluationException {
+		try {
+			return dataset.getDistinctValueCount(component, subj, pred, obj, contexts);
+		} catch (SailException e) {
+			throw new QueryEvaluationException(e);
+		}
+	}
+
 	@Override
 	public CloseableIteration<? extends Statement> getStatements(StatementOrder order, Resource subj, IRI pred,
 			Value obj, Resource... contexts) throws QueryEvaluationException {
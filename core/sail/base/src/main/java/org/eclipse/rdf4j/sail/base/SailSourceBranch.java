@@ -16,9 +16,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
@@ -80,6 +82,24 @@ class SailSourceBranch implements SailSource {
 	 */
 	private final boolean autoFlush;
 
+	/**
+	 * If the backing {@link SailSource} can be read while changes are flushed to it, in which case datasets can be
+	 * opened and changes merged while this {@link SailSource} is automatically flushed.
+	 */
+	private final boolean concurrentFlush;
+
+	/**
+	 * The changes that are being flushed to the backing {@link SailSource} without holding the {@link #semaphore}. They
+	 * remain part of {@link #changes} until the flush completes, so that datasets opened in the meantime include them
+	 * however much of them the backing {@link SailSource} already reflects. Non-null while such a flush is in progress.
+	 */
+	private Set<Changeset> flushing;
+
+	/**
+	 * Signalled when a flush that does not hold the {@link #semaphore} completes.
+	 */
+	private final Condition flushCompleted = semaphore.newCondition();
+
 	/**
 	 * Non-null when in {@link IsolationLevels#SNAPSHOT} (or higher) mode.
 	 */
@@ -123,15 +143,33 @@ class SailSourceBranch implements SailSource {
 	 * @param autoFlush
 	 */
 	public SailSourceBranch(SailSource backingSource, ModelFactory modelFactory, boolean autoFlush) {
+		this(backingSource, modelFactory, autoFlush, false);
+	}
+
+	/**
+	 * Creates a new {@link SailSource} derived from the given {@link SailSource} and if <code>autoFlush</code> is true,
+	 * will automatically call {@link #flush()} when not in use. If <code>concurrentFlush</code> is true, datasets can be
+	 * opened while changes are automatically flushed, which requires that the backing {@link SailSource} can be read
+	 * while a {@link SailSink} is flushed to it.
+	 *
+	 * @param backingSource
+	 * @param modelFactory
+	 * @param autoFlush
+	 * @param concurrentFlush
+	 */
+	public SailSourceBranch(SailSource backingSource, ModelFactory modelFactory, boolean autoFlush,
+			boolean concurrentFlush) {
 		this.backingSource = backingSource;
 		this.modelFactory = modelFactory;
 		this.autoFlush = autoFlush;
+		this.concurrentFlush = concurrentFlush;
 	}
 
 	@Override
 	public void close() throws SailException {
 		semaphore.lock();
 		try {
+			awaitConcurrentFlush();
 			try {
 				try {
 					SailDataset toCloseSnapshot = snapshot;
@@ -195,7 +233,7 @@ class SailSourceBranch implements SailSource {
 							closeChangeset(this);
 							prepared = false;
 						}
-						autoFlush();
+						autoFlush(true);
 					}
 				}
 			}
@@ -290,10 +328,10 @@ class SailSourceBranch implements SailSource {
 					semaphore.lock();
 					observers.remove(this);
 					compressChanges();
-					autoFlush();
 				} finally {
 					semaphore.unlock();
 				}
+				autoFlush(false);
 			}
 		};
 		try {
@@ -314,6 +352,7 @@ class SailSourceBranch implements SailSource {
 	public void prepare() throws SailException {
 		try {
 			semaphore.lock();
+			awaitConcurrentFlush();
 			if (!changes.isEmpty()) {
 				if (prepared == null && serializable == null) {
 					prepared = backingSource.sink(backingSinkIsolationLevel());
@@ -342,6 +381,7 @@ class SailSourceBranch implements SailSource {
 	public void flush() throws SailException {
 		try {
 			semaphore.lock();
+			awaitConcurrentFlush();
 			if (!changes.isEmpty()) {
 				if (prepared == null) {
 					prepare();
@@ -415,7 +455,7 @@ class SailSourceBranch implements SailSource {
 				boolean swap = false;
 				Changeset[] array = changes.toArray(new Changeset[0]);
 				if (!(array[0].hasDeprecated() || array[0].hasApproved())
-						&& (array[1].hasDeprecated() || array[1].hasApproved())) {
+						&& (array[1].hasDeprecated() || array[1].hasApproved()) && !isFlushing(array[0])) {
 
 					if (Changeset.isOrderIndependent(array[0], array[1])) {
 
@@ -439,7 +479,7 @@ class SailSourceBranch implements SailSource {
 
 			while (changes.size() > 1) {
 				Changeset pop = changes.removeLast();
-				if (changes.peekLast().isRefback()) {
+				if (changes.peekLast().isRefback() || isFlushing(changes.peekLast())) {
 					changes.addLast(pop);
 					return;
 				}
@@ -462,11 +502,25 @@ class SailSourceBranch implements SailSource {
 		semaphore.unlock();
 	}
 
-	void autoFlush() throws SailException {
+	/**
+	 * Flushes the changes to the backing {@link SailSource} if no datasets are open.
+	 *
+	 * @param awaitConcurrentFlush if a flush that is in progress in another thread should be awaited, so that the
+	 *                             changes merged in the meantime are flushed as well
+	 */
+	void autoFlush(boolean awaitConcurrentFlush) throws SailException {
 		if (autoFlush && semaphore.tryLock()) {
 			try {
+				if (flushing != null && !awaitConcurrentFlush) {
+					return;
+				}
+				awaitConcurrentFlush();
 				if (observers.isEmpty()) {
-					flush();
+					if (concurrentFlush && semaphore.getHoldCount() == 1 && serializable == null && prepared == null) {
+						flushConcurrently();
+					} else {
+						flush();
+					}
 				}
 			} finally {
 				semaphore.unlock();
@@ -474,6 +528,69 @@ class SailSourceBranch implements SailSource {
 		}
 	}
 
+	/**
+	 * Flushes the changes to the backing {@link SailSource}, releasing the {@link #semaphore} while the backing
+	 * {@link SailSink} is written to. Must be called by a thread that holds the {@link #semaphore} once.
+	 */
+	private void flushConcurrently() throws SailException {
+		assert semaphore.getHoldCount() == 1;
+		if (changes.isEmpty()) {
+			return;
+		}
+		List<Changeset> toFlush = new ArrayList<>(changes);
+		boolean flushed = false;
+		SailSink sink = backingSource.sink(backingSinkIsolationLevel());
+		try {
+			for (Changeset change : toFlush) {
+				prepare(change, sink);
+			}
+			sink.prepare();
+
+			flushing = Collections.newSetFromMap(new IdentityHashMap<>());
+			flushing.addAll(toFlush);
+			semaphore.unlock();
+			try {
+				for (Changeset change : toFlush) {
+					flush(change, sink);
+				}
+				sink.flush();
+				flushed = true;
+			} finally {
+				semaphore.lock();
+			}
+		} finally {
+			try {
+				// the flushed changes are still the oldest ones, changes merged in the meantime follow them. Like
+				// flush(), the changes are cleared if the flush fails, but only those that were being flushed.
+				for (int i = 0; i < toFlush.size(); i++) {
+					Changeset change = changes.pollFirst();
+					assert change == toFlush.get(i);
+				}
+				flushing = null;
+				flushCompleted.signalAll();
+				if (flushed) {
+					compressChanges();
+				}
+			} finally {
+				sink.close();
+			}
+		}
+	}
+
+	private boolean isFlushing(Changeset change) {
+		return flushing != null && flushing.contains(change);
+	}
+
+	/**
+	 * Waits until a flush that does not hold the {@link #semaphore} completes. Must be called while holding the
+	 * {@link #semaphore}.
+	 */
+	private void awaitConcurrentFlush() {
+		while (flushing != null) {
+			flushCompleted.awaitUninterruptibly();
+		}
+	}
+
 	private boolean isChanged(Changeset change) {
 		return change.isChanged();
 	}
@@ -482,7 +599,10 @@ class SailSourceBranch implements SailSource {
 		try {
 			semaphore.lock();
 			if (serializable == null && level.isCompatibleWith(IsolationLevels.SERIALIZABLE)) {
-				serializable = backingSource.sink(level);
+				awaitConcurrentFlush();
+				if (serializable == null) {
+					serializable = backingSource.sink(level);
+				}
 			}
 			SailDataset derivedFrom = derivedFromSnapshot(level);
 			if (serializable == null) {
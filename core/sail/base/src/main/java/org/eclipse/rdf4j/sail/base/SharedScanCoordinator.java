@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * Lets concurrently executing queries share a single scan of the same statement pattern. The first query that scans a
+ * pattern opens the scan; queries that ask for the same pattern while the scan is in progress subscribe to it and
+ * consume the statements it produces from the point they joined. Once the shared scan is exhausted, a subscriber that
+ * joined late wraps around and reads the statements it missed with a private scan that stops at the position it
+ * joined at (a circular scan).
+ * <p>
+ * Scans are only shared between datasets that return equal
+ * {@link SailDataset#getSharedScanKey(Resource, IRI, Value, Resource...) shared scan keys}, which guarantees that they
+ * return the same statements in the same order. Statements that have been read by the fastest subscriber are kept until
+ * the slowest subscriber has consumed them, up to a bounded lag. A subscriber that would exceed the lag leaves the
+ * shared scan and continues with a private scan that skips the statements it has already seen, so subscribers never
+ * wait for each other.
+ */
+@Experimental
+public final class SharedScanCoordinator {
+
+	static final int DEFAULT_MAX_LAG = 4096;
+
+	private static final SharedScanCoordinator INSTANCE = new SharedScanCoordinator(DEFAULT_MAX_LAG);
+
+	private final ConcurrentHashMap<ScanKey, SharedScan> scans = new ConcurrentHashMap<>();
+	private final int maxLag;
+
+	SharedScanCoordinator(int maxLag) {
+		this.maxLag = maxLag;
+	}
+
+	public static SharedScanCoordinator getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the statements of the supplied dataset that match the pattern, subscribing to a scan of the same pattern
+	 * that is in progress for another dataset with the same shared scan key, or starting a new one.
+	 *
+	 * @param sharedScanKey the non-null key returned by
+	 *                      {@link SailDataset#getSharedScanKey(Resource, IRI, Value, Resource...)}
+	 */
+	public CloseableIteration<Statement> getStatements(Object sharedScanKey, SailDataset dataset, Resource subj,
+			IRI pred, Value obj, Resource... contexts) throws SailException {
+		ScanKey key = new ScanKey(sharedScanKey, subj, pred, obj, contexts);
+		Supplier<CloseableIteration<? extends Statement>> privateScan = () -> dataset.getStatements(subj, pred, obj,
+				contexts);
+
+		while (true) {
+			SharedScan scan = scans.get(key);
+			if (scan != null) {
+				Subscriber subscriber = scan.join(privateScan);
+				if (subscriber != null) {
+					return subscriber;
+				}
+				scans.remove(key, scan);
+				continue;
+			}
+
+			CloseableIteration<? extends Statement> source = privateScan.get();
+			SharedScan created = new SharedScan(key, source, privateScan);
+			if (scans.putIfAbsent(key, created) == null) {
+				return created.owner;
+			}
+			// another query started the same scan in the meantime
+			source.close();
+		}
+	}
+
+	/**
+	 * @return the number of scans that currently accept new subscribers
+	 */
+	int getActiveScanCount() {
+		return scans.size();
+	}
+
+	private final class SharedScan {
+
+		private final ScanKey key;
+		private final CloseableIteration<? extends Statement> source;
+		private final List<Subscriber> subscribers = new ArrayList<>();
+
+		// statements [windowStart, produced) that have not been consumed by every subscriber yet
+		private final List<Statement> window = new ArrayList<>();
+		private long windowStart;
+		private long produced;
+
+		private final Subscriber owner;
+		private boolean exhausted;
+		private boolean terminated;
+
+		private SharedScan(ScanKey key, CloseableIteration<? extends Statement> source,
+				Supplier<CloseableIteration<? extends Statement>> privateScan) {
+			this.key = key;
+			this.source = source;
+			this.owner = new Subscriber(this, 0, privateScan);
+			subscribers.add(owner);
+		}
+
+		private synchronized Subscriber join(Supplier<CloseableIteration<? extends Statement>> privateScan) {
+			if (exhausted || terminated) {
+				return null;
+			}
+			Subscriber subscriber = new Subscriber(this, produced, privateScan);
+			subscribers.add(subscriber);
+			return subscriber;
+		}
+
+		/**
+		 * @return the next statement of the shared scan for the subscriber, or <code>null</code> if the subscriber
+		 *         has to continue on its own
+		 */
+		private synchronized Statement next(Subscriber subscriber) {
+			if (subscriber.detached) {
+				return null;
+			}
+			if (subscriber.position < produced) {
+				return window.get((int) (subscriber.position++ - windowStart));
+			}
+			if (exhausted) {
+				return null;
+			}
+			if (terminated || window.size() >= maxLag && !makeRoom(subscriber)) {
+				detach(subscriber);
+				return null;
+			}
+
+			Statement statement;
+			try {
+				if (!source.hasNext()) {
+					exhausted = true;
+					close();
+					return null;
+				}
+				statement = source.next();
+			} catch (RuntimeException e) {
+				close();
+				throw e;
+			}
+
+			produced++;
+			subscriber.position++;
+			if (subscribers.size() == 1) {
+				// nobody else needs the statement
+				window.clear();
+				windowStart = produced;
+			} else {
+				window.add(statement);
+			}
+			return statement;
+		}
+
+		private boolean makeRoom(Subscriber requester) {
+			trim();
+			if (window.size() < maxLag) {
+				return true;
+			}
+			if (requester != owner) {
+				return false;
+			}
+			// the scan is kept going for the subscriber that opened it, the slowest subscribers have to leave
+			for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+				if (subscriber.position == windowStart) {
+					detach(subscriber);
+				}
+			}
+			trim();
+			return true;
+		}
+
+		private void trim() {
+			long slowest = produced;
+			for (Subscriber subscriber : subscribers) {
+				slowest = Math.min(slowest, subscriber.position);
+			}
+			if (slowest > windowStart) {
+				window.subList(0, (int) (slowest - windowStart)).clear();
+				windowStart = slowest;
+			}
+		}
+
+		private void detach(Subscriber subscriber) {
+			subscriber.detached = true;
+			subscribers.remove(subscriber);
+		}
+
+		private synchronized void leave(Subscriber subscriber) {
+			subscribers.remove(subscriber);
+			if (!exhausted && (subscriber == owner || subscribers.isEmpty())) {
+				// the source belongs to the dataset of the owner, remaining subscribers continue on their own
+				close();
+			}
+			trim();
+		}
+
+		private void close() {
+			if (!terminated) {
+				terminated = true;
+				scans.remove(key, this);
+				source.close();
+			}
+		}
+	}
+
+	private static final class Subscriber extends LookAheadIteration<Statement> {
+
+		private final SharedScan scan;
+		private final long joinedAt;
+		private final Supplier<CloseableIteration<? extends Statement>> privateScan;
+
+		private long position;
+		private boolean detached;
+		private CloseableIteration<? extends Statement> remainder;
+
+		private Subscriber(SharedScan scan, long joinedAt,
+				Supplier<CloseableIteration<? extends Statement>> privateScan) {
+			this.scan = scan;
+			this.joinedAt = joinedAt;
+			this.position = joinedAt;
+			this.privateScan = privateScan;
+		}
+
+		@Override
+		protected Statement getNextElement() throws SailException {
+			if (remainder == null) {
+				Statement statement = scan.next(this);
+				if (statement != null) {
+					return statement;
+				}
+				remainder = openRemainder();
+			}
+			return remainder.hasNext() ? remainder.next() : null;
+		}
+
+		private CloseableIteration<? extends Statement> openRemainder() {
+			long skipFrom;
+			long skipTo;
+			long limit;
+			synchronized (scan) {
+				skipFrom = joinedAt;
+				skipTo = position;
+				// after a completed shared scan only the statements before the join position are missing
+				limit = detached ? Long.MAX_VALUE : joinedAt;
+			}
+			if (limit == 0) {
+				return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+			}
+			return new SkippingIteration(privateScan.get(), skipFrom, skipTo, limit);
+		}
+
+		@Override
+		protected void handleClose() throws SailException {
+			try {
+				scan.leave(this);
+			} finally {
+				if (remainder != null) {
+					remainder.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the statements of a private scan whose position is below <var>limit</var> and outside of
+	 * [<var>skipFrom</var>, <var>skipTo</var>).
+	 */
+	private static final class SkippingIteration extends LookAheadIteration<Statement> {
+
+		private final CloseableIteration<? extends Statement> source;
+		private final long skipFrom;
+		private final long skipTo;
+		private final long limit;
+		private long position;
+
+		private SkippingIteration(CloseableIteration<? extends Statement> source, long skipFrom, long skipTo,
+				long limit) {
+			this.source = source;
+			this.skipFrom = skipFrom;
+			this.skipTo = skipTo;
+			this.limit = limit;
+		}
+
+		@Override
+		protected Statement getNextElement() throws SailException {
+			while (position < limit && source.hasNext()) {
+				Statement statement = source.next();
+				long current = position++;
+				if (current < skipFrom || current >= skipTo) {
+					return statement;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		protected void handleClose() throws SailException {
+			source.close();
+		}
+	}
+
+	private static final class ScanKey {
+
+		private final Object sharedScanKey;
+		private final Resource subj;
+		private final IRI pred;
+		private final Value obj;
+		private final Resource[] contexts;
+		private final int hashCode;
+
+		private ScanKey(Object sharedScanKey, Resource subj, IRI pred, Value obj, Resource[] contexts) {
+			this.sharedScanKey = sharedScanKey;
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.contexts = contexts.clone();
+			this.hashCode = Objects.hash(sharedScanKey, subj, pred, obj, Arrays.hashCode(contexts));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ScanKey)) {
+				return false;
+			}
+			ScanKey other = (ScanKey) o;
+			return hashCode == other.hashCode && sharedScanKey.equals(other.sharedScanKey)
+					&& Objects.equals(subj, other.subj) && Objects.equals(pred, other.pred)
+					&& Objects.equals(obj, other.obj) && Arrays.equals(contexts, other.contexts);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -46,9 +46,26 @@ public class SnapshotSailStore implements SailStore {
 	 * @param modelFactory
 	 */
 	public SnapshotSailStore(SailStore backingStore, ModelFactory modelFactory) {
+		this(backingStore, modelFactory, false);
+	}
+
+	/**
+	 * Wraps an {@link SailStore}, tracking changes in {@link ModelFactory} instances. If
+	 * <code>concurrentReadsDuringFlush</code> is true, committed changes are written to the backing {@link SailStore}
+	 * without blocking readers: datasets that are opened in the meantime read the backing {@link SailStore} together
+	 * with the changes that are being written. This requires a backing {@link SailStore} whose datasets can be read
+	 * while a {@link SailSink} is flushed to it.
+	 *
+	 * @param backingStore
+	 * @param modelFactory
+	 * @param concurrentReadsDuringFlush
+	 */
+	public SnapshotSailStore(SailStore backingStore, ModelFactory modelFactory, boolean concurrentReadsDuringFlush) {
 		this.backingStore = backingStore;
-		explicitAutoFlush = new SailSourceBranch(backingStore.getExplicitSailSource(), modelFactory, true);
-		inferredAutoFlush = new SailSourceBranch(backingStore.getInferredSailSource(), modelFactory, true);
+		explicitAutoFlush = new SailSourceBranch(backingStore.getExplicitSailSource(), modelFactory, true,
+				concurrentReadsDuringFlush);
+		inferredAutoFlush = new SailSourceBranch(backingStore.getInferredSailSource(), modelFactory, true,
+				concurrentReadsDuringFlush);
 	}
 
 	@Override
@@ -66,6 +83,16 @@ public class SnapshotSailStore implements SailStore {
 		}
 	}
 
+	/**
+	 * Checks whether committed changes are still held by this store, because they could not yet be flushed to the
+	 * backing {@link SailStore} while snapshots were open.
+	 *
+	 * @return <code>true</code> if the backing {@link SailStore} does not yet reflect all committed changes
+	 */
+	public boolean hasUnflushedChanges() {
+		return explicitAutoFlush.isChanged() || inferredAutoFlush.isChanged();
+	}
+
 	@Override
 	public ValueFactory getValueFactory() {
 		return backingStore.getValueFactory();
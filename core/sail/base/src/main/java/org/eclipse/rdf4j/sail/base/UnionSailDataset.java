@@ -14,6 +14,7 @@ package org.eclipse.rdf4j.sail.base;
 
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
@@ -152,6 +153,16 @@ class UnionSailDataset implements SailDataset {
 				+ dataset2.getStatementCount(subj, pred, obj, contexts);
 	}
 
+	@Override
+	public Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		Object key1 = dataset1.getSharedScanKey(subj, pred, obj, contexts);
+		if (key1 == null) {
+			return null;
+		}
+		Object key2 = dataset2.getSharedScanKey(subj, pred, obj, contexts);
+		return key2 == null ? null : List.of(key1, key2);
+	}
+
 	@Override
 	public CloseableIteration<? extends TripleTerm> getTriples(Resource subj, IRI pred, Value obj)
 			throws SailException {
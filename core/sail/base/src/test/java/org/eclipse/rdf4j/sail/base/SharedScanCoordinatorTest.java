@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Test;
+
+public class SharedScanCoordinatorTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI PRED = vf.createIRI("urn:p");
+
+	private final List<Statement> statements = new ArrayList<>();
+
+	private final AtomicInteger scans = new AtomicInteger();
+
+	{
+		for (int i = 0; i < 10; i++) {
+			statements.add(vf.createStatement(vf.createIRI("urn:s" + i), PRED, vf.createLiteral(i)));
+		}
+	}
+
+	@Test
+	public void lateSubscriberWrapsAround() {
+		SharedScanCoordinator coordinator = new SharedScanCoordinator(SharedScanCoordinator.DEFAULT_MAX_LAG);
+
+		try (CloseableIteration<Statement> first = scan(coordinator)) {
+			List<Statement> firstResult = take(first, 3);
+
+			try (CloseableIteration<Statement> second = scan(coordinator)) {
+				firstResult.addAll(take(first, Integer.MAX_VALUE));
+				List<Statement> secondResult = take(second, Integer.MAX_VALUE);
+
+				assertThat(firstResult).containsExactlyElementsOf(statements);
+				assertThat(secondResult).containsExactlyElementsOf(rotate(3));
+			}
+		}
+		// one shared scan and one private scan of the three statements the second subscriber missed
+		assertThat(scans).hasValue(2);
+		assertThat(coordinator.getActiveScanCount()).isZero();
+	}
+
+	@Test
+	public void slowSubscriberContinuesOnItsOwn() {
+		SharedScanCoordinator coordinator = new SharedScanCoordinator(2);
+
+		try (CloseableIteration<Statement> first = scan(coordinator);
+				CloseableIteration<Statement> second = scan(coordinator)) {
+			List<Statement> secondResult = take(second, 1);
+
+			assertThat(take(first, Integer.MAX_VALUE)).containsExactlyElementsOf(statements);
+			secondResult.addAll(take(second, Integer.MAX_VALUE));
+			assertThat(secondResult).containsExactlyElementsOf(statements);
+		}
+	}
+
+	@Test
+	public void subscriberSurvivesOwnerClose() {
+		SharedScanCoordinator coordinator = new SharedScanCoordinator(SharedScanCoordinator.DEFAULT_MAX_LAG);
+
+		CloseableIteration<Statement> first = scan(coordinator);
+		take(first, 2);
+		try (CloseableIteration<Statement> second = scan(coordinator)) {
+			take(first, 2);
+			first.close();
+
+			assertThat(take(second, Integer.MAX_VALUE)).containsExactlyInAnyOrderElementsOf(statements);
+		}
+		assertThat(coordinator.getActiveScanCount()).isZero();
+	}
+
+	private List<Statement> rotate(int joinedAt) {
+		List<Statement> rotated = new ArrayList<>(statements.subList(joinedAt, statements.size()));
+		rotated.addAll(statements.subList(0, joinedAt));
+		return rotated;
+	}
+
+	private CloseableIteration<Statement> scan(SharedScanCoordinator coordinator) {
+		return coordinator.getStatements("snapshot", new ListDataset(), null, PRED, null);
+	}
+
+	private static List<Statement> take(CloseableIteration<Statement> iteration, int count) {
+		List<Statement> result = new ArrayList<>();
+		while (result.size() < count && iteration.hasNext()) {
+			result.add(iteration.next());
+		}
+		return result;
+	}
+
+	private class ListDataset implements SailDataset {
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public CloseableIteration<? extends Namespace> getNamespaces() {
+			return new EmptyIteration<>();
+		}
+
+		@Override
+		public String getNamespace(String prefix) {
+			return null;
+		}
+
+		@Override
+		public CloseableIteration<? extends Resource> getContextIDs() {
+			return new EmptyIteration<>();
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) {
+			scans.incrementAndGet();
+			return new CloseableIteratorIteration<>(statements.iterator());
+		}
+	}
+}
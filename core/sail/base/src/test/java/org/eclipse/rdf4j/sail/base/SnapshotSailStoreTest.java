@@ -17,6 +17,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -220,8 +223,60 @@ public class SnapshotSailStoreTest {
 						.contains("statementsAdded=2"));
 	}
 
+	@Test
+	public void testReadsAreNotBlockedByConcurrentFlush() throws Exception {
+		CountDownLatch flushStarted = new CountDownLatch(1);
+		CountDownLatch releaseFlush = new CountDownLatch(1);
+		SnapshotSailStore sailStore = createSnapshotSailStore(level -> new TestSailSink() {
+			@Override
+			public void approve(Resource subj, IRI pred, Value obj, Resource ctx) throws SailException {
+				flushStarted.countDown();
+				try {
+					releaseFlush.await();
+				} catch (InterruptedException e) {
+					throw new SailException(e);
+				}
+			}
+		}, LinkedHashModel::new, true);
+		Sail sail = createSail(sailStore);
+
+		try {
+			CompletableFuture<Void> commit = CompletableFuture.runAsync(() -> {
+				try (SailConnection connection = sail.getConnection()) {
+					connection.begin(IsolationLevels.SNAPSHOT_READ);
+					connection.addStatement(RDF.TYPE, RDFS.LABEL, sail.getValueFactory().createLiteral("type"));
+					connection.commit();
+				}
+			});
+			assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+
+			// the commit is being written to the backing store, readers see it without waiting for the flush
+			CompletableFuture<Long> read = CompletableFuture.supplyAsync(() -> {
+				try (SailConnection connection = sail.getConnection()) {
+					return connection.getStatements(null, RDFS.LABEL, null, false).stream().count();
+				}
+			});
+			assertEquals(1, read.get(10, TimeUnit.SECONDS));
+			assertFalse(commit.isDone());
+
+			releaseFlush.countDown();
+			commit.get(10, TimeUnit.SECONDS);
+		} finally {
+			releaseFlush.countDown();
+			sail.shutDown();
+		}
+	}
+
 	private Sail createSail(SailStore sailStore) {
 		return new AbstractNotifyingSail() {
+
+			{
+				// like the stores that use a SnapshotSailStore, so that snapshot transactions don't require a
+				// serializable sink of the backing store
+				setSupportedIsolationLevels(IsolationLevels.NONE, IsolationLevels.READ_COMMITTED,
+						IsolationLevels.SNAPSHOT_READ, IsolationLevels.SNAPSHOT, IsolationLevels.SERIALIZABLE);
+			}
+
 			@Override
 			protected void shutDownInternal() throws SailException {
 				// closing the SailStore tries to flush existing changes again
@@ -261,6 +316,11 @@ public class SnapshotSailStoreTest {
 
 	private SnapshotSailStore createSnapshotSailStore(Function<IsolationLevel, SailSink> sinkFactory,
 			ModelFactory modelFactory) {
+		return createSnapshotSailStore(sinkFactory, modelFactory, false);
+	}
+
+	private SnapshotSailStore createSnapshotSailStore(Function<IsolationLevel, SailSink> sinkFactory,
+			ModelFactory modelFactory, boolean concurrentReadsDuringFlush) {
 		BackingSailSource dummySource = new BackingSailSource() {
 			@Override
 			public SailSink sink(IsolationLevel level) throws SailException {
@@ -322,7 +382,7 @@ public class SnapshotSailStoreTest {
 			@Override
 			public void close() throws SailException {
 			}
-		}, modelFactory);
+		}, modelFactory, concurrentReadsDuringFlush);
 	}
 
 	private static final class CloseCountingModel extends LinkedHashModel implements AutoCloseable {
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.sail.InterruptedSailException;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * Loads large amounts of statements into an empty {@link LmdbStore}. Instead of inserting each statement into every
+ * index, the loader assigns value IDs while the statements are added, sorts batches of statements in the order of each
+ * index on background threads and finally writes every index in a single sequential pass with
+ * {@link org.lwjgl.util.lmdb.LMDB#MDB_APPEND MDB_APPEND}.
+ * <p>
+ * A bulk loader has exclusive write access to the store: other transactions that write to the store block until the
+ * loader is {@link #finish() finished} or {@link #close() closed}. Statements are only visible after {@link #finish()}
+ * has returned. A loader must be used by a single thread, which is also the thread that created it. The loader can be
+ * passed to an RDF parser as {@link org.eclipse.rdf4j.rio.RDFHandler}.
+ *
+ * <pre>
+ * try (LmdbBulkLoader loader = store.createBulkLoader()) {
+ * 	parser.setRDFHandler(loader);
+ * 	parser.parse(in, baseURI);
+ * 	loader.finish();
+ * }
+ * </pre>
+ *
+ * @see LmdbStore#createBulkLoader()
+ */
+@Experimental
+public class LmdbBulkLoader extends AbstractRDFHandler implements AutoCloseable {
+
+	/**
+	 * The default number of statements that are sorted at once.
+	 */
+	static final int DEFAULT_RUN_SIZE = 1 << 19;
+
+	/**
+	 * The maximum number of batches that are sorted at the same time.
+	 */
+	private static final int MAX_PENDING_RUNS = 2;
+
+	private final LmdbSailStore store;
+	private final Path tempDir;
+	private final int runSize;
+	private final Map<String, SortedKeyRuns> sortedKeys = new HashMap<>();
+	private final ExecutorService executor;
+	private final Semaphore pendingRuns = new Semaphore(MAX_PENDING_RUNS);
+	private final List<Future<?>> tasks = new ArrayList<>();
+
+	private long[] quads;
+	private int count;
+	private boolean loading = true;
+	private boolean closed;
+
+	LmdbBulkLoader(LmdbSailStore store, Path tempDir) throws SailException {
+		this(store, tempDir, DEFAULT_RUN_SIZE);
+	}
+
+	LmdbBulkLoader(LmdbSailStore store, Path tempDir, int runSize) throws SailException {
+		this.store = store;
+		this.tempDir = tempDir;
+		this.runSize = runSize;
+		for (String fieldSeq : store.getIndexFieldSeqs()) {
+			sortedKeys.put(fieldSeq, new SortedKeyRuns(fieldSeq, tempDir.toFile()));
+		}
+		this.quads = new long[runSize * 4];
+
+		store.startBulkLoad();
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(sortedKeys.size(), Runtime.getRuntime().availableProcessors())), r -> {
+					Thread t = new Thread(r, "LmdbBulkLoader-" + threadCount.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+	}
+
+	/**
+	 * Adds a statement to the store.
+	 *
+	 * @param context the context of the statement, or <code>null</code> for the default graph
+	 * @throws SailException if the statement could not be added or sorting a previous batch has failed
+	 */
+	public void add(Resource subj, IRI pred, Value obj, Resource context) throws SailException {
+		if (!loading) {
+			throw new SailException("Bulk loader has already been finished or closed");
+		}
+		try {
+			int offset = count * 4;
+			quads[offset + TripleIndex.SUBJ_IDX] = store.storeBulkLoadValue(subj);
+			quads[offset + TripleIndex.PRED_IDX] = store.storeBulkLoadValue(pred);
+			quads[offset + TripleIndex.OBJ_IDX] = store.storeBulkLoadValue(obj);
+			quads[offset + TripleIndex.CONTEXT_IDX] = context == null ? 0 : store.storeBulkLoadValue(context);
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+		if (++count == runSize) {
+			submitRun();
+		}
+	}
+
+	@Override
+	public void handleStatement(Statement st) throws RDFHandlerException {
+		add(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext());
+	}
+
+	/**
+	 * Writes all added statements to the store and closes this loader.
+	 *
+	 * @return the number of statements that have been added to the store, excluding duplicates
+	 * @throws SailException if the statements could not be written to the store
+	 */
+	public long finish() throws SailException {
+		if (!loading) {
+			throw new SailException("Bulk loader has already been finished or closed");
+		}
+		try {
+			if (count > 0) {
+				submitRun();
+			}
+			awaitTasks();
+			for (SortedKeyRuns runs : sortedKeys.values()) {
+				tasks.add(executor.submit(() -> {
+					runs.reduceRuns();
+					return null;
+				}));
+			}
+			awaitTasks();
+
+			// the store releases its write lock in any case
+			loading = false;
+			return store.finishBulkLoad(sortedKeys::get);
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Discards all statements that have not been written to the store by {@link #finish()} and releases all resources
+	 * of this loader.
+	 */
+	@Override
+	public void close() throws SailException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			executor.shutdownNow();
+			try {
+				// wait for aborted sort tasks to close their run files before these are deleted
+				executor.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (loading) {
+				loading = false;
+				store.abortBulkLoad();
+			}
+		} finally {
+			quads = null;
+			deleteTempDir();
+		}
+	}
+
+	private void submitRun() throws SailException {
+		checkTasks();
+		try {
+			pendingRuns.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedSailException(e);
+		}
+
+		long[] run = quads;
+		int runCount = count;
+		AtomicInteger remaining = new AtomicInteger(sortedKeys.size());
+		for (SortedKeyRuns runs : sortedKeys.values()) {
+			tasks.add(executor.submit(() -> {
+				try {
+					runs.writeRun(run, runCount);
+				} finally {
+					if (remaining.decrementAndGet() == 0) {
+						pendingRuns.release();
+					}
+				}
+				return null;
+			}));
+		}
+		quads = new long[runSize * 4];
+		count = 0;
+	}
+
+	/**
+	 * Throws the failure of any completed task and forgets about tasks that completed successfully.
+	 */
+	private void checkTasks() throws SailException {
+		for (int i = tasks.size() - 1; i >= 0; i--) {
+			Future<?> task = tasks.get(i);
+			if (task.isDone()) {
+				tasks.remove(i);
+				getResult(task);
+			}
+		}
+	}
+
+	private void awaitTasks() throws SailException {
+		try {
+			for (Future<?> task : tasks) {
+				getResult(task);
+			}
+		} finally {
+			tasks.clear();
+		}
+	}
+
+	private static void getResult(Future<?> task) throws SailException {
+		try {
+			task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedSailException(e);
+		} catch (ExecutionException e) {
+			throw new SailException("Failed to sort statements for bulk loading", e.getCause());
+		}
+	}
+
+	private void deleteTempDir() throws SailException {
+		if (!Files.exists(tempDir)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(tempDir)) {
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		} catch (IOException e) {
+			throw new SailException("Failed to delete temporary files of bulk loader", e);
+		}
+	}
+}
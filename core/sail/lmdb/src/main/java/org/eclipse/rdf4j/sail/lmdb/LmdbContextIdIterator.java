@@ -15,9 +15,7 @@ import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SET;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SET_RANGE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
-import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
-import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_renew;
 
 import java.io.Closeable;
@@ -27,8 +25,6 @@ import java.nio.ByteBuffer;
 import org.eclipse.rdf4j.common.concurrent.locks.StampedLongAdderLockManager;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
-import org.lwjgl.PointerBuffer;
-import org.lwjgl.system.MemoryStack;
 import org.lwjgl.util.lmdb.MDBVal;
 
 /**
@@ -61,7 +57,10 @@ class LmdbContextIdIterator implements Closeable {
 
 	private final Thread ownerThread = Thread.currentThread();
 
+	private final int dbi;
+
 	LmdbContextIdIterator(int dbi, Txn txnRef) throws IOException {
+		this.dbi = dbi;
 		this.pool = Pool.get();
 		this.keyData = pool.getVal();
 		this.valueData = pool.getVal();
@@ -79,11 +78,7 @@ class LmdbContextIdIterator implements Closeable {
 			this.txnRefVersion = txnRef.version();
 			this.txn = txnRef.get();
 
-			try (MemoryStack stack = MemoryStack.stackPush()) {
-				PointerBuffer pp = stack.mallocPointer(1);
-				E(mdb_cursor_open(txn, dbi, pp));
-				cursor = pp.get(0);
-			}
+			cursor = txnRef.openCursor(dbi);
 		} finally {
 			txnLockManager.unlockRead(readStamp);
 		}
@@ -99,6 +94,9 @@ class LmdbContextIdIterator implements Closeable {
 		try {
 			int lastResult;
 			if (txnRefVersion != txnRef.version()) {
+				if (txnRef.isExpired()) {
+					throw txnRef.expiredException();
+				}
 				// cursor must be renewed
 				E(mdb_cursor_renew(txn, cursor));
 				if (fetchNext) {
@@ -167,7 +165,7 @@ class LmdbContextIdIterator implements Closeable {
 			}
 			try {
 				if (!closed) {
-					mdb_cursor_close(cursor);
+					txnRef.closeCursor(dbi, cursor);
 					pool.free(keyData);
 					pool.free(valueData);
 					if (minKeyBuf != null) {
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Recommends triple indexes for the statement patterns that were looked up in a store. A pattern is covered by an
+ * index if all of its bound components form a prefix of the field sequence of the index. Indexes are recommended
+ * greedily by the number of lookups of uncovered patterns they would cover.
+ */
+final class LmdbIndexAdvisor {
+
+	private static final String COMPONENTS = "spoc";
+
+	private static final List<String> ALL_FIELD_SEQS = permutations("", COMPONENTS, new ArrayList<>());
+
+	private LmdbIndexAdvisor() {
+	}
+
+	/**
+	 * @param accessCounts the number of lookups indexed by a bit mask of the bound components as returned by
+	 *                     {@link TripleStore#getPatternAccessCounts()}
+	 * @param existing     the field sequences of the existing indexes
+	 * @param maxIndexes   the maximum number of recommended indexes
+	 * @param minShare     the minimum share of all lookups that a recommended index must cover
+	 * @return the field sequences of the recommended indexes, best first
+	 */
+	static List<String> recommend(long[] accessCounts, Collection<String> existing, int maxIndexes, double minShare) {
+		long[] uncovered = accessCounts.clone();
+		long total = 0;
+		for (int mask = 0; mask < uncovered.length; mask++) {
+			total += uncovered[mask];
+			for (String fieldSeq : existing) {
+				if (covers(fieldSeq, mask)) {
+					uncovered[mask] = 0;
+					break;
+				}
+			}
+		}
+
+		List<String> recommended = new ArrayList<>();
+		while (recommended.size() < maxIndexes) {
+			String best = null;
+			long bestCount = 0;
+			for (String fieldSeq : ALL_FIELD_SEQS) {
+				if (existing.contains(fieldSeq) || recommended.contains(fieldSeq)) {
+					continue;
+				}
+				long count = 0;
+				for (int mask = 0; mask < uncovered.length; mask++) {
+					if (uncovered[mask] > 0 && covers(fieldSeq, mask)) {
+						count += uncovered[mask];
+					}
+				}
+				if (count > bestCount) {
+					best = fieldSeq;
+					bestCount = count;
+				}
+			}
+			if (best == null || bestCount < minShare * total) {
+				break;
+			}
+			recommended.add(best);
+			for (int mask = 0; mask < uncovered.length; mask++) {
+				if (covers(best, mask)) {
+					uncovered[mask] = 0;
+				}
+			}
+		}
+		return recommended;
+	}
+
+	/**
+	 * Tests whether the bound components of a pattern form a prefix of the given field sequence.
+	 */
+	static boolean covers(String fieldSeq, int boundMask) {
+		int bound = Integer.bitCount(boundMask);
+		for (int i = 0; i < bound; i++) {
+			if ((boundMask & 1 << COMPONENTS.indexOf(fieldSeq.charAt(i))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<String> permutations(String prefix, String remaining, List<String> result) {
+		if (remaining.isEmpty()) {
+			result.add(prefix);
+		}
+		for (int i = 0; i < remaining.length(); i++) {
+			permutations(prefix + remaining.charAt(i), remaining.substring(0, i) + remaining.substring(i + 1),
+					result);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+
+/**
+ * Exact statistics about the statements with a predicate in an {@link LmdbStore}. Explicit and inferred statements
+ * are counted separately, so that a statement that is both explicit and inferred is counted twice. The numbers of
+ * distinct subjects and objects are only maintained if the store has an index whose first two fields are the subject
+ * and the predicate or the predicate and the object respectively.
+ *
+ * @param statements       the number of statements with the predicate
+ * @param distinctSubjects the number of distinct subjects of these statements, or -1 if it is not maintained
+ * @param distinctObjects  the number of distinct objects of these statements, or -1 if it is not maintained
+ */
+@Experimental
+public record LmdbPredicateStatistics(long statements, long distinctSubjects, long distinctObjects) {
+}
@@ -23,15 +23,18 @@ import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.BindingAssignerOptim
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CompareOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ConjunctiveConstraintSplitterOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ConstantOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.CountAggregateOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.DisjunctiveConstraintOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.FilterOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.IterativeEvaluationOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ObjectRangeFilterOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.OrderLimitOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ParentReferenceChecker;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.ProjectionRemovalOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.QueryModelNormalizerOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.RegexAsStringFunctionOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.SameTermFilterOptimizer;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.SliceOffsetPushdownOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.UnionScopeChangeOptimizer;
 
 final class LmdbQueryOptimizerPipeline implements QueryOptimizerPipeline {
@@ -52,7 +55,10 @@ final class LmdbQueryOptimizerPipeline implements QueryOptimizerPipeline {
 	private static final QueryModelNormalizerOptimizer QUERY_MODEL_NORMALIZER = new QueryModelNormalizerOptimizer();
 	private static final ProjectionRemovalOptimizer PROJECTION_REMOVAL_OPTIMIZER = new ProjectionRemovalOptimizer();
 	private static final IterativeEvaluationOptimizer ITERATIVE_EVALUATION_OPTIMIZER = new IterativeEvaluationOptimizer();
+	private static final ObjectRangeFilterOptimizer OBJECT_RANGE_FILTER_OPTIMIZER = new ObjectRangeFilterOptimizer();
+	private static final CountAggregateOptimizer COUNT_AGGREGATE_OPTIMIZER = new CountAggregateOptimizer();
 	private static final OrderLimitOptimizer ORDER_LIMIT_OPTIMIZER = new OrderLimitOptimizer();
+	private static final SliceOffsetPushdownOptimizer SLICE_OFFSET_PUSHDOWN_OPTIMIZER = new SliceOffsetPushdownOptimizer();
 
 	private final EvaluationStrategy strategy;
 	private final TripleSource tripleSource;
@@ -82,7 +88,10 @@ final class LmdbQueryOptimizerPipeline implements QueryOptimizerPipeline {
 				ITERATIVE_EVALUATION_OPTIMIZER,
 				new LmdbFilterSimplifierOptimizer(evaluationStatistics),
 				new LmdbSketchJoinOptimizer(evaluationStatistics, strategy.isTrackResultSize()),
-				ORDER_LIMIT_OPTIMIZER);
+				OBJECT_RANGE_FILTER_OPTIMIZER,
+				COUNT_AGGREGATE_OPTIMIZER,
+				ORDER_LIMIT_OPTIMIZER,
+				SLICE_OFFSET_PUSHDOWN_OPTIMIZER);
 
 		if (assertsEnabled) {
 			List<QueryOptimizer> checked = new ArrayList<>();
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+
+/**
+ * Statistics about the read transactions of the triple database of an {@link LmdbStore}. Pages that were freed by a
+ * write transaction can only be reused once all read transactions that started before it are closed. A growing
+ * number of pinned free pages usually indicates a result or connection that was not closed.
+ *
+ * @param activeReaders         the number of open read transactions
+ * @param oldestReaderAgeMillis the age of the snapshot of the oldest open read transaction, or 0 if there is none
+ * @param freePages             the number of free pages in the database file
+ * @param pinnedFreePages       the number of free pages that cannot be reused because of open read transactions
+ * @param abortedReaders        the number of read transactions that were aborted because they exceeded the maximum
+ *                              reader age
+ */
+@Experimental
+public record LmdbReaderStatistics(int activeReaders, long oldestReaderAgeMillis, long freePages,
+		long pinnedFreePages, long abortedReaders) {
+}
@@ -10,28 +10,25 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.lmdb;
 
-import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.E;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOTFOUND;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SET;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SET_RANGE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cmp;
-import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
-import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_renew;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.function.LongPredicate;
 
 import org.eclipse.rdf4j.common.concurrent.locks.StampedLongAdderLockManager;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.TripleIndex;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
+import org.eclipse.rdf4j.sail.lmdb.model.LmdbValue;
 import org.eclipse.rdf4j.sail.lmdb.util.GroupMatcher;
-import org.lwjgl.PointerBuffer;
-import org.lwjgl.system.MemoryStack;
 import org.lwjgl.util.lmdb.MDBVal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +51,8 @@ class LmdbRecordIterator implements RecordIterator {
 
 	private final MDBVal maxKey;
 
+	private final LongPredicate objectFilter;
+
 	private final boolean matchValues;
 	private GroupMatcher groupMatcher;
 
@@ -90,6 +89,22 @@ class LmdbRecordIterator implements RecordIterator {
 
 	LmdbRecordIterator(TripleIndex index, boolean rangeSearch, long subj, long pred, long obj,
 			long context, boolean explicit, Txn txnRef) throws IOException {
+		this(index, rangeSearch, subj, pred, obj, context, obj, obj, null, explicit, txnRef);
+	}
+
+	/**
+	 * Creates an iterator over the records whose object ID lies between <var>minObj</var> and <var>maxObj</var> and
+	 * is accepted by <var>objectFilter</var>. All fields that precede the object in the index must be bound.
+	 */
+	LmdbRecordIterator(TripleIndex index, long subj, long pred, long minObj, long maxObj, LongPredicate objectFilter,
+			long context, boolean explicit, Txn txnRef) throws IOException {
+		this(index, true, subj, pred, LmdbValue.UNKNOWN_ID, context, minObj, maxObj, objectFilter, explicit, txnRef);
+	}
+
+	private LmdbRecordIterator(TripleIndex index, boolean rangeSearch, long subj, long pred, long obj,
+			long context, long minObj, long maxObj, LongPredicate objectFilter, boolean explicit, Txn txnRef)
+			throws IOException {
+		this.objectFilter = objectFilter;
 		this.subj = subj;
 		this.pred = pred;
 		this.obj = obj;
@@ -102,12 +117,12 @@ class LmdbRecordIterator implements RecordIterator {
 		this.index = index;
 		if (rangeSearch) {
 			minKeyBuf = pool.getKeyBuffer();
-			index.getMinKey(minKeyBuf, subj, pred, obj, context);
+			index.getMinKey(minKeyBuf, subj, pred, minObj, context);
 			minKeyBuf.flip();
 
 			this.maxKey = pool.getVal();
 			this.maxKeyBuf = pool.getKeyBuffer();
-			index.getMaxKey(maxKeyBuf, subj, pred, obj, context);
+			index.getMaxKey(maxKeyBuf, subj, pred, maxObj, context);
 			maxKeyBuf.flip();
 			this.maxKey.mv_data(maxKeyBuf);
 		} else {
@@ -131,11 +146,7 @@ class LmdbRecordIterator implements RecordIterator {
 			this.txnRefVersion = txnRef.version();
 			this.txn = txnRef.get();
 
-			try (MemoryStack stack = MemoryStack.stackPush()) {
-				PointerBuffer pp = stack.mallocPointer(1);
-				E(mdb_cursor_open(txn, dbi, pp));
-				cursor = pp.get(0);
-			}
+			cursor = txnRef.openCursor(dbi);
 		} finally {
 			txnLockManager.unlockRead(readStamp);
 		}
@@ -158,6 +169,9 @@ class LmdbRecordIterator implements RecordIterator {
 			int lastResult;
 			if (txnRefVersion != txnRef.version()) {
 				// TODO: None of the tests in the LMDB Store cover this case!
+				if (txnRef.isExpired()) {
+					throw txnRef.expiredException();
+				}
 				// cursor must be renewed
 				mdb_cursor_renew(txn, cursor);
 				if (fetchNext) {
@@ -210,6 +224,11 @@ class LmdbRecordIterator implements RecordIterator {
 				} else {
 					// Matching value found
 					index.keyToQuad(keyData.mv_data(), originalQuad, quad);
+					if (objectFilter != null && !objectFilter.test(quad[TripleIndex.OBJ_IDX])) {
+						sourceRowsFilteredActual++;
+						lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
+						continue;
+					}
 					sourceRowsMatchedActual++;
 					// fetch next value
 					fetchNext = true;
@@ -248,7 +267,7 @@ class LmdbRecordIterator implements RecordIterator {
 			}
 			try {
 				if (!closed) {
-					mdb_cursor_close(cursor);
+					txnRef.closeCursor(dbi, cursor);
 					pool.free(keyData);
 					pool.free(valueData);
 					if (minKeyBuf != null) {
@@ -22,20 +22,28 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
@@ -49,6 +57,8 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.TripleTerm;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.query.algebra.evaluation.sketch.SketchBasedJoinEstimator;
 import org.eclipse.rdf4j.query.algebra.evaluation.sketch.SketchStatementSource;
@@ -63,6 +73,7 @@ import org.eclipse.rdf4j.sail.base.SailStore;
 import org.eclipse.rdf4j.sail.base.SailStoreStatementSource;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.eclipse.rdf4j.sail.lmdb.inlined.OrderedIdRange;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,6 +109,11 @@ class LmdbSailStore implements SailStore {
 	private PersistentSetFactory<Long> setFactory;
 	private PersistentSet<Long> unusedIds, nextUnusedIds;
 
+	/**
+	 * Inlined values of removed statements that are recorded by the value store as not being inlined in order.
+	 */
+	private final Set<Long> unusedUnorderedIds = ConcurrentHashMap.newKeySet();
+
 	private final SketchBasedJoinEstimator sketchBasedJoinEstimator;
 	private LmdbFilterSelectivityStats filterSelectivityStats;
 	private final LmdbStatementPatternCardinalitySource statementPatternCardinalitySource;
@@ -288,8 +304,43 @@ class LmdbSailStore implements SailStore {
 	 * Boolean indicating whether any {@link LmdbSailSink} has started a transaction on the {@link TripleStore}.
 	 */
 	private final AtomicBoolean storeTxnStarted = new AtomicBoolean(false);
+
+	/**
+	 * Signalled when a transaction on the {@link TripleStore} has ended, guarded by {@link #sinkStoreAccessLock}.
+	 */
+	private final Condition storeTxnEnded = sinkStoreAccessLock.newCondition();
 	private final AtomicBoolean estimatorTouchedSinceStoreTxnStart = new AtomicBoolean(false);
 
+	/**
+	 * The number of backups that are currently copying the store, guarded by {@link #sinkStoreAccessLock}. Values of
+	 * removed statements are not garbage collected while a backup is running.
+	 */
+	private int backupsInProgress;
+
+	/**
+	 * Runs after a backup has copied the triples and before it copies the values, only used by tests.
+	 */
+	private volatile Runnable backupTriplesCopiedListener;
+
+	private final File dataDir;
+
+	private final StoreProperties properties;
+
+	/**
+	 * The number of triples that an index build copies per write transaction.
+	 */
+	private static final int INDEX_BUILD_BATCH_SIZE = 10_000;
+
+	/**
+	 * The number of triples that {@link #clearContext(Resource, LongConsumer)} removes per write transaction.
+	 */
+	private static final int CONTEXT_CLEAR_BATCH_SIZE = 100_000;
+
+	/**
+	 * Threads of running index builds, which are interrupted when the store is closed.
+	 */
+	private final Set<Thread> indexBuilders = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Creates a new {@link LmdbSailStore}.
 	 */
@@ -301,6 +352,8 @@ class LmdbSailStore implements SailStore {
 	public LmdbSailStore(File dataDir, StoreProperties properties, LmdbStoreConfig config,
 			boolean sketchBasedJoinEstimatorEnabled)
 			throws IOException, SailException {
+		this.dataDir = dataDir;
+		this.properties = properties;
 		this.setFactory = new PersistentSetFactory<>(dataDir);
 		this.bulkOperationSize = config.getBulkOperationSize();
 		this.backgroundRawSamplingMaxMillisPerCycle = config.getBackgroundRawSamplingMaxMillisPerCycle();
@@ -320,6 +373,12 @@ class LmdbSailStore implements SailStore {
 			namespaceStore = new NamespaceStore(dataDir);
 			var valueStore = new ValueStore(new File(dataDir, "values"), properties, config);
 			this.valueStore = valueStore;
+			if (valueStore.getId(RDF.TYPE) == LmdbValue.UNKNOWN_ID) {
+				// the triple statistics count the instances of classes by the id of rdf:type
+				valueStore.startTransaction(true);
+				valueStore.storeValue(RDF.TYPE);
+				valueStore.commit();
+			}
 			tripleStore = new TripleStore(new File(dataDir, "triples"), properties, config, valueStore);
 			statementPatternCardinalitySource = new LmdbStatementPatternCardinalitySource(valueStore, tripleStore);
 			mayHaveInferred = tripleStore.hasTriples(false);
@@ -456,6 +515,130 @@ class LmdbSailStore implements SailStore {
 		return estimatorConfig;
 	}
 
+	/**
+	 * Starts a bulk load into this store. Blocks all other writers until {@link #finishBulkLoad(Function)} or
+	 * {@link #abortBulkLoad()} is called by the same thread.
+	 *
+	 * @throws SailException if the store is not empty or a transaction is active
+	 */
+	void startBulkLoad() throws SailException {
+		sinkStoreAccessLock.lock();
+		boolean started = false;
+		try {
+			if (storeTxnStarted.get()) {
+				throw new SailException("Bulk loading is not possible while a transaction is active");
+			}
+			if (tripleStore.hasTriples(true) || tripleStore.hasTriples(false)) {
+				throw new SailException("Bulk loading requires an empty store");
+			}
+			valueStore.startTransaction(true);
+			started = true;
+		} catch (IOException e) {
+			throw new SailException(e);
+		} finally {
+			if (!started) {
+				sinkStoreAccessLock.unlock();
+			}
+		}
+	}
+
+	long storeBulkLoadValue(Value value) throws IOException {
+		return valueStore.storeValue(value);
+	}
+
+	List<String> getIndexFieldSeqs() {
+		return tripleStore.getIndexFieldSeqs();
+	}
+
+	/**
+	 * Writes the sorted keys of a bulk load to the triple store while the values are committed on the calling thread.
+	 * Both stores are separate LMDB environments with a writer each, so the value store commit overlaps with building
+	 * the indexes. The triple store is only committed after the value store commit has succeeded.
+	 *
+	 * @param sortedKeys supplies the sorted keys for the field sequence of each index
+	 * @return the number of added statements
+	 */
+	long finishBulkLoad(Function<String, SortedKeyRuns> sortedKeys) throws SailException {
+		try {
+			CompletableFuture<Void> valuesCommitted = new CompletableFuture<>();
+			Future<Long> indexesWritten = tripleStoreExecutor.submit(() -> {
+				tripleStore.startTransaction();
+				boolean committed = false;
+				try {
+					long added = tripleStore.appendSorted(sortedKeys);
+					valuesCommitted.join();
+					tripleStore.commit();
+					committed = true;
+					return added;
+				} finally {
+					if (!committed) {
+						tripleStore.rollback();
+					}
+				}
+			});
+
+			try {
+				valueStore.commit();
+				valuesCommitted.complete(null);
+			} catch (IOException | RuntimeException e) {
+				valuesCommitted.completeExceptionally(e);
+				try {
+					valueStore.rollback();
+				} catch (IOException | RuntimeException e2) {
+					e.addSuppressed(e2);
+				}
+				throw e;
+			}
+
+			// the index writer must not be abandoned while it holds the write transaction
+			long added = -1;
+			boolean interrupted = false;
+			try {
+				while (added < 0) {
+					try {
+						added = indexesWritten.get();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					} catch (ExecutionException e) {
+						Throwable cause = e.getCause();
+						if (cause instanceof SailException) {
+							throw (SailException) cause;
+						}
+						throw new SailException(cause);
+					}
+				}
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			if (added > 0) {
+				if (sketchBasedJoinEstimator != null) {
+					sketchBasedJoinEstimator.discardAndMarkForRebuild();
+				}
+				if (filterSelectivityStats != null) {
+					filterSelectivityStats.recordStoreMutation();
+				}
+			}
+			return added;
+		} catch (IOException e) {
+			throw new SailException(e);
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+	}
+
+	void abortBulkLoad() throws SailException {
+		try {
+			valueStore.rollback();
+		} catch (IOException e) {
+			throw new SailException(e);
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+	}
+
 	void rollback() throws SailException {
 		sinkStoreAccessLock.lock();
 		try {
@@ -480,19 +663,328 @@ class LmdbSailStore implements SailStore {
 		} finally {
 			tripleStoreException = null;
 			discardEstimatorStateTouchedByOpenTransaction();
-			storeTxnStarted.set(false);
+			endStoreTxn();
 			sinkStoreAccessLock.unlock();
 		}
 	}
 
+	/**
+	 * Marks the transaction on the {@link TripleStore} as ended and wakes up the index builds that wait for it. Must be
+	 * called while holding {@link #sinkStoreAccessLock}.
+	 */
+	private void endStoreTxn() {
+		storeTxnStarted.set(false);
+		storeTxnEnded.signalAll();
+	}
+
 	private void discardEstimatorStateTouchedByOpenTransaction() {
 		if (estimatorTouchedSinceStoreTxnStart.getAndSet(false) && sketchBasedJoinEstimator != null) {
 			sketchBasedJoinEstimator.discardAndMarkForRebuild();
 		}
 	}
 
+	/**
+	 * Copies the committed state of this store to an empty directory while the store stays readable and writable. The
+	 * namespaces, the triples and the values are copied one after the other and commits are not blocked in between, so
+	 * only the triples are guaranteed to reflect a single commit. They are copied before the values and no values are
+	 * garbage collected until the copy has finished, so that the copy contains every value that is referenced by its
+	 * triples.
+	 *
+	 * @param targetDir the directory to copy the store to, must not contain any data
+	 * @param compact   whether free pages are omitted from the copy
+	 */
+	void backup(File targetDir, boolean compact) throws SailException {
+		String[] existing = targetDir.list();
+		if (existing != null && existing.length > 0) {
+			throw new SailException("Backup directory is not empty: " + targetDir);
+		}
+		File triplesDir = new File(targetDir, "triples");
+		File valuesDir = new File(targetDir, "values");
+		if (!triplesDir.mkdirs() || !valuesDir.mkdirs()) {
+			throw new SailException("Unable to create backup directory: " + targetDir);
+		}
+
+		sinkStoreAccessLock.lock();
+		try {
+			backupsInProgress++;
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+		try {
+			sinkStoreAccessLock.lock();
+			try {
+				// the namespace file holds the committed namespaces as long as no sink is flushing
+				Path namespaces = dataDir.toPath().resolve(NamespaceStore.FILE_NAME);
+				if (Files.isRegularFile(namespaces)) {
+					Files.copy(namespaces, targetDir.toPath().resolve(NamespaceStore.FILE_NAME));
+				}
+			} finally {
+				sinkStoreAccessLock.unlock();
+			}
+			tripleStore.copyTo(triplesDir, compact);
+			Runnable listener = backupTriplesCopiedListener;
+			if (listener != null) {
+				listener.run();
+			}
+			valueStore.copyTo(valuesDir, compact);
+			// written last as it records whether any values were stored without ordered inlining
+			properties.saveTo(targetDir);
+		} catch (IOException e) {
+			throw new SailException(e);
+		} finally {
+			sinkStoreAccessLock.lock();
+			try {
+				backupsInProgress--;
+			} finally {
+				sinkStoreAccessLock.unlock();
+			}
+		}
+	}
+
+	void setBackupTriplesCopiedListener(Runnable listener) {
+		this.backupTriplesCopiedListener = listener;
+	}
+
+	/**
+	 * Determines the age of the open read transactions of the triple database and the free pages they pin.
+	 */
+	LmdbReaderStatistics getReaderStatistics() throws SailException {
+		try {
+			return tripleStore.getTxnManager().readerStatistics();
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	/**
+	 * Recommends indexes for the statement patterns that have been looked up since the store was opened.
+	 *
+	 * @return the field sequences of up to three indexes, best first
+	 */
+	List<String> getRecommendedIndexes() {
+		return LmdbIndexAdvisor.recommend(tripleStore.getPatternAccessCounts(), tripleStore.getIndexFieldSeqs(), 3,
+				0.01);
+	}
+
+	/**
+	 * @return <code>true</code> if the triple statistics had to be built from the indexes when the store was opened
+	 */
+	boolean isStatisticsRebuilt() {
+		return tripleStore.isStatisticsRebuilt();
+	}
+
+	Map<IRI, LmdbPredicateStatistics> getPredicateStatistics() throws SailException {
+		try {
+			Map<IRI, LmdbPredicateStatistics> statistics = new HashMap<>();
+			for (Map.Entry<Long, LmdbPredicateStatistics> entry : tripleStore.getPredicateStatistics().entrySet()) {
+				statistics.put((IRI) valueStore.getValue(entry.getKey()), entry.getValue());
+			}
+			return statistics;
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	Map<Resource, Long> getClassStatistics() throws SailException {
+		try {
+			Map<Resource, Long> counts = new HashMap<>();
+			for (Map.Entry<Long, Long> entry : tripleStore.getClassCounts().entrySet()) {
+				if (valueStore.getValue(entry.getKey()) instanceof Resource cls) {
+					counts.put(cls, entry.getValue());
+				}
+			}
+			return counts;
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	/**
+	 * Builds a new index in the background while the store stays readable and writable. The index is added in a first
+	 * write transaction after which all writes update it. The triples of the main index are then copied in small write
+	 * transactions between the transactions of other writers, and the index is used for reading by transactions that
+	 * start after the last triples have been copied.
+	 *
+	 * @param fieldSeq the field sequence of the index, e.g. <code>ospc</code>
+	 * @return a future that completes when the index is used for reading
+	 */
+	CompletableFuture<Void> addIndex(String fieldSeq) throws SailException {
+		Set<String> indexSpecs = TripleIndex.parseIndexSpecList(fieldSeq);
+		if (indexSpecs.size() != 1) {
+			throw new SailException("Expected a single index specification: " + fieldSeq);
+		}
+		String indexSpec = indexSpecs.iterator().next();
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		Thread builder = new Thread(() -> {
+			try {
+				buildIndex(indexSpec);
+				result.complete(null);
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			} finally {
+				indexBuilders.remove(Thread.currentThread());
+			}
+		}, "rdf4j-lmdb-index-build-" + indexSpec);
+		builder.setDaemon(true);
+		indexBuilders.add(builder);
+		builder.start();
+		return result;
+	}
+
+	private void buildIndex(String fieldSeq) throws IOException, InterruptedException {
+		TripleIndex index = inTripleStoreTransaction(() -> tripleStore.addPendingIndex(fieldSeq));
+		logger.debug("Building index {}", fieldSeq);
+		boolean complete = false;
+		try {
+			TripleStore.IndexBuildPosition[] position = { null };
+			do {
+				position[0] = inTripleStoreTransaction(
+						() -> tripleStore.copyToPendingIndex(index, position[0], INDEX_BUILD_BATCH_SIZE));
+			} while (position[0] != null);
+			complete = true;
+		} finally {
+			if (!complete) {
+				try {
+					inTripleStoreTransaction(() -> {
+						tripleStore.discardPendingIndex(index);
+						return null;
+					});
+				} catch (IOException | InterruptedException | RuntimeException e) {
+					logger.warn("Failed to remove index {} after its build has failed", fieldSeq, e);
+				}
+			}
+		}
+
+		sinkStoreAccessLock.lock();
+		try {
+			properties.setTripleIndexes(String.join(",", tripleStore.getCompleteIndexFieldSeqs()));
+			properties.save();
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+		logger.debug("Index {} has been built", fieldSeq);
+	}
+
+	/**
+	 * Runs an operation within its own triple store transaction once no other transaction is active.
+	 */
+	private <T> T inTripleStoreTransaction(IndexBuildOperation<T> operation)
+			throws IOException, InterruptedException {
+				sinkStoreAccessLock.lockInterruptibly();
+		try {
+			while (storeTxnStarted.get()) {
+				// wait for the active transaction to finish
+				storeTxnEnded.await();
+			}
+			tripleStore.startTransaction();
+			boolean committed = false;
+			try {
+				T result = operation.execute();
+				tripleStore.commit();
+				committed = true;
+				return result;
+			} finally {
+				if (!committed) {
+					tripleStore.rollback();
+				}
+			}
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all explicit statements of a context in a sequence of write transactions of bounded size, which are
+	 * interleaved with the transactions of other writers. The removal is not atomic: readers may see a partially
+	 * cleared context, and a failure leaves the remaining statements in place. Values that are no longer used are
+	 * removed by the next regular transaction.
+	 *
+	 * @param context  the context to clear, or <code>null</code> for the default graph
+	 * @param progress receives the total number of removed statements after each write transaction
+	 * @return the number of removed statements
+	 */
+	long clearContext(Resource context, LongConsumer progress) throws SailException {
+		long total = 0;
+		try {
+			long contextId = context == null ? 0 : valueStore.getId(context);
+			if (contextId == LmdbValue.UNKNOWN_ID) {
+				return 0;
+			}
+			long removed;
+			do {
+				removed = inTripleStoreTransaction(
+						() -> tripleStore.removeContext(contextId, true, CONTEXT_CLEAR_BATCH_SIZE, quad -> {
+							if (sketchBasedJoinEstimator != null) {
+								try {
+									sketchBasedJoinEstimator.deleteStatement(quadToStatement(quad));
+								} catch (IOException e) {
+									throw new UncheckedIOException(e);
+								}
+							}
+							for (long id : quad) {
+								if (id != 0L && !ValueIds.isInlined(id)) {
+									unusedIds.add(id);
+								} else if (id != 0L) {
+									addUnusedUnorderedId(id);
+								}
+							}
+						}));
+				total += removed;
+				progress.accept(total);
+				logger.debug("Removed {} statements from context {}", total, context);
+			} while (removed == CONTEXT_CLEAR_BATCH_SIZE);
+		} catch (UncheckedIOException e) {
+			throw new SailException(e.getCause());
+		} catch (IOException e) {
+			throw new SailException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SailException(e);
+		} finally {
+			if (total > 0) {
+				if (filterSelectivityStats != null) {
+					filterSelectivityStats.recordStoreMutation();
+				}
+				if (sketchBasedJoinEstimator != null || filterSelectivityStats != null) {
+					scheduleEstimatorPersist();
+				}
+			}
+		}
+		return total;
+	}
+
+	private Statement quadToStatement(long[] quad) throws IOException {
+		Resource subj = (Resource) valueStore.getValue(quad[0]);
+		IRI pred = (IRI) valueStore.getValue(quad[1]);
+		Value obj = valueStore.getValue(quad[2]);
+		long ctxId = quad[3];
+		Resource ctx = (ctxId == 0L || ctxId == LmdbValue.UNKNOWN_ID) ? null
+				: (Resource) valueStore.getValue(ctxId);
+		return valueStore.createStatement(subj, pred, obj, ctx);
+	}
+
+	@FunctionalInterface
+	private interface IndexBuildOperation<T> {
+		T execute() throws IOException;
+	}
+
+	private void stopIndexBuilders() {
+		for (Thread builder : indexBuilders) {
+			builder.interrupt();
+		}
+		for (Thread builder : indexBuilders) {
+			try {
+				builder.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
 	@Override
 	public void close() throws SailException {
+		stopIndexBuilders();
 		try {
 			try {
 				cancelAndDrainScheduledBackgroundSampling();
@@ -716,6 +1208,15 @@ class LmdbSailStore implements SailStore {
 	 */
 	CloseableIteration<? extends Statement> createStatementIterator(
 			Txn txn, Resource subj, IRI pred, Value obj, boolean explicit, Resource... contexts) throws IOException {
+		return createStatementIterator(txn, 0, subj, pred, obj, explicit, contexts);
+	}
+
+	/**
+	 * Creates a statement iterator based on the supplied pattern that skips the first <var>offset</var> matching
+	 * statements. The skipped records are stepped over in the index without resolving their values.
+	 */
+	CloseableIteration<? extends Statement> createStatementIterator(Txn txn, long offset, Resource subj, IRI pred,
+			Value obj, boolean explicit, Resource... contexts) throws IOException {
 		if (!explicit && !mayHaveInferred) {
 			// there are no inferred statements and the iterator should only return inferred statements
 			return CloseableIteration.EMPTY_STATEMENT_ITERATION;
@@ -764,18 +1265,139 @@ class LmdbSailStore implements SailStore {
 
 		ArrayList<LmdbStatementIterator> perContextIterList = new ArrayList<>(contextIDList.size());
 
-		for (long contextID : contextIDList) {
-			RecordIterator records = tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit);
-			perContextIterList.add(new LmdbStatementIterator(records, valueStore));
+		long remaining = offset;
+		try {
+			for (long contextID : contextIDList) {
+				RecordIterator records = tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit);
+				try {
+					while (remaining > 0 && records.next() != null) {
+						remaining--;
+					}
+				} catch (RuntimeException e) {
+					records.close();
+					throw e;
+				}
+				if (remaining > 0) {
+					// all records of this context fall within the offset
+					records.close();
+					continue;
+				}
+				perContextIterList.add(new LmdbStatementIterator(records, valueStore));
+			}
+		} catch (IOException | RuntimeException e) {
+			// release the iterators of the contexts that have already been opened
+			for (LmdbStatementIterator iter : perContextIterList) {
+				iter.close();
+			}
+			throw e;
 		}
 
-		if (perContextIterList.size() == 1) {
+		if (perContextIterList.isEmpty()) {
+			return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+		} else if (perContextIterList.size() == 1) {
 			return perContextIterList.getFirst();
 		} else {
 			return new UnionIteration<>(perContextIterList);
 		}
 	}
 
+	/**
+	 * Records the id of an inlined value of a removed statement if the value store records the value as not being
+	 * inlined in order, so that the record can be removed once the value is no longer used.
+	 */
+	private void addUnusedUnorderedId(long id) {
+		try {
+			if (valueStore.isUnorderedInline(id)) {
+				unusedUnorderedIds.add(id);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Creates a statement iterator for a pattern with an unbound object that only returns statements whose object may
+	 * lie within the supplied range. If the values of the range are inlined with the order-preserving encoding and an
+	 * index with subject, predicate and context preceding the object is available, only the matching id intervals of
+	 * that index are scanned. Otherwise all statements of the pattern are returned.
+	 */
+	CloseableIteration<? extends Statement> createObjectRangeIterator(Txn txn, Resource subj, IRI pred,
+			ValueRange objectRange, boolean explicit, Resource... contexts) throws IOException {
+		if (!explicit && !mayHaveInferred) {
+			// there are no inferred statements and the iterator should only return inferred statements
+			return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+		}
+		List<OrderedIdRange> ranges = valueStore.getOrderedIdRanges(objectRange.getLowerBound(),
+				objectRange.getUpperBound());
+		if (ranges == null) {
+			return createStatementIterator(txn, 0, subj, pred, null, explicit, contexts);
+		}
+
+		long subjID = LmdbValue.UNKNOWN_ID;
+		if (subj != null) {
+			subjID = valueStore.getId(subj);
+			if (subjID == LmdbValue.UNKNOWN_ID) {
+				return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+			}
+		}
+
+		long predID = LmdbValue.UNKNOWN_ID;
+		if (pred != null) {
+			predID = valueStore.getId(pred);
+			if (predID == LmdbValue.UNKNOWN_ID) {
+				return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+			}
+		}
+
+		List<Long> contextIDList = new ArrayList<>(contexts.length);
+		if (contexts.length == 0) {
+			contextIDList.add(LmdbValue.UNKNOWN_ID);
+		} else {
+			for (Resource context : contexts) {
+				if (context == null) {
+					contextIDList.add(0L);
+				} else if (!context.isTripleTerm()) {
+					long contextID = valueStore.getId(context);
+
+					if (contextID != LmdbValue.UNKNOWN_ID) {
+						contextIDList.add(contextID);
+					}
+				}
+			}
+		}
+
+		List<TripleIndex> indexes = new ArrayList<>(contextIDList.size());
+		for (long contextID : contextIDList) {
+			TripleIndex index = tripleStore.getObjectRangeIndex(txn, subjID, predID, contextID);
+			if (index == null) {
+				return createStatementIterator(txn, 0, subj, pred, null, explicit, contexts);
+			}
+			indexes.add(index);
+		}
+
+		ArrayList<LmdbStatementIterator> iterList = new ArrayList<>(contextIDList.size() * ranges.size());
+		try {
+			for (int i = 0; i < contextIDList.size(); i++) {
+				for (OrderedIdRange range : ranges) {
+					RecordIterator records = tripleStore.getTriplesInObjectRange(txn, indexes.get(i), subjID, predID,
+							contextIDList.get(i), range.getMinId(), range.getMaxId(), range::accepts, explicit);
+					iterList.add(new LmdbStatementIterator(records, valueStore));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			iterList.forEach(LmdbStatementIterator::close);
+			throw e;
+		}
+
+		if (iterList.isEmpty()) {
+			return CloseableIteration.EMPTY_STATEMENT_ITERATION;
+		} else if (iterList.size() == 1) {
+			return iterList.getFirst();
+		} else {
+			return new UnionIteration<>(iterList);
+		}
+	}
+
 	long countStatementIterator(
 			Txn txn, Resource subj, IRI pred, Value obj, boolean explicit, Resource... contexts) throws IOException {
 		if (!explicit && !mayHaveInferred) {
@@ -826,13 +1448,77 @@ class LmdbSailStore implements SailStore {
 
 		long count = 0;
 		for (long contextID : contextIDList) {
-			try (RecordIterator records = tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit)) {
-				while (records.next() != null) {
-					count++;
+			count += tripleStore.countTriples(txn, subjID, predID, objID, contextID, explicit);
+		}
+		return count;
+	}
+
+	long countDistinctValues(Txn txn, StatementOrder component, Resource subj, IRI pred, Value obj,
+			boolean explicit, Resource... contexts) throws IOException {
+		if (!explicit && !mayHaveInferred) {
+			// there are no inferred statements and the iterator should only return inferred statements
+			return 0;
+		}
+		long subjID = LmdbValue.UNKNOWN_ID;
+		if (subj != null) {
+			subjID = valueStore.getId(subj);
+			if (subjID == LmdbValue.UNKNOWN_ID) {
+				return 0;
+			}
+		}
+
+		long predID = LmdbValue.UNKNOWN_ID;
+		if (pred != null) {
+			predID = valueStore.getId(pred);
+			if (predID == LmdbValue.UNKNOWN_ID) {
+				return 0;
+			}
+		}
+
+		long objID = LmdbValue.UNKNOWN_ID;
+		if (obj != null) {
+			objID = valueStore.getId(obj);
+			if (objID == LmdbValue.UNKNOWN_ID) {
+				return 0;
+			}
+		}
+
+		int fieldIndex;
+		switch (component) {
+		case S:
+			fieldIndex = TripleIndex.SUBJ_IDX;
+			break;
+		case P:
+			fieldIndex = TripleIndex.PRED_IDX;
+			break;
+		case O:
+			fieldIndex = TripleIndex.OBJ_IDX;
+			break;
+		default:
+			fieldIndex = TripleIndex.CONTEXT_IDX;
+		}
+
+		if (contexts.length == 0) {
+			return tripleStore.countDistinct(txn, fieldIndex, subjID, predID, objID, LmdbValue.UNKNOWN_ID, explicit);
+		}
+
+		// the same value may occur in several of the requested contexts
+		MutableLongSet distinct = new LongHashSet();
+		for (Resource context : contexts) {
+			long contextID;
+			if (context == null) {
+				contextID = 0;
+			} else if (context.isTripleTerm()) {
+				continue;
+			} else {
+				contextID = valueStore.getId(context);
+				if (contextID == LmdbValue.UNKNOWN_ID) {
+					continue;
 				}
 			}
+			tripleStore.collectDistinct(txn, fieldIndex, subjID, predID, objID, contextID, explicit, distinct);
 		}
-		return count;
+		return distinct.size();
 	}
 
 	/**
@@ -978,6 +1664,18 @@ class LmdbSailStore implements SailStore {
 		}
 
 		protected void handleRemovedIdsInValueStore() throws IOException {
+			if (!unusedUnorderedIds.isEmpty()) {
+				tripleStore.filterUsedIds(unusedUnorderedIds);
+				valueStore.removeUnorderedIds(unusedUnorderedIds);
+				unusedUnorderedIds.clear();
+			}
+			if (backupsInProgress > 0) {
+				// a backup may still copy values that are referenced by its snapshot of the triples, the ids are
+				// kept in unusedIds and collected by a later commit
+				return;
+			}
+			// the id of rdf:type is kept for the triple statistics
+			unusedIds.remove(tripleStore.getTypeId());
 			if (!unusedIds.isEmpty()) {
 				do {
 					valueStore.gcIds(unusedIds, nextUnusedIds);
@@ -1028,7 +1726,7 @@ class LmdbSailStore implements SailStore {
 						handleRemovedIdsInValueStore();
 						valueStore.commit();
 						// The triple/value stores are authoritative once both commits succeed.
-						storeTxnStarted.set(false);
+						endStoreTxn();
 						estimatorTouchedInTransaction = false;
 						estimatorTouchedSinceStoreTxnStart.set(false);
 						if (filterSelectivityStats != null) {
@@ -1394,7 +2092,7 @@ class LmdbSailStore implements SailStore {
 						}
 						valueStore.startTransaction(true);
 					} catch (Exception e) {
-						storeTxnStarted.set(false);
+						endStoreTxn();
 						throw new SailException(e);
 					}
 				}
@@ -1471,6 +2169,8 @@ class LmdbSailStore implements SailStore {
 							if (id != 0L && !ValueIds.isInlined(id)) {
 								// only add references, exclude inlined values
 								unusedIds.add(id);
+							} else if (id != 0L) {
+								addUnusedUnorderedId(id);
 							}
 						}
 					});
@@ -1580,16 +2280,6 @@ class LmdbSailStore implements SailStore {
 			}
 		}
 
-		private Statement quadToStatement(long[] quad) throws IOException {
-			Resource subj = (Resource) valueStore.getValue(quad[0]);
-			IRI pred = (IRI) valueStore.getValue(quad[1]);
-			Value obj = valueStore.getValue(quad[2]);
-			long ctxId = quad[3];
-			Resource ctx = (ctxId == 0L || ctxId == LmdbValue.UNKNOWN_ID) ? null
-					: (Resource) valueStore.getValue(ctxId);
-			return valueStore.createStatement(subj, pred, obj, ctx);
-		}
-
 		@Override
 		public boolean deprecateByQuery(Resource subj, IRI pred, Value obj, Resource[] contexts) {
 			return removeStatements(subj, pred, obj, explicit, contexts) > 0;
@@ -1659,6 +2349,26 @@ class LmdbSailStore implements SailStore {
 			}
 		}
 
+		@Override
+		public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+				Value obj, Resource... contexts) throws SailException {
+			try {
+				return createStatementIterator(txn, offset, subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to get statements", e);
+			}
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatementsInObjectRange(Resource subj, IRI pred,
+				ValueRange objectRange, Resource... contexts) throws SailException {
+			try {
+				return createObjectRangeIterator(txn, subj, pred, objectRange, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to get statements", e);
+			}
+		}
+
 		@Override
 		public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
 			try {
@@ -1675,6 +2385,16 @@ class LmdbSailStore implements SailStore {
 			}
 		}
 
+		@Override
+		public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws SailException {
+			try {
+				return countDistinctValues(txn, component, subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to count distinct values", e);
+			}
+		}
+
 		@Override
 		public CloseableIteration<? extends Statement> getStatements(StatementOrder statementOrder, Resource subj,
 				IRI pred, Value obj, Resource... contexts) throws SailException {
@@ -15,9 +15,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -28,6 +32,8 @@ import org.eclipse.rdf4j.common.concurrent.locks.Lock;
 import org.eclipse.rdf4j.common.concurrent.locks.LockManager;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
@@ -42,6 +48,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.sketch.SketchBasedJoinEstimato
 import org.eclipse.rdf4j.repository.sparql.federation.SPARQLServiceResolver;
 import org.eclipse.rdf4j.sail.InterruptedSailException;
 import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.SailConnection;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
@@ -445,10 +452,152 @@ public class LmdbStore extends AbstractNotifyingSail implements FederatedService
 		return disabledIsolationLockManager.isActiveLock();
 	}
 
+	/**
+	 * Creates a loader that writes large amounts of statements directly into the indexes of this store, bypassing
+	 * transactions. The store must be empty. All other writers are blocked until the loader is finished or closed,
+	 * and the store must not be shut down while the loader is in use. The store is initialized if required.
+	 *
+	 * @return a new bulk loader, which must be closed by the calling thread
+	 * @throws SailException if the store is not empty or a transaction is active
+	 */
+	@Experimental
+	public LmdbBulkLoader createBulkLoader() throws SailException {
+		if (!isInitialized()) {
+			init();
+		}
+		Path tempDir;
+		try {
+			tempDir = Files.createTempDirectory(getDataDir().toPath(), "bulk-load");
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+		try {
+			return new LmdbBulkLoader(backingStore, tempDir);
+		} catch (RuntimeException e) {
+			try {
+				Files.deleteIfExists(tempDir);
+			} catch (IOException e2) {
+				e.addSuppressed(e2);
+			}
+			throw e;
+		}
+	}
+
 	SailStore getSailStore() {
 		return store;
 	}
 
+	/**
+	 * Copies the committed contents of this store to an empty directory while the store remains available for reads
+	 * and writes. The copy can be opened as a new {@link LmdbStore} with the same configuration.
+	 * <p>
+	 * The namespaces, the triples and the values are copied one after the other, so transactions may be committed
+	 * between these copies. The statements of the copy are those of a single committed state: the triples are copied
+	 * first, and values that are no longer used are not removed until the copy has finished, so the copy contains every
+	 * value that its statements refer to. It may also contain unreferenced values of later transactions. The namespaces
+	 * are copied just before the triples and do not include namespace changes that are committed while the triples are
+	 * being copied. Growing the memory map is delayed until the copy has finished.
+	 *
+	 * @param targetDir the directory to copy the store to; it is created if it does not exist and must be empty
+	 * @param compact   whether free pages are omitted from the copy, which produces smaller files but takes longer
+	 * @throws SailException if the store is not initialized or the copy fails
+	 */
+	@Experimental
+	public void backup(File targetDir, boolean compact) throws SailException {
+		getInitializedBackingStore().backup(targetDir, compact);
+	}
+
+	/**
+	 * Recommends triple indexes for the statement patterns that were looked up since the store was initialized. A
+	 * pattern benefits from an index whose field sequence starts with the bound components of the pattern, e.g.
+	 * <code>ospc</code> for lookups by object.
+	 *
+	 * @return the field sequences of up to three recommended indexes, best first
+	 * @throws SailException if the store is not initialized
+	 */
+	@Experimental
+	public List<String> getRecommendedIndexes() throws SailException {
+		return getInitializedBackingStore().getRecommendedIndexes();
+	}
+
+	/**
+	 * Returns exact statistics about the statements of each predicate. The statistics are maintained with each write
+	 * transaction and reflect the transactions that have been written to the LMDB environment.
+	 *
+	 * @return the statistics by predicate
+	 * @throws SailException if the store is not initialized
+	 */
+	@Experimental
+	public Map<IRI, LmdbPredicateStatistics> getPredicateStatistics() throws SailException {
+		return getInitializedBackingStore().getPredicateStatistics();
+	}
+
+	/**
+	 * Returns the exact number of <code>rdf:type</code> statements of each class. Like
+	 * {@link #getPredicateStatistics()}, the counts reflect the transactions that have been written to the LMDB
+	 * environment.
+	 *
+	 * @return the number of instance statements by class
+	 * @throws SailException if the store is not initialized
+	 */
+	@Experimental
+	public Map<Resource, Long> getClassStatistics() throws SailException {
+		return getInitializedBackingStore().getClassStatistics();
+	}
+
+	/**
+	 * Builds an additional triple index in the background while the store remains available for reads and writes.
+	 * Queries use the index as soon as it contains all triples. The index is removed again when the store is
+	 * initialized with a configuration whose triple indexes do not include it, so it should also be added to
+	 * {@link LmdbStoreConfig#setTripleIndexes(String)}.
+	 *
+	 * @param fieldSeq the field sequence of the index, e.g. <code>ospc</code>
+	 * @return a future that completes once the index is used by queries
+	 * @throws SailException if the store is not initialized or the field sequence is invalid
+	 */
+	@Experimental
+	public CompletableFuture<Void> addIndex(String fieldSeq) throws SailException {
+		return getInitializedBackingStore().addIndex(fieldSeq);
+	}
+
+	/**
+	 * Removes all explicit statements of a context, e.g. before the context is reloaded. Unlike
+	 * {@link SailConnection#clear(Resource...)} the statements are removed in a sequence of write transactions of
+	 * bounded size, so that very large contexts can be removed without a huge transaction while other connections
+	 * continue to write. The removal is not atomic and must not be called by a thread with an active transaction on
+	 * this store.
+	 *
+	 * @param context  the context to clear, or <code>null</code> for the default graph
+	 * @param progress receives the total number of removed statements after each write transaction
+	 * @return the number of removed statements
+	 * @throws SailException if the store is not initialized or the removal fails
+	 */
+	@Experimental
+	public long clearContext(Resource context, LongConsumer progress) throws SailException {
+		return getInitializedBackingStore().clearContext(context, progress);
+	}
+
+	/**
+	 * Reports the open read transactions of this store. Every read transaction that stays open while data is
+	 * modified prevents the pages freed by later transactions from being reused, which lets the database file grow.
+	 * Read transactions can be aborted after a maximum age with {@link LmdbStoreConfig#setMaxReaderAge(long)}.
+	 *
+	 * @return the current reader statistics
+	 * @throws SailException if the store is not initialized
+	 */
+	@Experimental
+	public LmdbReaderStatistics getReaderStatistics() throws SailException {
+		return getInitializedBackingStore().getReaderStatistics();
+	}
+
+	private LmdbSailStore getInitializedBackingStore() throws SailException {
+		LmdbSailStore backingStore = this.backingStore;
+		if (backingStore == null || !isInitialized()) {
+			throw new SailException("Store is not initialized");
+		}
+		return backingStore;
+	}
+
 	LmdbSailStore getBackingStore() {
 		return backingStore;
 	}
@@ -43,7 +43,7 @@ class NamespaceStore implements Iterable<SimpleNamespace> {
 	 * Constants *
 	 *-----------*/
 
-	private static final String FILE_NAME = "namespaces.dat";
+	static final String FILE_NAME = "namespaces.dat";
 
 	/**
 	 * Magic number "Lmdb Namespace File" to detect whether the file is actually a namespace file. The first three bytes
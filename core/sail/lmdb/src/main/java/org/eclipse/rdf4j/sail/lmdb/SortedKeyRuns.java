@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * External sort of the keys of a single {@link TripleIndex} for a bulk load. Batches of quads are sorted in memory and
+ * written to temporary run files, which are then merged into a single ascending stream of index keys without
+ * duplicates. Keys are written in the same format as the index keys (four varints in the field order of the index),
+ * so the lexicographic order of the merged keys is the order of the LMDB database.
+ */
+final class SortedKeyRuns {
+
+	/**
+	 * The maximum number of run files that are merged at once.
+	 */
+	static final int MAX_MERGE_WIDTH = 64;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final String fieldSeq;
+	private final int[] fieldPositions;
+	private final File dir;
+	private final List<File> runs = new ArrayList<>();
+	private int nextRunId;
+	private long keyCount;
+	private long byteCount;
+
+	SortedKeyRuns(String fieldSeq, File dir) {
+		this.fieldSeq = fieldSeq;
+		this.dir = dir;
+		this.fieldPositions = new int[fieldSeq.length()];
+		for (int i = 0; i < fieldPositions.length; i++) {
+			switch (fieldSeq.charAt(i)) {
+			case 's':
+				fieldPositions[i] = TripleIndex.SUBJ_IDX;
+				break;
+			case 'p':
+				fieldPositions[i] = TripleIndex.PRED_IDX;
+				break;
+			case 'o':
+				fieldPositions[i] = TripleIndex.OBJ_IDX;
+				break;
+			case 'c':
+				fieldPositions[i] = TripleIndex.CONTEXT_IDX;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown index field: " + fieldSeq.charAt(i));
+			}
+		}
+	}
+
+	String getFieldSeq() {
+		return fieldSeq;
+	}
+
+	/**
+	 * @return an upper bound of the number of bytes that the keys and their LMDB node headers take up
+	 */
+	synchronized long getEstimatedSize() {
+		// every leaf node has an 8 byte header and a 2 byte pointer
+		return byteCount + keyCount * 10;
+	}
+
+	/**
+	 * Sorts the supplied quads into the order of the index and writes them to a new run file. May be called
+	 * concurrently for different batches.
+	 *
+	 * @param quads subject, predicate, object and context IDs of the statements, four per statement
+	 * @param count the number of statements in <var>quads</var>
+	 */
+	void writeRun(long[] quads, int count) throws IOException {
+		long[] keys = new long[count * 4];
+		for (int i = 0; i < count; i++) {
+			for (int f = 0; f < 4; f++) {
+				keys[i * 4 + f] = quads[i * 4 + fieldPositions[f]];
+			}
+		}
+		int[] order = sort(keys, count);
+
+		File run = newRunFile();
+		long written = 0;
+		long bytes = 0;
+		ByteBuffer bb = ByteBuffer.allocate(TripleIndex.MAX_KEY_LENGTH);
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(run), BUFFER_SIZE)) {
+			int previous = -1;
+			for (int i = 0; i < count; i++) {
+				int current = order[i];
+				if (previous >= 0 && compare(keys, previous, current) == 0) {
+					continue;
+				}
+				previous = current;
+				bb.clear();
+				for (int f = 0; f < 4; f++) {
+					Varint.writeUnsigned(bb, keys[current * 4 + f]);
+				}
+				out.write(bb.array(), 0, bb.position());
+				written++;
+				bytes += bb.position();
+			}
+		}
+		addRun(run, written, bytes);
+	}
+
+	/**
+	 * Merges run files until at most {@link #MAX_MERGE_WIDTH} are left, so that the final merge does not need to keep
+	 * more files open.
+	 */
+	void reduceRuns() throws IOException {
+		while (true) {
+			List<File> batch;
+			synchronized (this) {
+				if (runs.size() <= MAX_MERGE_WIDTH) {
+					return;
+				}
+				batch = new ArrayList<>(runs.subList(0, MAX_MERGE_WIDTH));
+				runs.subList(0, MAX_MERGE_WIDTH).clear();
+			}
+			File merged = newRunFile();
+			try (Merger merger = new Merger(batch);
+					OutputStream out = new BufferedOutputStream(new FileOutputStream(merged), BUFFER_SIZE)) {
+				ByteBuffer bb = ByteBuffer.allocate(TripleIndex.MAX_KEY_LENGTH);
+				while (merger.next(bb)) {
+					out.write(bb.array(), 0, bb.position());
+					bb.clear();
+				}
+			}
+			for (File file : batch) {
+				file.delete();
+			}
+			synchronized (this) {
+				runs.add(merged);
+			}
+		}
+	}
+
+	/**
+	 * Opens a merged view on all run files.
+	 */
+	Merger merge() throws IOException {
+		List<File> files;
+		synchronized (this) {
+			files = new ArrayList<>(runs);
+		}
+		return new Merger(files);
+	}
+
+	private synchronized File newRunFile() {
+		return new File(dir, fieldSeq + "-" + nextRunId++ + ".run");
+	}
+
+	private synchronized void addRun(File run, long keys, long bytes) {
+		runs.add(run);
+		keyCount += keys;
+		byteCount += bytes;
+	}
+
+	/**
+	 * Sorts the positions of the keys with a bottom-up merge sort on primitive arrays.
+	 *
+	 * @return the positions of the keys in ascending key order
+	 */
+	private static int[] sort(long[] keys, int count) {
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		int[] scratch = new int[count];
+		for (int width = 1; width < count; width *= 2) {
+			for (int low = 0; low < count; low += 2 * width) {
+				int mid = Math.min(low + width, count);
+				int high = Math.min(low + 2 * width, count);
+				int left = low;
+				int right = mid;
+				int target = low;
+				while (left < mid && right < high) {
+					scratch[target++] = compare(keys, order[left], order[right]) <= 0 ? order[left++] : order[right++];
+				}
+				while (left < mid) {
+					scratch[target++] = order[left++];
+				}
+				while (right < high) {
+					scratch[target++] = order[right++];
+				}
+			}
+			int[] swap = order;
+			order = scratch;
+			scratch = swap;
+		}
+		return order;
+	}
+
+	private static int compare(long[] keys, int a, int b) {
+		for (int f = 0; f < 4; f++) {
+			int c = Long.compareUnsigned(keys[a * 4 + f], keys[b * 4 + f]);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the keys of several run files in ascending order, skipping keys that occur in more than one run.
+	 */
+	static final class Merger implements Closeable {
+
+		private final PriorityQueue<RunReader> queue = new PriorityQueue<>();
+		private final List<RunReader> readers = new ArrayList<>();
+		private final byte[] last = new byte[TripleIndex.MAX_KEY_LENGTH];
+		private int lastLength = -1;
+
+		private Merger(List<File> files) throws IOException {
+			try {
+				for (File file : files) {
+					RunReader reader = new RunReader(file);
+					readers.add(reader);
+					if (reader.advance()) {
+						queue.add(reader);
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		/**
+		 * Puts the next key into the supplied buffer.
+		 *
+		 * @return <code>false</code> if all keys have been returned
+		 */
+		boolean next(ByteBuffer target) throws IOException {
+			RunReader reader;
+			while ((reader = queue.poll()) != null) {
+				boolean duplicate = lastLength == reader.length
+						&& Arrays.equals(last, 0, lastLength, reader.key, 0, reader.length);
+				if (!duplicate) {
+					System.arraycopy(reader.key, 0, last, 0, reader.length);
+					lastLength = reader.length;
+				}
+				if (reader.advance()) {
+					queue.add(reader);
+				}
+				if (!duplicate) {
+					target.put(last, 0, lastLength);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			IOException exception = null;
+			for (RunReader reader : readers) {
+				try {
+					reader.in.close();
+				} catch (IOException e) {
+					exception = e;
+				}
+			}
+			if (exception != null) {
+				throw exception;
+			}
+		}
+	}
+
+	private static final class RunReader implements Comparable<RunReader> {
+
+		private final DataInputStream in;
+		private final byte[] key = new byte[TripleIndex.MAX_KEY_LENGTH];
+		private int length;
+
+		private RunReader(File file) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+		}
+
+		private boolean advance() throws IOException {
+			int position = 0;
+			for (int f = 0; f < 4; f++) {
+				int first = in.read();
+				if (first < 0) {
+					if (f == 0) {
+						return false;
+					}
+					throw new EOFException("Truncated key in bulk load run");
+				}
+				key[position] = (byte) first;
+				int varintLength = Varint.firstToLength((byte) first);
+				in.readFully(key, position + 1, varintLength - 1);
+				position += varintLength;
+			}
+			length = position;
+			return true;
+		}
+
+		@Override
+		public int compareTo(RunReader other) {
+			return Arrays.compareUnsigned(key, 0, length, other.key, 0, other.length);
+		}
+	}
+}
@@ -40,6 +40,16 @@ class StoreProperties {
 	 */
 	static final String TRIPLE_TERM_INDEXES_KEY = "triple-term-indexes";
 
+	/**
+	 * The key used to store the encoding of inlined literals. Stores without this key use the original encoding.
+	 */
+	static final String INLINE_ENCODING_KEY = "inline-encoding";
+
+	/**
+	 * The value of {@link #INLINE_ENCODING_KEY} for the order-preserving encoding of numbers and dates.
+	 */
+	static final String ORDERED_INLINE_ENCODING = "ordered";
+
 	protected final File propertiesFile;
 
 	protected String version;
@@ -48,6 +58,8 @@ class StoreProperties {
 
 	protected String tripleTermIndexes;
 
+	protected String inlineEncoding;
+
 	protected boolean loaded;
 
 	protected boolean dirty;
@@ -76,6 +88,7 @@ class StoreProperties {
 			version = properties.getProperty(VERSION_KEY);
 			tripleIndexes = properties.getProperty(INDEXES_KEY);
 			tripleTermIndexes = properties.getProperty(TRIPLE_TERM_INDEXES_KEY);
+			inlineEncoding = properties.getProperty(INLINE_ENCODING_KEY);
 			loaded = true;
 		});
 		return loaded;
@@ -89,29 +102,43 @@ class StoreProperties {
 			return;
 		}
 		Optional.ofNullable(propertiesFile).ifPresent(file -> {
-			Properties properties = new Properties();
-			if (version != null) {
-				properties.setProperty(VERSION_KEY, version);
-			}
-			if (tripleIndexes != null) {
-				properties.setProperty(INDEXES_KEY, tripleIndexes);
-			}
-			if (tripleTermIndexes != null) {
-				properties.setProperty(TRIPLE_TERM_INDEXES_KEY, tripleTermIndexes);
-			}
-			File parent = file.getParentFile();
-			if (parent != null) {
-				parent.mkdirs();
-			}
-			try (OutputStream out = new FileOutputStream(file)) {
-				properties.store(out, "LmdbStore meta-data");
-				dirty = false;
-			} catch (IOException e) {
-				throw new IllegalStateException("Unable to store properties to " + file, e);
-			}
+			write(file);
+			dirty = false;
 		});
 	}
 
+	/**
+	 * Writes the current properties to a properties file in the supplied directory, e.g. for a copy of the store.
+	 */
+	void saveTo(File dir) {
+		write(new File(dir, FILE_NAME));
+	}
+
+	private void write(File file) {
+		Properties properties = new Properties();
+		if (version != null) {
+			properties.setProperty(VERSION_KEY, version);
+		}
+		if (tripleIndexes != null) {
+			properties.setProperty(INDEXES_KEY, tripleIndexes);
+		}
+		if (tripleTermIndexes != null) {
+			properties.setProperty(TRIPLE_TERM_INDEXES_KEY, tripleTermIndexes);
+		}
+		if (inlineEncoding != null) {
+			properties.setProperty(INLINE_ENCODING_KEY, inlineEncoding);
+		}
+		File parent = file.getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (OutputStream out = new FileOutputStream(file)) {
+			properties.store(out, "LmdbStore meta-data");
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to store properties to " + file, e);
+		}
+	}
+
 	boolean isLoaded() {
 		return loaded;
 	}
@@ -121,7 +148,7 @@ class StoreProperties {
 	}
 
 	StoreProperties setVersion(String version) {
-		this.dirty = !Objects.equals(this.version, version);
+		this.dirty |= !Objects.equals(this.version, version);
 		this.version = version;
 		return this;
 	}
@@ -131,7 +158,7 @@ class StoreProperties {
 	}
 
 	StoreProperties setTripleIndexes(String tripleIndexes) {
-		this.dirty = !Objects.equals(this.tripleIndexes, tripleIndexes);
+		this.dirty |= !Objects.equals(this.tripleIndexes, tripleIndexes);
 		this.tripleIndexes = tripleIndexes;
 		return this;
 	}
@@ -141,8 +168,18 @@ class StoreProperties {
 	}
 
 	StoreProperties setTripleTermIndexes(String tripleTermIndexes) {
-		this.dirty = !Objects.equals(this.tripleTermIndexes, tripleTermIndexes);
+		this.dirty |= !Objects.equals(this.tripleTermIndexes, tripleTermIndexes);
 		this.tripleTermIndexes = tripleTermIndexes;
 		return this;
 	}
+
+	String getInlineEncoding() {
+		return inlineEncoding;
+	}
+
+	StoreProperties setInlineEncoding(String inlineEncoding) {
+		this.dirty |= !Objects.equals(this.inlineEncoding, inlineEncoding);
+		this.inlineEncoding = inlineEncoding;
+		return this;
+	}
 }
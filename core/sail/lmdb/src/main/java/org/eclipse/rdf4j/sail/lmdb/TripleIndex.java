@@ -54,6 +54,11 @@ class TripleIndex {
 	private final int[] indexMap;
 	private final long env;
 	private String name;
+	/**
+	 * The ID of the first transaction whose snapshot contains all entries of this index. This is only set for indexes
+	 * that are built while the store is in use.
+	 */
+	private volatile long completeTxnId;
 
 	TripleIndex(String name, String fieldSeq, boolean createInferredIndex, long env, long writeTxn) throws IOException {
 		this.name = name;
@@ -77,6 +82,14 @@ class TripleIndex {
 		return fieldSeq;
 	}
 
+	long getCompleteTxnId() {
+		return completeTxnId;
+	}
+
+	void setCompleteTxnId(long completeTxnId) {
+		this.completeTxnId = completeTxnId;
+	}
+
 	String getName(boolean explicit) {
 		return name + (explicit ? name : name + "-inf");
 	}
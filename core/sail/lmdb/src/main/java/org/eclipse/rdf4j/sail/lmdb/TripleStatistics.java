@@ -0,0 +1,579 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.E;
+import static org.lwjgl.system.MemoryStack.stackPush;
+import static org.lwjgl.util.lmdb.LMDB.MDB_FIRST;
+import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
+import static org.lwjgl.util.lmdb.LMDB.MDB_NOTFOUND;
+import static org.lwjgl.util.lmdb.LMDB.MDB_SET_RANGE;
+import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
+import static org.lwjgl.util.lmdb.LMDB.mdb_del;
+import static org.lwjgl.util.lmdb.LMDB.mdb_drop;
+import static org.lwjgl.util.lmdb.LMDB.mdb_get;
+import static org.lwjgl.util.lmdb.LMDB.mdb_put;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.rdf4j.sail.lmdb.util.GroupMatcher;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.util.lmdb.MDBVal;
+
+/**
+ * Exact statistics about the statements of a {@link TripleStore}, which are kept in a database of its LMDB
+ * environment. The statistics consist of the number of statements and the numbers of distinct subjects and objects
+ * per predicate, and of the number of <code>rdf:type</code> statements per class.
+ * <p>
+ * Changes of statements are collected during a write transaction and applied to the database before the transaction
+ * is committed. The number of distinct subjects of a predicate only changes if the first statement with a subject
+ * and the predicate is added or the last one is removed. Whether this is the case is decided by counting the
+ * statements with the pair in an index that has the subject and the predicate as its first two fields, which only
+ * requires to visit as many statements as were added for the pair. The same applies to objects.
+ */
+final class TripleStatistics {
+
+	private static final byte META_KEY = 0;
+
+	private static final byte PREDICATE_KEY = 1;
+
+	private static final byte CLASS_KEY = 2;
+
+	private static final int VERSION = 1;
+
+	private static final int DISTINCT_SUBJECTS = 1;
+
+	private static final int DISTINCT_OBJECTS = 2;
+
+	/**
+	 * The number of pending changes after which they are applied within a write transaction to bound the memory usage
+	 * of large transactions.
+	 */
+	private static final int MAX_PENDING_CHANGES = 200_000;
+
+	private final int dbi;
+
+	/**
+	 * An index with the subject and the predicate as first two fields, or <code>null</code>.
+	 */
+	private final TripleIndex subjectIndex;
+
+	/**
+	 * An index with the predicate and the object as first two fields, or <code>null</code>.
+	 */
+	private final TripleIndex objectIndex;
+
+	/**
+	 * The id of <code>rdf:type</code>, or -1 if class statistics are not maintained.
+	 */
+	private final long typeId;
+
+	private final int flags;
+
+	private final LongLongHashMap statementChanges = new LongLongHashMap();
+
+	private final LongLongHashMap classChanges = new LongLongHashMap();
+
+	private final ObjectLongHashMap<IdPair> subjectChanges = new ObjectLongHashMap<>();
+
+	private final ObjectLongHashMap<IdPair> objectChanges = new ObjectLongHashMap<>();
+
+	private record IdPair(long pred, long value) {
+	}
+
+	TripleStatistics(int dbi, List<TripleIndex> indexes, long typeId) {
+		this.dbi = dbi;
+		this.subjectIndex = findIndex(indexes, 's', 'p');
+		this.objectIndex = findIndex(indexes, 'p', 'o');
+		this.typeId = typeId;
+		this.flags = (subjectIndex != null ? DISTINCT_SUBJECTS : 0) | (objectIndex != null ? DISTINCT_OBJECTS : 0);
+	}
+
+	private static TripleIndex findIndex(List<TripleIndex> indexes, char first, char second) {
+		for (TripleIndex index : indexes) {
+			char[] fieldSeq = index.getFieldSeq();
+			if (fieldSeq[0] == first && fieldSeq[1] == second || fieldSeq[0] == second && fieldSeq[1] == first) {
+				return index;
+			}
+		}
+		return null;
+	}
+
+	long getTypeId() {
+		return typeId;
+	}
+
+	/**
+	 * Records a statement that was added to or removed from all indexes within the current write transaction.
+	 *
+	 * @param change 1 if the statement was added, -1 if it was removed
+	 */
+	void record(long subj, long pred, long obj, long change) {
+		statementChanges.addToValue(pred, change);
+		if (pred == typeId) {
+			classChanges.addToValue(obj, change);
+		}
+		if (subjectIndex != null) {
+			subjectChanges.addToValue(new IdPair(pred, subj), change);
+		}
+		if (objectIndex != null) {
+			objectChanges.addToValue(new IdPair(pred, obj), change);
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the pending changes should be applied before the end of the transaction
+	 */
+	boolean hasManyPendingChanges() {
+		return subjectChanges.size() + objectChanges.size() + statementChanges.size() > MAX_PENDING_CHANGES;
+	}
+
+	/**
+	 * Discards the pending changes, for example because the write transaction is aborted.
+	 */
+	void discard() {
+		statementChanges.clear();
+		classChanges.clear();
+		subjectChanges.clear();
+		objectChanges.clear();
+	}
+
+	/**
+	 * Applies the pending changes to the statistics database. The indexes must contain all recorded changes.
+	 */
+	void apply(long writeTxn) throws IOException {
+		if (statementChanges.isEmpty()) {
+			return;
+		}
+		LongObjectHashMap<long[]> predicateChanges = new LongObjectHashMap<>();
+		statementChanges.forEachKeyValue((pred, change) -> predicateChanges.getIfAbsentPut(pred, () -> new long[3])[0] += change);
+		try (MemoryStack stack = stackPush()) {
+			applyDistinct(writeTxn, stack, subjectIndex, subjectChanges, true, predicateChanges);
+			applyDistinct(writeTxn, stack, objectIndex, objectChanges, false, predicateChanges);
+
+			LongIterator preds = predicateChanges.keysView().longIterator();
+			while (preds.hasNext()) {
+				long pred = preds.next();
+				update(writeTxn, stack, PREDICATE_KEY, pred, predicateChanges.get(pred));
+			}
+			LongIterator classes = classChanges.keysView().longIterator();
+			while (classes.hasNext()) {
+				long cls = classes.next();
+				update(writeTxn, stack, CLASS_KEY, cls, new long[] { classChanges.get(cls) });
+			}
+		}
+		discard();
+	}
+
+	private void applyDistinct(long writeTxn, MemoryStack stack, TripleIndex index, ObjectLongHashMap<IdPair> changes,
+			boolean subjects, LongObjectHashMap<long[]> predicateChanges) throws IOException {
+		for (ObjectLongPair<IdPair> entry : changes.keyValuesView()) {
+			long change = entry.getTwo();
+			if (change == 0) {
+				continue;
+			}
+			IdPair pair = entry.getOne();
+			// the pair was used before if more statements than the added ones use it now
+			long limit = Math.max(change, 0) + 1;
+			long count = subjects
+					? countStatements(writeTxn, stack, index, pair.value(), pair.pred(), -1, limit)
+					: countStatements(writeTxn, stack, index, -1, pair.pred(), pair.value(), limit);
+			boolean usedBefore = count - change > 0;
+			boolean usedAfter = count > 0;
+			if (usedBefore != usedAfter) {
+				predicateChanges.getIfAbsentPut(pair.pred(), () -> new long[3])[subjects ? 1 : 2] += usedAfter ? 1
+						: -1;
+			}
+		}
+	}
+
+	/**
+	 * Counts the explicit and inferred statements that match a pattern whose bound components are a prefix of the
+	 * given index, but no more than <var>limit</var> statements.
+	 */
+	private static long countStatements(long txn, MemoryStack stack, TripleIndex index, long subj, long pred,
+			long obj, long limit) throws IOException {
+		stack.push();
+		try {
+			MDBVal keyVal = MDBVal.malloc(stack);
+			MDBVal dataVal = MDBVal.malloc(stack);
+			ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
+			PointerBuffer pp = stack.mallocPointer(1);
+			GroupMatcher matcher = index.createMatcher(subj, pred, obj, -1);
+			long count = 0;
+			for (boolean explicit : new boolean[] { true, false }) {
+				E(mdb_cursor_open(txn, index.getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					keyBuf.clear();
+					index.getMinKey(keyBuf, subj, pred, obj, -1);
+					keyBuf.flip();
+					keyVal.mv_data(keyBuf);
+					int rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_SET_RANGE);
+					while (rc == MDB_SUCCESS && count < limit && matcher.matches(keyVal.mv_data())) {
+						count++;
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+					}
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+				if (count >= limit) {
+					break;
+				}
+			}
+			return count;
+		} finally {
+			stack.pop();
+		}
+	}
+
+	private void update(long writeTxn, MemoryStack stack, byte kind, long id, long[] changes) throws IOException {
+		stack.push();
+		try {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			keyVal.mv_data(key(stack, kind, id));
+			long[] counts = new long[changes.length];
+			if (mdb_get(writeTxn, dbi, keyVal, dataVal) == MDB_SUCCESS) {
+				ByteBuffer value = dataVal.mv_data();
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] = Varint.readUnsigned(value);
+				}
+			}
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] += changes[i];
+			}
+			if (counts[0] <= 0) {
+				int rc = mdb_del(writeTxn, dbi, keyVal, null);
+				if (rc != MDB_SUCCESS && rc != MDB_NOTFOUND) {
+					E(rc);
+				}
+			} else {
+				ByteBuffer value = stack.malloc(counts.length * (Long.BYTES + 1));
+				for (long count : counts) {
+					Varint.writeUnsigned(value, Math.max(0, count));
+				}
+				dataVal.mv_data(value.flip());
+				E(mdb_put(writeTxn, dbi, keyVal, dataVal, 0));
+			}
+		} finally {
+			stack.pop();
+		}
+	}
+
+	private static ByteBuffer key(MemoryStack stack, byte kind, long id) {
+		ByteBuffer bb = stack.malloc(2 + Long.BYTES);
+		bb.put(kind);
+		Varint.writeUnsigned(bb, id);
+		return bb.flip();
+	}
+
+	/**
+	 * Tests whether the statistics have to be rebuilt because they were not maintained for the current indexes and
+	 * <code>rdf:type</code> id.
+	 */
+	boolean requiresRebuild(long txn) throws IOException {
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			keyVal.mv_data(key(stack, META_KEY, 0));
+			if (mdb_get(txn, dbi, keyVal, dataVal) != MDB_SUCCESS) {
+				return true;
+			}
+			ByteBuffer meta = dataVal.mv_data();
+			return Varint.readUnsigned(meta) != VERSION || Varint.readUnsigned(meta) != flags
+					|| Varint.readUnsigned(meta) != typeId + 1;
+		}
+	}
+
+	/**
+	 * Computes the statistics from the statements in the indexes. This requires a scan of the given index and of the
+	 * indexes that are used for the distinct subjects and objects.
+	 */
+	void rebuild(long writeTxn, TripleIndex mainIndex) throws IOException {
+		discard();
+		E(mdb_drop(writeTxn, dbi, false));
+		Accumulator accumulator = new Accumulator();
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.malloc(stack);
+			MDBVal dataVal = MDBVal.malloc(stack);
+			PointerBuffer pp = stack.mallocPointer(1);
+			long[] quad = new long[4];
+			for (boolean explicit : new boolean[] { true, false }) {
+				E(mdb_cursor_open(writeTxn, mainIndex.getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					int rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_FIRST);
+					while (rc == MDB_SUCCESS) {
+						mainIndex.keyToQuad(keyVal.mv_data(), quad);
+						accumulator.statement(quad);
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+					}
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+			}
+		}
+		if (subjectIndex != null) {
+			countDistinct(writeTxn, subjectIndex, accumulator);
+		}
+		if (objectIndex != null) {
+			countDistinct(writeTxn, objectIndex, accumulator);
+		}
+		accumulator.store(writeTxn);
+
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			keyVal.mv_data(key(stack, META_KEY, 0));
+			ByteBuffer meta = stack.malloc(3 * (Long.BYTES + 1));
+			Varint.writeUnsigned(meta, VERSION);
+			Varint.writeUnsigned(meta, flags);
+			Varint.writeUnsigned(meta, typeId + 1);
+			dataVal.mv_data(meta.flip());
+			E(mdb_put(writeTxn, dbi, keyVal, dataVal, 0));
+		}
+	}
+
+	/**
+	 * Visits the explicit and inferred statements of an index in the order of the first two fields, so that the
+	 * statements of each pair are visited consecutively.
+	 */
+	private static void countDistinct(long txn, TripleIndex index, Accumulator accumulator) throws IOException {
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.malloc(stack);
+			MDBVal dataVal = MDBVal.malloc(stack);
+			PointerBuffer pp = stack.mallocPointer(1);
+			E(mdb_cursor_open(txn, index.getDB(true), pp));
+			long explicitCursor = pp.get(0);
+			long inferredCursor = 0;
+			try {
+				E(mdb_cursor_open(txn, index.getDB(false), pp));
+				inferredCursor = pp.get(0);
+				long[] explicitQuad = new long[4];
+				long[] inferredQuad = new long[4];
+				int first = fieldIndex(index.getFieldSeq()[0]);
+				int second = fieldIndex(index.getFieldSeq()[1]);
+				boolean hasExplicit = next(explicitCursor, MDB_FIRST, keyVal, dataVal, index, explicitQuad);
+				boolean hasInferred = next(inferredCursor, MDB_FIRST, keyVal, dataVal, index, inferredQuad);
+				while (hasExplicit || hasInferred) {
+					boolean takeExplicit = hasExplicit && (!hasInferred
+							|| comparePairs(explicitQuad, inferredQuad, first, second) <= 0);
+					if (takeExplicit) {
+						accumulator.sortedStatement(index, explicitQuad);
+						hasExplicit = next(explicitCursor, MDB_NEXT, keyVal, dataVal, index, explicitQuad);
+					} else {
+						accumulator.sortedStatement(index, inferredQuad);
+						hasInferred = next(inferredCursor, MDB_NEXT, keyVal, dataVal, index, inferredQuad);
+					}
+				}
+			} finally {
+				mdb_cursor_close(explicitCursor);
+				if (inferredCursor != 0) {
+					mdb_cursor_close(inferredCursor);
+				}
+			}
+		}
+	}
+
+	private static boolean next(long cursor, int op, MDBVal keyVal, MDBVal dataVal, TripleIndex index, long[] quad) {
+		if (mdb_cursor_get(cursor, keyVal, dataVal, op) != MDB_SUCCESS) {
+			return false;
+		}
+		index.keyToQuad(keyVal.mv_data(), quad);
+		return true;
+	}
+
+	private static int comparePairs(long[] a, long[] b, int first, int second) {
+		int cmp = Long.compareUnsigned(a[first], b[first]);
+		return cmp != 0 ? cmp : Long.compareUnsigned(a[second], b[second]);
+	}
+
+	private static int fieldIndex(char field) {
+		return switch (field) {
+		case 's' -> TripleIndex.SUBJ_IDX;
+		case 'p' -> TripleIndex.PRED_IDX;
+		case 'o' -> TripleIndex.OBJ_IDX;
+		default -> TripleIndex.CONTEXT_IDX;
+		};
+	}
+
+	Accumulator accumulator() {
+		return new Accumulator();
+	}
+
+	/**
+	 * Counts statements that are visited in bulk, for example when the statistics are rebuilt or when sorted
+	 * statements are appended to empty indexes.
+	 */
+	final class Accumulator {
+
+		private final LongLongHashMap statements = new LongLongHashMap();
+
+		private final LongLongHashMap classes = new LongLongHashMap();
+
+		private final LongLongHashMap subjects = new LongLongHashMap();
+
+		private final LongLongHashMap objects = new LongLongHashMap();
+
+		private final long[] lastSubjectPair = { -1, -1 };
+
+		private final long[] lastObjectPair = { -1, -1 };
+
+		void statement(long[] quad) {
+			long pred = quad[TripleIndex.PRED_IDX];
+			statements.addToValue(pred, 1);
+			if (pred == typeId) {
+				classes.addToValue(quad[TripleIndex.OBJ_IDX], 1);
+			}
+		}
+
+		/**
+		 * @return <code>true</code> if the statements of the index have to be visited in the order of its keys to
+		 *         count distinct subjects or objects
+		 */
+		boolean isSorted(TripleIndex index) {
+			return index == subjectIndex || index == objectIndex;
+		}
+
+		/**
+		 * Visits a statement of an index whose statements are visited in the order of its keys.
+		 */
+		void sortedStatement(TripleIndex index, long[] quad) {
+			if (index == subjectIndex) {
+				distinct(quad, TripleIndex.SUBJ_IDX, lastSubjectPair, subjects);
+			}
+			if (index == objectIndex) {
+				distinct(quad, TripleIndex.OBJ_IDX, lastObjectPair, objects);
+			}
+		}
+
+		private void distinct(long[] quad, int field, long[] lastPair, LongLongHashMap counts) {
+			long pred = quad[TripleIndex.PRED_IDX];
+			if (lastPair[0] != pred || lastPair[1] != quad[field]) {
+				lastPair[0] = pred;
+				lastPair[1] = quad[field];
+				counts.addToValue(pred, 1);
+			}
+		}
+
+		/**
+		 * Adds the counted statements to the statistics database.
+		 */
+		void store(long writeTxn) throws IOException {
+			try (MemoryStack stack = stackPush()) {
+				LongIterator preds = statements.keysView().longIterator();
+				while (preds.hasNext()) {
+					long pred = preds.next();
+					update(writeTxn, stack, PREDICATE_KEY, pred,
+							new long[] { statements.get(pred), subjects.get(pred), objects.get(pred) });
+				}
+				LongIterator it = classes.keysView().longIterator();
+				while (it.hasNext()) {
+					long cls = it.next();
+					update(writeTxn, stack, CLASS_KEY, cls, new long[] { classes.get(cls) });
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the statistics of a predicate, or <code>null</code> if there are no statements with it
+	 */
+	LmdbPredicateStatistics getPredicateStatistics(long txn, long pred) throws IOException {
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			keyVal.mv_data(key(stack, PREDICATE_KEY, pred));
+			if (mdb_get(txn, dbi, keyVal, dataVal) != MDB_SUCCESS) {
+				return null;
+			}
+			return toPredicateStatistics(dataVal.mv_data());
+		}
+	}
+
+	/**
+	 * @return the number of <code>rdf:type</code> statements with the class as object
+	 */
+	long getClassCount(long txn, long cls) throws IOException {
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			keyVal.mv_data(key(stack, CLASS_KEY, cls));
+			if (mdb_get(txn, dbi, keyVal, dataVal) != MDB_SUCCESS) {
+				return 0;
+			}
+			return Varint.readUnsigned(dataVal.mv_data());
+		}
+	}
+
+	Map<Long, LmdbPredicateStatistics> getPredicateStatistics(long txn) throws IOException {
+		Map<Long, LmdbPredicateStatistics> statistics = new HashMap<>();
+		scan(txn, PREDICATE_KEY, (id, value) -> statistics.put(id, toPredicateStatistics(value)));
+		return statistics;
+	}
+
+	Map<Long, Long> getClassCounts(long txn) throws IOException {
+		Map<Long, Long> counts = new HashMap<>();
+		scan(txn, CLASS_KEY, (id, value) -> counts.put(id, Varint.readUnsigned(value)));
+		return counts;
+	}
+
+	private LmdbPredicateStatistics toPredicateStatistics(ByteBuffer value) {
+		long statements = Varint.readUnsigned(value);
+		long subjects = Varint.readUnsigned(value);
+		long objects = Varint.readUnsigned(value);
+		return new LmdbPredicateStatistics(statements, subjectIndex != null ? subjects : -1,
+				objectIndex != null ? objects : -1);
+	}
+
+	@FunctionalInterface
+	private interface EntryConsumer {
+		void accept(long id, ByteBuffer value);
+	}
+
+	private void scan(long txn, byte kind, EntryConsumer consumer) throws IOException {
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			PointerBuffer pp = stack.mallocPointer(1);
+			E(mdb_cursor_open(txn, dbi, pp));
+			long cursor = pp.get(0);
+			try {
+				keyVal.mv_data(key(stack, kind, 0));
+				int rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_SET_RANGE);
+				while (rc == MDB_SUCCESS) {
+					ByteBuffer key = keyVal.mv_data();
+					if (key.get() != kind) {
+						break;
+					}
+					consumer.accept(Varint.readUnsigned(key), dataVal.mv_data());
+					rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+				}
+			} finally {
+				mdb_cursor_close(cursor);
+			}
+		}
+	}
+}
@@ -16,6 +16,8 @@ import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.readTransaction;
 import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.transaction;
 import static org.lwjgl.system.MemoryStack.stackPush;
 import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.util.lmdb.LMDB.MDB_APPEND;
+import static org.lwjgl.util.lmdb.LMDB.MDB_CP_COMPACT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_CREATE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_FIRST;
 import static org.lwjgl.util.lmdb.LMDB.MDB_KEYEXIST;
@@ -33,12 +35,14 @@ import static org.lwjgl.util.lmdb.LMDB.MDB_SET_RANGE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cmp;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_del;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_put;
 import static org.lwjgl.util.lmdb.LMDB.mdb_dbi_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_del;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_close;
+import static org.lwjgl.util.lmdb.LMDB.mdb_env_copy2;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_create;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_info;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_open;
@@ -69,15 +73,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.IntConsumer;
+import java.util.function.LongPredicate;
 
 import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
 import org.eclipse.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
 import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.concurrent.locks.StampedLongAdderLockManager;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.algebra.evaluation.sketch.SketchBasedJoinEstimator.Component;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.TripleIndex.StatementFieldValueAccessor;
@@ -87,6 +100,7 @@ import org.eclipse.rdf4j.sail.lmdb.TxnRecordCache.Record;
 import org.eclipse.rdf4j.sail.lmdb.TxnRecordCache.RecordCacheIterator;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
 import org.eclipse.rdf4j.sail.lmdb.estimate.LmdbPageCardinalityEstimator;
+import org.eclipse.rdf4j.sail.lmdb.model.LmdbValue;
 import org.eclipse.rdf4j.sail.lmdb.util.GroupMatcher;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.system.MemoryStack;
@@ -110,6 +124,10 @@ class TripleStore implements Closeable {
 	 */
 	private static final String DEFAULT_TRIPLE_INDEXES = "spoc,posc";
 	private static final boolean REUSE_SECONDARY_WRITE_CURSOR = true;
+	/**
+	 * The maximum number of triples that {@link #removeContext(long, boolean, long, Consumer)} keeps in memory.
+	 */
+	private static final int CONTEXT_REMOVE_BATCH_SIZE = 65_536;
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -125,14 +143,36 @@ class TripleStore implements Closeable {
 	 */
 	private final StoreProperties properties;
 	/**
-	 * The list of triple indexes that are used to store and retrieve triples.
+	 * The list of triple indexes that are used to store and retrieve triples. Indexes that are built while the store is
+	 * in use are updated by all writes but only used for reading once they are complete, see
+	 * {@link #readableIndexes(long)}.
+	 */
+	private final List<TripleIndex> indexes = new CopyOnWriteArrayList<>();
+	/**
+	 * The ID of the first transaction that sees all indexes completely, or 0 if all indexes are complete in every
+	 * snapshot.
+	 */
+	private volatile long indexesCompleteTxnId;
+	/**
+	 * The number of statement pattern lookups per combination of bound components, see
+	 * {@link #getPatternAccessCounts()}.
 	 */
-	private final List<TripleIndex> indexes = new ArrayList<>();
+	private final LongAdder[] patternAccessCounts = new LongAdder[16];
 	private final ValueStore valueStore;
 
 	long env;
 	long writeTxn;
 	private final int contextsDbi;
+	private final int statisticsDbi;
+	/**
+	 * Exact statement counts which are updated within the write transactions that change the indexes, see
+	 * {@link TripleStatistics}. This is <code>null</code> while the indexes are opened.
+	 */
+	private TripleStatistics statistics;
+	/**
+	 * Whether the statistics had to be built from the indexes when the store was opened.
+	 */
+	private boolean statisticsRebuilt;
 	private int pageSize;
 	private final boolean autoGrow;
 	private final boolean pageCardinalityEstimator;
@@ -149,6 +189,12 @@ class TripleStore implements Closeable {
 	private final LmdbPageCardinalityEstimator pageEstimator;
 	private final AtomicLong dataRevision = new AtomicLong();
 
+	/**
+	 * Prevents the map from being resized while {@link #copyTo(File, boolean)} holds a read transaction that is not
+	 * tracked by the transaction manager.
+	 */
+	private final ReadWriteLock envCopyLock = new ReentrantReadWriteLock();
+
 	private TxnRecordCache recordCache = null;
 
 	TripleStore(File dir, LmdbStoreConfig config, ValueStore valueStore) throws IOException, SailException {
@@ -157,6 +203,9 @@ class TripleStore implements Closeable {
 
 	TripleStore(File dir, StoreProperties properties, LmdbStoreConfig config, ValueStore valueStore)
 			throws IOException, SailException {
+		for (int i = 0; i < patternAccessCounts.length; i++) {
+			patternAccessCounts[i] = new LongAdder();
+		}
 		this.dir = dir;
 		this.dataMdbFile = new File(dir, "data.mdb");
 		this.properties = properties;
@@ -174,8 +223,8 @@ class TripleStore implements Closeable {
 			env = pp.get(0);
 		}
 
-		// 1 for contexts, 48 for all possible triple indexes (24 explicit + 24 inferred)
-		E(mdb_env_set_maxdbs(env, 1 + 48));
+		// 1 for contexts, 1 for statistics, 48 for all possible triple indexes (24 explicit + 24 inferred)
+		E(mdb_env_set_maxdbs(env, 2 + 48));
 		E(mdb_env_set_maxreaders(env, 256));
 
 		// Open environment
@@ -196,8 +245,18 @@ class TripleStore implements Closeable {
 			}
 			return ip.get(0);
 		});
+		// open statistics database
+		statisticsDbi = transaction(env, (stack, txn) -> {
+			String name = "statistics";
+			IntBuffer ip = stack.mallocInt(1);
+			if (mdb_dbi_open(txn, name, 0, ip) == MDB_NOTFOUND) {
+				E(mdb_dbi_open(txn, name, MDB_CREATE, ip));
+			}
+			return ip.get(0);
+		});
 
 		txnManager = new TxnManager(env, Mode.RESET);
+		txnManager.setReaderTracking(config.getReaderOwnerTracking(), config.getMaxReaderAge());
 		pageEstimator = pageCardinalityEstimator ? new LmdbPageCardinalityEstimator(dataMdbFile) : null;
 
 		try {
@@ -237,6 +296,18 @@ class TripleStore implements Closeable {
 				}
 			}
 			properties.setTripleIndexes(indexSpecStr);
+
+			long typeId = valueStore == null ? LmdbValue.UNKNOWN_ID : valueStore.getId(RDF.TYPE);
+			statistics = new TripleStatistics(statisticsDbi, indexes, typeId);
+			boolean rebuildStatistics = readTransaction(env, (stack, txn) -> statistics.requiresRebuild(txn));
+			if (rebuildStatistics) {
+				// the statistics are built once for stores that were created without them
+				logger.debug("Building triple statistics...");
+				startTransaction();
+				statistics.rebuild(writeTxn, indexes.getFirst());
+				endTransaction(true);
+				statisticsRebuilt = true;
+			}
 		} catch (IOException | SailException e) {
 			endTransaction(false);
 			throw e;
@@ -323,7 +394,6 @@ class TripleStore implements Closeable {
 				try (MemoryStack stack = stackPush()) {
 					MDBVal keyValue = MDBVal.calloc(stack);
 					ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
-					keyValue.mv_data(keyBuf);
 					MDBVal dataValue = MDBVal.calloc(stack);
 					for (String fieldSeq : addedIndexSpecs) {
 						logger.debug("Initializing new index '{}'...", fieldSeq);
@@ -343,32 +413,11 @@ class TripleStore implements Closeable {
 										quad[TripleIndex.OBJ_IDX],
 										quad[TripleIndex.CONTEXT_IDX]);
 								keyBuf.flip();
+								// the size of the key is taken from the buffer when it is set
+								keyValue.mv_data(keyBuf);
 
 								if (requiresResize()) {
-									endTransaction(true);
-
-									// the lock is just a safety measure if reindex is somehow called outside of the
-									// constructor
-									StampedLongAdderLockManager lockManager = txnManager.lockManager();
-									long stamp;
-									try {
-										stamp = lockManager.writeLock();
-									} catch (InterruptedException e) {
-										throw new SailException(e);
-									}
-									try {
-										txnManager.deactivate();
-										mapSize = LmdbUtil.autoGrowMapSize(mapSize, pageSize, 0);
-										E(mdb_env_set_mapsize(env, mapSize));
-										logger.debug("resized map to {}", mapSize);
-									} finally {
-										try {
-											txnManager.activate();
-										} finally {
-											lockManager.unlockWrite(stamp);
-										}
-									}
-									startTransaction();
+									commitAndGrowMap(0);
 								}
 
 								E(mdb_put(writeTxn, addedIndex.getDB(explicit), keyValue, dataValue, 0));
@@ -392,6 +441,10 @@ class TripleStore implements Closeable {
 		removedIndexSpecs.removeAll(newIndexSpecs);
 
 		List<Throwable> removedIndexExceptions = new ArrayList<>();
+		if (!removedIndexSpecs.isEmpty()) {
+			// pooled cursors must not outlive their databases
+			txnManager.closePooledCursors();
+		}
 		// Delete files for removed indexes
 		for (String fieldSeq : removedIndexSpecs) {
 			try {
@@ -429,6 +482,7 @@ class TripleStore implements Closeable {
 					caughtExceptions.add(e);
 				}
 			}
+			txnManager.closePooledCursors();
 			for (TripleIndex index : indexes) {
 				try {
 					index.close();
@@ -465,7 +519,7 @@ class TripleStore implements Closeable {
 	 * @throws IOException
 	 */
 	public RecordIterator getAllTriplesSortedByContext(Txn txn) throws IOException {
-		for (TripleIndex index : indexes) {
+		for (TripleIndex index : readableIndexes(txn.get())) {
 			if (index.getFieldSeq()[0] == 'c') {
 				// found a context-first index
 				return getTriplesUsingIndex(txn, -1, -1, -1, -1, true, index, false);
@@ -476,11 +530,69 @@ class TripleStore implements Closeable {
 
 	public RecordIterator getTriples(Txn txn, long subj, long pred, long obj, long context, boolean explicit)
 			throws IOException {
-		TripleIndex index = TripleIndex.getBestIndex(indexes, subj, pred, obj, context);
+		patternAccessCounts[(subj >= 0 ? 1 : 0) | (pred >= 0 ? 2 : 0) | (obj >= 0 ? 4 : 0) | (context >= 0 ? 8 : 0)]
+				.increment();
+		TripleIndex index = TripleIndex.getBestIndex(readableIndexes(txn.get()), subj, pred, obj, context);
 		boolean doRangeSearch = index.getPatternScore(subj, pred, obj, context) > 0;
 		return getTriplesUsingIndex(txn, subj, pred, obj, context, explicit, index, doRangeSearch);
 	}
 
+	/**
+	 * Selects an index that can scan ranges of object IDs for the supplied pattern, i.e. an index in which all fields
+	 * that precede the object are bound.
+	 *
+	 * @return the index with the longest bound prefix or <code>null</code> if there is no such index
+	 */
+	TripleIndex getObjectRangeIndex(Txn txn, long subj, long pred, long context) {
+		TripleIndex best = null;
+		int bestScore = -1;
+		for (TripleIndex index : readableIndexes(txn.get())) {
+			int objectPosition = new String(index.getFieldSeq()).indexOf('o');
+			int score = index.getPatternScore(subj, pred, 0, context);
+			if (score > objectPosition && score > bestScore) {
+				best = index;
+				bestScore = score;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the triples of the pattern whose object ID lies between <var>minObj</var> and <var>maxObj</var> and is
+	 * accepted by <var>objectFilter</var>.
+	 *
+	 * @param index an index returned by {@link #getObjectRangeIndex(Txn, long, long, long)} for the same pattern
+	 */
+	RecordIterator getTriplesInObjectRange(Txn txn, TripleIndex index, long subj, long pred, long context,
+			long minObj, long maxObj, LongPredicate objectFilter, boolean explicit) throws IOException {
+		return new LmdbRecordIterator(index, subj, pred, minObj, maxObj, objectFilter, context, explicit, txn);
+	}
+
+	/**
+	 * Copies the LMDB environment of this store to an empty directory. The copy is taken from a consistent snapshot
+	 * while writers continue to commit; only growing the map is delayed until the copy has finished.
+	 *
+	 * @param dir     an existing, empty directory
+	 * @param compact <code>true</code> to omit free pages and renumber the pages of the copy
+	 */
+	void copyTo(File dir, boolean compact) throws IOException {
+		envCopyLock.readLock().lock();
+		try {
+			E(mdb_env_copy2(env, dir.getAbsolutePath(), compact ? MDB_CP_COMPACT : 0));
+		} finally {
+			envCopyLock.readLock().unlock();
+		}
+	}
+
+	private void setMapSize(long size) throws IOException {
+		envCopyLock.writeLock().lock();
+		try {
+			E(mdb_env_set_mapsize(env, size));
+		} finally {
+			envCopyLock.writeLock().unlock();
+		}
+	}
+
 	boolean hasTriples(boolean explicit) throws IOException {
 		TripleIndex mainIndex = indexes.getFirst();
 		return txnManager.doWith((stack, txn) -> {
@@ -490,6 +602,108 @@ class TripleStore implements Closeable {
 		});
 	}
 
+	/**
+	 * Counts the records that match the given pattern without decoding any values. A pattern without any bound
+	 * component is answered from the entry count that LMDB maintains for every database.
+	 *
+	 * @param txn      Active transaction
+	 * @param subj     The subject ID or -1 for a wildcard
+	 * @param pred     The predicate ID or -1 for a wildcard
+	 * @param obj      The object ID or -1 for a wildcard
+	 * @param context  The context ID, 0 for the null context or -1 for a wildcard
+	 * @param explicit Whether explicit or inferred records should be counted
+	 * @return The exact number of matching records
+	 */
+	long countTriples(Txn txn, long subj, long pred, long obj, long context, boolean explicit) throws IOException {
+		if (subj < 0 && pred < 0 && obj < 0 && context < 0) {
+			StampedLongAdderLockManager txnLockManager = txn.lockManager();
+			long readStamp;
+			try {
+				readStamp = txnLockManager.readLock();
+			} catch (InterruptedException e) {
+				throw new SailException(e);
+			}
+			try (MemoryStack stack = stackPush()) {
+				MDBStat stat = MDBStat.malloc(stack);
+				E(mdb_stat(txn.get(), indexes.getFirst().getDB(explicit), stat));
+				return stat.ms_entries();
+			} finally {
+				txnLockManager.unlockRead(readStamp);
+			}
+		}
+
+		long count = 0;
+		try (RecordIterator records = getTriples(txn, subj, pred, obj, context, explicit)) {
+			while (records.next() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Counts the distinct IDs in one component of the records that match the given pattern. If an index exists whose
+	 * bound prefix is directly followed by the requested component then the records arrive grouped by that component
+	 * and the distinct values are counted by comparing neighbouring records. Otherwise the IDs are collected in a set.
+	 * The ID 0 (the null context) is never counted.
+	 *
+	 * @param txn        Active transaction
+	 * @param fieldIndex One of {@link TripleIndex#SUBJ_IDX}, {@link TripleIndex#PRED_IDX}, {@link TripleIndex#OBJ_IDX}
+	 *                   or {@link TripleIndex#CONTEXT_IDX}
+	 * @return The exact number of distinct IDs
+	 */
+	long countDistinct(Txn txn, int fieldIndex, long subj, long pred, long obj, long context, boolean explicit)
+			throws IOException {
+		long[] pattern = { subj, pred, obj, context };
+		int boundComponents = 0;
+		for (long id : pattern) {
+			if (id >= 0) {
+				boundComponents++;
+			}
+		}
+		char field = "spoc".charAt(fieldIndex);
+		for (TripleIndex index : readableIndexes(txn.get())) {
+			if (index.getPatternScore(subj, pred, obj, context) == boundComponents
+					&& index.getFieldSeq()[boundComponents] == field) {
+				long count = 0;
+				long previous = 0;
+				try (RecordIterator records = getTriplesUsingIndex(txn, subj, pred, obj, context, explicit, index,
+						boundComponents > 0)) {
+					long[] quad;
+					while ((quad = records.next()) != null) {
+						long id = quad[fieldIndex];
+						if (id != previous) {
+							count++;
+							previous = id;
+						}
+					}
+				}
+				return count;
+			}
+		}
+
+		MutableLongSet distinct = new LongHashSet();
+		collectDistinct(txn, fieldIndex, subj, pred, obj, context, explicit, distinct);
+		return distinct.size();
+	}
+
+	/**
+	 * Adds the IDs in one component of the records matching the given pattern to the supplied set. The ID 0 (the null
+	 * context) is never added.
+	 */
+	void collectDistinct(Txn txn, int fieldIndex, long subj, long pred, long obj, long context, boolean explicit,
+			MutableLongSet distinct) throws IOException {
+		try (RecordIterator records = getTriples(txn, subj, pred, obj, context, explicit)) {
+			long[] quad;
+			while ((quad = records.next()) != null) {
+				long id = quad[fieldIndex];
+				if (id != 0) {
+					distinct.add(id);
+				}
+			}
+		}
+	}
+
 	private RecordIterator getTriplesUsingIndex(Txn txn, long subj, long pred, long obj, long context,
 			boolean explicit, TripleIndex index, boolean rangeSearch) throws IOException {
 		return new LmdbRecordIterator(index, rangeSearch, subj, pred, obj, context, explicit, txn);
@@ -552,8 +766,8 @@ class TripleStore implements Closeable {
 			// TODO currently this does not test for contexts (component == 3)
 			// because in most cases context indexes do not exist
 			for (int component = 0; component <= 2; component++) {
-				TripleIndex index = TripleIndex.getBestIndex(indexes, component == 0 ? 1 : -1, component == 1 ? 1 : -1,
-						component == 2 ? 1 : -1, component == 3 ? 1 : -1);
+				TripleIndex index = TripleIndex.getBestIndex(readableIndexes(txn), component == 0 ? 1 : -1,
+						component == 1 ? 1 : -1, component == 2 ? 1 : -1, component == 3 ? 1 : -1);
 
 				boolean fullScan = index.getPatternScore(component == 0 ? 1 : -1, component == 1 ? 1 : -1,
 						component == 2 ? 1 : -1, component == 3 ? 1 : -1) == 0;
@@ -643,11 +857,23 @@ class TripleStore implements Closeable {
 	}
 
 	protected double cardinality(long subj, long pred, long obj, long context) throws IOException {
+		TripleStatistics statistics = this.statistics;
+		if (statistics != null && subj < 0 && context < 0 && pred >= 0) {
+			// the statistics contain exact counts for these patterns
+			if (obj < 0) {
+				return txnManager.doWith((stack, txn) -> {
+					LmdbPredicateStatistics predicateStatistics = statistics.getPredicateStatistics(txn, pred);
+					return predicateStatistics == null ? 0.0 : (double) predicateStatistics.statements();
+				});
+			} else if (pred == statistics.getTypeId()) {
+				return txnManager.doWith((stack, txn) -> (double) statistics.getClassCount(txn, obj));
+			}
+		}
 		if (!pageCardinalityEstimator) {
 			return exactCardinality(subj, pred, obj, context);
 		}
 
-		TripleIndex index = TripleIndex.getBestIndex(indexes, subj, pred, obj, context);
+		TripleIndex index = TripleIndex.getBestIndex(readableIndexes(0), subj, pred, obj, context);
 
 		try {
 			return cardinalityUsingPageEstimator(index, subj, pred, obj, context);
@@ -888,8 +1114,9 @@ class TripleStore implements Closeable {
 		long pred = boundMask(boundComponentMask, Component.P);
 		long obj = boundMask(boundComponentMask, Component.O);
 		long context = boundMask(boundComponentMask, Component.C);
-		List<IndexAccessPath> accessPaths = new ArrayList<>(indexes.size());
-		for (TripleIndex index : indexes) {
+		List<TripleIndex> readableIndexes = readableIndexes(0);
+		List<IndexAccessPath> accessPaths = new ArrayList<>(readableIndexes.size());
+		for (TripleIndex index : readableIndexes) {
 			int prefixScore = index.getPatternScore(subj, pred, obj, context);
 			int prefixComponentMask = 0;
 			char[] fieldSequence = index.getFieldSeq();
@@ -953,6 +1180,388 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	/**
+	 * Commits the current write transaction, grows the map so that at least <var>requiredSize</var> bytes are free and
+	 * starts a new write transaction.
+	 */
+	private void commitAndGrowMap(long requiredSize) throws IOException {
+		endTransaction(true);
+		growMap(requiredSize);
+		startTransaction();
+	}
+
+	/**
+	 * Discards the current write transaction, grows the map so that at least <var>requiredSize</var> bytes are free
+	 * and starts a new write transaction.
+	 */
+	private void abortAndGrowMap(long requiredSize) throws IOException {
+		endTransaction(false);
+		growMap(requiredSize);
+		startTransaction();
+	}
+
+	private void growMap(long requiredSize) throws IOException {
+		// the lock is just a safety measure if this is called while other threads are reading
+		StampedLongAdderLockManager lockManager = txnManager.lockManager();
+		long stamp;
+		try {
+			stamp = lockManager.writeLock();
+		} catch (InterruptedException e) {
+			throw new SailException(e);
+		}
+		try {
+			txnManager.deactivate();
+			mapSize = LmdbUtil.autoGrowMapSize(mapSize, pageSize, requiredSize);
+			setMapSize(mapSize);
+			logger.debug("resized map to {}", mapSize);
+		} finally {
+			try {
+				txnManager.activate();
+			} finally {
+				lockManager.unlockWrite(stamp);
+			}
+		}
+	}
+
+	List<String> getIndexFieldSeqs() {
+		List<String> fieldSeqs = new ArrayList<>(indexes.size());
+		for (TripleIndex index : indexes) {
+			fieldSeqs.add(new String(index.getFieldSeq()));
+		}
+		return fieldSeqs;
+	}
+
+	/**
+	 * @return the field sequences of the indexes that are used for reading
+	 */
+	List<String> getCompleteIndexFieldSeqs() {
+		List<String> fieldSeqs = new ArrayList<>(indexes.size());
+		for (TripleIndex index : readableIndexes(0)) {
+			fieldSeqs.add(new String(index.getFieldSeq()));
+		}
+		return fieldSeqs;
+	}
+
+	/**
+	 * Returns the indexes that contain all triples of the snapshot of the given read or write transaction.
+	 *
+	 * @param txn the transaction or 0 for the latest snapshot
+	 */
+	private List<TripleIndex> readableIndexes(long txn) {
+		long indexesCompleteTxnId = this.indexesCompleteTxnId;
+		if (indexesCompleteTxnId == 0 || txn != 0 && mdb_txn_id(txn) >= indexesCompleteTxnId) {
+			return indexes;
+		}
+		long txnId = txn == 0 ? Long.MAX_VALUE - 1 : mdb_txn_id(txn);
+		List<TripleIndex> readable = new ArrayList<>(indexes.size());
+		for (TripleIndex index : indexes) {
+			if (index.getCompleteTxnId() <= txnId) {
+				readable.add(index);
+			}
+		}
+		return readable;
+	}
+
+	/**
+	 * @return the id of <code>rdf:type</code> that is used for the class statistics, or -1
+	 */
+	long getTypeId() {
+		return statistics.getTypeId();
+	}
+
+	/**
+	 * @return <code>true</code> if the statistics were built from the indexes when the store was opened, instead of
+	 *         being read from the statistics database
+	 */
+	boolean isStatisticsRebuilt() {
+		return statisticsRebuilt;
+	}
+
+	/**
+	 * Returns the exact statistics of all predicates in the latest snapshot.
+	 *
+	 * @return the statistics by the id of the predicate
+	 */
+	Map<Long, LmdbPredicateStatistics> getPredicateStatistics() throws IOException {
+		return txnManager.doWith((stack, txn) -> statistics.getPredicateStatistics(txn));
+	}
+
+	/**
+	 * Returns the number of <code>rdf:type</code> statements per class in the latest snapshot.
+	 *
+	 * @return the counts by the id of the class
+	 */
+	Map<Long, Long> getClassCounts() throws IOException {
+		return txnManager.doWith((stack, txn) -> statistics.getClassCounts(txn));
+	}
+
+	/**
+	 * Returns the number of statement pattern lookups by the components that were bound. The array is indexed by a bit
+	 * mask with 1 for the subject, 2 for the predicate, 4 for the object and 8 for the context.
+	 */
+	long[] getPatternAccessCounts() {
+		long[] counts = new long[patternAccessCounts.length];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = patternAccessCounts[i].sum();
+		}
+		return counts;
+	}
+
+	/**
+	 * Adds an index that is not yet used for reading. All following writes update the index, and the triples that
+	 * were stored before are copied with {@link #copyToPendingIndex(TripleIndex, IndexBuildPosition, int)}. Must be
+	 * called within a write transaction.
+	 *
+	 * @param fieldSeq the field sequence of the new index
+	 * @return the new index
+	 * @throws SailException if the index already exists
+	 */
+	TripleIndex addPendingIndex(String fieldSeq) throws IOException, SailException {
+		if (getIndexFieldSeqs().contains(fieldSeq)) {
+			throw new SailException("Index " + fieldSeq + " already exists");
+		}
+		TripleIndex index = new TripleIndex(getIndexName(fieldSeq), fieldSeq, true, env, writeTxn);
+		// the databases may still contain entries of a build that was not finished
+		index.clear(writeTxn);
+		index.setCompleteTxnId(Long.MAX_VALUE);
+		indexesCompleteTxnId = Long.MAX_VALUE;
+		closeAlignedWriteCursors();
+		indexes.add(index);
+		resetAlignedWriteCursorState();
+		return index;
+	}
+
+	/**
+	 * Copies the triples of the main index that follow the given position to a pending index. The index is enabled for
+	 * reading by transactions that start after the current write transaction once all triples have been copied. Must be
+	 * called within a write transaction.
+	 *
+	 * @param position  the position after which to continue or <code>null</code> to start with the first triple
+	 * @param batchSize the maximum number of triples to copy
+	 * @return the position to continue from or <code>null</code> if the index is complete
+	 */
+	IndexBuildPosition copyToPendingIndex(TripleIndex index, IndexBuildPosition position, int batchSize)
+			throws IOException {
+		if (requiresResize()) {
+			commitAndGrowMap(0);
+		}
+		TripleIndex sourceIndex = indexes.getFirst();
+		boolean explicit = position == null || position.explicit();
+		long[] lastQuad = position == null ? null : position.lastQuad();
+		int copied = 0;
+		try (MemoryStack stack = stackPush()) {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			MDBVal targetKeyVal = MDBVal.calloc(stack);
+			MDBVal emptyVal = MDBVal.calloc(stack);
+			ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
+			PointerBuffer pp = stack.mallocPointer(1);
+			long[] quad = new long[4];
+			while (true) {
+				E(mdb_cursor_open(writeTxn, sourceIndex.getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					int rc;
+					if (lastQuad == null) {
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_FIRST);
+					} else {
+						keyBuf.clear();
+						sourceIndex.toKey(keyBuf, lastQuad[TripleIndex.SUBJ_IDX], lastQuad[TripleIndex.PRED_IDX],
+								lastQuad[TripleIndex.OBJ_IDX], lastQuad[TripleIndex.CONTEXT_IDX]);
+						keyBuf.flip();
+						keyVal.mv_data(keyBuf);
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_SET_RANGE);
+						if (rc == MDB_SUCCESS) {
+							sourceIndex.keyToQuad(keyVal.mv_data(), quad);
+							if (Arrays.equals(quad, lastQuad)) {
+								rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+							}
+						}
+					}
+					while (rc == MDB_SUCCESS) {
+						if (copied >= batchSize || requiresResize()) {
+							return new IndexBuildPosition(explicit, lastQuad);
+						}
+						sourceIndex.keyToQuad(keyVal.mv_data(), quad);
+						keyBuf.clear();
+						index.toKey(keyBuf, quad[TripleIndex.SUBJ_IDX], quad[TripleIndex.PRED_IDX],
+								quad[TripleIndex.OBJ_IDX], quad[TripleIndex.CONTEXT_IDX]);
+						keyBuf.flip();
+						targetKeyVal.mv_data(keyBuf);
+						E(mdb_put(writeTxn, index.getDB(explicit), targetKeyVal, emptyVal, 0));
+						lastQuad = quad.clone();
+						copied++;
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+					}
+					E(rc);
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+				if (!explicit) {
+					break;
+				}
+				explicit = false;
+				lastQuad = null;
+			}
+		}
+
+		// read transactions that start after this write transaction see all triples in the index
+		index.setCompleteTxnId(mdb_txn_id(writeTxn));
+		updateIndexesCompleteTxnId();
+		return null;
+	}
+
+	private void updateIndexesCompleteTxnId() {
+		long completeTxnId = 0;
+		for (TripleIndex index : indexes) {
+			completeTxnId = Math.max(completeTxnId, index.getCompleteTxnId());
+		}
+		indexesCompleteTxnId = completeTxnId;
+	}
+
+	/**
+	 * Removes a pending index whose build has failed. Must be called within a write transaction.
+	 */
+	void discardPendingIndex(TripleIndex index) throws IOException {
+		closeAlignedWriteCursors();
+		indexes.remove(index);
+		updateIndexesCompleteTxnId();
+		resetAlignedWriteCursorState();
+		txnManager.closePooledCursors();
+		index.destroy(writeTxn);
+	}
+
+	/**
+	 * The position of an index build within the main index.
+	 *
+	 * @param explicit whether the explicit or the inferred triples are copied
+	 * @param lastQuad the last copied triple or <code>null</code>
+	 */
+	record IndexBuildPosition(boolean explicit, long[] lastQuad) {
+	}
+
+	/**
+	 * Appends the sorted keys of a bulk load to the explicit databases of all indexes. The keys of each index are put
+	 * with {@link org.lwjgl.util.lmdb.LMDB#MDB_APPEND MDB_APPEND} in a single pass, which fills the pages of the B-tree
+	 * sequentially instead of searching for the insert position of each key. This requires that all databases are
+	 * empty and must be called within a write transaction to which nothing has been written yet.
+	 * <p>
+	 * The map is grown once before the keys are appended. If it still fills up, the write transaction is discarded and
+	 * the whole load is repeated with a larger map, so that the transaction never has to be committed before all
+	 * indexes, the context counts and the statistics have been written.
+	 *
+	 * @param sortedKeys supplies the sorted keys for the field sequence of each index
+	 * @return the number of added statements
+	 */
+	long appendSorted(Function<String, SortedKeyRuns> sortedKeys) throws IOException {
+		long requiredSize = 0;
+		for (TripleIndex index : indexes) {
+			requiredSize += sortedKeys.apply(new String(index.getFieldSeq())).getEstimatedSize();
+		}
+		// headroom for the branch pages, the context counts and the statistics
+		return appendSorted(sortedKeys, requiredSize + requiredSize / 4);
+	}
+
+	/**
+	 * Appends the sorted keys of a bulk load, see {@link #appendSorted(Function)}.
+	 *
+	 * @param sortedKeys   supplies the sorted keys for the field sequence of each index
+	 * @param requiredSize the estimated number of bytes that the load adds to the map
+	 * @return the number of added statements
+	 */
+	long appendSorted(Function<String, SortedKeyRuns> sortedKeys, long requiredSize) throws IOException {
+		if (autoGrow && LmdbUtil.requiresResize(mapSize, pageSize, writeTxn, requiredSize)) {
+			// nothing has been written yet, so the transaction can be discarded while the map is grown
+			abortAndGrowMapForBulkLoad(requiredSize);
+		}
+
+		while (true) {
+			long added = appendSortedKeys(sortedKeys);
+			if (added >= 0) {
+				logAddedStatements((int) Math.min(added, Integer.MAX_VALUE));
+				return added;
+			}
+
+			// the size was underestimated, discard the partial load and repeat it with a larger map
+			logger.debug("map of size {} is too small for the bulk load, retrying with a larger map", mapSize);
+			// start over from the state before the load, so that the new size is not based on the discarded pages
+			endTransaction(false);
+			startTransaction();
+			requiredSize = Math.max(requiredSize * 2, LmdbUtil.MIN_FREE_SPACE);
+			abortAndGrowMapForBulkLoad(requiredSize);
+		}
+	}
+
+	/**
+	 * Grows the map so that <var>requiredSize</var> bytes can be written without exceeding
+	 * {@link LmdbUtil#PERCENTAGE_FULL_TRIGGERS_RESIZE}. Must be called before anything is written in the current write
+	 * transaction.
+	 */
+	private void abortAndGrowMapForBulkLoad(long requiredSize) throws IOException {
+		long newSize = LmdbUtil.getNewSize(pageSize, writeTxn, requiredSize);
+		abortAndGrowMap(newSize / LmdbUtil.PERCENTAGE_FULL_TRIGGERS_RESIZE * 100);
+	}
+
+	/**
+	 * @return the number of added statements, or <code>-1</code> if the map needs to be grown before all keys fit
+	 */
+	private long appendSortedKeys(Function<String, SortedKeyRuns> sortedKeys) throws IOException {
+		long added = 0;
+		try (MemoryStack stack = MemoryStack.stackPush()) {
+			MDBVal keyVal = MDBVal.malloc(stack);
+			// use calloc to get an empty data value
+			MDBVal dataVal = MDBVal.calloc(stack);
+			ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
+			long[] quad = new long[4];
+			LongLongHashMap contextCounts = new LongLongHashMap();
+			TripleStatistics.Accumulator statisticsAccumulator = statistics != null ? statistics.accumulator() : null;
+
+			for (int i = 0; i < indexes.size(); i++) {
+				TripleIndex index = indexes.get(i);
+				boolean mainIndex = i == 0;
+				boolean distinctIndex = statisticsAccumulator != null && statisticsAccumulator.isSorted(index);
+				try (SortedKeyRuns.Merger merger = sortedKeys.apply(new String(index.getFieldSeq())).merge()) {
+					keyBuf.clear();
+					while (merger.next(keyBuf)) {
+						keyBuf.flip();
+						if (requiresResize()) {
+							return -1;
+						}
+						if (mainIndex) {
+							index.keyToQuad(keyBuf, quad);
+							keyBuf.rewind();
+							contextCounts.addToValue(quad[TripleIndex.CONTEXT_IDX], 1);
+							added++;
+							if (statisticsAccumulator != null) {
+								statisticsAccumulator.statement(quad);
+							}
+						}
+						if (distinctIndex) {
+							index.keyToQuad(keyBuf, quad);
+							keyBuf.rewind();
+							statisticsAccumulator.sortedStatement(index, quad);
+						}
+						keyVal.mv_data(keyBuf);
+						E(mdb_put(writeTxn, index.getDB(true), keyVal, dataVal, MDB_APPEND));
+						keyBuf.clear();
+					}
+				}
+			}
+
+			LongIterator contexts = contextCounts.keysView().longIterator();
+			while (contexts.hasNext()) {
+				long context = contexts.next();
+				incrementContext(stack, context, contextCounts.get(context));
+			}
+			if (statisticsAccumulator != null) {
+				statisticsAccumulator.store(writeTxn);
+			}
+		}
+
+		// the commit must not need to grow the map either
+		return requiresResize() ? -1 : added;
+	}
+
 	static LongAdder statementsAdded = new LongAdder();
 	static long lastLogTime = System.currentTimeMillis();
 	int localCount = 0;
@@ -1026,6 +1635,9 @@ class TripleStore implements Closeable {
 				}
 
 				incrementContext(stack, context);
+				if (!foundImplicit) {
+					recordStatement(subj, pred, obj, 1);
+				}
 			}
 		}
 
@@ -1173,6 +1785,12 @@ class TripleStore implements Closeable {
 					}
 				}
 			}
+			for (int i = 0; i < addedCount; i++) {
+				int statementIndex = mainOrderIndices[i];
+				if (!promotedFromImplicit[statementIndex]) {
+					recordStatement(subj[statementIndex], pred[statementIndex], obj[statementIndex], 1);
+				}
+			}
 		}
 
 		if (remainingStart < count) {
@@ -1418,10 +2036,151 @@ class TripleStore implements Closeable {
 	 */
 	public void removeTriplesByContext(long subj, long pred, long obj, long context,
 			boolean explicit, Consumer<long[]> handler) throws IOException {
+		if (subj == -1 && pred == -1 && obj == -1 && context >= 0) {
+			removeContext(context, explicit, Long.MAX_VALUE, handler);
+			return;
+		}
 		RecordIterator records = getTriples(txnManager.createTxn(writeTxn), subj, pred, obj, context, explicit);
 		removeTriples(records, explicit, handler);
 	}
 
+	/**
+	 * Removes all triples of a context. The triples are deleted in batches as a range from the index that is best
+	 * suited for the context, ideally one with the context as leading component, and then by sorted keys from all
+	 * other indexes, which touches each page of an index only once per batch.
+	 *
+	 * @param context    the id of the context
+	 * @param explicit   whether explicit or inferred triples are removed
+	 * @param maxTriples the maximum number of triples to remove
+	 * @param handler    function that gets notified about each deleted quad
+	 * @return the number of removed triples, which is less than <var>maxTriples</var> only if the context is empty
+	 *         afterwards
+	 */
+	long removeContext(long context, boolean explicit, long maxTriples, Consumer<long[]> handler)
+			throws IOException {
+		TripleIndex rangeIndex = TripleIndex.getBestIndex(readableIndexes(writeTxn), -1, -1, -1, context);
+		boolean contextLeading = rangeIndex.getFieldSeq()[0] == 'c';
+		GroupMatcher matcher = rangeIndex.createMatcher(-1, -1, -1, context);
+		int batchSize = (int) Math.min(maxTriples, CONTEXT_REMOVE_BATCH_SIZE);
+		long[][] batch = new long[batchSize][];
+		byte[] resumeKey = null;
+		long removed = 0;
+		try (MemoryStack stack = MemoryStack.stackPush()) {
+			MDBVal keyVal = MDBVal.malloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
+			PointerBuffer pp = stack.mallocPointer(1);
+
+			while (removed < maxTriples) {
+				if (recordCache != null || requiresResize()) {
+					// deleting requires free pages as well, let the record cache apply the remaining deletes on
+					// commit
+					RecordIterator records = getTriples(txnManager.createTxn(writeTxn), -1, -1, -1, context,
+							explicit);
+					long[] count = { 0 };
+					removeTriples(records, explicit, quad -> {
+						count[0]++;
+						handler.accept(quad);
+					});
+					return removed + count[0];
+				}
+
+				int count = 0;
+				E(mdb_cursor_open(writeTxn, rangeIndex.getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					keyBuf.clear();
+					if (resumeKey == null) {
+						rangeIndex.getMinKey(keyBuf, -1, -1, -1, context);
+					} else {
+						keyBuf.put(resumeKey);
+					}
+					keyBuf.flip();
+					keyVal.mv_data(keyBuf);
+					int rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_SET_RANGE);
+					int limit = (int) Math.min(batchSize, maxTriples - removed);
+					while (rc == MDB_SUCCESS && count < limit) {
+						if (matcher.matches(keyVal.mv_data())) {
+							long[] quad = new long[4];
+							rangeIndex.keyToQuad(keyVal.mv_data(), quad);
+							batch[count++] = quad;
+							// MDB_NEXT returns the key that followed the deleted key
+							E(mdb_cursor_del(cursor, 0));
+						} else if (contextLeading) {
+							break;
+						}
+						rc = mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT);
+					}
+					if (rc == MDB_SUCCESS && !contextLeading) {
+						resumeKey = toArray(keyVal.mv_data());
+					}
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+				if (count == 0) {
+					break;
+				}
+
+				for (TripleIndex index : indexes) {
+					if (index == rangeIndex) {
+						continue;
+					}
+					int dbi = index.getDB(explicit);
+					sortByIndex(batch, count, index);
+					for (int i = 0; i < count; i++) {
+						long[] quad = batch[i];
+						keyBuf.clear();
+						index.toKey(keyBuf, quad[TripleIndex.SUBJ_IDX], quad[TripleIndex.PRED_IDX],
+								quad[TripleIndex.OBJ_IDX], quad[TripleIndex.CONTEXT_IDX]);
+						keyBuf.flip();
+						keyVal.mv_data(keyBuf);
+						E(mdb_del(writeTxn, dbi, keyVal, null));
+					}
+				}
+				decrementContext(stack, context, count);
+				for (int i = 0; i < count; i++) {
+					long[] quad = batch[i];
+					recordStatement(quad[TripleIndex.SUBJ_IDX], quad[TripleIndex.PRED_IDX],
+							quad[TripleIndex.OBJ_IDX], -1);
+				}
+				for (int i = 0; i < count; i++) {
+					handler.accept(batch[i]);
+					batch[i] = null;
+				}
+				removed += count;
+				if (count < batchSize) {
+					break;
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Sorts the first <var>count</var> quads in the key order of the given index.
+	 */
+	private static void sortByIndex(long[][] quads, int count, TripleIndex index) {
+		char[] fieldSeq = index.getFieldSeq();
+		int[] fields = new int[fieldSeq.length];
+		for (int i = 0; i < fieldSeq.length; i++) {
+			fields[i] = switch (fieldSeq[i]) {
+			case 's' -> TripleIndex.SUBJ_IDX;
+			case 'p' -> TripleIndex.PRED_IDX;
+			case 'o' -> TripleIndex.OBJ_IDX;
+			default -> TripleIndex.CONTEXT_IDX;
+			};
+		}
+		Arrays.sort(quads, 0, count, (a, b) -> {
+			for (int field : fields) {
+				int cmp = Long.compareUnsigned(a[field], b[field]);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		});
+	}
+
 	public void removeTriples(RecordIterator it, boolean explicit, Consumer<long[]> handler) throws IOException {
 		try (it; MemoryStack stack = MemoryStack.stackPush()) {
 			MDBVal keyValue = MDBVal.calloc(stack);
@@ -1455,6 +2214,8 @@ class TripleStore implements Closeable {
 				}
 
 				decrementContext(stack, quad[TripleIndex.CONTEXT_IDX]);
+				recordStatement(quad[TripleIndex.SUBJ_IDX], quad[TripleIndex.PRED_IDX], quad[TripleIndex.OBJ_IDX],
+						-1);
 				handler.accept(quad);
 			}
 		}
@@ -1477,7 +2238,7 @@ class TripleStore implements Closeable {
 						// resize map if required
 						E(mdb_txn_commit(writeTxn));
 						mapSize = LmdbUtil.autoGrowMapSize(mapSize, pageSize, 0);
-						E(mdb_env_set_mapsize(env, mapSize));
+						setMapSize(mapSize);
 						logger.debug("resized map to {}", mapSize);
 						E(mdb_txn_begin(env, NULL, 0, pp));
 						writeTxn = pp.get(0);
@@ -1503,6 +2264,10 @@ class TripleStore implements Closeable {
 						} else {
 							decrementContext(stack, r.quad[TripleIndex.CONTEXT_IDX]);
 						}
+						if (statistics != null) {
+							statistics.record(r.quad[TripleIndex.SUBJ_IDX], r.quad[TripleIndex.PRED_IDX],
+									r.quad[TripleIndex.OBJ_IDX], r.add ? 1 : -1);
+						}
 					}
 				}
 			}
@@ -1510,6 +2275,19 @@ class TripleStore implements Closeable {
 		recordCache.close();
 	}
 
+	/**
+	 * Records a statement that was added to or removed from all indexes for the statistics.
+	 */
+	private void recordStatement(long subj, long pred, long obj, long change) throws IOException {
+		if (statistics == null) {
+			return;
+		}
+		statistics.record(subj, pred, obj, change);
+		if (statistics.hasManyPendingChanges() && recordCache == null && !requiresResize()) {
+			statistics.apply(writeTxn);
+		}
+	}
+
 	public void startTransaction() throws IOException {
 		closeAlignedWriteCursors();
 		try (MemoryStack stack = stackPush()) {
@@ -1526,6 +2304,14 @@ class TripleStore implements Closeable {
 		if (writeTxn != 0) {
 			try {
 				closeAlignedWriteCursors();
+				if (commit && statistics != null && recordCache == null) {
+					if (requiresResize()) {
+						// let the statistics be updated after the map has been grown
+						recordCache = new TxnRecordCache(dir);
+					} else {
+						statistics.apply(writeTxn);
+					}
+				}
 				if (commit) {
 					var lockManager = txnManager.lockManager();
 					long stamp;
@@ -1540,7 +2326,7 @@ class TripleStore implements Closeable {
 							try {
 								txnManager.deactivate();
 								mapSize = LmdbUtil.autoGrowMapSize(mapSize, pageSize, 0);
-								E(mdb_env_set_mapsize(env, mapSize));
+								setMapSize(mapSize);
 								logger.debug("resized map to {}", mapSize);
 								// restart write transaction
 								try (MemoryStack stack = stackPush()) {
@@ -1549,6 +2335,9 @@ class TripleStore implements Closeable {
 									writeTxn = pp.get(0);
 								}
 								updateFromCache();
+								if (statistics != null) {
+									statistics.apply(writeTxn);
+								}
 								// finally, commit write transaction
 								E(mdb_txn_commit(writeTxn));
 							} finally {
@@ -1560,6 +2349,7 @@ class TripleStore implements Closeable {
 							// otherwise iterators won't see the updated data
 							txnManager.reset();
 						}
+						txnManager.abortExpiredReaders();
 						dataRevision.incrementAndGet();
 					} catch (IOException e) {
 						// abort transaction if exception occurred while committing
@@ -1573,6 +2363,9 @@ class TripleStore implements Closeable {
 				}
 			} finally {
 				writeTxn = 0;
+				if (statistics != null) {
+					statistics.discard();
+				}
 				// ensure that record cache is always reset
 				if (recordCache != null) {
 					try {
@@ -14,22 +14,33 @@ package org.eclipse.rdf4j.sail.lmdb;
 import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.E;
 import static org.lwjgl.system.MemoryStack.stackPush;
 import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_RDONLY;
 import static org.lwjgl.util.lmdb.LMDB.MDB_READERS_FULL;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
+import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_renew;
 import static org.lwjgl.util.lmdb.LMDB.mdb_reader_check;
 import static org.lwjgl.util.lmdb.LMDB.mdb_txn_abort;
 import static org.lwjgl.util.lmdb.LMDB.mdb_txn_begin;
+import static org.lwjgl.util.lmdb.LMDB.mdb_txn_id;
 import static org.lwjgl.util.lmdb.LMDB.mdb_txn_renew;
 import static org.lwjgl.util.lmdb.LMDB.mdb_txn_reset;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.rdf4j.common.concurrent.locks.StampedLongAdderLockManager;
 import org.eclipse.rdf4j.common.concurrent.locks.diagnostics.ConcurrentCleaner;
@@ -37,6 +48,9 @@ import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.LmdbUtil.Transaction;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.util.lmdb.MDBVal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Manager for LMDB transactions.
@@ -45,8 +59,15 @@ class TxnManager {
 	record TxnRef(Txn txn) {
 	}
 
+	private static final Logger logger = LoggerFactory.getLogger(TxnManager.class);
+
+	/**
+	 * The database that holds the pages freed by each write transaction.
+	 */
+	private static final int FREE_DBI = 0;
 	private static final int READERS_FULL_RETRIES = 500;
 	private static final long READERS_FULL_WAIT_MILLIS = 10L;
+	private static final int CURSOR_POOL_SIZE = 64;
 
 	private final Mode mode;
 	/**
@@ -57,6 +78,21 @@ class TxnManager {
 	private final StampedLongAdderLockManager lockManager = new StampedLongAdderLockManager();
 	private final long env;
 	private volatile int poolIndex = -1;
+	/**
+	 * Closed cursors of read-only transactions keyed by database. They are renewed with another read-only transaction
+	 * instead of opening a new cursor.
+	 */
+	private final Map<Integer, CursorPool> cursorPools;
+	private final LongAdder txnPoolHits = new LongAdder();
+	private final LongAdder txnPoolMisses = new LongAdder();
+	private final LongAdder cursorPoolHits = new LongAdder();
+	private final LongAdder cursorPoolMisses = new LongAdder();
+	private final LongAdder expiredReaders = new LongAdder();
+	/**
+	 * Whether the stack of the creator of each read transaction is recorded, see {@link #setReaderTracking}.
+	 */
+	private volatile boolean trackReaderOwners;
+	private volatile long maxReaderAgeNanos;
 	private final ConcurrentCleaner cleaner = new ConcurrentCleaner();
 	private final ThreadLocal<TxnRef> threadLocalReadTxn = ThreadLocal.withInitial(() -> {
 		try {
@@ -73,6 +109,7 @@ class TxnManager {
 		this.env = env;
 		this.mode = mode;
 		this.pool = mode == Mode.RESET ? new long[128] : null;
+		this.cursorPools = mode == Mode.RESET ? new HashMap<>() : null;
 	}
 
 	private long startReadTxn() throws IOException {
@@ -89,6 +126,97 @@ class TxnManager {
 		return readTxn;
 	}
 
+	/**
+	 * Configures the tracking of long-running read transactions. A read transaction keeps all pages that were freed
+	 * after it has started from being reused, so that the data file grows as long as it is open.
+	 *
+	 * @param trackOwners        whether the stack of the creator of each read transaction is recorded and logged if
+	 *                           the transaction is aborted
+	 * @param maxReaderAgeMillis the age of the snapshot after which a read transaction is aborted by
+	 *                           {@link #abortExpiredReaders()}, or 0 to never abort read transactions
+	 */
+	void setReaderTracking(boolean trackOwners, long maxReaderAgeMillis) {
+		this.trackReaderOwners = trackOwners;
+		this.maxReaderAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxReaderAgeMillis);
+	}
+
+	/**
+	 * Aborts all read transactions whose snapshot is older than the configured maximum age. Iterators of an aborted
+	 * transaction fail on their next access. This must be called while holding the write lock of the
+	 * {@link #lockManager()}.
+	 *
+	 * @return the number of aborted transactions
+	 */
+	int abortExpiredReaders() {
+		long maxAgeNanos = this.maxReaderAgeNanos;
+		if (maxAgeNanos <= 0) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		int aborted = 0;
+		for (Txn txn : activeTransactions()) {
+			if (txn.expire(now, maxAgeNanos)) {
+				aborted++;
+				expiredReaders.increment();
+				if (txn.owner != null) {
+					logger.warn("Aborted read transaction that was open for more than {} ms, created by:",
+							TimeUnit.NANOSECONDS.toMillis(maxAgeNanos), txn.owner);
+				} else {
+					logger.warn("Aborted read transaction that was open for more than {} ms", TimeUnit.NANOSECONDS
+							.toMillis(maxAgeNanos));
+				}
+			}
+		}
+		return aborted;
+	}
+
+	/**
+	 * Determines the age of the open read transactions and the pages that cannot be reused because of them.
+	 *
+	 * @return the current reader statistics
+	 */
+	LmdbReaderStatistics readerStatistics() throws IOException {
+		long now = System.nanoTime();
+		int readers = 0;
+		long oldestNanos = now;
+		long oldestTxnId = Long.MAX_VALUE;
+		for (Txn txn : activeTransactions()) {
+			synchronized (txn) {
+				if (txn.closed || !txn.txnActive || txn.expired || txn.txn == 0) {
+					continue;
+				}
+				readers++;
+				oldestNanos = Math.min(oldestNanos, txn.snapshotNanos);
+				oldestTxnId = Math.min(oldestTxnId, mdb_txn_id(txn.txn));
+			}
+		}
+		long pinnedTxnId = oldestTxnId;
+		long[] freePages = doWith((stack, txn) -> {
+			long[] pages = new long[2];
+			PointerBuffer pp = stack.mallocPointer(1);
+			E(mdb_cursor_open(txn, FREE_DBI, pp));
+			long cursor = pp.get(0);
+			try {
+				MDBVal keyData = MDBVal.malloc(stack);
+				MDBVal valueData = MDBVal.malloc(stack);
+				while (mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT) == MDB_SUCCESS) {
+					// the key is the id of the freeing transaction, the value a list of pages prefixed by its size
+					long freeingTxnId = keyData.mv_data().order(ByteOrder.nativeOrder()).getLong(0);
+					long count = valueData.mv_data().order(ByteOrder.nativeOrder()).getLong(0);
+					pages[0] += count;
+					if (freeingTxnId >= pinnedTxnId) {
+						pages[1] += count;
+					}
+				}
+			} finally {
+				mdb_cursor_close(cursor);
+			}
+			return pages;
+		});
+		return new LmdbReaderStatistics(readers, TimeUnit.NANOSECONDS.toMillis(now - oldestNanos), freePages[0],
+				freePages[1], expiredReaders.sum());
+	}
+
 	private int retryStartReadTxn(MemoryStack stack, PointerBuffer pp) throws IOException {
 		int rc = MDB_READERS_FULL;
 		for (int i = 0; i < READERS_FULL_RETRIES && rc == MDB_READERS_FULL; i++) {
@@ -146,7 +274,7 @@ class TxnManager {
 	 * @return the txn reference object
 	 */
 	Txn createTxn(long txn) {
-		return new Txn(txn) {
+		return new Txn(txn, false) {
 			@Override
 			public void close() {
 				// do nothing
@@ -161,7 +289,7 @@ class TxnManager {
 	 * @throws IOException if the transaction cannot be started for some reason
 	 */
 	Txn createReadTxn() throws IOException {
-		Txn txnRef = new Txn(createReadTxnInternal());
+		Txn txnRef = new Txn(createReadTxnInternal(), true);
 		synchronized (active) {
 			active.put(txnRef, Boolean.TRUE);
 		}
@@ -206,7 +334,7 @@ class TxnManager {
 	 * </p>
 	 */
 	Txn createReadTxnUntracked() throws IOException {
-		Txn txnRef = new Txn(createReadTxnInternal());
+		Txn txnRef = new Txn(createReadTxnInternal(), true);
 		synchronized (active) {
 			active.put(txnRef, Boolean.FALSE);
 		}
@@ -222,8 +350,10 @@ class TxnManager {
 				}
 			}
 			if (txn == 0) {
+				txnPoolMisses.increment();
 				txn = startReadTxn();
 			} else {
+				txnPoolHits.increment();
 				try {
 					renewReadTxn(txn, null);
 				} catch (IOException e) {
@@ -284,6 +414,40 @@ class TxnManager {
 		for (Txn txn : activeTransactions()) {
 			txn.close();
 		}
+		closePooledCursors();
+	}
+
+	/**
+	 * Closes all pooled cursors. This must be called before a database is dropped or the environment is closed.
+	 */
+	void closePooledCursors() {
+		if (cursorPools != null) {
+			synchronized (cursorPools) {
+				for (CursorPool cursorPool : cursorPools.values()) {
+					while (cursorPool.index >= 0) {
+						mdb_cursor_close(cursorPool.cursors[cursorPool.index--]);
+					}
+				}
+				cursorPools.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of read transactions and cursors that were taken from or had to be created in addition to
+	 *         the pools of this manager
+	 */
+	PoolStatistics poolStatistics() {
+		return new PoolStatistics(txnPoolHits.sum(), txnPoolMisses.sum(), cursorPoolHits.sum(),
+				cursorPoolMisses.sum());
+	}
+
+	record PoolStatistics(long txnHits, long txnMisses, long cursorHits, long cursorMisses) {
+	}
+
+	private static class CursorPool {
+		final long[] cursors = new long[CURSOR_POOL_SIZE];
+		int index = -1;
 	}
 
 	private List<Txn> activeTransactions() {
@@ -321,12 +485,21 @@ class TxnManager {
 	class Txn implements Closeable, AutoCloseable {
 
 		private long txn;
+		private final boolean readOnly;
 		private long version;
 		private boolean txnActive = true;
 		private boolean closed;
+		private boolean expired;
+		/**
+		 * The time at which the current snapshot of this transaction was taken.
+		 */
+		private long snapshotNanos = System.nanoTime();
+		private final Throwable owner;
 
-		Txn(long txn) {
+		Txn(long txn, boolean readOnly) {
 			this.txn = txn;
+			this.readOnly = readOnly;
+			this.owner = readOnly && trackReaderOwners ? new Throwable("Read transaction owner") : null;
 		}
 
 		long get() {
@@ -337,6 +510,57 @@ class TxnManager {
 			return lockManager;
 		}
 
+		/**
+		 * Opens a cursor on the given database of this transaction. Cursors of read-only transactions are taken from the
+		 * pool of the transaction manager if possible.
+		 *
+		 * @return the cursor that must be released with {@link #closeCursor(int, long)}
+		 */
+		long openCursor(int dbi) throws IOException {
+			if (expired) {
+				throw expiredException();
+			}
+			if (readOnly && cursorPools != null) {
+				long cursor = 0;
+				synchronized (cursorPools) {
+					CursorPool cursorPool = cursorPools.get(dbi);
+					if (cursorPool != null && cursorPool.index >= 0) {
+						cursor = cursorPool.cursors[cursorPool.index--];
+					}
+				}
+				if (cursor != 0) {
+					if (mdb_cursor_renew(txn, cursor) == MDB_SUCCESS) {
+						cursorPoolHits.increment();
+						return cursor;
+					}
+					mdb_cursor_close(cursor);
+				}
+				cursorPoolMisses.increment();
+			}
+			try (MemoryStack stack = stackPush()) {
+				PointerBuffer pp = stack.mallocPointer(1);
+				E(mdb_cursor_open(txn, dbi, pp));
+				return pp.get(0);
+			}
+		}
+
+		/**
+		 * Releases a cursor that was opened with {@link #openCursor(int)}.
+		 */
+		void closeCursor(int dbi, long cursor) {
+			if (readOnly && cursorPools != null) {
+				synchronized (cursorPools) {
+					CursorPool cursorPool = cursorPools.computeIfAbsent(dbi, d -> new CursorPool());
+					if (cursorPool.index < cursorPool.cursors.length - 1) {
+						// a cursor of a read-only transaction stays valid after the transaction has ended
+						cursorPool.cursors[++cursorPool.index] = cursor;
+						return;
+					}
+				}
+			}
+			mdb_cursor_close(cursor);
+		}
+
 		private void free(boolean resetTxn) {
 			if (txn == 0) {
 				return;
@@ -386,7 +610,7 @@ class TxnManager {
 		 * Resets current transaction as it points to "old" data.
 		 */
 		synchronized void reset() throws IOException {
-			if (closed) {
+			if (closed || expired) {
 				return;
 			}
 			if (txnActive) {
@@ -402,7 +626,7 @@ class TxnManager {
 		 * Triggers active state of current transaction.
 		 */
 		synchronized void setActive(boolean active) throws IOException {
-			if (closed) {
+			if (closed || expired) {
 				return;
 			}
 			if (active) {
@@ -421,7 +645,37 @@ class TxnManager {
 					renewReadTxn(txn, this);
 				}
 				txnActive = true;
+				snapshotNanos = System.nanoTime();
+			}
+		}
+
+		/**
+		 * Aborts this read transaction if its snapshot is older than the given age. The transaction stays registered
+		 * until it is closed, but it cannot be used for reading anymore.
+		 *
+		 * @return <code>true</code> if the transaction was aborted
+		 */
+		private synchronized boolean expire(long now, long maxAgeNanos) {
+			if (closed || expired || !txnActive || now - snapshotNanos <= maxAgeNanos) {
+				return false;
 			}
+			mdb_txn_reset(txn);
+			txnActive = false;
+			expired = true;
+			version++;
+			notifyReaderInactive(this);
+			return true;
+		}
+
+		/**
+		 * @return <code>true</code> if this transaction was aborted because it exceeded the maximum reader age
+		 */
+		boolean isExpired() {
+			return expired;
+		}
+
+		SailException expiredException() {
+			return new SailException("Read transaction was aborted because it was open for too long");
 		}
 
 		private void deactivate() {
@@ -16,6 +16,7 @@ import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.E;
 import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.openDatabase;
 import static org.lwjgl.system.MemoryStack.stackPush;
 import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.util.lmdb.LMDB.MDB_CP_COMPACT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_CREATE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_FIRST;
 import static org.lwjgl.util.lmdb.LMDB.MDB_LAST;
@@ -34,6 +35,7 @@ import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_get;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_del;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_close;
+import static org.lwjgl.util.lmdb.LMDB.mdb_env_copy2;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_create;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_info;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_open;
@@ -64,8 +66,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
 import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.eclipse.rdf4j.common.concurrent.locks.StampedLongAdderLockManager;
 import org.eclipse.rdf4j.common.concurrent.locks.diagnostics.ConcurrentCleaner;
@@ -83,6 +90,7 @@ import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.LmdbUtil.Transaction;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Mode;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.eclipse.rdf4j.sail.lmdb.inlined.OrderedIdRange;
 import org.eclipse.rdf4j.sail.lmdb.inlined.Values;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbBNode;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbIRI;
@@ -110,6 +118,17 @@ class ValueStore extends AbstractValueFactory {
 	 */
 	private static final String DEFAULT_TRIPLE_TERM_INDEXES = "spoc,cspo";
 
+	/**
+	 * The maximum number of numeric or calendar values that are not inlined with the order-preserving encoding, per
+	 * datatype family, for which range lookups are still answered from id intervals.
+	 */
+	static final int MAX_UNORDERED_RANGE_VALUES = 256;
+
+	/**
+	 * The datatype families of {@link OrderedIdRange#getRangeFamily(Literal)}.
+	 */
+	private static final int[] RANGE_FAMILIES = { ValueIds.T_DOUBLE, ValueIds.T_DATETIME };
+
 	private static final byte URI_VALUE = 0;
 
 	private static final byte LITERAL_VALUE = 1;
@@ -126,6 +145,13 @@ class ValueStore extends AbstractValueFactory {
 
 	private static final byte HASHID_KEY = 7;
 
+	/**
+	 * Marks a literal whose language tag and label are compressed with {@link Deflater}. It is followed by the
+	 * datatype id, the length of the uncompressed part and the compressed bytes. Such values are only stored in the
+	 * ID -> data mapping, lookups and hashes always use the uncompressed encoding of {@link #LITERAL_VALUE}.
+	 */
+	private static final byte COMPRESSED_LITERAL_VALUE = 8;
+
 	/***
 	 * Maximum size of keys before hashing is used (size of two long values)
 	 */
@@ -192,6 +218,8 @@ class ValueStore extends AbstractValueFactory {
 	private int freeDbi;
 	// database with internal reference counts for IRIs and namespaces
 	private int refCountsDbi;
+	// database with the IDs of numeric and calendar literals that are not inlined in order
+	private int unorderedDbi;
 	private long writeTxn;
 	private Thread writeTxnOwner;
 	private final boolean forceSync;
@@ -233,6 +261,12 @@ class ValueStore extends AbstractValueFactory {
 
 	private TxnManager txnManager;
 
+	/**
+	 * Prevents the map from being resized while {@link #copyTo(File, boolean)} holds a read transaction that is not
+	 * tracked by the transaction manager.
+	 */
+	private final ReadWriteLock envCopyLock = new ReentrantReadWriteLock();
+
 	@SuppressWarnings("unused")
 	private Object[] previousNamespaceEntry;
 
@@ -240,6 +274,17 @@ class ValueStore extends AbstractValueFactory {
 	final boolean valueHashCacheEnabled;
 	private final boolean inlineLiterals;
 
+	/**
+	 * The minimum size in bytes of a literal that is stored compressed, or 0 if literals are not compressed.
+	 */
+	private final int literalCompressionThreshold;
+
+	/**
+	 * Whether numbers and dates are inlined with the order-preserving encoding. Only stores created with that encoding
+	 * use it.
+	 */
+	private final boolean orderedInlining;
+
 	private final ThreadLocal<Boolean> hasReadLock = new ThreadLocal<>();
 
 	ValueStore(File dir, LmdbStoreConfig config) throws IOException {
@@ -256,6 +301,12 @@ class ValueStore extends AbstractValueFactory {
 		this.valueEvictionInterval = config.getValueEvictionInterval();
 		this.valueHashCacheEnabled = config.getValueHashCacheEnabled();
 		this.inlineLiterals = config.getInlineLiterals();
+		this.literalCompressionThreshold = config.getLiteralCompressionThreshold();
+		if (!properties.isLoaded()) {
+			// newly created lmdb store
+			properties.setInlineEncoding(StoreProperties.ORDERED_INLINE_ENCODING);
+		}
+		this.orderedInlining = StoreProperties.ORDERED_INLINE_ENCODING.equals(properties.getInlineEncoding());
 		open();
 
 		int cacheSize = nextPowerOfTwo(config.getValueCacheSize());
@@ -372,7 +423,7 @@ class ValueStore extends AbstractValueFactory {
 		}
 
 		// 6 basic dbs and max. 12 triple term indexes
-		E(mdb_env_set_maxdbs(env, 6 + 12));
+		E(mdb_env_set_maxdbs(env, 7 + 12));
 		E(mdb_env_set_maxreaders(env, 256));
 
 		// Open environment
@@ -426,6 +477,8 @@ class ValueStore extends AbstractValueFactory {
 		freeDbi = openDatabase(env, "free_ids", MDB_CREATE);
 		// open ref_counts database
 		refCountsDbi = openDatabase(env, "ref_counts", MDB_CREATE);
+		// open database of literals that are not inlined in order
+		unorderedDbi = openDatabase(env, "unordered_literals", MDB_CREATE);
 
 		// check if free IDs are available
 		readTransaction(env, (stack, txn) -> {
@@ -463,13 +516,13 @@ class ValueStore extends AbstractValueFactory {
 
 	private void initTermIndexes(LmdbStoreConfig config) throws IOException {
 		try {
-			String indexSpecStr = config.getTripleIndexes();
 			String tripleTermIndexSpecStr = config.getTripleTermIndexes();
 			if (!properties.isLoaded()) {
 				// newly created lmdb store
 				Set<String> termIndexSpecs = TripleIndex.parseIndexSpecList(tripleTermIndexSpecStr);
 				termIndexSpecs.addAll(TripleIndex.parseIndexSpecList(DEFAULT_TRIPLE_TERM_INDEXES));
 				initTripleTermIndexes(termIndexSpecs);
+				tripleTermIndexSpecStr = String.join(",", termIndexSpecs);
 			} else {
 				// Initialize existing indexes
 				Set<String> termIndexSpecs = getTripleTermIndexSpecs();
@@ -478,16 +531,14 @@ class ValueStore extends AbstractValueFactory {
 				// Compare the existing triple term indexes with the requested indexes
 				Set<String> reqTermIndexSpecs = TripleIndex.parseIndexSpecList(tripleTermIndexSpecStr);
 				reqTermIndexSpecs.addAll(TripleIndex.parseIndexSpecList(DEFAULT_TRIPLE_TERM_INDEXES));
-				if (reqTermIndexSpecs.isEmpty()) {
-					// No indexes specified, use the existing ones
-					indexSpecStr = properties.getTripleTermIndexes();
-				} else if (!reqTermIndexSpecs.equals(termIndexSpecs)) {
+				if (!reqTermIndexSpecs.equals(termIndexSpecs)) {
 					// Set of indexes needs to be changed
 					reindex(termIndexSpecs, reqTermIndexSpecs);
 				}
+				tripleTermIndexSpecStr = String.join(",", reqTermIndexSpecs);
 			}
 
-			properties.setTripleIndexes(indexSpecStr);
+			// the triple indexes are compared with the existing ones and stored by the triple store
 			properties.setTripleTermIndexes(tripleTermIndexSpecStr);
 		} catch (IOException | SailException e) {
 			throw e;
@@ -722,7 +773,7 @@ class ValueStore extends AbstractValueFactory {
 			if (mdb_get(txn, dbi, keyData, valueData) == MDB_SUCCESS) {
 				byte[] valueBytes = new byte[valueData.mv_data().remaining()];
 				valueData.mv_data().get(valueBytes);
-				return valueBytes;
+				return decompress(valueBytes);
 			}
 			return null;
 		});
@@ -835,7 +886,7 @@ class ValueStore extends AbstractValueFactory {
 			if (resultValue == null) {
 				// unpack inlined values if possible
 				if (ValueIds.isInlined(id)) {
-					Literal unpacked = Values.unpackLiteral(id, this);
+					Literal unpacked = Values.unpackLiteral(id, this, orderedInlining);
 					return new LmdbLiteral(revision, unpacked.getLabel(), unpacked.getDatatype(), id);
 				}
 
@@ -869,7 +920,7 @@ class ValueStore extends AbstractValueFactory {
 	public boolean resolveValue(long id, LmdbValue value) {
 		// unpack inlined values if possible
 		if (ValueIds.isInlined(id)) {
-			Literal unpacked = Values.unpackLiteral(id, this);
+			Literal unpacked = Values.unpackLiteral(id, this, orderedInlining);
 			((LmdbLiteral) value).setLabel(unpacked.getLabel());
 			((LmdbLiteral) value).setDatatype(unpacked.getDatatype());
 			((LmdbLiteral) value).setBaseDirection(unpacked.getBaseDirection());
@@ -931,7 +982,7 @@ class ValueStore extends AbstractValueFactory {
 
 					logger.info("Resizing map from {} to {}", oldMapSize, mapSize);
 
-					E(mdb_env_set_mapsize(env, mapSize));
+					setMapSize(mapSize);
 					if (activeWriteTxn) {
 						startTransaction(false);
 					}
@@ -1089,7 +1140,6 @@ class ValueStore extends AbstractValueFactory {
 			} else {
 				MDBVal idVal = MDBVal.calloc(stack);
 
-				ByteBuffer dataBb = ByteBuffer.wrap(data);
 				long dataHash = hash(data);
 				int maxHashKeyLength = 2 + 2 * Long.BYTES + 2;
 				ByteBuffer hashBb = stack.malloc(maxHashKeyLength);
@@ -1105,7 +1155,7 @@ class ValueStore extends AbstractValueFactory {
 				// ID of first value is directly stored with hash as key
 				if (mdb_get(txn, dbi, hashVal, dataVal) == MDB_SUCCESS) {
 					idVal.mv_data(dataVal.mv_data());
-					if (mdb_get(txn, dbi, idVal, dataVal) == MDB_SUCCESS && dataVal.mv_data().compareTo(dataBb) == 0) {
+					if (mdb_get(txn, dbi, idVal, dataVal) == MDB_SUCCESS && storedDataEquals(dataVal.mv_data(), data)) {
 						return data2id(idVal.mv_data());
 					}
 				} else {
@@ -1117,14 +1167,15 @@ class ValueStore extends AbstractValueFactory {
 					resizeMap(txn, 2L * data.length + 2L * (2L + Long.BYTES));
 
 					long newId = nextId(data[0]);
+					byte[] storedData = compress(data);
 					writeTransaction((stack2, writeTxn) -> {
-						dataVal.mv_size(data.length);
+						dataVal.mv_size(storedData.length);
 						idVal.mv_data(id2data(idBuffer(stack), newId).flip());
 						// store mapping of hash -> ID
 						E(mdb_put(txn, dbi, hashVal, idVal, 0));
 						// store mapping of ID -> data
 						E(mdb_put(writeTxn, dbi, idVal, dataVal, MDB_RESERVE));
-						dataVal.mv_data().put(data);
+						dataVal.mv_data().put(storedData);
 
 						// update ref count if necessary
 						incrementRefCount(stack2, writeTxn, data);
@@ -1155,7 +1206,7 @@ class ValueStore extends AbstractValueFactory {
 							hashIdBb.position(hashLength);
 							idVal.mv_data(hashIdBb);
 							if (mdb_get(txn, dbi, idVal, dataVal) == MDB_SUCCESS
-									&& dataVal.mv_data().compareTo(dataBb) == 0) {
+									&& storedDataEquals(dataVal.mv_data(), data)) {
 								// id was found if stored value is equal to requested value
 								return data2id(hashIdBb);
 							}
@@ -1175,6 +1226,7 @@ class ValueStore extends AbstractValueFactory {
 				resizeMap(txn, 1 + Long.BYTES + maxHashKeyLength + 2L * data.length);
 
 				long newId = nextId(data[0]);
+				byte[] storedData = compress(data);
 				writeTransaction((stack2, writeTxn) -> {
 					// encode ID
 					ByteBuffer idBb = id2data(idBuffer(stack), newId).flip();
@@ -1192,10 +1244,10 @@ class ValueStore extends AbstractValueFactory {
 					dataVal.mv_data(stack.bytes());
 					E(mdb_put(txn, dbi, hashVal, dataVal, 0));
 
-					dataVal.mv_size(data.length);
+					dataVal.mv_size(storedData.length);
 					// store mapping of ID -> data
 					E(mdb_put(txn, dbi, idVal, dataVal, MDB_RESERVE));
-					dataVal.mv_data().put(data);
+					dataVal.mv_data().put(storedData);
 
 					// update ref count if necessary
 					incrementRefCount(stack2, writeTxn, data);
@@ -1398,9 +1450,9 @@ class ValueStore extends AbstractValueFactory {
 			if (inlineLiterals && value instanceof Literal) {
 				// inline value into id if possible
 				try {
-					long packedId = Values.packLiteral((Literal) value);
+					long packedId = Values.packLiteral((Literal) value, orderedInlining);
 					if (packedId != 0L) {
-						Literal unpacked = Values.unpackLiteral(packedId, this);
+						Literal unpacked = Values.unpackLiteral(packedId, this, orderedInlining);
 						if (unpacked.equals(value)) {
 							id = packedId;
 						}
@@ -1432,6 +1484,9 @@ class ValueStore extends AbstractValueFactory {
 			}
 
 			if (id != LmdbValue.UNKNOWN_ID) {
+				if (create && value.isLiteral()) {
+					trackRangeOrder((Literal) value, id);
+				}
 				if (isOwnValue) {
 					// Store id in value for fast access in any consecutive calls
 					((LmdbValue) value).setInternalID(id, revision);
@@ -1459,6 +1514,194 @@ class ValueStore extends AbstractValueFactory {
 		return LmdbValue.UNKNOWN_ID;
 	}
 
+	/**
+	 * Records a numeric or calendar value that can not be found through the id intervals of the order-preserving
+	 * encoding, so that {@link #getOrderedIdRanges(Literal, Literal)} can add its id to the intervals. The record is
+	 * removed when the value is garbage collected.
+	 */
+	private void trackRangeOrder(Literal literal, long id) throws IOException {
+		if (!orderedInlining || Values.isOrderedInline(id)) {
+			return;
+		}
+		int family = OrderedIdRange.getRangeFamily(literal);
+		if (family == 0) {
+			return;
+		}
+		try {
+			if (family == ValueIds.T_DOUBLE) {
+				literal.doubleValue();
+			} else {
+				literal.calendarValue();
+			}
+		} catch (IllegalArgumentException e) {
+			// values with an invalid lexical form never compare as within a range
+			return;
+		}
+		readTransaction(env, (stack, txn) -> {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			keyVal.mv_data(unorderedKey(stack.malloc(3 + Long.BYTES), family, id));
+			MDBVal dataVal = MDBVal.calloc(stack);
+			if (mdb_get(txn, unorderedDbi, keyVal, dataVal) == MDB_SUCCESS) {
+				return null;
+			}
+			resizeMap(txn, 2L * (3L + Long.BYTES));
+			writeTransaction((stack2, writeTxn) -> {
+				dataVal.mv_data(stack2.bytes());
+				E(mdb_put(writeTxn, unorderedDbi, keyVal, dataVal, 0));
+				return null;
+			});
+			return null;
+		});
+	}
+
+	private ByteBuffer unorderedKey(ByteBuffer bb, int family, long id) {
+		bb.clear();
+		bb.put((byte) family);
+		return id2data(bb, id).flip();
+	}
+
+	/**
+	 * Tests whether an id is the id of an inlined value that is recorded as not being inlined in order.
+	 */
+	boolean isUnorderedInline(long id) throws IOException {
+		if (!orderedInlining || !ValueIds.isInlined(id) || Values.isOrderedInline(id)) {
+			return false;
+		}
+		return readTransaction(env, (stack, txn) -> {
+			MDBVal keyVal = MDBVal.calloc(stack);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			ByteBuffer keyBb = stack.malloc(3 + Long.BYTES);
+			for (int family : RANGE_FAMILIES) {
+				keyVal.mv_data(unorderedKey(keyBb, family, id));
+				if (mdb_get(txn, unorderedDbi, keyVal, dataVal) == MDB_SUCCESS) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Removes the records of values that are not inlined in order. Used for inlined values, which are not garbage
+	 * collected, once they are no longer used by any statement.
+	 */
+	void removeUnorderedIds(Collection<Long> ids) throws IOException {
+		readTransaction(env, (stack1, txn1) -> {
+			resizeMap(txn1, 2L * ids.size() * (3L + Long.BYTES));
+			writeTransaction((stack, writeTxn) -> {
+				MDBVal keyVal = MDBVal.calloc(stack);
+				ByteBuffer keyBb = stack.malloc(3 + Long.BYTES);
+				for (long id : ids) {
+					for (int family : RANGE_FAMILIES) {
+						keyVal.mv_data(unorderedKey(keyBb, family, id));
+						mdb_del(writeTxn, unorderedDbi, keyVal, null);
+					}
+				}
+				return null;
+			});
+			return null;
+		});
+	}
+
+	/**
+	 * Returns the ids of the values of a datatype family that are not inlined with the order-preserving encoding.
+	 *
+	 * @return the ids or <code>null</code> if there are more than {@link #MAX_UNORDERED_RANGE_VALUES} such values
+	 */
+	private long[] getUnorderedIds(int family) throws IOException {
+		return readTransaction(env, (stack, txn) -> {
+			long[] ids = new long[8];
+			int count = 0;
+			long cursor = 0;
+			try {
+				PointerBuffer pp = stack.mallocPointer(1);
+				E(mdb_cursor_open(txn, unorderedDbi, pp));
+				cursor = pp.get(0);
+
+				MDBVal keyVal = MDBVal.calloc(stack);
+				keyVal.mv_data(stack.bytes((byte) family));
+				MDBVal dataVal = MDBVal.calloc(stack);
+				if (mdb_cursor_get(cursor, keyVal, dataVal, MDB_SET_RANGE) == MDB_SUCCESS) {
+					do {
+						ByteBuffer key = keyVal.mv_data();
+						if (key.get() != (byte) family) {
+							break;
+						}
+						if (count == MAX_UNORDERED_RANGE_VALUES) {
+							return null;
+						}
+						if (count == ids.length) {
+							ids = Arrays.copyOf(ids, 2 * count);
+						}
+						ids[count++] = data2id(key);
+					} while (mdb_cursor_get(cursor, keyVal, dataVal, MDB_NEXT) == MDB_SUCCESS);
+				}
+			} finally {
+				if (cursor != 0) {
+					mdb_cursor_close(cursor);
+				}
+			}
+			return Arrays.copyOf(ids, count);
+		});
+	}
+
+	/**
+	 * Computes the id intervals that contain the ids of all values of the store that may lie between the supplied
+	 * bounds. This is only possible if the store uses the order-preserving encoding for inlined literals. Values of
+	 * the datatype family of the bounds that are not inlined are added as intervals of a single id, unless there are
+	 * too many of them.
+	 *
+	 * @param lowerBound the lower bound or <code>null</code>
+	 * @param upperBound the upper bound or <code>null</code>
+	 * @return the id intervals or <code>null</code> if the values of the range can not be found through id intervals
+	 */
+	List<OrderedIdRange> getOrderedIdRanges(Literal lowerBound, Literal upperBound) throws IOException {
+		if (!inlineLiterals || !orderedInlining) {
+			return null;
+		}
+		List<OrderedIdRange> ranges = OrderedIdRange.forBounds(lowerBound, upperBound);
+		if (ranges == null) {
+			return null;
+		}
+		long[] unorderedIds = getUnorderedIds(
+				OrderedIdRange.getRangeFamily(lowerBound != null ? lowerBound : upperBound));
+		if (unorderedIds == null) {
+			return null;
+		}
+		if (unorderedIds.length > 0) {
+			ranges = new ArrayList<>(ranges);
+			for (long id : unorderedIds) {
+				ranges.add(OrderedIdRange.forId(id));
+			}
+		}
+		return ranges;
+	}
+
+	/**
+	 * Copies the LMDB environment of this store to an empty directory. The copy is taken from a consistent snapshot
+	 * while writers continue to commit; only growing the map is delayed until the copy has finished.
+	 *
+	 * @param dir     an existing, empty directory
+	 * @param compact <code>true</code> to omit free pages and renumber the pages of the copy
+	 */
+	void copyTo(File dir, boolean compact) throws IOException {
+		envCopyLock.readLock().lock();
+		try {
+			E(mdb_env_copy2(env, dir.getAbsolutePath(), compact ? MDB_CP_COMPACT : 0));
+		} finally {
+			envCopyLock.readLock().unlock();
+		}
+	}
+
+	private void setMapSize(long size) throws IOException {
+		envCopyLock.writeLock().lock();
+		try {
+			E(mdb_env_set_mapsize(env, size));
+		} finally {
+			envCopyLock.writeLock().unlock();
+		}
+	}
+
 	public void gcIds(Collection<Long> ids, Collection<Long> nextIds) throws IOException {
 		if (!enableGC()) {
 			return;
@@ -1525,6 +1768,7 @@ class ValueStore extends AbstractValueFactory {
 
 		MDBVal keyVal = MDBVal.malloc(stack);
 		ByteBuffer keyBuf = stack.malloc(TripleIndex.MAX_KEY_LENGTH);
+		ByteBuffer unorderedKeyBb = stack.malloc(3 + Long.BYTES);
 		PointerBuffer pp = stack.mallocPointer(1);
 
 		long termsCursor = 0;
@@ -1581,9 +1825,12 @@ class ValueStore extends AbstractValueFactory {
 				if (((refCount != null && refCount <= 0) || mdb_get(writeTxn, refCountsDbi, idVal, ignoreVal) != 0) &&
 						mdb_get(writeTxn, dbi, idVal, dataVal) == 0) {
 					ByteBuffer dataBuffer = dataVal.mv_data();
+					boolean isLiteral = dataBuffer.get(0) == LITERAL_VALUE
+							|| dataBuffer.get(0) == COMPRESSED_LITERAL_VALUE;
 
 					// update ref count if literal or URI namespace is removed
-					if (dataBuffer.get(0) == LITERAL_VALUE || dataBuffer.get(0) == URI_VALUE) {
+					if (dataBuffer.get(0) == LITERAL_VALUE || dataBuffer.get(0) == URI_VALUE
+							|| dataBuffer.get(0) == COMPRESSED_LITERAL_VALUE) {
 						long refId = Varint.readUnsigned(dataBuffer, 1);
 						if (decrementRefCount(stack, writeTxn, refId)) {
 							newGcIds.add(refId);
@@ -1594,7 +1841,7 @@ class ValueStore extends AbstractValueFactory {
 					if (dataLength > MAX_KEY_SIZE) {
 						byte[] data = new byte[dataLength];
 						dataBuffer.get(data);
-						long dataHash = hash(data);
+						long dataHash = hash(decompress(data));
 
 						hashBb.clear();
 						hashBb.put(HASH_KEY);
@@ -1649,6 +1896,14 @@ class ValueStore extends AbstractValueFactory {
 						mdb_del(writeTxn, dbi, dataVal, null);
 					}
 
+					if (isLiteral) {
+						// the literal may have been recorded as not being inlined in order
+						for (int family : RANGE_FAMILIES) {
+							keyVal.mv_data(unorderedKey(unorderedKeyBb, family, id));
+							mdb_del(writeTxn, unorderedDbi, keyVal, null);
+						}
+					}
+
 					// does not delete ID -> value association
 				}
 			}
@@ -1866,6 +2121,98 @@ class ValueStore extends AbstractValueFactory {
 		return crc32.getValue();
 	}
 
+	/**
+	 * Compresses the language tag and label of a literal if the literal is larger than the configured threshold and
+	 * the compressed form is smaller.
+	 *
+	 * @param data the encoded value
+	 * @return the data to store for the value, which is the supplied array if it is not compressed
+	 */
+	private byte[] compress(byte[] data) {
+		if (literalCompressionThreshold <= 0 || data.length < literalCompressionThreshold
+				|| data.length <= MAX_KEY_SIZE || data[0] != LITERAL_VALUE) {
+			return data;
+		}
+		int offset = 1 + Varint.calcLengthUnsigned(Varint.readUnsigned(ByteBuffer.wrap(data, 1, data.length - 1)));
+		int length = data.length - offset;
+		int lengthLength = Varint.calcLengthUnsigned(length);
+		byte[] compressed = new byte[data.length];
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		int compressedLength;
+		try {
+			deflater.setInput(data, offset, length);
+			deflater.finish();
+			int headerLength = offset + lengthLength;
+			compressedLength = deflater.deflate(compressed, headerLength, compressed.length - headerLength);
+			if (!deflater.finished()) {
+				// not smaller than the original data
+				return data;
+			}
+			compressedLength += headerLength;
+		} finally {
+			deflater.end();
+		}
+		System.arraycopy(data, 0, compressed, 0, offset);
+		compressed[0] = COMPRESSED_LITERAL_VALUE;
+		Varint.writeUnsigned(ByteBuffer.wrap(compressed, offset, lengthLength), length);
+		return Arrays.copyOf(compressed, compressedLength);
+	}
+
+	/**
+	 * Restores the encoded value from the stored data.
+	 *
+	 * @param data the stored data
+	 * @return the encoded value, which is the supplied array if it was not compressed
+	 */
+	private byte[] decompress(byte[] data) throws IOException {
+		if (data[0] != COMPRESSED_LITERAL_VALUE) {
+			return data;
+		}
+		ByteBuffer bb = ByteBuffer.wrap(data);
+		bb.get();
+		Varint.readUnsigned(bb);
+		int offset = bb.position();
+		int length = (int) Varint.readUnsigned(bb);
+		byte[] decompressed = new byte[offset + length];
+		System.arraycopy(data, 0, decompressed, 0, offset);
+		decompressed[0] = LITERAL_VALUE;
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(data, bb.position(), bb.remaining());
+			int inflated = 0;
+			while (inflated < length && !inflater.finished()) {
+				int n = inflater.inflate(decompressed, offset + inflated, length - inflated);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				inflated += n;
+			}
+			if (inflated != length) {
+				throw new IOException("Corrupt compressed literal");
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt compressed literal", e);
+		} finally {
+			inflater.end();
+		}
+		return decompressed;
+	}
+
+	/**
+	 * Compares stored data with the encoding of a value.
+	 */
+	private boolean storedDataEquals(ByteBuffer storedData, byte[] data) throws IOException {
+		if (storedData.get(0) != COMPRESSED_LITERAL_VALUE) {
+			return storedData.compareTo(ByteBuffer.wrap(data)) == 0;
+		}
+		if (data[0] != LITERAL_VALUE) {
+			return false;
+		}
+		byte[] stored = new byte[storedData.remaining()];
+		storedData.get(storedData.position(), stored);
+		return Arrays.equals(decompress(stored), data);
+	}
+
 	/**
 	 * Removes all values from the ValueStore.
 	 *
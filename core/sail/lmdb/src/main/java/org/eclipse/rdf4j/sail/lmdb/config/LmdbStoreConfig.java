@@ -72,6 +72,11 @@ public class LmdbStoreConfig extends BaseSailConfig {
 	 */
 	public static final int NAMESPACE_ID_CACHE_SIZE = 32;
 
+	/**
+	 * The default minimum size in bytes of a literal that is stored compressed.
+	 */
+	public static final int LITERAL_COMPRESSION_THRESHOLD = 256;
+
 	private String tripleIndexes;
 
 	private String tripleTermIndexes;
@@ -130,6 +135,12 @@ public class LmdbStoreConfig extends BaseSailConfig {
 
 	private long backgroundRawSamplingMaxMillisPerCycle = BACKGROUND_RAW_SAMPLING_MAX_MILLIS_PER_CYCLE;
 
+	private boolean readerOwnerTracking = false;
+
+	private long maxReaderAge = 0;
+
+	private int literalCompressionThreshold = LITERAL_COMPRESSION_THRESHOLD;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -417,6 +428,48 @@ public class LmdbStoreConfig extends BaseSailConfig {
 		return this;
 	}
 
+	public boolean getReaderOwnerTracking() {
+		return readerOwnerTracking;
+	}
+
+	/**
+	 * Records the stack of the creator of each read transaction so that it can be logged when the transaction is
+	 * aborted because of {@link #setMaxReaderAge(long)}. This is useful to find results that are not closed but slows
+	 * down the creation of read transactions.
+	 */
+	public LmdbStoreConfig setReaderOwnerTracking(boolean readerOwnerTracking) {
+		this.readerOwnerTracking = readerOwnerTracking;
+		return this;
+	}
+
+	public long getMaxReaderAge() {
+		return maxReaderAge;
+	}
+
+	/**
+	 * Sets the age in milliseconds after which the snapshot of a read transaction is aborted when data is modified.
+	 * Open read transactions prevent free pages from being reused, so that the database grows until they are closed.
+	 * Reading from an aborted transaction fails with an exception. The default of 0 never aborts read transactions.
+	 */
+	public LmdbStoreConfig setMaxReaderAge(long maxReaderAge) {
+		this.maxReaderAge = Math.max(0L, maxReaderAge);
+		return this;
+	}
+
+	public int getLiteralCompressionThreshold() {
+		return literalCompressionThreshold;
+	}
+
+	/**
+	 * Sets the minimum size in bytes of the encoded literals that are compressed when they are added to the value
+	 * store. Literals that were stored before are read regardless of this setting, so that it can be changed for
+	 * existing stores. A value of 0 disables the compression.
+	 */
+	public LmdbStoreConfig setLiteralCompressionThreshold(int literalCompressionThreshold) {
+		this.literalCompressionThreshold = Math.max(0, literalCompressionThreshold);
+		return this;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		Resource implNode = super.export(m);
@@ -519,6 +572,16 @@ public class LmdbStoreConfig extends BaseSailConfig {
 			m.add(implNode, LmdbStoreSchema.BACKGROUND_RAW_SAMPLING_MAX_MILLIS_PER_CYCLE,
 					vf.createLiteral(backgroundRawSamplingMaxMillisPerCycle));
 		}
+		if (readerOwnerTracking) {
+			m.add(implNode, LmdbStoreSchema.READER_OWNER_TRACKING, vf.createLiteral(true));
+		}
+		if (maxReaderAge > 0) {
+			m.add(implNode, LmdbStoreSchema.MAX_READER_AGE, vf.createLiteral(maxReaderAge));
+		}
+		if (literalCompressionThreshold != LITERAL_COMPRESSION_THRESHOLD) {
+			m.add(implNode, LmdbStoreSchema.LITERAL_COMPRESSION_THRESHOLD,
+					vf.createLiteral(literalCompressionThreshold));
+		}
 		return implNode;
 	}
 
@@ -763,6 +826,24 @@ public class LmdbStoreConfig extends BaseSailConfig {
 					m.getStatements(implNode, LmdbStoreSchema.BACKGROUND_RAW_SAMPLING_MAX_MILLIS_PER_CYCLE, null))
 					.ifPresent(lit -> setBackgroundRawSamplingMaxMillisPerCycle(parseLong(lit,
 							LmdbStoreSchema.BACKGROUND_RAW_SAMPLING_MAX_MILLIS_PER_CYCLE)));
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.READER_OWNER_TRACKING, null))
+					.ifPresent(lit -> {
+						try {
+							setReaderOwnerTracking(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException(
+									"Boolean value required for " + LmdbStoreSchema.READER_OWNER_TRACKING
+											+ " property, found " + lit);
+						}
+					});
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.MAX_READER_AGE, null))
+					.ifPresent(lit -> setMaxReaderAge(parseLong(lit, LmdbStoreSchema.MAX_READER_AGE)));
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.LITERAL_COMPRESSION_THRESHOLD, null))
+					.ifPresent(lit -> setLiteralCompressionThreshold(parseInt(lit,
+							LmdbStoreSchema.LITERAL_COMPRESSION_THRESHOLD)));
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
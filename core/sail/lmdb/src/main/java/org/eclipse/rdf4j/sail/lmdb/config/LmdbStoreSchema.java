@@ -134,6 +134,21 @@ public class LmdbStoreSchema {
 	 */
 	public final static IRI INLINE_LITERALS;
 
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#readerOwnerTracking</tt>
+	 */
+	public final static IRI READER_OWNER_TRACKING;
+
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#maxReaderAge</tt>
+	 */
+	public final static IRI MAX_READER_AGE;
+
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#literalCompressionThreshold</tt>
+	 */
+	public final static IRI LITERAL_COMPRESSION_THRESHOLD;
+
 	static {
 		ValueFactory factory = SimpleValueFactory.getInstance();
 		TRIPLE_INDEXES = factory.createIRI(NAMESPACE, "tripleIndexes");
@@ -167,5 +182,8 @@ public class LmdbStoreSchema {
 		BACKGROUND_RAW_SAMPLING_MAX_MILLIS_PER_CYCLE = factory.createIRI(NAMESPACE,
 				"backgroundRawSamplingMaxMillisPerCycle");
 		INLINE_LITERALS = factory.createIRI(NAMESPACE, "inlineLiterals");
+		READER_OWNER_TRACKING = factory.createIRI(NAMESPACE, "readerOwnerTracking");
+		MAX_READER_AGE = factory.createIRI(NAMESPACE, "maxReaderAge");
+		LITERAL_COMPRESSION_THRESHOLD = factory.createIRI(NAMESPACE, "literalCompressionThreshold");
 	}
 }
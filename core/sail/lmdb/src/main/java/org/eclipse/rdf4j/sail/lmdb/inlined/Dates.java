@@ -10,7 +10,13 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.lmdb.inlined;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
 import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
@@ -29,6 +35,23 @@ public class Dates {
 		}
 	});
 
+	/**
+	 * The largest year that can be inlined.
+	 */
+	static final int MAX_YEAR = 8191;
+
+	/**
+	 * The instant that is encoded as 0 by the order-preserving encoding: the start of year 1 in the earliest possible
+	 * timezone.
+	 */
+	static final long ORDERED_INSTANT_BASE = LocalDateTime.of(1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000
+			- TimeUnit.HOURS.toMillis(16);
+
+	/**
+	 * The largest millisecond offset to {@link #ORDERED_INSTANT_BASE} of the order-preserving encoding.
+	 */
+	static final long MAX_ORDERED_INSTANT_OFFSET = (1L << 48) - 1;
+
 	static long packDateTime(Literal literal) {
 		try {
 			XMLGregorianCalendar calendar = literal.calendarValue();
@@ -165,4 +188,88 @@ public class Dates {
 		return calendar;
 	}
 
+	/**
+	 * Packs a dateTime, dateTimeStamp or date literal such that the unsigned order of the ids is the order of the
+	 * instants in time. The 56 bit value holds the milliseconds since {@link #ORDERED_INSTANT_BASE} (48 bits), a flag
+	 * for fractional seconds (1 bit) and the timezone in 15 minute steps (7 bits, 0 if there is no timezone). Values
+	 * without timezone are ordered as if they were in UTC. Dates are encoded as the start of their day.
+	 *
+	 * @param idType one of {@link ValueIds#T_DATETIME}, {@link ValueIds#T_DATETIMESTAMP} or {@link ValueIds#T_DATE}
+	 * @return the packed id or <code>0</code> if the value can not be inlined
+	 */
+	static long packOrderedDate(Literal literal, int idType) {
+		try {
+			return ValueIds.createId(idType, encodeOrdered(literal.calendarValue(), idType == ValueIds.T_DATE));
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// packing is not possible
+		}
+		return 0L;
+	}
+
+	static Literal unpackOrderedDate(long value, ValueFactory valueFactory) {
+		int idType = ValueIds.getIdType(value);
+		XSD datatype = idType == ValueIds.T_DATE ? XSD.DATE
+				: idType == ValueIds.T_DATETIMESTAMP ? XSD.DATETIMESTAMP : XSD.DATETIME;
+		XMLGregorianCalendar calendar = decodeOrdered(ValueIds.getValue(value), datatype == XSD.DATE);
+		return valueFactory.createLiteral(calendar.toXMLFormat(), datatype);
+	}
+
+	static long encodeOrdered(XMLGregorianCalendar calendar, boolean date) {
+		int timezone = calendar.getTimezone();
+		boolean hasTimezone = timezone != DatatypeConstants.FIELD_UNDEFINED;
+		if (hasTimezone && (timezone % 15 != 0 || Math.abs(timezone / 15) > 63)) {
+			throw new IllegalArgumentException("Timezone offset out of encodable range ±15h 45min");
+		}
+		int millisecond = date ? DatatypeConstants.FIELD_UNDEFINED : calendar.getMillisecond();
+		boolean hasFraction = millisecond != DatatypeConstants.FIELD_UNDEFINED;
+		long offset = toOrderedInstantOffset(calendar, date);
+		if (offset < 0 || offset > MAX_ORDERED_INSTANT_OFFSET) {
+			throw new IllegalArgumentException("Date out of range for encoding: " + calendar);
+		}
+		return offset << 8 | (hasFraction ? 1L << 7 : 0L) | (hasTimezone ? timezone / 15 + 64 : 0);
+	}
+
+	/**
+	 * Computes the milliseconds between {@link #ORDERED_INSTANT_BASE} and the instant of a calendar value. Values
+	 * without timezone are treated as UTC.
+	 */
+	static long toOrderedInstantOffset(XMLGregorianCalendar calendar, boolean date) {
+		int year = calendar.getYear();
+		if (calendar.getEon() != null || year < 1 || year > MAX_YEAR) {
+			throw new IllegalArgumentException("Year out of range for encoding: " + year);
+		}
+		LocalDateTime local;
+		if (date) {
+			local = LocalDateTime.of(year, calendar.getMonth(), calendar.getDay(), 0, 0);
+		} else {
+			int millisecond = calendar.getMillisecond();
+			local = LocalDateTime.of(year, calendar.getMonth(), calendar.getDay(), calendar.getHour(),
+					calendar.getMinute(), calendar.getSecond(),
+					millisecond == DatatypeConstants.FIELD_UNDEFINED ? 0 : millisecond * 1_000_000);
+		}
+		long instant = local.toEpochSecond(ZoneOffset.UTC) * 1000 + local.getNano() / 1_000_000;
+		int timezone = calendar.getTimezone();
+		if (timezone != DatatypeConstants.FIELD_UNDEFINED) {
+			instant -= TimeUnit.MINUTES.toMillis(timezone);
+		}
+		return instant - ORDERED_INSTANT_BASE;
+	}
+
+	static XMLGregorianCalendar decodeOrdered(long bits, boolean date) {
+		int tzBits = (int) (bits & 0x7F);
+		boolean hasFraction = (bits & 1L << 7) != 0;
+		int timezone = tzBits == 0 ? DatatypeConstants.FIELD_UNDEFINED : (tzBits - 64) * 15;
+		long local = (bits >>> 8) + ORDERED_INSTANT_BASE
+				+ (tzBits == 0 ? 0 : TimeUnit.MINUTES.toMillis(timezone));
+		LocalDateTime time = LocalDateTime.ofEpochSecond(Math.floorDiv(local, 1000L),
+				(int) Math.floorMod(local, 1000L) * 1_000_000, ZoneOffset.UTC);
+		DatatypeFactory factory = DATATYPE_FACTORY.get();
+		if (date) {
+			return factory.newXMLGregorianCalendarDate(time.getYear(), time.getMonthValue(), time.getDayOfMonth(),
+					timezone);
+		}
+		return factory.newXMLGregorianCalendar(time.getYear(), time.getMonthValue(), time.getDayOfMonth(),
+				time.getHour(), time.getMinute(), time.getSecond(),
+				hasFraction ? time.getNano() / 1_000_000 : DatatypeConstants.FIELD_UNDEFINED, timezone);
+	}
 }
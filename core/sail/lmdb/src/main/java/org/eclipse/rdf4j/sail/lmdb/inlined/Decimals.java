@@ -31,6 +31,10 @@ public class Decimals {
 	private static final int DOUBLE_EXPONENT_BIAS = (1 << (DOUBLE_EXPONENT_BITS - 1)) - 1;
 	private static final int DOUBLE_EXPONENT_MIN_NORMAL = -DOUBLE_EXPONENT_BIAS + 1;
 	private static final int DOUBLE_EXPONENT_MAX_NORMAL = DOUBLE_EXPONENT_BIAS;
+	/**
+	 * The bit that marks non-negative values in the order-preserving double encoding.
+	 */
+	static final long ORDERED_DOUBLE_SIGN = 1L << 61;
 
 	/**
 	 * Encodes a {@link BigDecimal} in 56 bits [48 bits value, 8 bits scale].
@@ -114,6 +118,52 @@ public class Decimals {
 		return ValueIds.createId(ValueIds.T_FLOAT, Integers.encodeZigZag(Float.floatToRawIntBits(value)));
 	}
 
+	/**
+	 * Packs a double such that the unsigned order of the ids is the numeric order of the values. The 9 bit exponent and
+	 * the mantissa form a 61 bit magnitude. Positive values set bit 61 above the magnitude, while negative values use
+	 * the complement of their magnitude, so that larger magnitudes sort first.
+	 *
+	 * @return the packed id or <code>0</code> if the exponent can not be represented
+	 */
+	static long packOrderedDouble(double value) {
+		long valueBits = Double.doubleToRawLongBits(value);
+		int exponent9 = encodeExponent9Bits((int) ((valueBits >>> 52) & 0x7FF));
+		if (exponent9 < 0) {
+			return 0L;
+		}
+		long magnitude = ((long) exponent9) << 52 | valueBits & 0x000fffffffffffffL;
+		long key = valueBits < 0 ? ORDERED_DOUBLE_SIGN - 1 - magnitude : ORDERED_DOUBLE_SIGN | magnitude;
+		return key << 1 | 1;
+	}
+
+	static Literal unpackOrderedDouble(long value, ValueFactory valueFactory) {
+		if ((value & 1L) == 0) {
+			throw new IllegalArgumentException("Invalid packed double value: zero bit not set.");
+		}
+		long key = value >>> 1;
+		boolean negative = (key & ORDERED_DOUBLE_SIGN) == 0;
+		long magnitude = negative ? ORDERED_DOUBLE_SIGN - 1 - key : key & (ORDERED_DOUBLE_SIGN - 1);
+		int exponent11 = decodeExponent9Bits((int) (magnitude >>> 52));
+		long valueBits = (negative ? 1L << 63 : 0L) | ((long) (exponent11 & 0x7FF) << 52)
+				| magnitude & 0x000fffffffffffffL;
+		return valueFactory.createLiteral(Double.longBitsToDouble(valueBits));
+	}
+
+	/**
+	 * Packs a float such that the unsigned order of the ids is the numeric order of the values.
+	 */
+	static long packOrderedFloat(float value) {
+		int valueBits = Float.floatToRawIntBits(value);
+		int sortable = valueBits ^ (valueBits >> 31 | Integer.MIN_VALUE);
+		return ValueIds.createId(ValueIds.T_FLOAT, Integer.toUnsignedLong(sortable));
+	}
+
+	static Literal unpackOrderedFloat(long value, ValueFactory valueFactory) {
+		int sortable = (int) ValueIds.getValue(value);
+		int valueBits = sortable < 0 ? sortable ^ Integer.MIN_VALUE : ~sortable;
+		return valueFactory.createLiteral(Float.intBitsToFloat(valueBits));
+	}
+
 	static Literal unpackDecimal(long value, ValueFactory valueFactory) {
 		long encoded = ValueIds.getValue(value);
 		int scale = (byte) (encoded & 0xFF);
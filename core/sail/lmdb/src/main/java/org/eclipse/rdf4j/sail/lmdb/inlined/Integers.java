@@ -180,4 +180,81 @@ public class Integers {
 		return valueFactory.createLiteral(Long.toString(decoded), XSD.NON_POSITIVE_INTEGER);
 	}
 
+	/**
+	 * Encodes a signed integer as offset binary so that the unsigned order of the encoded values is the numeric order.
+	 *
+	 * @param value an integer between {@link #MIN_INTEGER} and {@link #MAX_INTEGER}
+	 * @return the encoded value
+	 */
+	static long encodeOrdered(long value) {
+		return value - MIN_INTEGER;
+	}
+
+	static long decodeOrdered(long encoded) {
+		return encoded + MIN_INTEGER;
+	}
+
+	/**
+	 * Packs an integer literal of any integer datatype with the order-preserving encoding.
+	 *
+	 * @return the packed id or <code>0</code> if the value is out of range
+	 */
+	static long packOrderedInteger(Literal literal, XSD datatype) {
+		int idType = getIntegerIdType(datatype);
+		BigInteger value = literal.integerValue();
+		if (idType < 0 || value.compareTo(MAX_BIG_INTEGER) > 0 || value.compareTo(MIN_BIG_INTEGER) < 0) {
+			return 0L;
+		}
+		return ValueIds.createId(idType, encodeOrdered(value.longValue()));
+	}
+
+	static Literal unpackOrderedInteger(long value, ValueFactory valueFactory) {
+		long decoded = decodeOrdered(ValueIds.getValue(value));
+		return valueFactory.createLiteral(Long.toString(decoded), getIntegerDatatype(ValueIds.getIdType(value)));
+	}
+
+	/**
+	 * @return the id type of an integer datatype or <code>-1</code> if the datatype is not an integer datatype
+	 */
+	static int getIntegerIdType(XSD datatype) {
+		return switch (datatype) {
+		case INTEGER -> ValueIds.T_INTEGER;
+		case LONG -> ValueIds.T_LONG;
+		case INT -> ValueIds.T_INT;
+		case SHORT -> ValueIds.T_SHORT;
+		case BYTE -> ValueIds.T_BYTE;
+		case UNSIGNED_LONG -> ValueIds.T_UNSIGNEDLONG;
+		case UNSIGNED_INT -> ValueIds.T_UNSIGNEDINT;
+		case UNSIGNED_SHORT -> ValueIds.T_UNSIGNEDSHORT;
+		case UNSIGNED_BYTE -> ValueIds.T_UNSIGNEDBYTE;
+		case POSITIVE_INTEGER -> ValueIds.T_POSITIVE_INTEGER;
+		case NEGATIVE_INTEGER -> ValueIds.T_NEGATIVE_INTEGER;
+		case NON_NEGATIVE_INTEGER -> ValueIds.T_NON_NEGATIVE_INTEGER;
+		case NON_POSITIVE_INTEGER -> ValueIds.T_NON_POSITIVE_INTEGER;
+		default -> -1;
+		};
+	}
+
+	/**
+	 * @return the integer datatype of an id type or <code>null</code> if the id type is not an integer id type
+	 */
+	static XSD getIntegerDatatype(int idType) {
+		return switch (idType) {
+		case ValueIds.T_INTEGER -> XSD.INTEGER;
+		case ValueIds.T_LONG -> XSD.LONG;
+		case ValueIds.T_INT -> XSD.INT;
+		case ValueIds.T_SHORT -> XSD.SHORT;
+		case ValueIds.T_BYTE -> XSD.BYTE;
+		case ValueIds.T_UNSIGNEDLONG -> XSD.UNSIGNED_LONG;
+		case ValueIds.T_UNSIGNEDINT -> XSD.UNSIGNED_INT;
+		case ValueIds.T_UNSIGNEDSHORT -> XSD.UNSIGNED_SHORT;
+		case ValueIds.T_UNSIGNEDBYTE -> XSD.UNSIGNED_BYTE;
+		case ValueIds.T_POSITIVE_INTEGER -> XSD.POSITIVE_INTEGER;
+		case ValueIds.T_NEGATIVE_INTEGER -> XSD.NEGATIVE_INTEGER;
+		case ValueIds.T_NON_NEGATIVE_INTEGER -> XSD.NON_NEGATIVE_INTEGER;
+		case ValueIds.T_NON_POSITIVE_INTEGER -> XSD.NON_POSITIVE_INTEGER;
+		default -> null;
+		};
+	}
+
 }
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb.inlined;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.base.CoreDatatype.XSD;
+import org.eclipse.rdf4j.sail.lmdb.ValueIds;
+
+/**
+ * An interval of ids of values that are inlined with the order-preserving encoding, together with the id types that
+ * the interval applies to. The ids of a value range form one such interval per encoding, e.g. one for all integer
+ * datatypes and one for doubles.
+ * <p>
+ * Ranges are conservative: they contain all inlined values that can compare as within the bounds, but may contain
+ * some values that do not.
+ */
+public final class OrderedIdRange {
+
+	/**
+	 * Slack around calendar bounds, covering values without timezone and dates compared to dateTimes.
+	 */
+	private static final long CALENDAR_SLACK = TimeUnit.DAYS.toMillis(2);
+
+	private static final long MAX_ORDERED_DOUBLE_ID = Long.MAX_VALUE;
+
+	private static final long MIN_ORDERED_DOUBLE_ID = 1L;
+
+	private enum Kind {
+		INTEGER,
+		DOUBLE,
+		FLOAT,
+		CALENDAR,
+		SINGLE
+	}
+
+	private final Kind kind;
+	private final long minId;
+	private final long maxId;
+
+	private OrderedIdRange(Kind kind, long minId, long maxId) {
+		this.kind = kind;
+		this.minId = minId;
+		this.maxId = maxId;
+	}
+
+	/**
+	 * Creates an interval that only contains the id of a single value, e.g. of a value that is not inlined.
+	 */
+	public static OrderedIdRange forId(long id) {
+		return new OrderedIdRange(Kind.SINGLE, id, id);
+	}
+
+	/**
+	 * @return the smallest id of the interval
+	 */
+	public long getMinId() {
+		return minId;
+	}
+
+	/**
+	 * @return the largest id of the interval
+	 */
+	public long getMaxId() {
+		return maxId;
+	}
+
+	/**
+	 * Tests whether an id within the interval has one of the id types of this range.
+	 */
+	public boolean accepts(long id) {
+		switch (kind) {
+		case SINGLE:
+			return true;
+		case DOUBLE:
+			return ValueIds.isDouble(id);
+		case FLOAT:
+			return !ValueIds.isDouble(id) && ValueIds.getIdType(id) == ValueIds.T_FLOAT;
+		case CALENDAR:
+			if (ValueIds.isDouble(id)) {
+				return false;
+			}
+			int idType = ValueIds.getIdType(id);
+			return idType == ValueIds.T_DATETIME || idType == ValueIds.T_DATETIMESTAMP || idType == ValueIds.T_DATE;
+		default:
+			return !ValueIds.isDouble(id) && Integers.getIntegerDatatype(ValueIds.getIdType(id)) != null;
+		}
+	}
+
+	/**
+	 * Tests whether a literal belongs to a datatype family whose values can be found through ranges of this kind,
+	 * i.e. whether it is numeric or a calendar value.
+	 *
+	 * @return {@link ValueIds#T_DOUBLE} for numeric literals, {@link ValueIds#T_DATETIME} for calendar literals or
+	 *         <code>0</code> otherwise
+	 */
+	public static int getRangeFamily(Literal literal) {
+		XSD datatype = literal.getCoreDatatype().asXSDDatatypeOrNull();
+		if (datatype == null) {
+			return 0;
+		}
+		if (datatype.isNumericDatatype()) {
+			return ValueIds.T_DOUBLE;
+		}
+		if (datatype.isCalendarDatatype()) {
+			return ValueIds.T_DATETIME;
+		}
+		return 0;
+	}
+
+	/**
+	 * Computes the id intervals that contain all inlined values that may compare as greater than (or equal to) the
+	 * lower bound and smaller than (or equal to) the upper bound. Numeric bounds produce intervals for integers,
+	 * doubles and floats, dateTime and date bounds an interval for dateTimes and dates.
+	 *
+	 * @param lowerBound the lower bound or <code>null</code>
+	 * @param upperBound the upper bound or <code>null</code>
+	 * @return the intervals or <code>null</code> if the bounds are not supported
+	 */
+	public static List<OrderedIdRange> forBounds(Literal lowerBound, Literal upperBound) {
+		if (lowerBound == null && upperBound == null) {
+			return null;
+		}
+		int family = lowerBound != null ? getRangeFamily(lowerBound) : getRangeFamily(upperBound);
+		if (family == 0 || lowerBound != null && upperBound != null && getRangeFamily(upperBound) != family) {
+			return null;
+		}
+		try {
+			return family == ValueIds.T_DOUBLE ? numericRanges(lowerBound, upperBound)
+					: calendarRanges(lowerBound, upperBound);
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// not a valid bound
+			return null;
+		}
+	}
+
+	private static List<OrderedIdRange> numericRanges(Literal lowerBound, Literal upperBound) {
+		double lower = lowerBound == null ? Double.NEGATIVE_INFINITY : lowerBound.doubleValue();
+		double upper = upperBound == null ? Double.POSITIVE_INFINITY : upperBound.doubleValue();
+		if (Double.isNaN(lower) || Double.isNaN(upper)) {
+			return null;
+		}
+
+		List<OrderedIdRange> ranges = new ArrayList<>(3);
+		long minInteger = lowerBound == null ? Integers.MIN_INTEGER : integerBound(lowerBound, lower, true);
+		long maxInteger = upperBound == null ? Integers.MAX_INTEGER : integerBound(upperBound, upper, false);
+		if (minInteger <= maxInteger) {
+			ranges.add(new OrderedIdRange(Kind.INTEGER, ValueIds.createId(0, Integers.encodeOrdered(minInteger)),
+					ValueIds.createId(0, Integers.encodeOrdered(maxInteger)) | 0x7F));
+		}
+
+		long minDouble = Decimals.packOrderedDouble(Math.nextDown(lower));
+		long maxDouble = Decimals.packOrderedDouble(Math.nextUp(upper));
+		ranges.add(new OrderedIdRange(Kind.DOUBLE, minDouble == 0L ? MIN_ORDERED_DOUBLE_ID : minDouble,
+				maxDouble == 0L ? MAX_ORDERED_DOUBLE_ID : maxDouble));
+
+		ranges.add(new OrderedIdRange(Kind.FLOAT, Decimals.packOrderedFloat(Math.nextDown((float) lower)),
+				Decimals.packOrderedFloat(Math.nextUp((float) upper)) | 0x7F));
+		return ranges;
+	}
+
+	/**
+	 * Computes an inclusive integer bound, widened by the precision of double and float bounds as integers are
+	 * compared to them after conversion.
+	 */
+	private static long integerBound(Literal bound, double value, boolean lower) {
+		if (Double.isInfinite(value)) {
+			return value < 0 ? Integers.MIN_INTEGER : Integers.MAX_INTEGER;
+		}
+		XSD datatype = bound.getCoreDatatype().asXSDDatatypeOrNull();
+		BigDecimal exact;
+		long slack = 0;
+		if (datatype == XSD.DOUBLE || datatype == XSD.FLOAT) {
+			exact = new BigDecimal(value);
+			slack = (long) Math.min(Math.ceil(datatype == XSD.FLOAT ? Math.ulp((float) value) : Math.ulp(value)),
+					Integers.MAX_INTEGER) + 1;
+		} else {
+			exact = bound.decimalValue();
+		}
+		BigInteger integer = exact.setScale(0, lower ? RoundingMode.FLOOR : RoundingMode.CEILING).toBigInteger();
+		if (integer.compareTo(Integers.MAX_BIG_INTEGER) > 0) {
+			return Integers.MAX_INTEGER;
+		}
+		if (integer.compareTo(Integers.MIN_BIG_INTEGER) < 0) {
+			return Integers.MIN_INTEGER;
+		}
+		long result = lower ? integer.longValue() - slack : integer.longValue() + slack;
+		return Math.max(Integers.MIN_INTEGER, Math.min(Integers.MAX_INTEGER, result));
+	}
+
+	private static List<OrderedIdRange> calendarRanges(Literal lowerBound, Literal upperBound) {
+		long minOffset = lowerBound == null ? 0 : calendarBound(lowerBound) - CALENDAR_SLACK;
+		long maxOffset = upperBound == null ? Dates.MAX_ORDERED_INSTANT_OFFSET
+				: calendarBound(upperBound) + CALENDAR_SLACK;
+		minOffset = Math.max(0, Math.min(Dates.MAX_ORDERED_INSTANT_OFFSET, minOffset));
+		maxOffset = Math.max(0, Math.min(Dates.MAX_ORDERED_INSTANT_OFFSET, maxOffset));
+		List<OrderedIdRange> ranges = new ArrayList<>(1);
+		if (minOffset <= maxOffset) {
+			ranges.add(new OrderedIdRange(Kind.CALENDAR, ValueIds.createId(0, minOffset << 8),
+					ValueIds.createId(0, maxOffset << 8 | 0xFF) | 0x7F));
+		}
+		return ranges;
+	}
+
+	private static long calendarBound(Literal bound) {
+		XSD datatype = bound.getCoreDatatype().asXSDDatatypeOrNull();
+		if (datatype != XSD.DATETIME && datatype != XSD.DATETIMESTAMP && datatype != XSD.DATE) {
+			throw new IllegalArgumentException("Unsupported calendar bound: " + bound);
+		}
+		return Dates.toOrderedInstantOffset(bound.calendarValue(), datatype == XSD.DATE);
+	}
+
+	@Override
+	public String toString() {
+		return kind + "[" + minId + ", " + maxId + "]";
+	}
+}
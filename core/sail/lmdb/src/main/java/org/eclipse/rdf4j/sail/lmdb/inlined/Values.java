@@ -31,10 +31,41 @@ public class Values {
 	static int MAX_LENGTH = 7;
 
 	public static long packLiteral(Literal literal) {
+		return packLiteral(literal, false);
+	}
+
+	/**
+	 * Inlines a literal into an id.
+	 *
+	 * @param literal the literal
+	 * @param ordered <code>true</code> to use the order-preserving encoding for integers, doubles, floats, dateTimes
+	 *                and dates
+	 * @return the id or <code>0</code> if the literal can not be inlined
+	 */
+	public static long packLiteral(Literal literal, boolean ordered) {
 		XSD xsdDataType = literal.getCoreDatatype().asXSDDatatypeOrNull();
 		if (xsdDataType == null) {
 			return 0L;
 		}
+		if (ordered) {
+			if (xsdDataType.isIntegerDatatype()) {
+				return packOrderedInteger(literal, xsdDataType);
+			}
+			switch (xsdDataType) {
+			case DOUBLE:
+				return packOrderedDouble(literal.doubleValue());
+			case FLOAT:
+				return packOrderedFloat(literal.floatValue());
+			case DATETIME:
+				return packOrderedDate(literal, ValueIds.T_DATETIME);
+			case DATETIMESTAMP:
+				return packOrderedDate(literal, ValueIds.T_DATETIMESTAMP);
+			case DATE:
+				return packOrderedDate(literal, ValueIds.T_DATE);
+			default:
+				break;
+			}
+		}
 		return switch (xsdDataType) {
 		case DECIMAL -> packDecimal(literal.decimalValue());
 		case DOUBLE -> packDouble(literal.doubleValue());
@@ -64,6 +95,31 @@ public class Values {
 	}
 
 	public static Literal unpackLiteral(long value, ValueFactory valueFactory) {
+		return unpackLiteral(value, valueFactory, false);
+	}
+
+	/**
+	 * Unpacks a literal that has been inlined into an id.
+	 *
+	 * @param value        the id
+	 * @param valueFactory the factory for the literal
+	 * @param ordered      <code>true</code> if the id has been packed with the order-preserving encoding
+	 * @return the literal
+	 */
+	public static Literal unpackLiteral(long value, ValueFactory valueFactory, boolean ordered) {
+		if (ordered && isOrderedInline(value)) {
+			if (ValueIds.isDouble(value)) {
+				return unpackOrderedDouble(value, valueFactory);
+			}
+			int idType = ValueIds.getIdType(value);
+			if (idType == ValueIds.T_FLOAT) {
+				return unpackOrderedFloat(value, valueFactory);
+			}
+			if (idType == ValueIds.T_DATETIME || idType == ValueIds.T_DATETIMESTAMP || idType == ValueIds.T_DATE) {
+				return unpackOrderedDate(value, valueFactory);
+			}
+			return unpackOrderedInteger(value, valueFactory);
+		}
 		int idType = ValueIds.getIdType(value);
 		return switch (idType) {
 		case ValueIds.T_DOUBLE -> unpackDouble(value, valueFactory);
@@ -90,4 +146,19 @@ public class Values {
 		default -> throw new IllegalArgumentException("Invalid packed value " + value + " with id type: " + idType);
 		};
 	}
+
+	/**
+	 * Tests whether an id has one of the types that use the order-preserving encoding, if that is enabled.
+	 *
+	 * @param id an id
+	 * @return <code>true</code> for inlined integers, doubles, floats, dateTimes and dates
+	 */
+	public static boolean isOrderedInline(long id) {
+		if (ValueIds.isDouble(id)) {
+			return true;
+		}
+		int idType = ValueIds.getIdType(id);
+		return idType == ValueIds.T_FLOAT || idType == ValueIds.T_DATETIME || idType == ValueIds.T_DATETIMESTAMP
+				|| idType == ValueIds.T_DATE || getIntegerDatatype(idType) != null;
+	}
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LmdbBulkLoaderTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	private LmdbStore store;
+
+	@BeforeEach
+	public void setUp() {
+		store = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc,cspo"));
+		store.init();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		store.shutDown();
+	}
+
+	@Test
+	public void loadsStatementsFromSeveralRuns() throws Exception {
+		IRI context = vf.createIRI("urn:graph");
+		Model expected = new LinkedHashModel();
+		for (int i = 0; i < 1000; i++) {
+			expected.add(vf.createIRI("urn:s" + (i % 97)), vf.createIRI("urn:p" + (i % 7)), vf.createLiteral(i),
+					i % 3 == 0 ? context : null);
+		}
+
+		long added;
+		try (LmdbBulkLoader loader = new LmdbBulkLoader(store.getBackingStore(),
+				Files.createTempDirectory(dataDir.toPath(), "bulk-load"), 64)) {
+			expected.forEach(loader::handleStatement);
+			// duplicates within and across runs are only stored once
+			expected.forEach(loader::handleStatement);
+			added = loader.finish();
+		}
+
+		assertThat(added).isEqualTo(expected.size());
+		SailRepository repository = new SailRepository(store);
+		try (RepositoryConnection connection = repository.getConnection()) {
+			Model actual = new LinkedHashModel(Iterations.asList(connection.getStatements(null, null, null)));
+			assertThat(Models.isomorphic(actual, expected)).isTrue();
+			assertThat(connection.size(context)).isEqualTo(expected.filter(null, null, null, context).size());
+			assertThat(Iterations.asList(connection.getContextIDs())).containsExactly(context);
+			assertThat(connection.getStatements(null, vf.createIRI("urn:p3"), null).stream().count())
+					.isEqualTo(expected.filter(null, vf.createIRI("urn:p3"), null).size());
+
+			// the store accepts regular transactions after the load
+			connection.add(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral("after"));
+			assertThat(connection.size()).isEqualTo(expected.size() + 1);
+		}
+	}
+
+	@Test
+	public void rejectsNonEmptyStore() {
+		SailRepository repository = new SailRepository(store);
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.add(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral("existing"));
+		}
+
+		assertThatThrownBy(() -> store.createBulkLoader()).isInstanceOf(SailException.class);
+
+		// a failed attempt must not leave the store locked
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.add(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral("next"));
+			assertThat(connection.size()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void closeWithoutFinishDiscardsStatements() {
+		try (LmdbBulkLoader loader = store.createBulkLoader()) {
+			loader.add(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral("discarded"), null);
+		}
+
+		SailRepository repository = new SailRepository(store);
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.isEmpty()).isTrue();
+		}
+		assertThat(dataDir.listFiles((dir, name) -> name.startsWith("bulk-load"))).isEmpty();
+	}
+}
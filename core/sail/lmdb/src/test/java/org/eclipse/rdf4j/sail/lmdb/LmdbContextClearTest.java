@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LmdbContextClearTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI PRED = vf.createIRI("urn:p");
+
+	private static final Resource[] CONTEXTS = { null, vf.createIRI("urn:g1"), vf.createIRI("urn:g2") };
+
+	@TempDir
+	File dataDir;
+
+	private SailRepository repository;
+
+	@AfterEach
+	public void tearDown() {
+		if (repository != null) {
+			repository.shutDown();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "spoc,cspo,posc", "spoc,posc" })
+	public void clearRemovesOnlyStatementsOfContext(String indexes) {
+		repository = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig(indexes)));
+		addStatements(3000);
+
+		for (Resource context : new Resource[] { CONTEXTS[1], null }) {
+			Set<Statement> expected = statementsExcept(context);
+			try (RepositoryConnection connection = repository.getConnection()) {
+				connection.clear(context);
+				assertThat(new HashSet<>(connection.getStatements(null, null, null).stream().toList()))
+						.isEqualTo(expected);
+				assertThat(connection.size(context)).isZero();
+				assertThat(connection.getStatements(null, null, null, context).stream().count()).isZero();
+			}
+		}
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.getContextIDs().stream().toList()).containsExactly(CONTEXTS[2]);
+			connection.add(vf.createIRI("urn:s0"), PRED, vf.createLiteral(0), CONTEXTS[1]);
+			assertThat(connection.size(CONTEXTS[1])).isEqualTo(1);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "spoc,cspo", "spoc,posc" })
+	public void clearContextInBatches(String indexes) {
+		LmdbStore store = new LmdbStore(dataDir, new LmdbStoreConfig(indexes));
+		repository = new SailRepository(store);
+		addStatements(120_000);
+
+		Set<Statement> expected = statementsExcept(CONTEXTS[2]);
+		List<Long> progress = new ArrayList<>();
+		assertThat(store.clearContext(CONTEXTS[2], progress::add)).isEqualTo(120_001);
+		assertThat(progress).containsExactly(100_000L, 120_001L);
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(new HashSet<>(connection.getStatements(null, null, null).stream().toList()))
+					.isEqualTo(expected);
+			assertThat(connection.size(CONTEXTS[2])).isZero();
+		}
+		assertThat(store.clearContext(CONTEXTS[2], progress::add)).isZero();
+		assertThat(store.clearContext(vf.createIRI("urn:unknown"), progress::add)).isZero();
+	}
+
+	private void addStatements(int perContext) {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (Resource context : CONTEXTS) {
+				for (int i = 0; i < perContext; i++) {
+					connection.add(vf.createIRI("urn:s" + i), PRED, vf.createLiteral(i), context);
+				}
+			}
+			connection.add(vf.createIRI("urn:only"), PRED, vf.createLiteral("only in g2"), CONTEXTS[2]);
+			connection.commit();
+		}
+	}
+
+	private Set<Statement> statementsExcept(Resource context) {
+		Set<Statement> statements = new HashSet<>();
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (Statement st : connection.getStatements(null, null, null).stream().toList()) {
+				if (context == null ? st.getContext() != null : !context.equals(st.getContext())) {
+					statements.add(st);
+				}
+			}
+		}
+		return statements;
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LmdbIndexAdvisorTest {
+
+	private static final int S = 1, P = 2, O = 4, C = 8;
+
+	@Test
+	void coveredPatternsNeedNoIndex() {
+		long[] counts = new long[16];
+		counts[S] = 100;
+		counts[S | P] = 100;
+		counts[P | O] = 100;
+		counts[P] = 50;
+
+		assertThat(LmdbIndexAdvisor.recommend(counts, List.of("spoc", "posc"), 3, 0.01)).isEmpty();
+	}
+
+	@Test
+	void indexesAreRecommendedByCoveredLookups() {
+		long[] counts = new long[16];
+		counts[S] = 1000;
+		counts[O] = 500;
+		counts[O | C] = 400;
+		counts[C] = 200;
+		counts[S | O] = 1;
+
+		assertThat(LmdbIndexAdvisor.recommend(counts, List.of("spoc"), 3, 0.01)).containsExactly("ocsp", "cspo");
+	}
+
+	@Test
+	void rarePatternsAreIgnored() {
+		long[] counts = new long[16];
+		counts[S] = 10_000;
+		counts[O] = 10;
+
+		assertThat(LmdbIndexAdvisor.recommend(counts, List.of("spoc"), 3, 0.01)).isEmpty();
+		assertThat(LmdbIndexAdvisor.recommend(counts, List.of("spoc"), 3, 0)).containsExactly("ospc");
+	}
+
+	@Test
+	void coversBoundPrefix() {
+		assertThat(LmdbIndexAdvisor.covers("posc", P | O)).isTrue();
+		assertThat(LmdbIndexAdvisor.covers("posc", P | S)).isFalse();
+		assertThat(LmdbIndexAdvisor.covers("posc", 0)).isTrue();
+		assertThat(LmdbIndexAdvisor.covers("cspo", C | S | P | O)).isTrue();
+	}
+}
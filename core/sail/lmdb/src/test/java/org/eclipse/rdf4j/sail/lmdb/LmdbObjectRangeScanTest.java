@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueRange;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LmdbObjectRangeScanTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI VALUE = vf.createIRI("urn:value");
+
+	@TempDir
+	File dataDir;
+
+	private SailRepository repository;
+
+	@BeforeEach
+	public void setUp() {
+		repository = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc")));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void numericRangeFilter() {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < 100; i++) {
+				connection.add(vf.createIRI("urn:int" + i), VALUE, vf.createLiteral(i));
+				connection.add(vf.createIRI("urn:long" + i), VALUE, vf.createLiteral(i * 7L - 300));
+				connection.add(vf.createIRI("urn:double" + i), VALUE, vf.createLiteral(i * 0.75d));
+				connection.add(vf.createIRI("urn:float" + i), VALUE, vf.createLiteral(i / 3f));
+				connection.add(vf.createIRI("urn:string" + i), VALUE, vf.createLiteral(Integer.toString(i)));
+			}
+			connection.add(vf.createIRI("urn:unsigned"), VALUE, vf.createLiteral("40", XSD.UNSIGNED_BYTE));
+
+			assertSubjects(connection, "?o >= 30 && ?o < 50", 30, false, 50, false);
+			assertSubjects(connection, "?o > 30.5", 30.5, true, null, false);
+			assertSubjects(connection, "?o <= -1e1", null, false, -10, true);
+			assertSubjects(connection, "45 > ?o && ?o > \"12.5\"^^xsd:decimal", 12.5, true, 45, false);
+		}
+		assertRangeScanned(vf.createLiteral(30), vf.createLiteral(50));
+	}
+
+	@Test
+	public void dateTimeRangeFilter() {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 1; i <= 28; i++) {
+				String day = String.format("2024-02-%02d", i);
+				connection.add(vf.createIRI("urn:dateTime" + i), VALUE,
+						vf.createLiteral(day + "T12:00:00Z", XSD.DATETIME));
+				connection.add(vf.createIRI("urn:local" + i), VALUE, vf.createLiteral(day + "T23:30:00", XSD.DATETIME));
+				connection.add(vf.createIRI("urn:offset" + i), VALUE,
+						vf.createLiteral(day + "T01:00:00+05:00", XSD.DATETIME));
+				connection.add(vf.createIRI("urn:date" + i), VALUE, vf.createLiteral(day, XSD.DATE));
+			}
+
+			assertSubjects(connection,
+					"?o >= \"2024-02-10T00:00:00Z\"^^xsd:dateTime && ?o < \"2024-02-20T00:00:00Z\"^^xsd:dateTime");
+			assertSubjects(connection, "?o > \"2024-02-25\"^^xsd:date");
+		}
+		assertRangeScanned(vf.createLiteral("2024-02-10T00:00:00Z", XSD.DATETIME),
+				vf.createLiteral("2024-02-12T00:00:00Z", XSD.DATETIME));
+	}
+
+	@Test
+	public void decimalValuesAreAddedToNumericRanges() {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < 100; i++) {
+				connection.add(vf.createIRI("urn:int" + i), VALUE, vf.createLiteral(i));
+				connection.add(vf.createIRI("urn:decimal" + i), VALUE, vf.createLiteral(new BigDecimal(i + ".5")));
+			}
+
+			assertSubjects(connection, "?o >= 30 && ?o < 50", 30, false, 50, false);
+		}
+
+		// decimals are not inlined in order, their statements are returned in addition to the scanned intervals
+		try (SailDataset dataset = getBackingStore().getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			assertThat(count(dataset, vf.createLiteral(30), vf.createLiteral(50))).isBetween(120L, 199L);
+		}
+
+		// the decimals are still known when the store is reopened
+		repository.shutDown();
+		repository = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc")));
+		repository.init();
+		try (SailDataset dataset = getBackingStore().getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			assertThat(count(dataset, vf.createLiteral(30), vf.createLiteral(50))).isBetween(120L, 199L);
+		}
+	}
+
+	@Test
+	public void manyDecimalValuesDisableNumericRangesUntilRemoved() {
+		int decimals = ValueStore.MAX_UNORDERED_RANGE_VALUES + 1;
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < 100; i++) {
+				connection.add(vf.createIRI("urn:int" + i), VALUE, vf.createLiteral(i));
+			}
+			for (int i = 0; i < decimals; i++) {
+				connection.add(vf.createIRI("urn:decimal" + i), VALUE, vf.createLiteral(new BigDecimal(i + ".5")));
+			}
+
+			assertSubjects(connection, "?o >= 30 && ?o < 50", 30, false, 50, false);
+		}
+
+		// too many values are not inlined in order, so all statements of the pattern are returned
+		try (SailDataset dataset = getBackingStore().getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			assertThat(count(dataset, vf.createLiteral(30), vf.createLiteral(50))).isEqualTo(100 + decimals);
+		}
+
+		// ranges are scanned again once the decimals have been garbage collected
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < decimals; i++) {
+				connection.remove(vf.createIRI("urn:decimal" + i), VALUE, null);
+			}
+		}
+		assertRangeScanned(vf.createLiteral(30), vf.createLiteral(50));
+	}
+
+	private void assertSubjects(RepositoryConnection connection, String filter, Number lower, boolean lowerExclusive,
+			Number upper, boolean upperInclusive) {
+		Set<String> expected = new HashSet<>();
+		connection.getStatements(null, VALUE, null).forEach(st -> {
+			Literal value = (Literal) st.getObject();
+			if (!value.getCoreDatatype().isXSDDatatype()
+					|| !value.getCoreDatatype().asXSDDatatype().orElseThrow().isNumericDatatype()) {
+				return;
+			}
+			BigDecimal decimal = value.decimalValue();
+			if (lower != null) {
+				int cmp = decimal.compareTo(new BigDecimal(lower.toString()));
+				if (cmp < 0 || cmp == 0 && lowerExclusive) {
+					return;
+				}
+			}
+			if (upper != null) {
+				int cmp = decimal.compareTo(new BigDecimal(upper.toString()));
+				if (cmp > 0 || cmp == 0 && !upperInclusive) {
+					return;
+				}
+			}
+			expected.add(st.getSubject().stringValue());
+		});
+		assertThat(expected).isNotEmpty();
+		assertThat(querySubjects(connection, filter)).isEqualTo(expected);
+	}
+
+	/**
+	 * Compares the result of a range filter with the result of the same filter applied to all statements, which are
+	 * bound to the filtered variable through BIND so that the pattern is not restricted.
+	 */
+	private void assertSubjects(RepositoryConnection connection, String filter) {
+		Set<String> expected = querySubjects(connection, "?s <urn:value> ?v BIND(?v AS ?o)", filter);
+		assertThat(expected).isNotEmpty();
+		assertThat(querySubjects(connection, filter)).isEqualTo(expected);
+	}
+
+	private static Set<String> querySubjects(RepositoryConnection connection, String filter) {
+		return querySubjects(connection, "?s <urn:value> ?o", filter);
+	}
+
+	private static Set<String> querySubjects(RepositoryConnection connection, String pattern, String filter) {
+		String query = "PREFIX xsd: <http://www.w3.org/2001/XMLSchema#>\n"
+				+ "SELECT ?s WHERE { " + pattern + " FILTER(" + filter + ") }";
+		Set<String> subjects = new HashSet<>();
+		try (TupleQueryResult result = connection.prepareTupleQuery(query).evaluate()) {
+			for (BindingSet bindings : result) {
+				subjects.add(bindings.getValue("s").stringValue());
+			}
+		}
+		return subjects;
+	}
+
+	private void assertRangeScanned(Literal lower, Literal upper) {
+		try (SailDataset dataset = getBackingStore().getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			long all;
+			try (CloseableIteration<? extends Statement> statements = dataset.getStatements(null, VALUE, null)) {
+				all = statements.stream().count();
+			}
+			assertThat(count(dataset, lower, upper)).isPositive().isLessThan(all / 2);
+		}
+	}
+
+	private static long count(SailDataset dataset, Literal lower, Literal upper) {
+		try (CloseableIteration<? extends Statement> statements = dataset.getStatementsInObjectRange(null, VALUE,
+				new ValueRange(lower, true, upper, false))) {
+			return statements.stream().count();
+		}
+	}
+
+	private LmdbSailStore getBackingStore() {
+		return ((LmdbStore) repository.getSail()).getBackingStore();
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LmdbOnlineIndexBuildTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI PRED = vf.createIRI("urn:p");
+
+	@TempDir
+	File dataDir;
+
+	private LmdbStore store;
+
+	private SailRepository repository;
+
+	@BeforeEach
+	public void setUp() {
+		store = new LmdbStore(dataDir, new LmdbStoreConfig("spoc"));
+		repository = new SailRepository(store);
+		repository.init();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void indexIsBuiltWhileWriting() throws Exception {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 25_000; i++) {
+				connection.add(vf.createIRI("urn:s" + i), PRED, object(i));
+			}
+			connection.commit();
+			connection.begin();
+			for (int i = 0; i < 1000; i++) {
+				connection.add(vf.createIRI("urn:g" + i), PRED, object(i), vf.createIRI("urn:g"));
+			}
+			connection.commit();
+
+			// lookups by object are not covered by the spoc index
+			for (int i = 0; i < 5000; i++) {
+				connection.getStatements(null, null, object(i)).close();
+			}
+		}
+		assertThat(store.getRecommendedIndexes()).first().isEqualTo("ospc");
+
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+			try (RepositoryConnection connection = repository.getConnection()) {
+				int i = 0;
+				while (writing.get() && i < 2000) {
+					connection.add(vf.createIRI("urn:new" + i), PRED, object(i));
+					connection.remove(vf.createIRI("urn:s" + i), PRED, null);
+					i++;
+				}
+			}
+		});
+
+		store.addIndex("ospc").get(2, TimeUnit.MINUTES);
+		writing.set(false);
+		writer.get(2, TimeUnit.MINUTES);
+
+		assertThat(store.getBackingStore().getIndexFieldSeqs()).containsExactly("spoc", "ospc");
+		StoreProperties properties = new StoreProperties(dataDir);
+		properties.load();
+		assertThat(properties.getTripleIndexes()).isEqualTo("spoc,ospc");
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			List<Statement> all = connection.getStatements(null, null, null).stream().toList();
+			for (int i = 0; i < 25; i++) {
+				Value object = object(i * 997);
+				Set<Statement> expected = new HashSet<>();
+				for (Statement st : all) {
+					if (st.getObject().equals(object)) {
+						expected.add(st);
+					}
+				}
+				assertThat(new HashSet<>(connection.getStatements(null, null, object).stream().toList()))
+						.isEqualTo(expected);
+			}
+		}
+		assertThat(store.getRecommendedIndexes()).doesNotContain("ospc");
+	}
+
+	@Test
+	public void indexBuildWaitsForActiveTransaction() throws Exception {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			// without isolation the transaction is started on the store with the first update
+			connection.begin(IsolationLevels.NONE);
+			connection.add(vf.createIRI("urn:s"), PRED, object(1));
+
+			CompletableFuture<Void> build = store.addIndex("ospc");
+			assertThatThrownBy(() -> build.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+			assertThat(store.getBackingStore().getIndexFieldSeqs()).containsExactly("spoc");
+
+			connection.commit();
+			build.get(1, TimeUnit.MINUTES);
+		}
+		assertThat(store.getBackingStore().getIndexFieldSeqs()).containsExactly("spoc", "ospc");
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.getStatements(null, null, object(1)).stream().toList()).hasSize(1);
+		}
+	}
+
+	@Test
+	public void existingIndexIsRejected() {
+		CompletableFuture<Void> build = store.addIndex("spoc");
+		assertThatThrownBy(() -> build.get(1, TimeUnit.MINUTES)).isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(SailException.class);
+		assertThatThrownBy(() -> store.addIndex("spo")).isInstanceOf(SailException.class);
+	}
+
+	private static Value object(int i) {
+		return vf.createLiteral("value " + (i % 5000));
+	}
+}
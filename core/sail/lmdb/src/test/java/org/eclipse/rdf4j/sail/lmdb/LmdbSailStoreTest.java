@@ -31,12 +31,14 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.IntConsumer;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.IRI;
@@ -239,6 +241,37 @@ public class LmdbSailStoreTest {
 		}
 	}
 
+	@Test
+	public void testStatementsFromOffsetInSeveralContexts() throws SailException {
+		try (RepositoryConnection conn = repo.getConnection()) {
+			conn.add(F.createIRI("http://example.org/3"), RDFS.LABEL, F.createLiteral("three"), CTX_1);
+			conn.add(F.createIRI("http://example.org/4"), RDFS.LABEL, F.createLiteral("four"), CTX_2);
+		}
+		LmdbStore sail = (LmdbStore) ((SailRepository) repo).getSail();
+		LmdbSailStore backingStore = sail.getBackingStore();
+
+		try (SailDataset dataset = backingStore.getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			assertOffsets(dataset);
+			assertOffsets(dataset, null, CTX_1, CTX_2);
+			assertOffsets(dataset, CTX_2, CTX_INV, CTX_1);
+			assertOffsets(dataset, CTX_INV, CTX_2);
+		}
+	}
+
+	private static void assertOffsets(SailDataset dataset, Resource... contexts) throws SailException {
+		List<Statement> all;
+		try (CloseableIteration<? extends Statement> iteration = dataset.getStatements(null, RDFS.LABEL, null,
+				contexts)) {
+			all = Iterations.asList(iteration);
+		}
+		for (int offset = 0; offset <= all.size() + 1; offset++) {
+			try (CloseableIteration<? extends Statement> iteration = dataset.getStatementsFromOffset(offset, null,
+					RDFS.LABEL, null, contexts)) {
+				assertEquals(all.subList(Math.min(offset, all.size()), all.size()), Iterations.asList(iteration));
+			}
+		}
+	}
+
 	@Test
 	public void testExplainExecutedShowsIndexName() {
 		try (RepositoryConnection conn = repo.getConnection()) {
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LmdbStatisticsTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI NAME = vf.createIRI("urn:name");
+
+	private static final IRI KNOWS = vf.createIRI("urn:knows");
+
+	private static final IRI PERSON = vf.createIRI("urn:Person");
+
+	@TempDir
+	File dataDir;
+
+	@Test
+	public void statisticsFollowChanges() {
+		SailRepository repository = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc")));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 100; i++) {
+				IRI person = vf.createIRI("urn:person" + i);
+				connection.add(person, RDF.TYPE, PERSON);
+				connection.add(person, NAME, vf.createLiteral("name " + (i % 10)));
+				connection.add(person, KNOWS, vf.createIRI("urn:person" + (i + 1) % 100));
+				connection.add(person, KNOWS, vf.createIRI("urn:person" + (i + 2) % 100), vf.createIRI("urn:g"));
+			}
+			connection.commit();
+
+			LmdbStore store = (LmdbStore) repository.getSail();
+			assertThat(store.getPredicateStatistics().get(NAME)).isEqualTo(new LmdbPredicateStatistics(100, 100, 10));
+			assertThat(store.getPredicateStatistics().get(KNOWS))
+					.isEqualTo(new LmdbPredicateStatistics(200, 100, 100));
+			assertThat(store.getClassStatistics()).containsEntry(PERSON, 100L);
+
+			connection.begin();
+			for (int i = 0; i < 50; i++) {
+				IRI person = vf.createIRI("urn:person" + i);
+				connection.remove(person, NAME, null);
+				connection.remove(person, KNOWS, null, vf.createIRI("urn:g"));
+			}
+			connection.remove((IRI) null, RDF.TYPE, PERSON);
+			connection.commit();
+
+			assertThat(store.getPredicateStatistics().get(NAME)).isEqualTo(new LmdbPredicateStatistics(50, 50, 10));
+			assertThat(store.getPredicateStatistics().get(KNOWS))
+					.isEqualTo(new LmdbPredicateStatistics(150, 100, 100));
+			assertThat(store.getPredicateStatistics()).doesNotContainKey(RDF.TYPE);
+			assertThat(store.getClassStatistics()).doesNotContainKey(PERSON);
+		} finally {
+			repository.shutDown();
+		}
+
+		// the statistics are persisted and not rebuilt when the store is opened again
+		SailRepository reopened = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc")));
+		try {
+			LmdbStore store = (LmdbStore) reopened.getSail();
+			store.init();
+			assertThat(store.getBackingStore().isStatisticsRebuilt()).isFalse();
+			assertThat(store.getPredicateStatistics().get(NAME)).isEqualTo(new LmdbPredicateStatistics(50, 50, 10));
+			assertThat(store.getPredicateStatistics().get(KNOWS))
+					.isEqualTo(new LmdbPredicateStatistics(150, 100, 100));
+		} finally {
+			reopened.shutDown();
+		}
+	}
+
+	@Test
+	public void distinctCountsRequireCoveringIndex() {
+		SailRepository repository = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc")));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.add(vf.createIRI("urn:a"), NAME, vf.createLiteral("a"));
+			connection.add(vf.createIRI("urn:a"), NAME, vf.createLiteral("b"));
+			connection.add(vf.createIRI("urn:b"), NAME, vf.createLiteral("b"));
+
+			LmdbStore store = (LmdbStore) repository.getSail();
+			assertThat(store.getPredicateStatistics().get(NAME)).isEqualTo(new LmdbPredicateStatistics(3, 2, -1));
+		} finally {
+			repository.shutDown();
+		}
+
+		// statistics of an existing store are rebuilt once for a new set of indexes
+		SailRepository reindexed = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,opsc")));
+		try {
+			LmdbStore store = (LmdbStore) reindexed.getSail();
+			store.init();
+			assertThat(store.getBackingStore().isStatisticsRebuilt()).isTrue();
+			assertThat(store.getPredicateStatistics().get(NAME)).isEqualTo(new LmdbPredicateStatistics(3, 2, 2));
+		} finally {
+			reindexed.shutDown();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LmdbStoreBackupTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI PRED = vf.createIRI("urn:p");
+
+	@TempDir
+	File tempDir;
+
+	private LmdbStore store;
+
+	private SailRepository repository;
+
+	@BeforeEach
+	public void setUp() {
+		store = new LmdbStore(new File(tempDir, "store"), new LmdbStoreConfig("spoc,posc"));
+		repository = new SailRepository(store);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void backupContainsCommittedState() throws Exception {
+		assertBackup(false);
+	}
+
+	@Test
+	public void compactingBackupContainsCommittedState() throws Exception {
+		assertBackup(true);
+	}
+
+	@Test
+	public void backupRequiresEmptyDirectory() throws Exception {
+		repository.init();
+		File backupDir = new File(tempDir, "backup");
+		Files.createDirectories(backupDir.toPath());
+		Files.writeString(backupDir.toPath().resolve("data"), "data");
+
+		assertThatThrownBy(() -> store.backup(backupDir, false)).isInstanceOf(SailException.class);
+	}
+
+	@Test
+	public void backupDuringCommitsContainsSingleCommittedState() throws Exception {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 100; i++) {
+				connection.add(vf.createIRI("urn:s" + i), PRED, vf.createLiteral("value " + i));
+			}
+			connection.commit();
+		}
+		Set<Statement> committed = statements(repository);
+
+		// commit between the copies of the triples and the values, releasing values that the copied triples use
+		AtomicInteger commits = new AtomicInteger();
+		store.getBackingStore().setBackupTriplesCopiedListener(() -> {
+			CompletableFuture.runAsync(() -> {
+				try (RepositoryConnection connection = repository.getConnection()) {
+					connection.begin();
+					connection.remove((IRI) null, PRED, null);
+					connection.add(vf.createIRI("urn:w"), PRED, vf.createLiteral("written"));
+					connection.commit();
+				}
+			}).join();
+			commits.incrementAndGet();
+		});
+		File backupDir = new File(tempDir, "backup");
+		try {
+			store.backup(backupDir, false);
+		} finally {
+			store.getBackingStore().setBackupTriplesCopiedListener(null);
+		}
+		assertThat(commits).hasValue(1);
+		assertThat(statements(repository)).hasSize(1);
+
+		SailRepository copy = new SailRepository(new LmdbStore(backupDir, new LmdbStoreConfig("spoc,posc")));
+		try {
+			// resolving the statements fails if a value referenced by the triples is missing
+			assertThat(statements(copy)).isEqualTo(committed);
+		} finally {
+			copy.shutDown();
+		}
+	}
+
+	private void assertBackup(boolean compact) throws Exception {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.setNamespace("ex", "urn:example:");
+			for (int i = 0; i < 1000; i++) {
+				connection.add(vf.createIRI("urn:s" + i), PRED, vf.createLiteral("value " + i),
+						vf.createIRI("urn:g" + i % 3));
+			}
+			connection.remove((IRI) null, null, null, vf.createIRI("urn:g1"));
+		}
+
+		Set<Statement> committed = statements(repository);
+		File backupDir = new File(tempDir, "backup");
+		try (RepositoryConnection pending = repository.getConnection()) {
+			// changes of an open transaction are not part of the backup
+			pending.begin();
+			pending.add(vf.createIRI("urn:pending"), PRED, vf.createLiteral("pending"));
+			pending.remove((IRI) null, null, null, vf.createIRI("urn:g2"));
+			pending.setNamespace("pending", "urn:pending:");
+
+			store.backup(backupDir, compact);
+			pending.commit();
+		}
+
+		SailRepository copy = new SailRepository(new LmdbStore(backupDir, new LmdbStoreConfig("spoc,posc")));
+		try {
+			assertThat(statements(copy)).hasSize(committed.size()).isEqualTo(committed);
+			try (RepositoryConnection connection = copy.getConnection()) {
+				assertThat(connection.getNamespace("ex")).isEqualTo("urn:example:");
+				assertThat(connection.getNamespace("pending")).isNull();
+
+				// the copy is a fully functional store
+				connection.add(vf.createIRI("urn:s0"), PRED, vf.createLiteral("value 0"), vf.createIRI("urn:g0"));
+				connection.add(vf.createIRI("urn:new"), PRED, vf.createLiteral("value 1"));
+				assertThat(connection.size()).isEqualTo(committed.size() + 1);
+			}
+		} finally {
+			copy.shutDown();
+		}
+	}
+
+	private static Set<Statement> statements(SailRepository repository) {
+		try (RepositoryConnection connection = repository.getConnection()) {
+			Set<Statement> statements = new HashSet<>();
+			connection.getStatements(null, null, null, false).forEach(statements::add);
+			return statements;
+		}
+	}
+}
@@ -146,4 +146,34 @@ public class LmdbStoreReindexTest {
 		assertEquals(0, differenceA.size());
 		assertEquals(0, differenceB.size());
 	}
+
+	@Test
+	public void testAddedIndexContainsExistingStatements(@TempDir File dataDir) throws Exception {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		IRI pred = vf.createIRI("http://example.org/p");
+		IRI obj = vf.createIRI("http://example.org/o");
+
+		Repository repo = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc")));
+		try (RepositoryConnection conn = repo.getConnection()) {
+			for (int i = 0; i < 10; i++) {
+				conn.add(vf.createIRI("http://example.org/s" + i), pred, i % 2 == 0 ? obj : vf.createLiteral(i));
+			}
+		}
+		repo.shutDown();
+
+		// the opsc index is created from the statements of the existing spoc index
+		repo = new SailRepository(new LmdbStore(dataDir, new LmdbStoreConfig("spoc,opsc")));
+		try (RepositoryConnection conn = repo.getConnection()) {
+			assertEquals(5, Iterations.asList(conn.getStatements(null, null, obj, false)).size());
+		}
+		repo.shutDown();
+
+		// without configured indexes the existing ones are used
+		repo = new SailRepository(new LmdbStore(dataDir));
+		try (RepositoryConnection conn = repo.getConnection()) {
+			assertEquals(10, conn.size());
+			assertEquals(5, Iterations.asList(conn.getStatements(null, null, obj, false)).size());
+		}
+		repo.shutDown();
+	}
 }
@@ -22,8 +22,10 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
@@ -123,6 +125,42 @@ public class TripleStoreAutoGrowTest {
 		}
 	}
 
+	@Test
+	public void testBulkLoadGrowsMapWithoutIntermediateCommit() throws Exception {
+		File runDir = new File(dataDir, "bulk-load-runs");
+		assertTrue(runDir.mkdirs());
+		Map<String, SortedKeyRuns> sortedKeys = new HashMap<>();
+		for (String fieldSeq : tripleStore.getIndexFieldSeqs()) {
+			sortedKeys.put(fieldSeq, new SortedKeyRuns(fieldSeq, runDir));
+		}
+		int statements = 50_000;
+		long[] quads = new long[statements * 4];
+		for (int i = 0; i < statements; i++) {
+			quads[i * 4] = 1 + i;
+			quads[i * 4 + 1] = 1 + i % 10;
+			quads[i * 4 + 2] = 1 + i % 1000;
+			quads[i * 4 + 3] = i % 3;
+		}
+		for (SortedKeyRuns runs : sortedKeys.values()) {
+			runs.writeRun(quads, statements);
+		}
+
+		tripleStore.startTransaction();
+		// an estimate of zero forces the map to be grown while the keys are appended
+		assertEquals(statements, tripleStore.appendSorted(sortedKeys::get, 0));
+		try (Txn txn = tripleStore.getTxnManager().createReadTxn()) {
+			assertEquals(0, count(tripleStore.getTriples(txn, -1, -1, -1, -1, true)),
+					"Bulk load must not be visible before it is committed");
+		}
+		tripleStore.commit();
+
+		try (Txn txn = tripleStore.getTxnManager().createReadTxn()) {
+			assertEquals(statements, count(tripleStore.getTriples(txn, -1, -1, -1, -1, true)));
+			assertEquals(statements / 10, count(tripleStore.getTriples(txn, -1, 1, -1, -1, true)));
+			assertEquals(statements / 3 + 1, count(tripleStore.getTriples(txn, -1, -1, -1, 0, true)));
+		}
+	}
+
 	@Test
 	public void testRecordCacheReplayRegistersContextsForAlignedBatch() throws Exception {
 		LmdbStoreConfig config = new LmdbStoreConfig("spoc,posc,ospc,cspo,cpos,cosp");
@@ -14,6 +14,7 @@ package org.eclipse.rdf4j.sail.lmdb;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOOVERWRITE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
@@ -34,6 +35,7 @@ import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
 import org.junit.jupiter.api.AfterEach;
@@ -89,6 +91,80 @@ public class TripleStoreTest {
 		}
 	}
 
+	@Test
+	public void testCursorsOfReadTxnsArePooled() throws Exception {
+		tripleStore.startTransaction();
+		for (int i = 1; i <= 10; i++) {
+			tripleStore.storeTriple(i, 2, 3, 1, true);
+		}
+		tripleStore.commit();
+
+		TxnManager txnManager = tripleStore.getTxnManager();
+		TxnManager.PoolStatistics before = txnManager.poolStatistics();
+		for (int i = 1; i <= 10; i++) {
+			try (Txn txn = txnManager.createReadTxn()) {
+				try (RecordIterator it = tripleStore.getTriples(txn, i, 2, -1, -1, true)) {
+					assertEquals(1, count(it));
+				}
+				// the cursor of the subject index is reused by the second lookup of the same transaction
+				try (RecordIterator it = tripleStore.getTriples(txn, i, -1, -1, -1, true)) {
+					assertEquals(1, count(it));
+				}
+			}
+		}
+		TxnManager.PoolStatistics after = txnManager.poolStatistics();
+		assertTrue(after.txnHits() - before.txnHits() >= 9);
+		assertTrue(after.cursorHits() - before.cursorHits() >= 19);
+	}
+
+	@Test
+	public void testLongRunningReadersAreAborted() throws Exception {
+		File readerDir = new File(dataDir, "reader-store");
+		readerDir.mkdirs();
+		LmdbStoreConfig config = new LmdbStoreConfig("spoc").setReaderOwnerTracking(true).setMaxReaderAge(1000);
+		try (TripleStore store = new TripleStore(readerDir, config, null)) {
+			store.startTransaction();
+			for (int i = 1; i <= 1000; i++) {
+				store.storeTriple(i, 2, 3, 1, true);
+			}
+			store.commit();
+
+			TxnManager txnManager = store.getTxnManager();
+			Txn txn = txnManager.createReadTxnUntracked();
+			RecordIterator it = store.getTriples(txn, -1, -1, -1, -1, true);
+			try {
+				assertTrue(it.next() != null);
+
+				store.startTransaction();
+				store.removeTriplesByContext(-1, -1, -1, -1, true, quad -> {
+				});
+				store.commit();
+
+				// the reader still sees the removed triples, so their pages cannot be reused
+				LmdbReaderStatistics statistics = txnManager.readerStatistics();
+				assertEquals(1, statistics.activeReaders());
+				assertTrue(statistics.pinnedFreePages() > 0);
+				assertFalse(txn.isExpired());
+				assertTrue(it.next() != null);
+
+				Thread.sleep(1100);
+				store.startTransaction();
+				store.storeTriple(1, 2, 3, 1, true);
+				store.commit();
+
+				assertTrue(txn.isExpired());
+				assertThrows(SailException.class, it::next);
+				statistics = txnManager.readerStatistics();
+				assertEquals(0, statistics.activeReaders());
+				assertEquals(0, statistics.pinnedFreePages());
+				assertEquals(1, statistics.abortedReaders());
+			} finally {
+				it.close();
+				txn.close();
+			}
+		}
+	}
+
 	@Test
 	public void testExplicitPromotionRemovesSecondaryInferredRows() throws Exception {
 		File secondaryIndexDir = new File(dataDir, "secondary-index-store");
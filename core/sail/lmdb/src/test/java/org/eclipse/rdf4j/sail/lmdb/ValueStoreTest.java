@@ -48,6 +48,7 @@ import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
 import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreSchema;
+import org.eclipse.rdf4j.sail.lmdb.inlined.OrderedIdRange;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbBNode;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbIRI;
 import org.eclipse.rdf4j.sail.lmdb.model.LmdbLiteral;
@@ -170,6 +171,90 @@ public class ValueStoreTest {
 		assertEquals("IDs should have been reused", Collections.emptySet(), idsToGc);
 	}
 
+	@Test
+	public void testLongLiteralsAreCompressed() throws Exception {
+		valueStore.close();
+		String text = "The quick brown fox jumps over the lazy dog. ".repeat(40);
+		Literal plain = Values.literal(text + "plain", "en");
+		Literal compressed = Values.literal(text + "compressed", Values.iri("urn:example:text"));
+
+		// values of a store without compression are still found after it has been enabled
+		valueStore = createValueStore(new LmdbStoreConfig().setLiteralCompressionThreshold(0));
+		valueStore.startTransaction(true);
+		long plainId = valueStore.storeValue(plain);
+		valueStore.commit();
+		valueStore.close();
+
+		valueStore = createValueStore();
+		valueStore.startTransaction(true);
+		assertEquals(plainId, valueStore.storeValue(plain));
+		long compressedId = valueStore.storeValue(compressed);
+		valueStore.commit();
+		valueStore.close();
+
+		valueStore = createValueStore();
+		assertEquals(plain, valueStore.getValue(plainId));
+		assertEquals(compressed, valueStore.getValue(compressedId));
+		assertEquals(compressedId, valueStore.getId(compressed));
+
+		valueStore.startTransaction(true);
+		valueStore.gcIds(Set.of(compressedId), new HashSet<>());
+		valueStore.commit();
+		assertEquals(LmdbValue.UNKNOWN_ID, valueStore.getId(compressed));
+		assertEquals(plainId, valueStore.getId(plain));
+	}
+
+	@Test
+	public void testUnorderedRangeValuesAreTrackedUntilCollected() throws Exception {
+		// non-canonical lexical forms are not inlined
+		Literal nonCanonical = Values.literal("+7", XSD.INTEGER);
+		Literal lower = Values.literal(5);
+		Literal upper = Values.literal(10);
+
+		valueStore.startTransaction(true);
+		long id = valueStore.storeValue(nonCanonical);
+		valueStore.commit();
+		assertFalse(ValueIds.isInlined(id));
+		assertTrue(containsId(valueStore.getOrderedIdRanges(lower, upper), id));
+
+		valueStore.close();
+		valueStore = createValueStore();
+		assertTrue(containsId(valueStore.getOrderedIdRanges(lower, upper), id));
+
+		valueStore.startTransaction(true);
+		valueStore.gcIds(Set.of(id), new HashSet<>());
+		valueStore.commit();
+		assertFalse(containsId(valueStore.getOrderedIdRanges(lower, upper), id));
+	}
+
+	private static boolean containsId(List<OrderedIdRange> ranges, long id) {
+		return ranges.stream().anyMatch(range -> range.getMinId() == id && range.getMaxId() == id);
+	}
+
+	@Test
+	public void testCompressionReducesValueDbSize() throws Exception {
+		valueStore.close();
+		long uncompressedSize = storeLongLiterals("uncompressed", 0);
+		long compressedSize = storeLongLiterals("compressed", LmdbStoreConfig.LITERAL_COMPRESSION_THRESHOLD);
+		assertTrue(compressedSize * 2 < uncompressedSize);
+		valueStore = createValueStore();
+	}
+
+	private long storeLongLiterals(String dirName, int threshold) throws IOException {
+		File dir = new File(dataDir, dirName);
+		ValueStore store = new ValueStore(dir, new LmdbStoreConfig().setLiteralCompressionThreshold(threshold));
+		try {
+			store.startTransaction(true);
+			for (int i = 0; i < 2000; i++) {
+				store.storeValue(Values.literal(i + " lorem ipsum dolor sit amet ".repeat(30)));
+			}
+			store.commit();
+		} finally {
+			store.close();
+		}
+		return new File(dir, "data.mdb").length();
+	}
+
 	@Test
 	public void testGcValuesAfterRestart() throws Exception {
 		Random random = new Random(1337);
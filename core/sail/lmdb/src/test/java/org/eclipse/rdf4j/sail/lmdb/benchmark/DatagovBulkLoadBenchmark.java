@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.util.Files;
+import org.eclipse.rdf4j.benchmark.common.BenchmarkResources;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.sail.lmdb.LmdbBulkLoader;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
+import org.eclipse.rdf4j.sail.lmdb.LmdbTestUtil;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares loading the datagovbe-valid.ttl dataset into an empty store in a single transaction with loading it through
+ * an {@link LmdbBulkLoader}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G", "-XX:+UseG1GC" })
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DatagovBulkLoadBenchmark {
+
+	private static final String DATA_FILE = "benchmarkFiles/datagovbe-valid.ttl.gz";
+
+	@Param({ "false", "true" })
+	public boolean allIndexes;
+
+	private Model data;
+	private File temporaryFolder;
+	private LmdbStore store;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, InterruptedException {
+		try (InputStream resourceAsStream = Objects.requireNonNull(
+				BenchmarkResources.openDecompressedStream(DATA_FILE),
+				"dataset resource not found: " + DATA_FILE)) {
+			this.data = Rio.parse(resourceAsStream, "", RDFFormat.TURTLE);
+		}
+		System.gc();
+		Thread.sleep(100);
+		System.gc();
+		Thread.sleep(100);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(DatagovBulkLoadBenchmark.class.getSimpleName())
+				.forks(0)
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Benchmark
+	public boolean loadSingleTransaction() {
+		SailRepository sailRepository = new SailRepository(createStore());
+		try (SailRepositoryConnection connection = sailRepository.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			connection.add(data);
+			connection.commit();
+			return connection.hasStatement(null, null, null, true);
+		}
+	}
+
+	@Benchmark
+	public long bulkLoad() {
+		try (LmdbBulkLoader loader = createStore().createBulkLoader()) {
+			data.forEach(loader::handleStatement);
+			return loader.finish();
+		}
+	}
+
+	private LmdbStore createStore() {
+		temporaryFolder = Files.newTemporaryFolder();
+		LmdbStoreConfig config = allIndexes ? ConfigUtil.createAllIndexesConfig() : ConfigUtil.createConfig();
+		store = new LmdbStore(temporaryFolder, config);
+		return store;
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDownInvocation() throws IOException {
+		try {
+			if (store != null) {
+				store.shutDown();
+			}
+		} finally {
+			store = null;
+			if (temporaryFolder != null) {
+				LmdbTestUtil.deleteDir(temporaryFolder);
+				temporaryFolder = null;
+			}
+		}
+	}
+}
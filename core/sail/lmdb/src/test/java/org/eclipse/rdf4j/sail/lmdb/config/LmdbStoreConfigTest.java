@@ -201,6 +201,30 @@ class LmdbStoreConfigTest {
 		);
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void testThatLmdbStoreConfigParseAndExportReaderOwnerTracking(final boolean readerOwnerTracking) {
+		testParseAndExport(
+				LmdbStoreSchema.READER_OWNER_TRACKING,
+				Values.literal(readerOwnerTracking),
+				LmdbStoreConfig::getReaderOwnerTracking,
+				readerOwnerTracking,
+				readerOwnerTracking
+		);
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 0, 60_000 })
+	void testThatLmdbStoreConfigParseAndExportMaxReaderAge(final long maxReaderAge) {
+		testParseAndExport(
+				LmdbStoreSchema.MAX_READER_AGE,
+				Values.literal(maxReaderAge),
+				LmdbStoreConfig::getMaxReaderAge,
+				maxReaderAge,
+				maxReaderAge > 0
+		);
+	}
+
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void testThatLmdbStoreConfigParseAndExportAutoGrow(final boolean autoGrow) {
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb.inlined;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.algebra.Compare.CompareOp;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.util.QueryEvaluationUtil;
+import org.junit.jupiter.api.Test;
+
+class OrderedIdRangeTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final List<Literal> NUMBERS = List.of(
+			vf.createLiteral(Double.NEGATIVE_INFINITY),
+			vf.createLiteral(-1e30),
+			vf.createLiteral(BigInteger.valueOf(-(1L << 54))),
+			vf.createLiteral(-1000.5f),
+			vf.createLiteral(-1000),
+			vf.createLiteral(-2.5d),
+			vf.createLiteral("-1", XSD.NEGATIVE_INTEGER),
+			vf.createLiteral(-Double.MIN_VALUE),
+			vf.createLiteral(0L),
+			vf.createLiteral(0.0f),
+			vf.createLiteral(Double.MIN_VALUE),
+			vf.createLiteral((byte) 1),
+			vf.createLiteral(1.5f),
+			vf.createLiteral("2", XSD.UNSIGNED_SHORT),
+			vf.createLiteral(30.0d),
+			vf.createLiteral(30),
+			vf.createLiteral(30.000001d),
+			vf.createLiteral(50L),
+			vf.createLiteral(1e20),
+			vf.createLiteral(Float.MAX_VALUE),
+			vf.createLiteral(Double.POSITIVE_INFINITY));
+
+	private static final List<Literal> CALENDARS = List.of(
+			vf.createLiteral("0001-01-01T00:00:00Z", XSD.DATETIME),
+			vf.createLiteral("1969-12-31", XSD.DATE),
+			vf.createLiteral("1970-01-01T00:00:00+14:00", XSD.DATETIME),
+			vf.createLiteral("1970-01-01T00:00:00", XSD.DATETIME),
+			vf.createLiteral("1970-01-01T00:00:00.5Z", XSD.DATETIMESTAMP),
+			vf.createLiteral("2024-02-29T12:00:00-05:00", XSD.DATETIME),
+			vf.createLiteral("2024-03-01", XSD.DATE),
+			vf.createLiteral("8191-12-31T23:59:59Z", XSD.DATETIME));
+
+	@Test
+	void orderedIdsFollowValueOrderPerEncoding() {
+		assertIncreasing(List.of(vf.createLiteral(BigInteger.valueOf(-(1L << 54))), vf.createLiteral(-1000),
+				vf.createLiteral("-1", XSD.NEGATIVE_INTEGER), vf.createLiteral(0L), vf.createLiteral((byte) 1),
+				vf.createLiteral("2", XSD.UNSIGNED_SHORT), vf.createLiteral(30), vf.createLiteral(50L)));
+		assertIncreasing(List.of(vf.createLiteral(Double.NEGATIVE_INFINITY), vf.createLiteral(-1e30),
+				vf.createLiteral(-2.5d), vf.createLiteral(-Double.MIN_VALUE), vf.createLiteral(0.0d),
+				vf.createLiteral(Double.MIN_VALUE), vf.createLiteral(30.0d), vf.createLiteral(30.000001d),
+				vf.createLiteral(1e20), vf.createLiteral(Double.POSITIVE_INFINITY)));
+		assertIncreasing(List.of(vf.createLiteral(Float.NEGATIVE_INFINITY), vf.createLiteral(-1000.5f),
+				vf.createLiteral(-0.0f), vf.createLiteral(0.0f), vf.createLiteral(1.5f),
+				vf.createLiteral(Float.MAX_VALUE)));
+		assertIncreasing(List.of(vf.createLiteral("0001-01-01T00:00:00Z", XSD.DATETIME),
+				vf.createLiteral("1970-01-01T00:00:00+14:00", XSD.DATETIME),
+				vf.createLiteral("1970-01-01T00:00:00.5Z", XSD.DATETIME),
+				vf.createLiteral("2024-02-29T12:00:00-05:00", XSD.DATETIME),
+				vf.createLiteral("8191-12-31T23:59:59Z", XSD.DATETIME)));
+	}
+
+	@Test
+	void orderedPackAndUnpack() {
+		for (Literal literal : NUMBERS) {
+			assertRoundTrip(literal);
+		}
+		for (Literal literal : CALENDARS) {
+			assertRoundTrip(literal);
+		}
+	}
+
+	@Test
+	void rangesContainAllMatchingValues() {
+		assertRangesContainMatches(NUMBERS, vf.createLiteral(30), vf.createLiteral(50));
+		assertRangesContainMatches(NUMBERS, vf.createLiteral(-2.5d), null);
+		assertRangesContainMatches(NUMBERS, null, vf.createLiteral(1.5f));
+		assertRangesContainMatches(NUMBERS, vf.createLiteral("29.99", XSD.DECIMAL), vf.createLiteral(1e19));
+		assertRangesContainMatches(CALENDARS, vf.createLiteral("1970-01-01T00:00:00Z", XSD.DATETIME),
+				vf.createLiteral("2024-03-01", XSD.DATE));
+		assertRangesContainMatches(CALENDARS, null, vf.createLiteral("1970-01-01", XSD.DATE));
+	}
+
+	@Test
+	void unsupportedBounds() {
+		assertThat(OrderedIdRange.forBounds(vf.createLiteral("a"), null)).isNull();
+		assertThat(OrderedIdRange.forBounds(vf.createLiteral(1), vf.createLiteral("2024-03-01", XSD.DATE))).isNull();
+		assertThat(OrderedIdRange.forBounds(vf.createLiteral("12:00:00", XSD.TIME), null)).isNull();
+		assertThat(OrderedIdRange.forBounds(vf.createLiteral("abc", XSD.INT), null)).isNull();
+	}
+
+	private static void assertIncreasing(List<Literal> literals) {
+		long previous = 0;
+		for (Literal literal : literals) {
+			long id = Values.packLiteral(literal, true);
+			assertThat(id).as("id of %s", literal).isNotZero();
+			assertThat(Long.compareUnsigned(id, previous)).as("order of %s", literal).isPositive();
+			previous = id;
+		}
+	}
+
+	private static void assertRoundTrip(Literal literal) {
+		long id = Values.packLiteral(literal, true);
+		assertThat(id).as("id of %s", literal).isNotZero();
+		assertThat(Values.isOrderedInline(id)).isTrue();
+		Literal unpacked = Values.unpackLiteral(id, vf, true);
+		assertThat(QueryEvaluationUtil.compareLiterals(unpacked, literal, CompareOp.EQ, true))
+				.as("%s unpacked as %s", literal, unpacked)
+				.isTrue();
+		assertThat(unpacked.getDatatype()).isEqualTo(literal.getDatatype());
+	}
+
+	private static void assertRangesContainMatches(List<Literal> values, Literal lower, Literal upper) {
+		List<OrderedIdRange> ranges = OrderedIdRange.forBounds(lower, upper);
+		assertThat(ranges).isNotNull();
+		for (Literal value : values) {
+			if (lower != null && !compare(value, lower, CompareOp.GE)
+					|| upper != null && !compare(value, upper, CompareOp.LE)) {
+				continue;
+			}
+			long id = Values.packLiteral(value, true);
+			assertThat(ranges).as("ranges %s contain %s", ranges, value)
+					.anyMatch(range -> Long.compareUnsigned(id, range.getMinId()) >= 0
+							&& Long.compareUnsigned(id, range.getMaxId()) <= 0 && range.accepts(id));
+		}
+	}
+
+	private static boolean compare(Literal value, Literal bound, CompareOp op) {
+		try {
+			return QueryEvaluationUtil.compareLiterals(value, bound, op, false);
+		} catch (ValueExprEvaluationException e) {
+			// indeterminate comparisons do not match
+			return false;
+		}
+	}
+}
@@ -14,8 +14,11 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +33,7 @@ import org.eclipse.rdf4j.common.concurrent.locks.diagnostics.ConcurrentCleaner;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
@@ -50,6 +54,7 @@ import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SharedScanCoordinator;
 import org.eclipse.rdf4j.sail.memory.model.MemBNode;
 import org.eclipse.rdf4j.sail.memory.model.MemIRI;
 import org.eclipse.rdf4j.sail.memory.model.MemResource;
@@ -122,6 +127,11 @@ class MemorySailStore implements SailStore {
 	 */
 	private volatile int currentSnapshot;
 
+	/**
+	 * Lets snapshot datasets hand out shared scan keys, see {@link SharedScanCoordinator}.
+	 */
+	private volatile boolean sharedScans;
+
 	final SnapshotMonitor snapshotMonitor;
 
 	/**
@@ -154,6 +164,13 @@ class MemorySailStore implements SailStore {
 		snapshotMonitor = new SnapshotMonitor(debug);
 	}
 
+	/**
+	 * Enables or disables sharing of concurrent scans between queries that read the same snapshot.
+	 */
+	public void setSharedScans(boolean sharedScans) {
+		this.sharedScans = sharedScans;
+	}
+
 	@Override
 	public ValueFactory getValueFactory() {
 		return valueFactory;
@@ -1048,6 +1065,38 @@ class MemorySailStore implements SailStore {
 			}
 		}
 
+		@Override
+		public Object getSharedScanKey(Resource subj, IRI pred, Value obj, Resource... contexts) {
+			if (!sharedScans || snapshot < 0 || contexts.length > 0) {
+				return null;
+			}
+			if ((subj != null ? 1 : 0) + (pred != null ? 1 : 0) + (obj != null ? 1 : 0) > 1) {
+				// the scanned statement list would depend on list sizes, which change with concurrent commits
+				return null;
+			}
+			// statements visible in a snapshot keep their relative order in every statement list
+			return List.of(MemorySailStore.this, explicit, snapshot);
+		}
+
+		@Override
+		public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws SailException {
+			// MemValues are canonical, so identity comparison avoids hashing and comparing lexical forms
+			Set<Value> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+			try (CloseableIteration<MemStatement> iter = createStatementIterator(subj, pred, obj, explicit,
+					getCurrentSnapshot(), contexts)) {
+				while (iter.hasNext()) {
+					Value value = component.getValue(iter.next());
+					if (value != null) {
+						distinct.add(value);
+					}
+				}
+			} catch (InterruptedException e) {
+				throw convertToSailException(e);
+			}
+			return distinct.size();
+		}
+
 		@Override
 		public CloseableIteration<MemTripleTerm> getTriples(Resource subj, IRI pred, Value obj)
 				throws SailException {
@@ -100,6 +100,11 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	 */
 	private volatile long syncDelay = 0L;
 
+	/**
+	 * Whether concurrent queries that read the same snapshot share scans of the same statement pattern.
+	 */
+	private volatile boolean sharedScans = false;
+
 	/**
 	 * Semaphore used to synchronize concurrent access to {@link #syncWithLock()} .
 	 */
@@ -203,6 +208,28 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 		return syncDelay;
 	}
 
+	/**
+	 * Enables sharing of scans between concurrently executing queries: a query that scans a statement pattern that
+	 * another query is already scanning in the same snapshot consumes that scan instead of starting its own. Only
+	 * patterns with at most one bound subject, predicate or object over all contexts are shared.
+	 * <p>
+	 * The default value for this parameter is <var>false</var>.
+	 *
+	 * @param sharedScans <var>true</var> to share scans between concurrent queries
+	 * @see org.eclipse.rdf4j.sail.base.SharedScanCoordinator
+	 */
+	public void setSharedScans(boolean sharedScans) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+
+		this.sharedScans = sharedScans;
+	}
+
+	public boolean isSharedScans() {
+		return sharedScans;
+	}
+
 	/**
 	 * @return Returns the {@link EvaluationStrategy}.
 	 */
@@ -258,7 +285,9 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	protected void initializeInternal() throws SailException {
 		logger.debug("Initializing MemoryStore...");
 
-		this.store = new MemorySailStore(debugEnabled());
+		MemorySailStore memorySailStore = new MemorySailStore(debugEnabled());
+		memorySailStore.setSharedScans(sharedScans);
+		this.store = memorySailStore;
 
 		if (persist) {
 			File dataDir = getDataDir();
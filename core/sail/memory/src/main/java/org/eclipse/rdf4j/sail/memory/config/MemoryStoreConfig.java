@@ -32,6 +32,8 @@ public class MemoryStoreConfig extends BaseSailConfig {
 
 	private long syncDelay = 0L;
 
+	private boolean sharedScans = false;
+
 	public MemoryStoreConfig() {
 		super(MemoryStoreFactory.SAIL_TYPE);
 	}
@@ -62,6 +64,14 @@ public class MemoryStoreConfig extends BaseSailConfig {
 		this.syncDelay = syncDelay;
 	}
 
+	public boolean getSharedScans() {
+		return sharedScans;
+	}
+
+	public void setSharedScans(boolean sharedScans) {
+		this.sharedScans = sharedScans;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		if (Configurations.useLegacyConfig()) {
@@ -79,6 +89,10 @@ public class MemoryStoreConfig extends BaseSailConfig {
 			m.add(implNode, CONFIG.Mem.syncDelay, literal(syncDelay));
 		}
 
+		if (sharedScans) {
+			m.add(implNode, CONFIG.Mem.sharedScans, BooleanLiteral.TRUE);
+		}
+
 		return implNode;
 	}
 
@@ -122,6 +136,16 @@ public class MemoryStoreConfig extends BaseSailConfig {
 											+ syncDelayValue);
 						}
 					});
+
+			Configurations.getLiteralValue(graph, implNode, CONFIG.Mem.sharedScans)
+					.ifPresent(sharedScansValue -> {
+						try {
+							setSharedScans((sharedScansValue).booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for " + CONFIG.Mem.sharedScans
+									+ " property, found " + sharedScansValue);
+						}
+					});
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
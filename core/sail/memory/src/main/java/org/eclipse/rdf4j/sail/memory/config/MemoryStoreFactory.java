@@ -62,6 +62,7 @@ public class MemoryStoreFactory implements SailFactory {
 			memoryStore.setSlowQueryLogFile(memConfig.getSlowQueryLogFile());
 			memoryStore.setPersist(memConfig.getPersist());
 			memoryStore.setSyncDelay(memConfig.getSyncDelay());
+			memoryStore.setSharedScans(memConfig.getSharedScans());
 
 			if (memConfig.getIterationCacheSyncThreshold() > 0) {
 				memoryStore.setIterationCacheSyncThreshold(memConfig.getIterationCacheSyncThreshold());
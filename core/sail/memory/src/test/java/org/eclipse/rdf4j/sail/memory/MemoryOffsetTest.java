@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.testsuite.sail.SailOffsetTest;
+
+/**
+ * An extension of {@link SailOffsetTest} for testing the class {@link MemoryStore}.
+ */
+public class MemoryOffsetTest extends SailOffsetTest {
+
+	@Override
+	protected Sail createSail() {
+		Sail sail = new MemoryStore();
+		sail.init();
+		return sail;
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs many structurally similar queries at the same time, all of which scan the same popular predicates, with and
+ * without {@link MemoryStore#setSharedScans(boolean) shared scans}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SharedScanBenchmark extends BaseConcurrentBenchmark {
+
+	private static final String NS = "http://example.org/";
+
+	private static final String query1 = String.join("\n", "",
+			"PREFIX ex: <" + NS + ">",
+			"SELECT ?s ?value WHERE {",
+			"  ?s ex:value ?value .",
+			"  FILTER(?value > 500)",
+			"}");
+
+	private static final String query2 = String.join("\n", "",
+			"PREFIX ex: <" + NS + ">",
+			"SELECT ?s WHERE {",
+			"  ?s a ex:Thing .",
+			"  FILTER(STRENDS(STR(?s), \"7\"))",
+			"}");
+
+	@Param({ "false", "true" })
+	public boolean sharedScans;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		super.setup();
+		MemoryStore memoryStore = new MemoryStore();
+		memoryStore.setSharedScans(sharedScans);
+		repository = new SailRepository(memoryStore);
+
+		try (RepositoryConnection connection = repository.getConnection()) {
+			ValueFactory vf = connection.getValueFactory();
+			IRI thing = vf.createIRI(NS, "Thing");
+			IRI value = vf.createIRI(NS, "value");
+			IRI label = vf.createIRI(NS, "label");
+			Random random = new Random(4923);
+
+			connection.begin(IsolationLevels.NONE);
+			for (int i = 0; i < 200_000; i++) {
+				IRI subject = vf.createIRI(NS, "thing" + i);
+				connection.add(subject, RDF.TYPE, thing);
+				connection.add(subject, value, vf.createLiteral(random.nextInt(1000)));
+				connection.add(subject, label, vf.createLiteral("Thing " + i));
+			}
+			connection.commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		repository.shutDown();
+		super.tearDown();
+	}
+
+	@Benchmark
+	public void concurrentScans(Blackhole blackhole) throws InterruptedException {
+		CountDownLatch startSignal = new CountDownLatch(1);
+
+		List<Future<?>> collect = getWorkload(blackhole, startSignal)
+				.stream()
+				.map(this::submit)
+				.collect(Collectors.toList());
+
+		startSignal.countDown();
+
+		for (Future<?> future : collect) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private List<Runnable> getWorkload(Blackhole blackhole, CountDownLatch startSignal) {
+		List<Runnable> list = new ArrayList<>();
+
+		for (int i = 0; i < 50; i++) {
+			list.add(getRunnable(startSignal, null, null, (localConnection) -> {
+				long count = localConnection
+						.prepareTupleQuery(query1)
+						.evaluate()
+						.stream()
+						.count();
+
+				blackhole.consume(count);
+			}));
+		}
+
+		for (int i = 0; i < 50; i++) {
+			list.add(getRunnable(startSignal, null, null, (localConnection) -> {
+				long count = localConnection
+						.prepareTupleQuery(query2)
+						.evaluate()
+						.stream()
+						.count();
+
+				blackhole.consume(count);
+			}));
+		}
+
+		Collections.shuffle(list, new Random(2948234));
+		return list;
+	}
+
+}
@@ -17,8 +17,13 @@ import static org.eclipse.rdf4j.model.util.Values.bnode;
 import org.eclipse.rdf4j.common.transaction.QueryEvaluationMode;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.BooleanLiteral;
+import org.eclipse.rdf4j.model.impl.TreeModel;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.sail.base.config.BaseSailSchema;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -45,4 +50,20 @@ public class MemoryStoreConfigTest {
 		assertThat(config.getPersist()).isTrue();
 		assertThat(config.getSyncDelay()).isEqualTo(1000);
 	}
+
+	@Test
+	void testSharedScans() {
+		MemoryStoreConfig config = new MemoryStoreConfig();
+		assertThat(config.getSharedScans()).isFalse();
+		config.setSharedScans(true);
+
+		Model exported = new TreeModel();
+		Resource implNode = config.export(exported);
+		assertThat(exported.contains(implNode, CONFIG.Mem.sharedScans, BooleanLiteral.TRUE)).isTrue();
+
+		MemoryStoreConfig parsed = new MemoryStoreConfig();
+		parsed.parse(exported, implNode);
+		assertThat(parsed.getSharedScans()).isTrue();
+		assertThat(((MemoryStore) new MemoryStoreFactory().getSail(parsed)).isSharedScans()).isTrue();
+	}
 }
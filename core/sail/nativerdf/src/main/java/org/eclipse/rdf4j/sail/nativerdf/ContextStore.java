@@ -20,15 +20,15 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rdf4j.common.io.IOUtil;
-import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -36,25 +36,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * An in-memory index for context information that uses a file for persistence.
+ * An in-memory index for context information that uses a file for persistence. It keeps the exact number of explicit
+ * and inferred statements of each context, including the default context, as of the last commit.
  * <p>
  * The context index file has an 8-byte header consisting of:
  *
  * <pre>
  * 	byte 1-3         : the magic number marker
  *  byte 4           : the file format version
- *  byte 5-8         : the number of mapped contexts contained in the file, as an int.
+ *  byte 5-8         : the number of mapped contexts contained in the file, as an int. A negative number marks a file
+ *                     that is being updated by a commit and must be reconstructed when it is read.
  * </pre>
  * <p>
  * Each context is encoded in the file as a record, as follows:
  *
  * <pre>
- *   byte 1 - 8      : the number of statements in the content, as a long.
- *   byte 9          : boolean flag indicating the type of context identifier (1 = IRI, 0 = blank node)
- *   byte 10 - 11    : the length of the encoded context identifier
- *   byte 12 - A     : the UTF-8 encoded the encoded context identifer
+ *   byte 1 - 8      : the number of explicit statements in the context, as a long.
+ *   byte 9 - 16     : the number of inferred statements in the context, as a long.
+ *   byte 17         : the type of context identifier (1 = IRI, 0 = blank node, 2 = default context)
+ *   byte 18 - 19    : the length of the encoded context identifier, absent for the default context
+ *   byte 20 - A     : the UTF-8 encoded the encoded context identifer, absent for the default context
  * </pre>
  *
+ * Files of version 1 only store the total number of statements per named context and are reconstructed when they are
+ * read.
+ *
  * @author Jeen Broekstra
  */
 class ContextStore implements Iterable<Resource> {
@@ -72,33 +78,67 @@ class ContextStore implements Iterable<Resource> {
 	/**
 	 * File format version, stored as the fourth byte in context files.
 	 */
-	private static final byte FILE_FORMAT_VERSION = 1;
+	private static final byte FILE_FORMAT_VERSION = 2;
+
+	private static final int HEADER_LENGTH = MAGIC_NUMBER.length + 1;
+
+	private static final byte BNODE_TYPE = 0;
+
+	private static final byte IRI_TYPE = 1;
+
+	private static final byte DEFAULT_CONTEXT_TYPE = 2;
 
 	/**
 	 * The data file for this {@link ContextStore}.
 	 */
 	private final File file;
 
-	private final Map<Resource, Long> contextInfoMap;
+	private final Map<Resource, StatementCounts> contextInfoMap;
+
+	/**
+	 * The statement counts of the default context.
+	 */
+	private volatile StatementCounts defaultContextCounts = StatementCounts.EMPTY;
+
+	/**
+	 * The statement counts of all contexts, including the default context.
+	 */
+	private volatile StatementCounts totalCounts = StatementCounts.EMPTY;
 
 	/**
 	 * Flag indicating whether the contents of this {@link ContextStore} are different from what is stored on disk.
 	 */
 	private volatile boolean contentsChanged;
 
+	/**
+	 * Flag indicating whether the file on disk has been marked as being updated by {@link #beginUpdate()}.
+	 */
+	private boolean fileMarkedForUpdate;
+
 	private final ValueFactory valueFactory;
 
 	private final NativeSailStore store;
 
+	/**
+	 * Flag indicating whether updates of the file on disk should be forced to disk, like the commits of the triple
+	 * store.
+	 */
+	private final boolean forceSync;
+
 	ContextStore(NativeSailStore store, File dataDir) throws IOException {
+		this(store, dataDir, false);
+	}
+
+	ContextStore(NativeSailStore store, File dataDir, boolean forceSync) throws IOException {
 		Objects.requireNonNull(store);
 		Objects.requireNonNull(dataDir);
 
 		this.file = new File(dataDir, FILE_NAME);
 		this.valueFactory = store.getValueFactory();
 		this.store = store;
+		this.forceSync = forceSync;
 
-		contextInfoMap = new HashMap<>(16);
+		contextInfoMap = new ConcurrentHashMap<>(16);
 
 		try {
 			readContextsFromFile();
@@ -117,34 +157,89 @@ class ContextStore implements Iterable<Resource> {
 	}
 
 	/**
-	 * Increase the size of the context. If the context was not yet known, it is created with a size of 1.
+	 * Increase the number of explicit statements in the context by one. If the context was not yet known, it is
+	 * created.
 	 *
 	 * @param context the context identifier.
 	 */
 	void increment(Resource context) {
-		contextInfoMap.merge(context, 1L, (size, one) -> size + one);
-		contentsChanged = true;
+		update(context, 1, 0);
 	}
 
 	/**
-	 * Decrease the size of the context by the given amount. If the size reaches zero, the context is removed.
+	 * Decrease the number of explicit statements in the context by the given amount. If the context no longer contains
+	 * any statements, it is removed.
 	 *
 	 * @param context the context identifier.
 	 * @param amount  the number by which to decrease the size
 	 */
 	void decrementBy(Resource context, long amount) {
-		contextInfoMap.computeIfPresent(context, (c, size) -> size <= amount ? null : size - amount);
+		update(context, -amount, 0);
+	}
+
+	/**
+	 * Applies the changes that a commit made to the number of statements of each context.
+	 *
+	 * @param changes the changes by context, where the default context is represented by <var>null</var>.
+	 */
+	synchronized void update(Map<Resource, StatementCounts> changes) {
+		for (Entry<Resource, StatementCounts> entry : changes.entrySet()) {
+			StatementCounts change = entry.getValue();
+			update(entry.getKey(), change.explicit(), change.inferred());
+		}
+	}
+
+	private synchronized void update(Resource context, long explicitChange, long inferredChange) {
+		if (context == null) {
+			StatementCounts before = defaultContextCounts;
+			defaultContextCounts = before.add(explicitChange, inferredChange);
+			updateTotal(before, defaultContextCounts);
+		} else {
+			StatementCounts before = contextInfoMap.getOrDefault(context, StatementCounts.EMPTY);
+			StatementCounts after = before.add(explicitChange, inferredChange);
+			if (after.isEmpty()) {
+				contextInfoMap.remove(context);
+			} else {
+				contextInfoMap.put(context, after);
+			}
+			updateTotal(before, after);
+		}
 		contentsChanged = true;
 	}
 
+	private void updateTotal(StatementCounts before, StatementCounts after) {
+		totalCounts = totalCounts.add(after.explicit() - before.explicit(), after.inferred() - before.inferred());
+	}
+
+	/**
+	 * Gets the number of statements in the specified context.
+	 *
+	 * @param context the context identifier, or <var>null</var> for the default context.
+	 */
+	StatementCounts getCounts(Resource context) {
+		if (context == null) {
+			return defaultContextCounts;
+		}
+		return contextInfoMap.getOrDefault(context, StatementCounts.EMPTY);
+	}
+
+	/**
+	 * Gets the number of statements in all contexts, including the default context.
+	 */
+	StatementCounts getTotalCounts() {
+		return totalCounts;
+	}
+
 	@Override
 	public Iterator<Resource> iterator() {
 		return contextInfoMap.keySet().iterator();
 	}
 
-	void clear() {
-		if (!contextInfoMap.isEmpty()) {
+	synchronized void clear() {
+		if (!contextInfoMap.isEmpty() || !totalCounts.isEmpty()) {
 			contextInfoMap.clear();
+			defaultContextCounts = StatementCounts.EMPTY;
+			totalCounts = StatementCounts.EMPTY;
 			contentsChanged = true;
 		}
 	}
@@ -152,36 +247,78 @@ class ContextStore implements Iterable<Resource> {
 	void close() {
 	}
 
+	/**
+	 * Marks the file on disk as being updated, before a commit changes the triple store. If the commit does not
+	 * complete, the marked file is reconstructed from the triple store when it is read again. With forced syncing,
+	 * the mark is forced to disk before this method returns.
+	 */
+	void beginUpdate() throws IOException {
+		synchronized (file) {
+			if (!fileMarkedForUpdate) {
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+					raf.seek(HEADER_LENGTH);
+					raf.writeInt(-1);
+					if (forceSync) {
+						raf.getFD().sync();
+					}
+				}
+				fileMarkedForUpdate = true;
+			}
+		}
+	}
+
 	void sync() throws IOException {
-		if (contentsChanged) {
-			// Flush the changes to disk
-			writeContextsToFile();
-			contentsChanged = false;
+		synchronized (file) {
+			if (contentsChanged) {
+				// Flush the changes to disk
+				contentsChanged = false;
+				writeContextsToFile();
+			} else if (fileMarkedForUpdate) {
+				// nothing changed, restore the number of contexts
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+					raf.seek(HEADER_LENGTH);
+					raf.writeInt(contextInfoMap.size());
+					if (forceSync) {
+						raf.getFD().sync();
+					}
+				}
+			}
+			fileMarkedForUpdate = false;
 		}
 	}
 
 	private void writeContextsToFile() throws IOException {
 		synchronized (file) {
-			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			FileOutputStream fileOut = new FileOutputStream(file);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
 				out.write(MAGIC_NUMBER);
 				out.writeByte(FILE_FORMAT_VERSION);
 				out.writeInt(contextInfoMap.size());
-				for (Entry<Resource, Long> entry : contextInfoMap.entrySet()) {
-					out.writeLong(entry.getValue());
-					out.writeBoolean(entry.getKey() instanceof IRI);
+				for (Entry<Resource, StatementCounts> entry : contextInfoMap.entrySet()) {
+					out.writeLong(entry.getValue().explicit());
+					out.writeLong(entry.getValue().inferred());
+					out.writeByte(entry.getKey() instanceof IRI ? IRI_TYPE : BNODE_TYPE);
 					out.writeUTF(entry.getKey().stringValue());
 				}
+				if (!defaultContextCounts.isEmpty()) {
+					out.writeLong(defaultContextCounts.explicit());
+					out.writeLong(defaultContextCounts.inferred());
+					out.writeByte(DEFAULT_CONTEXT_TYPE);
+				}
+				if (forceSync) {
+					out.flush();
+					fileOut.getFD().sync();
+				}
 			}
 		}
 	}
 
 	private void initializeContextCache() throws IOException {
 		logger.debug("initializing context cache");
-		try (CloseableIteration<Resource> contextIter = store.getContexts()) {
-			while (contextIter.hasNext()) {
-				increment(contextIter.next());
-			}
-		}
+		contextInfoMap.clear();
+		defaultContextCounts = StatementCounts.EMPTY;
+		totalCounts = StatementCounts.EMPTY;
+		update(store.countContextStatements());
 	}
 
 	private void readContextsFromFile() throws IOException {
@@ -199,21 +336,30 @@ class ContextStore implements Iterable<Resource> {
 				byte version = in.readByte();
 				if (version > FILE_FORMAT_VERSION) {
 					throw new IOException("Unable to read context file; it uses a newer file format");
+				} else if (version == 1) {
+					throw new IOException("Context file does not contain statement counts, upgrading");
 				} else if (version != FILE_FORMAT_VERSION) {
 					throw new IOException("Unable to read context file; invalid file format version: " + version);
 				}
 
 				final int size = in.readInt();
+				if (size < 0) {
+					throw new IOException("Context file was not completely updated");
+				}
 
 				while (true) {
 					try {
-						long contextSize = in.readLong();
-						boolean isIRI = in.readBoolean();
+						StatementCounts counts = new StatementCounts(in.readLong(), in.readLong());
+						byte type = in.readByte();
+						if (type == DEFAULT_CONTEXT_TYPE) {
+							update(null, counts.explicit(), counts.inferred());
+							continue;
+						}
 						String contextId = in.readUTF();
 
-						Resource context = isIRI ? valueFactory.createIRI(contextId)
+						Resource context = type == IRI_TYPE ? valueFactory.createIRI(contextId)
 								: valueFactory.createBNode(contextId);
-						contextInfoMap.put(context, contextSize);
+						update(context, counts.explicit(), counts.inferred());
 					} catch (EOFException e) {
 						break;
 					} catch (IllegalArgumentException e) {
@@ -224,8 +370,49 @@ class ContextStore implements Iterable<Resource> {
 				if (contextInfoMap.size() != size) {
 					throw new IOException("Unable to read context file; size checksum validation failed");
 				}
+				contentsChanged = false;
 			}
 		}
 	}
 
+	/**
+	 * The number of explicit and inferred statements in a context, or a change to these numbers.
+	 */
+	static final class StatementCounts {
+
+		static final StatementCounts EMPTY = new StatementCounts(0, 0);
+
+		private final long explicit;
+
+		private final long inferred;
+
+		StatementCounts(long explicit, long inferred) {
+			this.explicit = explicit;
+			this.inferred = inferred;
+		}
+
+		long explicit() {
+			return explicit;
+		}
+
+		long inferred() {
+			return inferred;
+		}
+
+		long total() {
+			return explicit + inferred;
+		}
+
+		boolean isEmpty() {
+			return explicit <= 0 && inferred <= 0;
+		}
+
+		/**
+		 * Returns the counts after adding the specified changes, which never drop below zero.
+		 */
+		StatementCounts add(long explicitChange, long inferredChange) {
+			return new StatementCounts(Math.max(0, explicit + explicitChange), Math.max(0, inferred + inferredChange));
+		}
+	}
+
 }
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.annotation.InternalUseOnly;
+
+/**
+ * Read-only memory mapping of a file that is written through a {@link org.eclipse.rdf4j.common.io.NioFile}. Reads of
+ * mapped regions are served from the OS page cache without system calls or intermediate buffers. Writes to the file
+ * remain visible through the mapping because both share the page cache.
+ * <p>
+ * The file is mapped in chunks of at most {@link #CHUNK_SIZE} bytes. The writer of the file reports its size with
+ * {@link #fileSizeChanged(long)}, which maps the file again once it has grown enough to justify a new mapping. Reads
+ * never map the file: a region that is not (yet) mapped is left to the caller, which falls back to regular file reads.
+ * <p>
+ * The mapping must be {@link #invalidate() invalidated} before the file is truncated. The mapping of the last chunk
+ * is released as well when it is replaced by a larger one. Readers that access a slice after it has been released get
+ * an {@link IllegalStateException} instead of a fault, which {@link #read(long, byte[], int, int)} turns into a
+ * fallback to regular file reads.
+ * <p>
+ * Memory-mapped reads are enabled with the system property {@value #ENABLED_PROP}.
+ */
+@InternalUseOnly
+public final class MemoryMappedReader implements Closeable {
+
+	/**
+	 * System property that enables memory-mapped reads of B-tree, data and hash files.
+	 */
+	public static final String ENABLED_PROP = "org.eclipse.rdf4j.sail.nativerdf.memoryMappedReads";
+
+	public static final ValueLayout.OfInt INT_LAYOUT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+	static final long CHUNK_SIZE = 1L << 30;
+
+	/**
+	 * The minimum number of unmapped bytes at the end of the file for which the file is mapped again.
+	 */
+	private static final long MIN_REMAP_BYTES = 1024 * 1024;
+
+	private static final MemorySegment[] NO_CHUNKS = new MemorySegment[0];
+
+	private final File file;
+
+	private final long chunkSize;
+
+	/**
+	 * The currently mapped chunks, each covering <var>chunkSize</var> bytes except for the last one.
+	 */
+	private volatile MemorySegment[] chunks = NO_CHUNKS;
+
+	/**
+	 * The arenas of the currently mapped chunks, at the same indices as the chunks, guarded by <code>this</code>.
+	 */
+	private final List<Arena> arenas = new ArrayList<>();
+
+	private boolean closed;
+
+	/**
+	 * Creates a reader for the file if memory-mapped reads are enabled.
+	 *
+	 * @return the reader, or <code>null</code> if memory-mapped reads are disabled
+	 */
+	public static MemoryMappedReader createIfEnabled(File file) {
+		return Boolean.getBoolean(ENABLED_PROP) ? new MemoryMappedReader(file, CHUNK_SIZE) : null;
+	}
+
+	MemoryMappedReader(File file, long chunkSize) {
+		this.file = file;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns a view of a region of the file.
+	 *
+	 * @return the view, or <code>null</code> if the region is not (yet) mapped or spans two chunks
+	 */
+	public MemorySegment slice(long offset, long length) {
+		MemorySegment[] chunks = this.chunks;
+		if (offset + length > mappedSize(chunks)) {
+			return null;
+		}
+		int chunkIdx = (int) (offset / chunkSize);
+		long chunkOffset = offset - chunkIdx * chunkSize;
+		MemorySegment chunk = chunks[chunkIdx];
+		if (chunkOffset + length > chunk.byteSize()) {
+			return null;
+		}
+		return chunk.asSlice(chunkOffset, length);
+	}
+
+	/**
+	 * Copies a region of the file into an array.
+	 *
+	 * @return <code>true</code> if the region has been copied, <code>false</code> if it must be read from the file
+	 */
+	public boolean read(long offset, byte[] dst, int dstOffset, int length) {
+		MemorySegment slice = slice(offset, length);
+		if (slice == null) {
+			return false;
+		}
+		try {
+			MemorySegment.copy(slice, ValueLayout.JAVA_BYTE, 0, dst, dstOffset, length);
+			return true;
+		} catch (IllegalStateException e) {
+			// the mapping has been invalidated concurrently
+			return false;
+		}
+	}
+
+	private long mappedSize(MemorySegment[] chunks) {
+		if (chunks.length == 0) {
+			return 0;
+		}
+		return (chunks.length - 1) * chunkSize + chunks[chunks.length - 1].byteSize();
+	}
+
+	/**
+	 * Reports the current size of the file after data has been written to it. Maps the file again if it has grown
+	 * enough since it was last mapped, the few recently appended bytes are read from the file until then.
+	 *
+	 * @param fileSize the size of the file, all data up to this size must have been written to the file
+	 */
+	public void fileSizeChanged(long fileSize) {
+		if (isRemapRequired(mappedSize(chunks), fileSize)) {
+			remap(fileSize);
+		}
+	}
+
+	private static boolean isRemapRequired(long mappedSize, long fileSize) {
+		return fileSize > mappedSize
+				&& (mappedSize == 0 || fileSize - mappedSize >= Math.max(MIN_REMAP_BYTES, mappedSize / 8));
+	}
+
+	private synchronized void remap(long fileSize) {
+		MemorySegment[] chunks = this.chunks;
+		if (closed || !isRemapRequired(mappedSize(chunks), fileSize)) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			// a read-only mapping can't extend the file
+			fileSize = Math.min(fileSize, channel.size());
+			// chunks before the last one are complete and can be kept
+			int kept = chunks.length > 0 && chunks[chunks.length - 1].byteSize() < chunkSize ? chunks.length - 1
+					: chunks.length;
+			List<MemorySegment> newChunks = new ArrayList<>(Arrays.asList(chunks).subList(0, kept));
+			List<Arena> newArenas = new ArrayList<>();
+			try {
+				for (long start = kept * chunkSize; start < fileSize; start += chunkSize) {
+					Arena arena = Arena.ofShared();
+					newArenas.add(arena);
+					newChunks.add(channel.map(MapMode.READ_ONLY, start, Math.min(chunkSize, fileSize - start), arena));
+				}
+			} catch (IOException | RuntimeException e) {
+				closeAll(newArenas);
+				throw e;
+			}
+			this.chunks = newChunks.toArray(NO_CHUNKS);
+
+			// release the superseded mapping of the last chunk, readers that still use it fall back to the file
+			List<Arena> superseded = arenas.subList(kept, arenas.size());
+			closeAll(superseded);
+			superseded.clear();
+			arenas.addAll(newArenas);
+		} catch (IOException e) {
+			// reads of the regions that are not mapped fall back to the file
+		}
+	}
+
+	private static void closeAll(List<Arena> arenas) {
+		for (Arena arena : arenas) {
+			arena.close();
+		}
+	}
+
+	/**
+	 * Removes all mappings. Must be called before the file is truncated. The file is mapped again once its size is
+	 * reported with {@link #fileSizeChanged(long)}.
+	 */
+	public synchronized void invalidate() {
+		chunks = NO_CHUNKS;
+		closeAll(arenas);
+		arenas.clear();
+	}
+
+	@Override
+	public synchronized void close() {
+		invalidate();
+		closed = true;
+	}
+}
@@ -34,9 +34,20 @@ class NativeEvaluationStatistics extends EvaluationStatistics {
 
 	private final TripleStore tripleStore;
 
+	private final ContextStore contextStore;
+
 	public NativeEvaluationStatistics(ValueStore valueStore, TripleStore tripleStore) {
+		this(valueStore, tripleStore, null);
+	}
+
+	/**
+	 * @param contextStore the exact number of statements per context, used to bound the estimates of patterns with a
+	 *                     fixed context. May be <var>null</var>.
+	 */
+	public NativeEvaluationStatistics(ValueStore valueStore, TripleStore tripleStore, ContextStore contextStore) {
 		this.valueStore = valueStore;
 		this.tripleStore = tripleStore;
+		this.contextStore = contextStore;
 	}
 
 	@Override
@@ -113,6 +124,22 @@ class NativeEvaluationStatistics extends EvaluationStatistics {
 			}
 		}
 
+		if (contextStore != null) {
+			boolean patternUnbound = subj == null && pred == null && obj == null;
+			if (context == null) {
+				if (patternUnbound) {
+					return contextStore.getTotalCounts().total();
+				}
+			} else {
+				// the statements matching the pattern are a subset of the statements in the context
+				long contextSize = contextStore.getCounts(context).total();
+				if (patternUnbound || contextSize == 0) {
+					return contextSize;
+				}
+				return Math.min(tripleStore.cardinality(subjID, predID, objID, contextID), contextSize);
+			}
+		}
+
 		return tripleStore.cardinality(subjID, predID, objID, contextID);
 	}
 }
@@ -18,7 +18,10 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,16 +30,19 @@ import java.util.Objects;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
 import org.eclipse.rdf4j.common.iteration.UnionIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Namespace;
@@ -125,6 +131,19 @@ class NativeSailStore implements SailStore {
 			long walSyncIntervalMillis, long walIdlePollIntervalMillis, String walDirectoryName,
 			boolean walSyncBootstrapOnOpen, boolean walAutoRecoverOnOpen, boolean walEnabled)
 			throws IOException, SailException {
+		this(dataDir, tripleIndexes, forceSync, valueCacheSize, valueIDCacheSize, namespaceCacheSize,
+				namespaceIDCacheSize, walMaxSegmentBytes, walQueueCapacity, walBatchBufferBytes, walSyncPolicy,
+				walSyncIntervalMillis, walIdlePollIntervalMillis, walDirectoryName, walSyncBootstrapOnOpen,
+				walAutoRecoverOnOpen, walEnabled, TripleStore.DEFAULT_NODE_CACHE_SIZE);
+	}
+
+	public NativeSailStore(File dataDir, String tripleIndexes, boolean forceSync, int valueCacheSize,
+			int valueIDCacheSize, int namespaceCacheSize, int namespaceIDCacheSize, long walMaxSegmentBytes,
+			int walQueueCapacity, int walBatchBufferBytes,
+			ValueStoreWalConfig.SyncPolicy walSyncPolicy,
+			long walSyncIntervalMillis, long walIdlePollIntervalMillis, String walDirectoryName,
+			boolean walSyncBootstrapOnOpen, boolean walAutoRecoverOnOpen, boolean walEnabled, long nodeCacheSize)
+			throws IOException, SailException {
 		this.walEnabled = walEnabled;
 		NamespaceStore createdNamespaceStore = null;
 		ValueStoreWAL createdWal = null;
@@ -172,7 +191,7 @@ class NativeSailStore implements SailStore {
 			}
 			createdValueStore = new ValueStore(dataDir, forceSync, valueCacheSize, valueIDCacheSize,
 					namespaceCacheSize, namespaceIDCacheSize, createdWal);
-			createdTripleStore = new TripleStore(dataDir, tripleIndexes, forceSync);
+			createdTripleStore = new TripleStore(dataDir, tripleIndexes, forceSync, nodeCacheSize);
 
 			// Assign fields required by ContextStore before constructing it
 			namespaceStore = createdNamespaceStore;
@@ -181,7 +200,7 @@ class NativeSailStore implements SailStore {
 			tripleStore = createdTripleStore;
 
 			// Now ContextStore can safely read from this store
-			createdContextStore = new ContextStore(this, dataDir);
+			createdContextStore = new ContextStore(this, dataDir, forceSync);
 			initialized = true;
 		} finally {
 			if (!initialized) {
@@ -347,7 +366,7 @@ class NativeSailStore implements SailStore {
 
 	@Override
 	public EvaluationStatistics getEvaluationStatistics() {
-		return new NativeEvaluationStatistics(valueStore, tripleStore);
+		return new NativeEvaluationStatistics(valueStore, tripleStore, contextStore);
 	}
 
 	@Override
@@ -360,6 +379,14 @@ class NativeSailStore implements SailStore {
 		return new NativeSailSource(false);
 	}
 
+	Map<String, NodeCacheStatistics> getNodeCacheStatistics() {
+		return tripleStore.getNodeCacheStatistics();
+	}
+
+	CompletableFuture<Void> addIndex(String fieldSeq) throws SailException {
+		return tripleStore.addIndex(fieldSeq);
+	}
+
 	List<Integer> getContextIDs(Resource... contexts) throws IOException {
 		assert contexts.length > 0 : "contexts must not be empty";
 
@@ -383,6 +410,43 @@ class NativeSailStore implements SailStore {
 		return contextIDs;
 	}
 
+	/**
+	 * Gets the number of committed statements in the specified contexts, or in all contexts if none are specified.
+	 * Duplicate contexts are counted once.
+	 */
+	ContextStore.StatementCounts getStatementCounts(Resource... contexts) {
+		if (contexts.length == 0) {
+			return contextStore.getTotalCounts();
+		}
+		long explicit = 0;
+		long inferred = 0;
+		for (Resource context : new LinkedHashSet<>(Arrays.asList(contexts))) {
+			ContextStore.StatementCounts counts = contextStore.getCounts(context);
+			explicit += counts.explicit();
+			inferred += counts.inferred();
+		}
+		return new ContextStore.StatementCounts(explicit, inferred);
+	}
+
+	/**
+	 * Counts the committed explicit and inferred statements of each context by scanning the triple store. The default
+	 * context is represented by <var>null</var>.
+	 */
+	Map<Resource, ContextStore.StatementCounts> countContextStatements() throws IOException {
+		return resolveContexts(tripleStore.countContextStatements());
+	}
+
+	private Map<Resource, ContextStore.StatementCounts> resolveContexts(
+			Map<Integer, ContextStore.StatementCounts> countsById) throws IOException {
+		Map<Resource, ContextStore.StatementCounts> counts = new HashMap<>(countsById.size());
+		for (Entry<Integer, ContextStore.StatementCounts> entry : countsById.entrySet()) {
+			int contextId = entry.getKey();
+			Resource context = contextId == 0 ? null : (Resource) valueStore.getValue(contextId);
+			counts.put(context, entry.getValue());
+		}
+		return counts;
+	}
+
 	CloseableIteration<Resource> getContexts() throws IOException {
 		RecordIterator btreeIter = tripleStore.getAllTriplesSortedByContext(false);
 		CloseableIteration<? extends Statement> stIter1;
@@ -426,11 +490,134 @@ class NativeSailStore implements SailStore {
 	 */
 	CloseableIteration<? extends Statement> createStatementIterator(Resource subj, IRI pred, Value obj,
 			boolean explicit, Resource... contexts) throws IOException {
+		return createStatementIterator(0, subj, pred, obj, explicit, contexts);
+	}
+
+	/**
+	 * Creates a statement iterator based on the supplied pattern that skips the first <var>offset</var> matching
+	 * statements. The skipped B-tree records are stepped over without resolving their values.
+	 */
+	CloseableIteration<? extends Statement> createStatementIterator(long offset, Resource subj, IRI pred, Value obj,
+			boolean explicit, Resource... contexts) throws IOException {
+		PatternIDs ids = resolvePattern(subj, pred, obj, contexts);
+		if (ids == null) {
+			return new EmptyIteration<>();
+		}
+
+		ArrayList<NativeStatementIterator> perContextIterList = new ArrayList<>(ids.contextIDs.size());
+
+		long remaining = offset;
+		try {
+			for (int contextID : ids.contextIDs) {
+				RecordIterator btreeIter = tripleStore.getTriples(ids.subjID, ids.predID, ids.objID, contextID,
+						explicit, false);
+
+				try {
+					while (remaining > 0 && btreeIter.next() != null) {
+						remaining--;
+					}
+				} catch (IOException | RuntimeException e) {
+					btreeIter.close();
+					throw e;
+				}
+				if (remaining > 0) {
+					// all records of this context fall within the offset
+					btreeIter.close();
+					continue;
+				}
+
+				perContextIterList.add(new NativeStatementIterator(btreeIter, valueStore));
+			}
+		} catch (IOException | RuntimeException e) {
+			// release the iterators of the contexts that have already been opened
+			for (NativeStatementIterator iter : perContextIterList) {
+				iter.close();
+			}
+			throw e;
+		}
+
+		if (perContextIterList.isEmpty()) {
+			return new EmptyIteration<>();
+		} else if (perContextIterList.size() == 1) {
+			return perContextIterList.get(0);
+		} else {
+			return new UnionIteration<>(perContextIterList);
+		}
+	}
+
+	/**
+	 * Counts the statements that match the supplied pattern by walking the B-tree records without resolving any of the
+	 * IDs to values.
+	 */
+	long countStatements(Resource subj, IRI pred, Value obj, boolean explicit, Resource... contexts)
+			throws IOException {
+		return countRecords(-1, subj, pred, obj, explicit, contexts);
+	}
+
+	/**
+	 * Counts the distinct values in one statement component of the statements that match the supplied pattern. The
+	 * IDs are collected without resolving them to values; the null context (ID 0) is not counted.
+	 */
+	long countDistinctValues(StatementOrder component, Resource subj, IRI pred, Value obj, boolean explicit,
+			Resource... contexts) throws IOException {
+		int fieldOffset;
+		switch (component) {
+		case S:
+			fieldOffset = TripleStore.SUBJ_IDX;
+			break;
+		case P:
+			fieldOffset = TripleStore.PRED_IDX;
+			break;
+		case O:
+			fieldOffset = TripleStore.OBJ_IDX;
+			break;
+		default:
+			fieldOffset = TripleStore.CONTEXT_IDX;
+		}
+		return countRecords(fieldOffset, subj, pred, obj, explicit, contexts);
+	}
+
+	private long countRecords(int distinctFieldOffset, Resource subj, IRI pred, Value obj, boolean explicit,
+			Resource... contexts) throws IOException {
+		PatternIDs ids = resolvePattern(subj, pred, obj, contexts);
+		if (ids == null) {
+			return 0;
+		}
+
+		long count = 0;
+		BitSet distinct = distinctFieldOffset < 0 ? null : new BitSet();
+		for (int contextID : ids.contextIDs) {
+			try (RecordIterator btreeIter = tripleStore.getTriples(ids.subjID, ids.predID, ids.objID, contextID,
+					explicit, false)) {
+				byte[] record;
+				while ((record = btreeIter.next()) != null) {
+					if (distinct == null) {
+						count++;
+					} else {
+						int id = ByteArrayUtil.getInt(record, distinctFieldOffset);
+						if (id > 0) {
+							distinct.set(id);
+						}
+					}
+				}
+			}
+		}
+		return distinct == null ? count : distinct.cardinality();
+	}
+
+	/**
+	 * Resolves the values of a statement pattern to their IDs. Contexts that are unknown to the value store are left
+	 * out, a pattern without contexts is resolved to the wildcard context.
+	 *
+	 * @return the IDs of the pattern, or <var>null</var> if the subject, predicate or object is unknown to the value
+	 *         store and the pattern cannot match any statements
+	 */
+	private PatternIDs resolvePattern(Resource subj, IRI pred, Value obj, Resource... contexts) throws IOException {
 		int subjID = NativeValue.UNKNOWN_ID;
 		if (subj != null) {
 			subjID = valueStore.getID(subj);
 			if (subjID == NativeValue.UNKNOWN_ID) {
-				return new EmptyIteration<>();
+				return null;
 			}
 		}
 
@@ -438,7 +625,7 @@ class NativeSailStore implements SailStore {
 		if (pred != null) {
 			predID = valueStore.getID(pred);
 			if (predID == NativeValue.UNKNOWN_ID) {
-				return new EmptyIteration<>();
+				return null;
 			}
 		}
 
@@ -447,7 +634,7 @@ class NativeSailStore implements SailStore {
 			objID = valueStore.getID(obj);
 
 			if (objID == NativeValue.UNKNOWN_ID) {
-				return new EmptyIteration<>();
+				return null;
 			}
 		}
 
@@ -468,18 +655,27 @@ class NativeSailStore implements SailStore {
 			}
 		}
 
-		ArrayList<NativeStatementIterator> perContextIterList = new ArrayList<>(contextIDList.size());
+		return new PatternIDs(subjID, predID, objID, contextIDList);
+	}
+
+	/**
+	 * The IDs of a statement pattern, see {@link #resolvePattern(Resource, IRI, Value, Resource...)}.
+	 */
+	private static final class PatternIDs {
 
-		for (int contextID : contextIDList) {
-			RecordIterator btreeIter = tripleStore.getTriples(subjID, predID, objID, contextID, explicit, false);
+		final int subjID;
 
-			perContextIterList.add(new NativeStatementIterator(btreeIter, valueStore));
-		}
+		final int predID;
 
-		if (perContextIterList.size() == 1) {
-			return perContextIterList.get(0);
-		} else {
-			return new UnionIteration<>(perContextIterList);
+		final int objID;
+
+		final List<Integer> contextIDs;
+
+		PatternIDs(int subjID, int predID, int objID, List<Integer> contextIDs) {
+			this.subjID = subjID;
+			this.predID = predID;
+			this.objID = objID;
+			this.contextIDs = contextIDs;
 		}
 	}
 
@@ -617,15 +813,15 @@ class NativeSailStore implements SailStore {
 					try {
 						namespaceStore.sync();
 					} finally {
-						try {
-							contextStore.sync();
-						} finally {
-							if (storeTxnStarted.get()) {
-								tripleStore.commit();
-								// do not set flag to false until _after_ commit is succesfully completed.
-								storeTxnStarted.set(false);
-							}
+						if (storeTxnStarted.get()) {
+							// the context index is reconstructed on restart if the commit does not complete
+							contextStore.beginUpdate();
+							tripleStore.commit();
+							// do not set flag to false until _after_ commit is succesfully completed.
+							storeTxnStarted.set(false);
+							contextStore.update(resolveContexts(tripleStore.getCommittedContextChanges()));
 						}
+						contextStore.sync();
 					}
 				}
 			} catch (IOException e) {
@@ -725,11 +921,7 @@ class NativeSailStore implements SailStore {
 						contextID = storeValueId(context);
 					}
 
-					boolean wasNew = tripleStore.storeTriple(subjID, predID, objID, contextID, explicit);
-					if (wasNew && context != null) {
-						contextStore.increment(context);
-					}
-
+					tripleStore.storeTriple(subjID, predID, objID, contextID, explicit);
 				}
 			} catch (IOException e) {
 				throw new SailException(e);
@@ -790,11 +982,7 @@ class NativeSailStore implements SailStore {
 						contextID = storeValueId(context);
 					}
 
-					boolean wasNew = tripleStore.storeTriple(subjID, predID, objID, contextID, explicit);
-					if (wasNew && context != null) {
-						contextStore.increment(context);
-					}
-					result |= wasNew;
+					result |= tripleStore.storeTriple(subjID, predID, objID, contextID, explicit);
 				}
 			} catch (IOException e) {
 				throw new SailException(e);
@@ -862,13 +1050,8 @@ class NativeSailStore implements SailStore {
 					Map<Integer, Long> result = tripleStore.removeTriplesByContext(subjID, predID, objID, contextId,
 							explicit);
 
-					for (Entry<Integer, Long> entry : result.entrySet()) {
-						Integer entryContextId = entry.getKey();
-						if (entryContextId > 0) {
-							Resource modifiedContext = (Resource) valueStore.getValue(entryContextId);
-							contextStore.decrementBy(modifiedContext, entry.getValue());
-						}
-						removeCount += entry.getValue();
+					for (Long count : result.values()) {
+						removeCount += count;
 					}
 				}
 				return removeCount;
@@ -938,6 +1121,35 @@ class NativeSailStore implements SailStore {
 			}
 		}
 
+		@Override
+		public CloseableIteration<? extends Statement> getStatementsFromOffset(long offset, Resource subj, IRI pred,
+				Value obj, Resource... contexts) throws SailException {
+			try {
+				return createStatementIterator(offset, subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to get statements", e);
+			}
+		}
+
+		@Override
+		public long getStatementCount(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+			try {
+				return countStatements(subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to count statements", e);
+			}
+		}
+
+		@Override
+		public long getDistinctValueCount(StatementOrder component, Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws SailException {
+			try {
+				return countDistinctValues(component, subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to count distinct values", e);
+			}
+		}
+
 		@Override
 		public CloseableIteration<? extends TripleTerm> getTriples(Resource subj, IRI pred, Value obj)
 				throws SailException {
@@ -18,6 +18,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
@@ -31,6 +33,7 @@ import org.eclipse.rdf4j.common.concurrent.locks.LockManager;
 import org.eclipse.rdf4j.common.io.MavenUtil;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategyFactory;
@@ -77,6 +80,12 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 			.equalsIgnoreCase(
 					System.getProperty("org.eclipse.rdf4j.sail.nativerdf.softFailOnCorruptDataAndRepairIndexes"));;
 
+	/**
+	 * Name of the system property that, when set to <code>true</code>, makes readers wait for commits that are being
+	 * written to disk, instead of reading the previously committed data together with the changes being committed.
+	 */
+	static final String CONCURRENT_READS_DISABLED_PROPERTY = "org.eclipse.rdf4j.sail.nativerdf.concurrentReadsDuringCommit.disabled";
+
 	private static final Cleaner REMOVE_STORES_USED_FOR_MEMORY_OVERFLOW = Cleaner.create();
 
 	/**
@@ -155,8 +164,12 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 
 	private volatile int namespaceIDCacheSize = ValueStore.NAMESPACE_ID_CACHE_SIZE;
 
+	private volatile long nodeCacheSize = TripleStore.DEFAULT_NODE_CACHE_SIZE;
+
 	private SailStore store;
 
+	private volatile NativeSailStore backingStore;
+
 	// used to decide if store is writable, is true if the store was writable during initialization
 	private boolean isWritable;
 
@@ -287,6 +300,72 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 		this.namespaceIDCacheSize = namespaceIDCacheSize;
 	}
 
+	/**
+	 * Sets the budget (in bytes) of the node caches of the triple indexes, which is divided evenly among the indexes.
+	 * Defaults to {@value TripleStore#DEFAULT_NODE_CACHE_SIZE} bytes.
+	 */
+	@Experimental
+	public void setNodeCacheSize(long nodeCacheSize) {
+		this.nodeCacheSize = nodeCacheSize;
+	}
+
+	@Experimental
+	public long getNodeCacheSize() {
+		return nodeCacheSize;
+	}
+
+	/**
+	 * Gets the statistics of the node caches of the triple indexes, by the field sequence of the index (e.g.
+	 * <code>spoc</code>).
+	 *
+	 * @return the node cache statistics by index
+	 * @throws SailException if the store is not initialized
+	 */
+	@Experimental
+	public Map<String, NodeCacheStatistics> getNodeCacheStatistics() throws SailException {
+		return getInitializedBackingStore().getNodeCacheStatistics();
+	}
+
+	/**
+	 * Gets the number of explicit statements in the specified contexts, or in all contexts if none are specified, as
+	 * maintained by the context index.
+	 *
+	 * @return the number of statements, or -1 if committed changes have not yet been written to the indexes.
+	 */
+	long getCommittedSize(Resource... contexts) throws SailException {
+		SailStore sailStore = store;
+		if (sailStore instanceof SnapshotSailStore && ((SnapshotSailStore) sailStore).hasUnflushedChanges()) {
+			return -1;
+		}
+		return getInitializedBackingStore().getStatementCounts(contexts).explicit();
+	}
+
+	private NativeSailStore getInitializedBackingStore() throws SailException {
+		NativeSailStore backingStore = this.backingStore;
+		if (backingStore == null || !isInitialized()) {
+			throw new SailException("Store is not initialized");
+		}
+		return backingStore;
+	}
+
+	/**
+	 * Builds an additional triple index in the background while the store remains available for reads and writes.
+	 * Queries use the index once it is complete and has caught up with the transactions that were committed in the
+	 * meantime. The index is removed again when the store is initialized with a configuration whose triple indexes do
+	 * not include it, so it should also be added to {@link #setTripleIndexes(String)}.
+	 * <p>
+	 * Indexes that are added to the triple indexes of an existing store are built in the same way when the store is
+	 * initialized, and calling this method returns the future of the running build.
+	 *
+	 * @param fieldSeq the field sequence of the index, e.g. <code>ospc</code>
+	 * @return a future that completes once the index is used by queries
+	 * @throws SailException if the store is not initialized or the field sequence is invalid
+	 */
+	@Experimental
+	public CompletableFuture<Void> addIndex(String fieldSeq) throws SailException {
+		return getInitializedBackingStore().addIndex(fieldSeq);
+	}
+
 	@Experimental
 	public void setWalMaxSegmentBytes(long walMaxSegmentBytes) {
 		this.walMaxSegmentBytes = walMaxSegmentBytes;
@@ -503,8 +582,11 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 					walDirectoryName,
 					walSyncBootstrapOnOpen,
 					walAutoRecoverOnOpen,
-					walEnabled);
-			this.store = new SnapshotSailStore(mainStore, MemoryOverflowIntoNativeStore::new) {
+					walEnabled,
+					nodeCacheSize);
+			this.backingStore = mainStore;
+			this.store = new SnapshotSailStore(mainStore, MemoryOverflowIntoNativeStore::new,
+					!Boolean.getBoolean(CONCURRENT_READS_DISABLED_PROPERTY)) {
 
 				@Override
 				public SailSource getExplicitSailSource() {
@@ -543,6 +625,7 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 		logger.debug("Shutting down NativeStore...");
 
 		try {
+			backingStore = null;
 			store.close();
 		} finally {
 			dirLock.release();
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.concurrent.locks.Lock;
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
+import org.eclipse.rdf4j.sail.nativerdf.btree.ExternalRecordSorter;
+import org.eclipse.rdf4j.sail.nativerdf.model.NativeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads statements into an empty {@link NativeStore} data directory without going through transactions. This is much
+ * faster than adding the statements to a {@link NativeStore} for large data sets, because the triple indexes are not
+ * built by inserting the statements one by one but bottom-up from sorted statements:
+ * <ol>
+ * <li>The values of the added statements are stored in the value store by a pool of worker threads. The encoded
+ * statements are collected in one external sorter per triple index.</li>
+ * <li>When the loader is closed, the statements are sorted in the order of each index and the indexes are written
+ * sequentially in a single pass, in parallel.</li>
+ * </ol>
+ * The data directory must not be in use by a {@link NativeStore} while it is loaded, and must not contain any
+ * statements yet. It may contain values and namespaces. All statements are added as explicit statements. Duplicate
+ * statements are stored only once. The values are not recorded in the value store WAL.
+ * <p>
+ * If loading fails, the data directory must be considered corrupt.
+ */
+@Experimental
+public class NativeStoreBulkLoader implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(NativeStoreBulkLoader.class);
+
+	/**
+	 * The number of statements that are handed to a worker thread at once.
+	 */
+	private static final int BATCH_SIZE = 10_000;
+
+	private final File dataDir;
+
+	private final Lock dirLock;
+
+	private final ValueStore valueStore;
+
+	private final TripleStore tripleStore;
+
+	private final List<ExternalRecordSorter> sorters;
+
+	private final ExecutorService executor;
+
+	/**
+	 * Limits the number of batches that are queued or being processed.
+	 */
+	private final Semaphore batchPermits;
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	private List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+
+	private float fillFactor = 1f;
+
+	private boolean closed;
+
+	/**
+	 * Creates a bulk loader that uses one worker thread per available processor.
+	 *
+	 * @param dataDir       The data directory of the store.
+	 * @param tripleIndexes The triple indexes of the store, see {@link NativeStore#setTripleIndexes(String)}.
+	 */
+	public NativeStoreBulkLoader(File dataDir, String tripleIndexes) throws IOException {
+		this(dataDir, tripleIndexes, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a bulk loader.
+	 *
+	 * @param dataDir       The data directory of the store.
+	 * @param tripleIndexes The triple indexes of the store, see {@link NativeStore#setTripleIndexes(String)}.
+	 * @param parallelism   The number of worker threads that store values.
+	 */
+	public NativeStoreBulkLoader(File dataDir, String tripleIndexes, int parallelism) throws IOException {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be larger than 0");
+		}
+		if (!dataDir.exists() && !dataDir.mkdirs()) {
+			throw new IOException("Unable to create data directory: " + dataDir);
+		}
+		this.dataDir = dataDir;
+		this.dirLock = new DirectoryLockManager(dataDir).lockOrFail();
+
+		ValueStore createdValueStore = null;
+		TripleStore createdTripleStore = null;
+		boolean initialized = false;
+		try {
+			createdValueStore = new ValueStore(dataDir);
+			createdTripleStore = new TripleStore(dataDir, tripleIndexes);
+			if (!createdTripleStore.isEmpty()) {
+				throw new SailException("Bulk loading requires a store without statements: " + dataDir);
+			}
+			initialized = true;
+		} finally {
+			if (!initialized) {
+				try {
+					if (createdTripleStore != null) {
+						createdTripleStore.close();
+					}
+				} finally {
+					try {
+						if (createdValueStore != null) {
+							createdValueStore.close();
+						}
+					} finally {
+						dirLock.release();
+					}
+				}
+			}
+		}
+		this.valueStore = createdValueStore;
+		this.tripleStore = createdTripleStore;
+
+		this.sorters = tripleStore.createIndexSorters(TripleStore.SORT_BUFFER_RECORDS);
+
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "NativeStoreBulkLoader");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.batchPermits = new Semaphore(2 * parallelism);
+	}
+
+	/**
+	 * Sets the fraction of the capacity of the index nodes that is filled, larger than 0 and at most 1. Defaults to 1.
+	 * A lower fill factor leaves room for statements that are added to the store later on.
+	 */
+	public void setFillFactor(float fillFactor) {
+		if (!(fillFactor > 0f && fillFactor <= 1f)) {
+			throw new IllegalArgumentException("fill factor must be larger than 0 and at most 1: " + fillFactor);
+		}
+		this.fillFactor = fillFactor;
+	}
+
+	/**
+	 * Adds a statement to the store.
+	 */
+	public void add(Statement st) throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Bulk loader has been closed");
+		}
+		checkFailure();
+		batch.add(st);
+		if (batch.size() == BATCH_SIZE) {
+			submitBatch();
+		}
+	}
+
+	/**
+	 * Adds statements to the store.
+	 */
+	public void addAll(Iterable<? extends Statement> statements) throws IOException {
+		for (Statement st : statements) {
+			add(st);
+		}
+	}
+
+	private void submitBatch() throws IOException {
+		List<Statement> statements = batch;
+		batch = new ArrayList<>(BATCH_SIZE);
+		try {
+			batchPermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while loading statements", e);
+		}
+		executor.execute(() -> {
+			try {
+				storeStatements(statements);
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				batchPermits.release();
+			}
+		});
+	}
+
+	private void storeStatements(List<Statement> statements) throws IOException {
+		for (Statement st : statements) {
+			if (failure.get() != null) {
+				return;
+			}
+			byte[] record = new byte[TripleStore.RECORD_LENGTH];
+			ByteArrayUtil.putInt(storeValue(st.getSubject()), record, TripleStore.SUBJ_IDX);
+			ByteArrayUtil.putInt(storeValue(st.getPredicate()), record, TripleStore.PRED_IDX);
+			ByteArrayUtil.putInt(storeValue(st.getObject()), record, TripleStore.OBJ_IDX);
+			ByteArrayUtil.putInt(st.getContext() == null ? 0 : storeValue(st.getContext()), record,
+					TripleStore.CONTEXT_IDX);
+			record[TripleStore.FLAG_IDX] = TripleStore.EXPLICIT_FLAG;
+
+			for (ExternalRecordSorter sorter : sorters) {
+				sorter.add(record);
+			}
+		}
+	}
+
+	private int storeValue(Value value) throws IOException {
+		// lookups of known values run concurrently, only new values are stored one at a time
+		int id = valueStore.getID(value);
+		if (id == NativeValue.UNKNOWN_ID) {
+			id = valueStore.storeValue(value);
+		}
+		return id;
+	}
+
+	private void checkFailure() throws IOException {
+		Throwable e = failure.get();
+		if (e instanceof IOException) {
+			throw (IOException) e;
+		} else if (e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		} else if (e != null) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Builds the triple indexes from the added statements and releases the data directory.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		try {
+			try {
+				if (!batch.isEmpty() && failure.get() == null) {
+					submitBatch();
+				}
+			} finally {
+				executor.shutdown();
+				try {
+					executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while loading statements", e);
+				}
+			}
+			checkFailure();
+
+			valueStore.sync();
+			logger.debug("Building triple indexes for {}", dataDir);
+			tripleStore.bulkLoad(sorters, fillFactor);
+
+			// the context index is rebuilt from the triple indexes when the store is opened
+			File contextsFile = new File(dataDir, "contexts.dat");
+			if (contextsFile.exists() && !contextsFile.delete()) {
+				throw new IOException("Unable to delete " + contextsFile);
+			}
+		} finally {
+			try {
+				for (ExternalRecordSorter sorter : sorters) {
+					sorter.close();
+				}
+			} finally {
+				try {
+					tripleStore.close();
+				} finally {
+					try {
+						valueStore.close();
+					} finally {
+						dirLock.release();
+					}
+				}
+			}
+		}
+	}
+}
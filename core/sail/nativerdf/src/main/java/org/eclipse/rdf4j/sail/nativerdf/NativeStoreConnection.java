@@ -158,6 +158,18 @@ public class NativeStoreConnection extends SailSourceConnection implements Threa
 		sailChangedEvent.setStatementsRemoved(true);
 	}
 
+	@Override
+	protected long sizeInternal(Resource... contexts) throws SailException {
+		if (!isActive()) {
+			// outside of a transaction, the committed number of statements per context is used
+			long size = nativeStore.getCommittedSize(contexts);
+			if (size >= 0) {
+				return size;
+			}
+		}
+		return super.sizeInternal(contexts);
+	}
+
 	@Override
 	public boolean supportsConcurrentReads() {
 		return getTransactionIsolation() != null && getTransactionIsolation() != IsolationLevels.SERIALIZABLE;
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.concurrent.locks.Lock;
+import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
+import org.eclipse.rdf4j.sail.nativerdf.btree.BTree;
+
+/**
+ * Converts the triple indexes of a {@link NativeStore} data directory between the uncompressed and the compressed leaf
+ * node format. Compressed leaf nodes encode each statement relative to the preceding one, so that many more statements
+ * fit in a node and scans read fewer nodes.
+ * <p>
+ * Indexes that are created for a new store or a new index use the compressed format if the system property
+ * {@value BTree#COMPRESSED_LEAVES_PROP} is set to <var>true</var>. Existing indexes keep their format until they are
+ * converted with this class. The data directory must not be in use by a {@link NativeStore} while it is converted.
+ * <p>
+ * Usage: <code>NativeStoreIndexConverter &lt;dataDir&gt; [compressed|uncompressed]</code>
+ */
+@Experimental
+public final class NativeStoreIndexConverter {
+
+	private NativeStoreIndexConverter() {
+	}
+
+	/**
+	 * Converts the triple indexes of the store in the specified data directory.
+	 *
+	 * @param dataDir          The data directory of the store.
+	 * @param compressedLeaves Flag indicating whether the indexes are converted to the compressed or the uncompressed
+	 *                         leaf node format.
+	 */
+	public static void convert(File dataDir, boolean compressedLeaves) throws IOException {
+		Lock dirLock = new DirectoryLockManager(dataDir).lockOrFail();
+		try {
+			TripleStore.convertIndexes(dataDir, compressedLeaves);
+		} finally {
+			dirLock.release();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1 || args.length > 2
+				|| args.length == 2 && !args[1].equals("compressed") && !args[1].equals("uncompressed")) {
+			System.err.println("Usage: NativeStoreIndexConverter <dataDir> [compressed|uncompressed]");
+			System.exit(1);
+		}
+		convert(new File(args[0]), args.length == 1 || args[1].equals("compressed"));
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+
+/**
+ * Statistics about the node cache of a triple index of a {@link NativeStore}. The counts are accumulated since the
+ * store was initialized.
+ *
+ * @param cacheSize     the budget of the cache in bytes
+ * @param usedBytes     the number of bytes used by the currently cached nodes
+ * @param hitCount      the number of node reads that were served by the cache
+ * @param missCount     the number of node reads that had to read the node from disk
+ * @param evictionCount the number of nodes that have been evicted from the cache
+ */
+@Experimental
+public record NodeCacheStatistics(long cacheSize, long usedBytes, long hitCount, long missCount,
+		long evictionCount) {
+
+	/**
+	 * Gets the fraction of node reads that were served by the cache, or 0 if no nodes have been read.
+	 */
+	public double hitRatio() {
+		long reads = hitCount + missCount;
+		return reads == 0 ? 0 : (double) hitCount / reads;
+	}
+}
@@ -25,17 +25,28 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.rdf4j.common.io.ByteArrayUtil;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.nativerdf.TxnStatusFile.TxnStatus;
 import org.eclipse.rdf4j.sail.nativerdf.btree.BTree;
+import org.eclipse.rdf4j.sail.nativerdf.btree.ExternalRecordSorter;
 import org.eclipse.rdf4j.sail.nativerdf.btree.RecordComparator;
 import org.eclipse.rdf4j.sail.nativerdf.btree.RecordIterator;
 import org.slf4j.Logger;
@@ -86,6 +97,29 @@ class TripleStore implements Closeable {
 	 */
 	private static final String MEMORY_MAPPED_TXN_STATUS_FILE_ENABLED_PROP = "org.eclipse.rdf4j.sail.nativerdf.MemoryMappedTxnStatusFile.enabled";
 
+	/**
+	 * System property that disables the concurrent update of the triple indexes, in which case the indexes are updated
+	 * one after the other on the calling thread.
+	 */
+	static final String PARALLEL_INDEX_UPDATES_DISABLED_PROP = "org.eclipse.rdf4j.sail.nativerdf.parallelIndexUpdates.disabled";
+
+	/**
+	 * System property that disables building triple indexes that are added to the index specification of an existing
+	 * store in the background, in which case they are built while the store is initialized.
+	 */
+	static final String BACKGROUND_INDEX_BUILDS_DISABLED_PROP = "org.eclipse.rdf4j.sail.nativerdf.backgroundIndexBuilds.disabled";
+
+	/**
+	 * The number of logged changes below which an index build stops catching up with concurrent transactions and
+	 * replays the remaining changes while new transactions are held back.
+	 */
+	private static final int INDEX_BUILD_CATCH_UP_THRESHOLD = 4096;
+
+	/**
+	 * The maximum number of stored triples that are buffered before they are written to the secondary indexes.
+	 */
+	private static final int PENDING_UPDATES_BATCH_SIZE = 4096;
+
 	/**
 	 * The version number for the current triple store.
 	 * <ul>
@@ -97,6 +131,16 @@ class TripleStore implements Closeable {
 	 */
 	private static final int SCHEME_VERSION = 10;
 
+	/**
+	 * The maximum number of records that is sorted in memory when an index is built bottom-up.
+	 */
+	static final int SORT_BUFFER_RECORDS = 1 << 20;
+
+	/**
+	 * The default budget (in bytes) of the node caches of all triple indexes together.
+	 */
+	public static final long DEFAULT_NODE_CACHE_SIZE = 32L * 1024 * 1024;
+
 	// 17 bytes are used to represent a triple:
 	// byte 0-3 : subject
 	// byte 4-7 : predicate
@@ -153,9 +197,10 @@ class TripleStore implements Closeable {
 	private final Properties properties;
 
 	/**
-	 * The list of triple indexes that are used to store and retrieve triples.
+	 * The list of triple indexes that are used to store and retrieve triples. Indexes that are built in the background
+	 * are added once they are complete.
 	 */
-	private final List<TripleIndex> indexes = new ArrayList<>();
+	private final List<TripleIndex> indexes = new CopyOnWriteArrayList<>();
 
 	private final boolean forceSync;
 
@@ -163,6 +208,57 @@ class TripleStore implements Closeable {
 
 	private volatile SortedRecordCache updatedTriplesCache;
 
+	/**
+	 * The changes that the last commit made to the number of statements of each context.
+	 */
+	private volatile Map<Integer, ContextStore.StatementCounts> committedContextChanges = Collections.emptyMap();
+
+	/**
+	 * Executor that updates the secondary indexes concurrently with the first index, or <var>null</var> if the indexes
+	 * are updated sequentially.
+	 */
+	private final ExecutorService indexUpdateExecutor;
+
+	/**
+	 * Triples that have been stored in the first index but not yet in the secondary indexes, guarded by itself. The
+	 * buffer is flushed before the secondary indexes are read or updated in any other way.
+	 */
+	private final List<byte[]> pendingUpdates = new ArrayList<>();
+
+	/**
+	 * The budget (in bytes) of the node caches of all triple indexes together.
+	 */
+	private final long nodeCacheSize;
+
+	/**
+	 * Lock guarding the transaction state below, which lets index builds wait until no transaction is active.
+	 */
+	private final ReentrantLock txnStateLock = new ReentrantLock();
+
+	private final Condition txnStateChanged = txnStateLock.newCondition();
+
+	private boolean txnActive;
+
+	private boolean txnsBlocked;
+
+	/**
+	 * The index build that logs the changes of committed and rolled back transactions, or <var>null</var> if no index
+	 * is being built.
+	 */
+	private volatile IndexBuild indexBuild;
+
+	/**
+	 * The pending and running index builds by field sequence, guarded by itself.
+	 */
+	private final Map<String, CompletableFuture<Void>> indexBuilds = new LinkedHashMap<>();
+
+	/**
+	 * Executor that builds added indexes one at a time, created when the first index is added.
+	 */
+	private ExecutorService indexBuildExecutor;
+
+	private volatile boolean closing;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -172,11 +268,22 @@ class TripleStore implements Closeable {
 	}
 
 	public TripleStore(File dir, String indexSpecStr, boolean forceSync) throws IOException, SailException {
+		this(dir, indexSpecStr, forceSync, DEFAULT_NODE_CACHE_SIZE);
+	}
+
+	/**
+	 * @param nodeCacheSize The budget (in bytes) of the node caches of all triple indexes together, which is divided
+	 *                      evenly among the indexes.
+	 */
+	public TripleStore(File dir, String indexSpecStr, boolean forceSync, long nodeCacheSize)
+			throws IOException, SailException {
 		this.dir = dir;
 		this.forceSync = forceSync;
+		this.nodeCacheSize = nodeCacheSize;
 		this.txnStatusFile = createTxnStatusFile(dir, forceSync);
 
 		File propFile = new File(dir, PROPERTIES_FILE);
+		Set<String> addedIndexSpecs = Collections.emptySet();
 
 		if (!propFile.exists()) {
 			// newly created native store
@@ -215,8 +322,20 @@ class TripleStore implements Closeable {
 				// No indexes specified, use the existing ones
 				indexSpecStr = properties.getProperty(INDEXES_KEY);
 			} else if (!reqIndexSpecs.equals(indexSpecs)) {
-				// Set of indexes needs to be changed
-				reindex(indexSpecs, reqIndexSpecs);
+				Set<String> keptIndexSpecs = new HashSet<>(reqIndexSpecs);
+				keptIndexSpecs.retainAll(indexSpecs);
+
+				if (keptIndexSpecs.isEmpty() || Boolean.getBoolean(BACKGROUND_INDEX_BUILDS_DISABLED_PROP)) {
+					// Set of indexes needs to be changed
+					reindex(indexSpecs, reqIndexSpecs);
+				} else {
+					// Remove indexes right away, added indexes are built in the background and stored in the
+					// properties once they are complete
+					reindex(indexSpecs, keptIndexSpecs);
+					addedIndexSpecs = new HashSet<>(reqIndexSpecs);
+					addedIndexSpecs.removeAll(indexSpecs);
+					indexSpecStr = getIndexSpecStr();
+				}
 			}
 		}
 
@@ -227,6 +346,26 @@ class TripleStore implements Closeable {
 			properties.setProperty(INDEXES_KEY, indexSpecStr);
 			storeProperties(propFile);
 		}
+
+		applyNodeCacheSize();
+
+		indexUpdateExecutor = createIndexUpdateExecutor(indexes.size());
+
+		for (String fieldSeq : addedIndexSpecs) {
+			addIndex(fieldSeq);
+		}
+	}
+
+	private static ExecutorService createIndexUpdateExecutor(int indexCount) {
+		if (indexCount <= 1 || Boolean.getBoolean(PARALLEL_INDEX_UPDATES_DISABLED_PROP)) {
+			return null;
+		}
+		// the first index is always updated by the calling thread
+		return Executors.newFixedThreadPool(indexCount - 1, runnable -> {
+			Thread thread = new Thread(runnable, "NativeStoreIndexUpdate");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 	private static TxnStatusFile createTxnStatusFile(File dir, boolean forceSync) throws IOException {
@@ -240,6 +379,26 @@ class TripleStore implements Closeable {
 	 * Methods *
 	 *---------*/
 
+	/**
+	 * Divides the node cache budget evenly among the current indexes.
+	 */
+	private void applyNodeCacheSize() {
+		for (TripleIndex index : indexes) {
+			index.getBTree().setNodeCacheSize(nodeCacheSize / indexes.size());
+		}
+	}
+
+	private String getIndexSpecStr() {
+		StringBuilder indexSpecStr = new StringBuilder();
+		for (TripleIndex index : indexes) {
+			if (indexSpecStr.length() > 0) {
+				indexSpecStr.append(',');
+			}
+			indexSpecStr.append(index.getFieldSeq());
+		}
+		return indexSpecStr.toString();
+	}
+
 	private void checkVersion() throws SailException {
 		// Check version number
 		String versionStr = properties.getProperty(VERSION_KEY);
@@ -417,6 +576,38 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	private static String getFilenamePrefix(String fieldSeq) {
+		return "triples-" + fieldSeq;
+	}
+
+	/**
+	 * Converts the triple indexes in the specified directory to the compressed or the uncompressed leaf node format.
+	 * The triple store must not be in use while its indexes are converted.
+	 *
+	 * @see BTree#convertNodeFormat(File, String, int, RecordComparator, boolean)
+	 */
+	static void convertIndexes(File dir, boolean compressedLeaves) throws IOException, SailException {
+		if (!new File(dir, PROPERTIES_FILE).exists()) {
+			throw new SailException("No triple store found in " + dir);
+		}
+
+		List<String> fieldSeqs = new ArrayList<>();
+		// opening the store recovers from an uncompleted transaction
+		try (TripleStore tripleStore = new TripleStore(dir, null)) {
+			for (TripleIndex index : tripleStore.indexes) {
+				fieldSeqs.add(new String(index.getFieldSeq()));
+			}
+		}
+
+		for (String fieldSeq : fieldSeqs) {
+			if (BTree.convertNodeFormat(dir, getFilenamePrefix(fieldSeq), RECORD_LENGTH,
+					new TripleComparator(fieldSeq), compressedLeaves)) {
+				logger.debug("Converted {} index to {} leaf nodes", fieldSeq,
+						compressedLeaves ? "compressed" : "uncompressed");
+			}
+		}
+	}
+
 	private void reindex(Set<String> currentIndexSpecs, Set<String> newIndexSpecs) throws IOException, SailException {
 		Map<String, TripleIndex> currentIndexes = new HashMap<>();
 		for (TripleIndex index : indexes) {
@@ -435,25 +626,18 @@ class TripleStore implements Closeable {
 				logger.debug("Initializing new index '{}'...", fieldSeq);
 
 				TripleIndex addedIndex = new TripleIndex(fieldSeq, true);
-				BTree addedBTree = null;
-				RecordIterator sourceIter = null;
-				try {
-					addedBTree = addedIndex.getBTree();
-					sourceIter = sourceIndex.getBTree().iterateAll();
-					byte[] value;
-					while ((value = sourceIter.next()) != null) {
-						addedBTree.insert(value);
-					}
-				} finally {
-					try {
-						if (sourceIter != null) {
-							sourceIter.close();
-						}
-					} finally {
-						if (addedBTree != null) {
-							addedBTree.sync();
+				BTree addedBTree = addedIndex.getBTree();
+				try (ExternalRecordSorter sorter = addedIndex.createSorter(SORT_BUFFER_RECORDS)) {
+					try (RecordIterator sourceIter = sourceIndex.getBTree().iterateAll()) {
+						byte[] value;
+						while ((value = sourceIter.next()) != null) {
+							sorter.add(value.clone());
 						}
 					}
+					// build the new index bottom-up from the records in its own order
+					addedBTree.bulkLoad(sorter.sort(), 1f);
+				} finally {
+					addedBTree.sync();
 				}
 
 				currentIndexes.put(fieldSeq, addedIndex);
@@ -495,8 +679,297 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	/**
+	 * Gets the statistics of the node caches of the triple indexes, by the field sequence of the index.
+	 */
+	Map<String, NodeCacheStatistics> getNodeCacheStatistics() {
+		Map<String, NodeCacheStatistics> statistics = new LinkedHashMap<>();
+		for (TripleIndex index : indexes) {
+			BTree btree = index.getBTree();
+			statistics.put(new String(index.getFieldSeq()),
+					new NodeCacheStatistics(btree.getNodeCacheSize(), btree.getNodeCacheUsage(),
+							btree.getNodeCacheHitCount(), btree.getNodeCacheMissCount(),
+							btree.getNodeCacheEvictionCount()));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Builds an additional triple index in the background, while the store remains available for reads and writes.
+	 * The index is built bottom-up from the records of the first index and then catches up with the transactions that
+	 * have been committed in the meantime. It is used by queries and stored in the properties once it is complete.
+	 * Indexes are built one at a time.
+	 *
+	 * @param fieldSeq The field sequence of the index, e.g. <var>ospc</var>.
+	 * @return A future that completes once the index is in use.
+	 */
+	CompletableFuture<Void> addIndex(String fieldSeq) throws SailException {
+		Set<String> indexSpecs = parseIndexSpecList(fieldSeq);
+		if (indexSpecs.size() != 1) {
+			throw new SailException("Expected a single index specification: " + fieldSeq);
+		}
+		String indexSpec = indexSpecs.iterator().next();
+
+		synchronized (indexBuilds) {
+			if (closing) {
+				throw new SailException("Triple store is closed");
+			}
+			for (TripleIndex index : indexes) {
+				if (indexSpec.equals(new String(index.getFieldSeq()))) {
+					return CompletableFuture.completedFuture(null);
+				}
+			}
+			CompletableFuture<Void> build = indexBuilds.get(indexSpec);
+			if (build == null) {
+				if (indexBuildExecutor == null) {
+					indexBuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+						Thread thread = new Thread(runnable, "NativeStoreIndexBuild");
+						thread.setDaemon(true);
+						return thread;
+					});
+				}
+				CompletableFuture<Void> newBuild = new CompletableFuture<>();
+				indexBuildExecutor.execute(() -> {
+					try {
+						buildIndex(indexSpec);
+						newBuild.complete(null);
+					} catch (Throwable e) {
+						if (!closing) {
+							logger.error("Failed to build index '{}'", indexSpec, e);
+						}
+						newBuild.completeExceptionally(e);
+					} finally {
+						synchronized (indexBuilds) {
+							indexBuilds.remove(indexSpec);
+						}
+					}
+				});
+				indexBuilds.put(indexSpec, newBuild);
+				build = newBuild;
+			}
+			return build;
+		}
+	}
+
+	private void buildIndex(String fieldSeq) throws IOException {
+		logger.debug("Building index '{}' in the background...", fieldSeq);
+
+		IndexBuild build = new IndexBuild();
+		TripleIndex addedIndex = null;
+		boolean activated = false;
+		try {
+			// From here on, all transactions log their outcome. Transactions that are active while the records are
+			// copied leave flagged records in the copy, which are resolved by their logged outcome.
+			blockTransactions();
+			try {
+				indexBuild = build;
+			} finally {
+				unblockTransactions();
+			}
+
+			addedIndex = new TripleIndex(fieldSeq, true);
+			BTree addedBTree = addedIndex.getBTree();
+			try (ExternalRecordSorter sorter = addedIndex.createSorter(SORT_BUFFER_RECORDS)) {
+				try (RecordIterator sourceIter = indexes.get(0).getBTree().iterateAll()) {
+					byte[] value;
+					while ((value = sourceIter.next()) != null) {
+						checkNotClosing();
+						sorter.add(value.clone());
+					}
+				}
+				addedBTree.bulkLoad(sorter.sort(), 1f);
+			}
+
+			// Catch up with the transactions that completed while the index was built
+			while (replayChanges(build, addedBTree) > INDEX_BUILD_CATCH_UP_THRESHOLD) {
+				checkNotClosing();
+			}
+
+			blockTransactions();
+			try {
+				replayChanges(build, addedBTree);
+				addedBTree.sync();
+
+				synchronized (pendingUpdates) {
+					flushPendingUpdates();
+					indexes.add(addedIndex);
+				}
+				indexBuild = null;
+				activated = true;
+
+				applyNodeCacheSize();
+				synchronized (properties) {
+					properties.setProperty(INDEXES_KEY, getIndexSpecStr());
+					storeProperties(new File(dir, PROPERTIES_FILE));
+				}
+			} finally {
+				unblockTransactions();
+			}
+			logger.debug("Index '{}' built", fieldSeq);
+		} finally {
+			if (indexBuild == build) {
+				indexBuild = null;
+			}
+			build.discard();
+			if (!activated && addedIndex != null) {
+				addedIndex.getBTree().delete();
+			}
+		}
+	}
+
+	/**
+	 * Applies the logged changes to an index that is being built.
+	 *
+	 * @return The number of changes that were applied.
+	 */
+	private long replayChanges(IndexBuild build, BTree btree) throws IOException {
+		RecordCache changes = build.takeChanges();
+		try (RecordIterator iter = changes.getRecords()) {
+			byte[] data;
+			while ((data = iter.next()) != null) {
+				if ((data[FLAG_IDX] & REMOVED_FLAG) != 0) {
+					btree.remove(data);
+				} else {
+					btree.insert(data);
+				}
+			}
+			return changes.getRecordCount();
+		} finally {
+			changes.discard();
+		}
+	}
+
+	private void checkNotClosing() {
+		if (closing) {
+			throw new SailException("Index build cancelled because the triple store is closed");
+		}
+	}
+
+	/**
+	 * Holds back new transactions and waits until the active transaction, if any, has completed. Must be followed by
+	 * {@link #unblockTransactions()}, also if an exception is thrown.
+	 */
+	private void blockTransactions() {
+		txnStateLock.lock();
+		txnsBlocked = true;
+		try {
+			while (txnActive) {
+				checkNotClosing();
+				txnStateChanged.await(100, TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			unblockTransactions();
+			Thread.currentThread().interrupt();
+			throw new SailException(e);
+		} catch (RuntimeException e) {
+			unblockTransactions();
+			throw e;
+		}
+	}
+
+	private void unblockTransactions() {
+		try {
+			txnsBlocked = false;
+			txnStateChanged.signalAll();
+		} finally {
+			txnStateLock.unlock();
+		}
+	}
+
+	private void beginTxnState() {
+		txnStateLock.lock();
+		try {
+			while (txnsBlocked) {
+				txnStateChanged.awaitUninterruptibly();
+			}
+			txnActive = true;
+		} finally {
+			txnStateLock.unlock();
+		}
+	}
+
+	private void endTxnState() {
+		txnStateLock.lock();
+		try {
+			txnActive = false;
+			txnStateChanged.signalAll();
+		} finally {
+			txnStateLock.unlock();
+		}
+	}
+
+	/**
+	 * Log of the outcome of the transactions that complete while an index is built: the committed or restored records,
+	 * and the records that no longer exist with only the {@link #REMOVED_FLAG} set.
+	 */
+	private final class IndexBuild {
+
+		private RecordCache changes;
+
+		IndexBuild() throws IOException {
+			changes = new SequentialRecordCache(dir, RECORD_LENGTH);
+		}
+
+		synchronized void logStored(byte[] data) throws IOException {
+			if (changes != null) {
+				changes.storeRecord(data);
+			}
+		}
+
+		synchronized void logRemoved(byte[] data) throws IOException {
+			if (changes != null) {
+				byte[] removed = data.clone();
+				removed[FLAG_IDX] = REMOVED_FLAG;
+				changes.storeRecord(removed);
+			}
+		}
+
+		synchronized RecordCache takeChanges() throws IOException {
+			RecordCache taken = changes;
+			changes = new SequentialRecordCache(dir, RECORD_LENGTH);
+			return taken;
+		}
+
+		synchronized void discard() throws IOException {
+			if (changes != null) {
+				changes.discard();
+				changes = null;
+			}
+		}
+	}
+
 	@Override
 	public void close() throws IOException {
+		ExecutorService buildExecutor;
+		synchronized (indexBuilds) {
+			closing = true;
+			buildExecutor = indexBuildExecutor;
+		}
+		if (buildExecutor != null) {
+			// running builds notice that the store is closing, the thread is not interrupted to keep the channels of
+			// the index files open
+			buildExecutor.shutdown();
+			boolean interrupted = false;
+			while (true) {
+				try {
+					if (buildExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+						break;
+					}
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (indexUpdateExecutor != null) {
+			indexUpdateExecutor.shutdownNow();
+		}
+		synchronized (pendingUpdates) {
+			// uncommitted updates, the transaction is rolled back when the store is opened again
+			pendingUpdates.clear();
+		}
 		try {
 			List<Throwable> caughtExceptions = new ArrayList<>();
 			for (TripleIndex index : indexes) {
@@ -674,6 +1147,16 @@ class TripleStore implements Closeable {
 
 	private RecordIterator getTriplesUsingIndex(int subj, int pred, int obj, int context, int flags, int flagsMask,
 			TripleIndex index, boolean rangeSearch) {
+		// the pending updates only hold uncommitted changes, readers that skip added statements see the same committed
+		// data with or without them and do not need to wait for the pending updates to be written
+		if (index != indexes.get(0) && (flagsMask & ADDED_FLAG) == 0) {
+			try {
+				flushPendingUpdates();
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
 		byte[] searchKey = getSearchKey(subj, pred, obj, context, flags);
 		byte[] searchMask = getSearchMask(subj, pred, obj, context, flagsMask);
 
@@ -721,7 +1204,59 @@ class TripleStore implements Closeable {
 		return bestIndex;
 	}
 
+	/**
+	 * Checks whether this triple store contains any statements.
+	 */
+	boolean isEmpty() throws IOException {
+		try (RecordIterator iter = indexes.get(0).getBTree().iterateAll()) {
+			return iter.next() == null;
+		}
+	}
+
+	/**
+	 * Creates a sorter for each index of this triple store, in the order of {@link #bulkLoad(List, float)}, that sorts
+	 * records in the order of the index.
+	 *
+	 * @param maxRecordsInMemory The maximum number of records that is kept in memory by all sorters together.
+	 */
+	List<ExternalRecordSorter> createIndexSorters(int maxRecordsInMemory) {
+		List<ExternalRecordSorter> sorters = new ArrayList<>(indexes.size());
+		for (TripleIndex index : indexes) {
+			sorters.add(index.createSorter(Math.max(1, maxRecordsInMemory / indexes.size())));
+		}
+		return sorters;
+	}
+
+	/**
+	 * Builds the indexes of this empty triple store bottom-up from sorted records, bypassing transactions. The indexes
+	 * are built in parallel.
+	 *
+	 * @param sorters    The sorters that have been created by {@link #createIndexSorters(int)} and that contain the
+	 *                   records to load.
+	 * @param fillFactor The fraction of the nodes of the indexes that is filled with records.
+	 */
+	void bulkLoad(List<ExternalRecordSorter> sorters, float fillFactor) throws IOException {
+		if (sorters.size() != indexes.size()) {
+			throw new IllegalArgumentException("Expected a sorter for each of the " + indexes.size() + " indexes");
+		}
+		if (!isEmpty()) {
+			throw new IllegalStateException("Bulk loading requires an empty triple store");
+		}
+		if (indexBuild != null) {
+			throw new IllegalStateException("Bulk loading is not possible while an index is being built");
+		}
+
+		forEachIndex(indexes, index -> {
+			BTree btree = index.getBTree();
+			btree.bulkLoad(sorters.get(indexes.indexOf(index)).sort(), fillFactor);
+			btree.sync();
+		});
+	}
+
 	public void clear() throws IOException {
+		synchronized (pendingUpdates) {
+			pendingUpdates.clear();
+		}
 		for (TripleIndex index : indexes) {
 			index.getBTree().clear();
 		}
@@ -789,8 +1324,15 @@ class TripleStore implements Closeable {
 		}
 
 		if (storedData == null || !Arrays.equals(data, storedData)) {
-			for (TripleIndex index : indexes) {
-				index.getBTree().insert(data);
+			if (indexUpdateExecutor == null) {
+				for (TripleIndex index : indexes) {
+					index.getBTree().insert(data);
+				}
+			} else {
+				// the first index is needed right away to look up the flags of stored triples, the other indexes
+				// are updated in batches by multiple threads
+				indexes.get(0).getBTree().insert(data);
+				addPendingUpdate(data);
 			}
 
 			updatedTriplesCache.storeRecord(data);
@@ -909,15 +1451,18 @@ class TripleStore implements Closeable {
 			updatedTriplesCache.storeRecords(removedTriplesCache);
 
 			// Set the REMOVED flag by overwriting the affected records
-			for (TripleIndex index : indexes) {
+			flushPendingUpdates();
+			RecordCache removedRecords = removedTriplesCache;
+			forEachIndex(indexes, index -> {
 				BTree btree = index.getBTree();
 
-				try (RecordIterator recIter = removedTriplesCache.getRecords()) {
-					while ((data = recIter.next()) != null) {
-						btree.insert(data);
+				try (RecordIterator recIter = removedRecords.getRecords()) {
+					byte[] record;
+					while ((record = recIter.next()) != null) {
+						btree.insert(record);
 					}
 				}
-			}
+			});
 		} finally {
 			removedTriplesCache.discard();
 		}
@@ -941,6 +1486,7 @@ class TripleStore implements Closeable {
 	}
 
 	public void startTransaction() throws IOException {
+		beginTxnState();
 		txnStatusFile.setTxnStatus(TxnStatus.ACTIVE, forceSync);
 
 		// Create a record cache for storing updated triples with a maximum of
@@ -956,12 +1502,30 @@ class TripleStore implements Closeable {
 	}
 
 	public void commit() throws IOException {
+		try {
+			commitInternal();
+		} finally {
+			endTxnState();
+		}
+	}
+
+	private void commitInternal() throws IOException {
 		txnStatusFile.setTxnStatus(TxnStatus.COMMITTING, forceSync);
 
 		// updatedTriplesCache will be null when recovering from a crashed commit
 		boolean validCache = updatedTriplesCache != null && updatedTriplesCache.isValid();
 
-		for (TripleIndex index : indexes) {
+		// the outcome is logged once, while the first index is updated
+		IndexBuild build = indexBuild;
+		TripleIndex firstIndex = indexes.get(0);
+
+		// the changes to the number of statements per context are counted while the first index is updated
+		Map<Integer, long[]> contextChanges = new HashMap<>();
+
+		flushPendingUpdates();
+		forEachIndex(indexes, index -> {
+			boolean logChanges = build != null && index == firstIndex;
+			boolean countChanges = index == firstIndex;
 			BTree btree = index.getBTree();
 
 			RecordIterator iter;
@@ -981,8 +1545,15 @@ class TripleStore implements Closeable {
 					boolean wasRemoved = (flags & REMOVED_FLAG) != 0;
 					boolean wasToggled = (flags & TOGGLE_EXPLICIT_FLAG) != 0;
 
+					if (countChanges && (wasAdded || wasRemoved || wasToggled)) {
+						countContextChange(contextChanges, data);
+					}
+
 					if (wasRemoved) {
 						btree.remove(data);
+						if (logChanges) {
+							build.logRemoved(data);
+						}
 					} else if (wasAdded || wasToggled) {
 						if (wasToggled) {
 							data[FLAG_IDX] ^= EXPLICIT_FLAG;
@@ -990,6 +1561,9 @@ class TripleStore implements Closeable {
 						if (wasAdded) {
 							data[FLAG_IDX] ^= ADDED_FLAG;
 						}
+						if (logChanges) {
+							build.logStored(data);
+						}
 
 						if (validCache) {
 							// We're iterating the cache
@@ -1003,7 +1577,7 @@ class TripleStore implements Closeable {
 			} finally {
 				iter.close();
 			}
-		}
+		});
 
 		if (updatedTriplesCache != null) {
 			updatedTriplesCache.clear();
@@ -1011,10 +1585,70 @@ class TripleStore implements Closeable {
 
 		sync();
 
+		Map<Integer, ContextStore.StatementCounts> committedChanges = new HashMap<>(contextChanges.size());
+		contextChanges.forEach((contextId, change) -> {
+			if (change[0] != 0 || change[1] != 0) {
+				committedChanges.put(contextId, new ContextStore.StatementCounts(change[0], change[1]));
+			}
+		});
+		committedContextChanges = committedChanges;
+
 		txnStatusFile.setTxnStatus(TxnStatus.NONE, forceSync);
 		// checkAllCommitted();
 	}
 
+	/**
+	 * Adds the change that committing the specified triple makes to the number of explicit and inferred statements of
+	 * its context, see txn-flags.txt for a description of the flags.
+	 */
+	private static void countContextChange(Map<Integer, long[]> contextChanges, byte[] data) {
+		byte flags = data[FLAG_IDX];
+		boolean wasExplicit = (flags & EXPLICIT_FLAG) != 0;
+		boolean wasAdded = (flags & ADDED_FLAG) != 0;
+		boolean wasRemoved = (flags & REMOVED_FLAG) != 0;
+		boolean wasToggled = (flags & TOGGLE_EXPLICIT_FLAG) != 0;
+
+		long[] change = contextChanges.computeIfAbsent(ByteArrayUtil.getInt(data, CONTEXT_IDX), c -> new long[2]);
+		if (!wasAdded) {
+			// the committed statement is replaced
+			change[wasExplicit ? 0 : 1]--;
+		}
+		if (!wasRemoved) {
+			boolean explicit = wasAdded ? wasExplicit : wasExplicit ^ wasToggled;
+			change[explicit ? 0 : 1]++;
+		}
+	}
+
+	/**
+	 * Gets the changes that the last commit made to the number of explicit and inferred statements of each context,
+	 * where the default context has ID 0. Contexts whose number of statements did not change are not included.
+	 */
+	Map<Integer, ContextStore.StatementCounts> getCommittedContextChanges() {
+		return committedContextChanges;
+	}
+
+	/**
+	 * Counts the committed explicit and inferred statements of each context by scanning the first index. The default
+	 * context has ID 0.
+	 */
+	Map<Integer, ContextStore.StatementCounts> countContextStatements() throws IOException {
+		Map<Integer, long[]> counts = new HashMap<>();
+		try (RecordIterator iter = indexes.get(0).getBTree().iterateAll()) {
+			for (byte[] data = iter.next(); data != null; data = iter.next()) {
+				byte flags = data[FLAG_IDX];
+				if ((flags & ADDED_FLAG) != 0) {
+					// not yet committed
+					continue;
+				}
+				long[] count = counts.computeIfAbsent(ByteArrayUtil.getInt(data, CONTEXT_IDX), c -> new long[2]);
+				count[(flags & EXPLICIT_FLAG) != 0 ? 0 : 1]++;
+			}
+		}
+		Map<Integer, ContextStore.StatementCounts> result = new HashMap<>(counts.size());
+		counts.forEach((contextId, count) -> result.put(contextId, new ContextStore.StatementCounts(count[0], count[1])));
+		return result;
+	}
+
 	private void checkAllCommitted() throws IOException {
 		for (TripleIndex index : indexes) {
 			System.out.println("Checking " + index + " index");
@@ -1034,6 +1668,14 @@ class TripleStore implements Closeable {
 	}
 
 	public void rollback() throws IOException {
+		try {
+			rollbackInternal();
+		} finally {
+			endTxnState();
+		}
+	}
+
+	private void rollbackInternal() throws IOException {
 		txnStatusFile.setTxnStatus(TxnStatus.ROLLING_BACK, forceSync);
 
 		// updatedTriplesCache will be null when recovering from a crash
@@ -1041,7 +1683,13 @@ class TripleStore implements Closeable {
 
 		byte txnFlagsMask = ~(ADDED_FLAG | REMOVED_FLAG | TOGGLE_EXPLICIT_FLAG);
 
-		for (TripleIndex index : indexes) {
+		// the outcome is logged once, while the first index is updated
+		IndexBuild build = indexBuild;
+		TripleIndex firstIndex = indexes.get(0);
+
+		flushPendingUpdates();
+		forEachIndex(indexes, index -> {
+			boolean logChanges = build != null && index == firstIndex;
 			BTree btree = index.getBTree();
 
 			RecordIterator iter;
@@ -1063,9 +1711,15 @@ class TripleStore implements Closeable {
 
 					if (wasAdded) {
 						btree.remove(data);
+						if (logChanges) {
+							build.logRemoved(data);
+						}
 					} else {
 						if (wasRemoved || wasToggled) {
 							data[FLAG_IDX] &= txnFlagsMask;
+							if (logChanges) {
+								build.logStored(data);
+							}
 
 							if (validCache) {
 								// We're iterating the cache
@@ -1080,7 +1734,7 @@ class TripleStore implements Closeable {
 			} finally {
 				iter.close();
 			}
-		}
+		});
 
 		if (updatedTriplesCache != null) {
 			updatedTriplesCache.clear();
@@ -1092,17 +1746,124 @@ class TripleStore implements Closeable {
 	}
 
 	protected void sync() throws IOException {
-		List<Throwable> exceptions = new ArrayList<>();
-		for (TripleIndex index : indexes) {
+		flushPendingUpdates();
+		try {
+			forEachIndex(indexes, index -> index.getBTree().sync());
+		} catch (RuntimeException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private void addPendingUpdate(byte[] data) throws IOException {
+		synchronized (pendingUpdates) {
+			pendingUpdates.add(data);
+			if (pendingUpdates.size() >= PENDING_UPDATES_BATCH_SIZE) {
+				flushPendingUpdates();
+			}
+		}
+	}
+
+	/**
+	 * Writes the buffered triples to the secondary indexes, one thread per index.
+	 */
+	private void flushPendingUpdates() throws IOException {
+		synchronized (pendingUpdates) {
+			if (pendingUpdates.isEmpty()) {
+				return;
+			}
 			try {
-				index.getBTree().sync();
-			} catch (Throwable e) {
-				exceptions.add(e);
+				forEachIndex(indexes.subList(1, indexes.size()), index -> {
+					BTree btree = index.getBTree();
+					for (byte[] data : pendingUpdates) {
+						btree.insert(data);
+					}
+				});
+			} finally {
+				pendingUpdates.clear();
 			}
 		}
-		if (!exceptions.isEmpty()) {
-			throw new IOException(exceptions.get(0));
+	}
+
+	/**
+	 * Applies a task to each of the supplied indexes. If parallel index updates are enabled, the first index is
+	 * processed by the calling thread and the other indexes by the index update executor. A failure for one index does
+	 * not stop the task for the other indexes. Returns after the task has completed for all indexes, rethrowing the
+	 * first exception that occurred with any later ones added as suppressed exceptions.
+	 */
+	private void forEachIndex(List<TripleIndex> targetIndexes, IndexTask task) throws IOException {
+		Throwable failure = null;
+		if (indexUpdateExecutor == null || targetIndexes.size() == 1) {
+			for (TripleIndex index : targetIndexes) {
+				failure = apply(task, index, failure);
+			}
+			throwFailure(failure);
+			return;
 		}
+
+		List<Future<Void>> futures = new ArrayList<>(targetIndexes.size() - 1);
+		for (TripleIndex index : targetIndexes.subList(1, targetIndexes.size())) {
+			futures.add(indexUpdateExecutor.submit(() -> {
+				task.apply(index);
+				return null;
+			}));
+		}
+
+		failure = apply(task, targetIndexes.get(0), failure);
+
+		// wait for all indexes, so that none of them is still being modified when this method returns
+		boolean interrupted = false;
+		for (Future<Void> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					failure = addFailure(failure, e.getCause());
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		throwFailure(failure);
+	}
+
+	private static Throwable apply(IndexTask task, TripleIndex index, Throwable failure) {
+		try {
+			task.apply(index);
+		} catch (Throwable e) {
+			return addFailure(failure, e);
+		}
+		return failure;
+	}
+
+	private static Throwable addFailure(Throwable failure, Throwable e) {
+		if (failure == null) {
+			return e;
+		}
+		failure.addSuppressed(e);
+		return failure;
+	}
+
+	private static void throwFailure(Throwable failure) throws IOException {
+		if (failure instanceof IOException) {
+			throw (IOException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (failure != null) {
+			throw new IOException(failure);
+		}
+	}
+
+	@FunctionalInterface
+	private interface IndexTask {
+		void apply(TripleIndex index) throws IOException;
 	}
 
 	private byte[] getData(int subj, int pred, int obj, int context, int flags) {
@@ -1205,10 +1966,6 @@ class TripleStore implements Closeable {
 					forceSync);
 		}
 
-		private String getFilenamePrefix(String fieldSeq) {
-			return "triples-" + fieldSeq;
-		}
-
 		public char[] getFieldSeq() {
 			return tripleComparator.getFieldSeq();
 		}
@@ -1217,6 +1974,10 @@ class TripleStore implements Closeable {
 			return btree;
 		}
 
+		public ExternalRecordSorter createSorter(int maxRecordsInMemory) {
+			return new ExternalRecordSorter(dir, RECORD_LENGTH, tripleComparator.compareStrategy, maxRecordsInMemory);
+		}
+
 		/**
 		 * Determines the 'score' of this index on the supplied pattern of subject, predicate, object and context IDs.
 		 * The higher the score, the better the index is suited for matching the pattern. Lowest score is 0, which means
@@ -1590,7 +1590,10 @@ public class ValueStore extends SimpleValueFactory implements AutoCloseable {
 			return;
 		}
 		try {
-			ValueStoreWalRecovery recovery = new ValueStoreWalRecovery();
+			ValueStoreWalRecovery recovery = new ValueStoreWalRecovery(
+					(segmentsScanned, segmentCount, recordCount) -> logger.debug(
+							"Replayed {} of {} ValueStore WAL segments ({} values) for {}", segmentsScanned,
+							segmentCount, recordCount, dataDir));
 			ValueStoreWalRecovery.ReplayReport report;
 			try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
 				report = recovery.replayWithReport(reader);
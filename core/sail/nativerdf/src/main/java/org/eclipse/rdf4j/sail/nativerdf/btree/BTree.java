@@ -12,19 +12,26 @@ package org.eclipse.rdf4j.sail.nativerdf.btree;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.rdf4j.common.io.ByteArrayUtil;
 import org.eclipse.rdf4j.common.io.NioFile;
 import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.nativerdf.MemoryMappedReader;
 import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,11 +70,30 @@ public class BTree implements Closeable {
 	 */
 	static final byte FILE_FORMAT_VERSION = 1;
 
+	/**
+	 * The file format version number of BTree files that store leaf nodes in the compressed format.
+	 *
+	 * @see CompressedLeafFormat
+	 */
+	static final byte COMPRESSED_LEAVES_FILE_FORMAT_VERSION = 2;
+
+	/**
+	 * System property that enables the compressed leaf node format for newly created BTree files, unless the format is
+	 * specified explicitly. Existing files keep their format, see
+	 * {@link #convertNodeFormat(File, String, int, RecordComparator, boolean)}.
+	 */
+	public static final String COMPRESSED_LEAVES_PROP = "org.eclipse.rdf4j.sail.nativerdf.btree.compressedLeaves";
+
 	/**
 	 * The length of the header field.
 	 */
 	static final int HEADER_LENGTH = 16;
 
+	/**
+	 * The default budget (in bytes) of the node cache of a BTree.
+	 */
+	public static final long DEFAULT_NODE_CACHE_SIZE = 8L * 1024 * 1024;
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -79,6 +105,11 @@ public class BTree implements Closeable {
 	 */
 	final NioFile nioFile;
 
+	/**
+	 * Memory mapping of the BTree file for reading nodes, or <var>null</var> if memory-mapped reads are disabled.
+	 */
+	final MemoryMappedReader mappedReader;
+
 	/**
 	 * Flag indicating whether file writes should be forced to disk using {@link FileChannel#force(boolean)}.
 	 */
@@ -96,15 +127,10 @@ public class BTree implements Closeable {
 	 */
 	final ReentrantReadWriteLock btreeLock = new ReentrantReadWriteLock();
 
-	private final ConcurrentNodeCache nodeCache = new ConcurrentNodeCache(id -> {
-		Node node = new Node(id, this);
-		try {
-			node.read();
-		} catch (IOException exc) {
-			throw new SailException("Error reading B-tree node", exc);
-		}
-		return node;
-	});
+	/**
+	 * Cache of recently used nodes, with a budget in bytes that can be changed using {@link #setNodeCacheSize(long)}.
+	 */
+	private final ConcurrentNodeCache nodeCache;
 
 	/*
 	 * Info about allocated and unused nodes in the file
@@ -150,6 +176,28 @@ public class BTree implements Closeable {
 	 */
 	final int nodeSize;
 
+	/**
+	 * The encoding of leaf nodes, or <var>null</var> if leaf nodes are stored uncompressed.
+	 */
+	final CompressedLeafFormat leafFormat;
+
+	/**
+	 * The maximum number of values for a leaf node. Equal to <var>branchFactor - 1</var> for uncompressed leaves.
+	 * Compressed leaves are also limited by the size of their encoding.
+	 */
+	final int maxLeafValueCount;
+
+	/**
+	 * The minimum number of values for a leaf node (except for the root), such that two leaf nodes with fewer values
+	 * can always be merged.
+	 */
+	final int minLeafValueCount;
+
+	/**
+	 * The size of the in-memory data of a node, which has room for the maximum number of values plus one spare slot.
+	 */
+	final int nodeBufferSize;
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -242,6 +290,31 @@ public class BTree implements Closeable {
 	 */
 	public BTree(File dataDir, String filenamePrefix, int blockSize, int valueSize, RecordComparator comparator,
 			boolean forceSync) throws IOException {
+		this(dataDir, filenamePrefix, blockSize, valueSize, comparator, forceSync,
+				Boolean.getBoolean(COMPRESSED_LEAVES_PROP));
+	}
+
+	/**
+	 * Creates a new BTree that uses the supplied <var>RecordComparator</var> to compare the values that are or will be
+	 * stored in the B-Tree.
+	 *
+	 * @param dataDir          The directory for the BTree data.
+	 * @param filenamePrefix   The prefix for all files used by this BTree.
+	 * @param blockSize        The size (in bytes) of a file block for a single node. Ideally, the size specified is the
+	 *                         size of a block in the used file system.
+	 * @param valueSize        The size (in bytes) of the fixed-length values that are or will be stored in the B-Tree.
+	 * @param comparator       The <var>RecordComparator</var> to use for determining whether one value is smaller,
+	 *                         larger or equal to another.
+	 * @param forceSync        Flag indicating whether updates should be synced to disk forcefully by calling
+	 *                         {@link FileChannel#force(boolean)}. This may have a severe impact on write performance.
+	 * @param compressedLeaves Flag indicating whether a newly created B-Tree file stores its leaf nodes in the compressed
+	 *                         format, which fits more values in a node. Ignored for existing files and if the values
+	 *                         or blocks are too small to be compressed. Values that are equal according to the
+	 *                         comparator must not differ in their leading multiple of 4 bytes.
+	 * @throws IOException In case the initialization of the B-Tree file failed.
+	 */
+	public BTree(File dataDir, String filenamePrefix, int blockSize, int valueSize, RecordComparator comparator,
+			boolean forceSync, boolean compressedLeaves) throws IOException {
 		if (dataDir == null) {
 			throw new IllegalArgumentException("dataDir must not be null");
 		}
@@ -263,22 +336,23 @@ public class BTree implements Closeable {
 
 		File file = new File(dataDir, filenamePrefix + ".dat");
 		this.nioFile = new NioFile(file);
+		this.mappedReader = MemoryMappedReader.createIfEnabled(file);
 		this.comparator = comparator;
 		this.forceSync = forceSync;
 
 		File allocFile = new File(dataDir, filenamePrefix + ".alloc");
 		allocatedNodesList = new AllocatedNodesList(allocFile, this, forceSync);
 
-		if (nioFile.size() == 0L) {
+		boolean newFile = nioFile.size() == 0L;
+		boolean writeHeader = newFile;
+		byte version = FILE_FORMAT_VERSION;
+
+		if (newFile) {
 			// Empty file, initialize it with the specified parameters
 			this.blockSize = blockSize;
 			this.valueSize = valueSize;
 			this.rootNodeID = 0;
 			this.height = 0;
-
-			writeFileHeader();
-
-			// sync();
 		} else {
 			// Read parameters from file
 			ByteBuffer buf = ByteBuffer.allocate(HEADER_LENGTH);
@@ -288,7 +362,7 @@ public class BTree implements Closeable {
 
 			byte[] magicNumber = new byte[MAGIC_NUMBER.length];
 			buf.get(magicNumber);
-			byte version = buf.get();
+			version = buf.get();
 			this.blockSize = buf.getInt();
 			this.valueSize = buf.getInt();
 			this.rootNodeID = buf.getInt();
@@ -301,9 +375,9 @@ public class BTree implements Closeable {
 			}
 
 			if (Arrays.equals(MAGIC_NUMBER, magicNumber)) {
-				if (version > FILE_FORMAT_VERSION) {
+				if (version > COMPRESSED_LEAVES_FILE_FORMAT_VERSION) {
 					throw new IOException("Unable to read BTree file " + file + "; it uses a newer file format");
-				} else if (version != FILE_FORMAT_VERSION) {
+				} else if (version != FILE_FORMAT_VERSION && version != COMPRESSED_LEAVES_FILE_FORMAT_VERSION) {
 					throw new IOException(
 							"Unable to read BTree file " + file + "; invalid file format version: " + version);
 				}
@@ -314,7 +388,7 @@ public class BTree implements Closeable {
 				}
 				// Write new magic number to file
 				logger.info("Updating file header for btree file '{}'", file.getAbsolutePath());
-				writeFileHeader();
+				writeHeader = true;
 			} else {
 				throw new IOException("File doesn't contain (compatible) BTree data: " + file);
 			}
@@ -333,6 +407,37 @@ public class BTree implements Closeable {
 		minValueCount = (branchFactor - 1) / 2;
 		nodeSize = 8 + (branchFactor - 1) * slotSize;
 
+		boolean compressed = newFile
+				? compressedLeaves && CompressedLeafFormat.isSupported(nodeSize, this.valueSize)
+				: version == COMPRESSED_LEAVES_FILE_FORMAT_VERSION;
+		if (compressed) {
+			leafFormat = new CompressedLeafFormat(this.valueSize);
+			int payloadSize = nodeSize - 4;
+			// limit the memory used by cached nodes
+			maxLeafValueCount = Math.min(4 * (branchFactor - 1), payloadSize / leafFormat.minRecordSize);
+			minLeafValueCount = (payloadSize / leafFormat.maxRecordSize - 1) / 2;
+		} else {
+			leafFormat = null;
+			maxLeafValueCount = branchFactor - 1;
+			minLeafValueCount = minValueCount;
+		}
+		nodeBufferSize = 8 + Math.max(branchFactor - 1, maxLeafValueCount) * slotSize + slotSize;
+
+		nodeCache = new ConcurrentNodeCache(id -> {
+			Node node = new Node(id, this);
+			try {
+				node.read();
+			} catch (IOException exc) {
+				throw new SailException("Error reading B-tree node", exc);
+			}
+			return node;
+		}, nodeBufferSize, DEFAULT_NODE_CACHE_SIZE);
+
+		if (writeHeader) {
+			writeFileHeader();
+		}
+		fileSizeChanged();
+
 		// System.out.println("blockSize=" + this.blockSize);
 		// System.out.println("valueSize=" + this.valueSize);
 		// System.out.println("slotSize=" + this.slotSize);
@@ -352,6 +457,59 @@ public class BTree implements Closeable {
 		return nioFile.getFile();
 	}
 
+	/**
+	 * Checks whether this BTree stores its leaf nodes in the compressed format.
+	 */
+	public boolean hasCompressedLeaves() {
+		return leafFormat != null;
+	}
+
+	/**
+	 * Sets the budget of the node cache of this BTree in bytes. Recently used nodes are cached up to this size, with
+	 * internal nodes and leaf nodes that are accessed repeatedly being kept in preference to leaf nodes that were only
+	 * read once, e.g. by a scan. Defaults to {@link #DEFAULT_NODE_CACHE_SIZE}.
+	 *
+	 * @param cacheSize The budget of the node cache in bytes.
+	 */
+	public void setNodeCacheSize(long cacheSize) {
+		nodeCache.setCacheSize(cacheSize);
+	}
+
+	/**
+	 * Gets the budget of the node cache of this BTree in bytes.
+	 */
+	public long getNodeCacheSize() {
+		return nodeCache.getCacheSize();
+	}
+
+	/**
+	 * Gets the number of bytes currently used by cached nodes.
+	 */
+	public long getNodeCacheUsage() {
+		return (long) nodeCache.getNodeCount() * nodeBufferSize;
+	}
+
+	/**
+	 * Gets the number of node reads that were served by the node cache.
+	 */
+	public long getNodeCacheHitCount() {
+		return nodeCache.getHitCount();
+	}
+
+	/**
+	 * Gets the number of node reads that had to read the node from the file.
+	 */
+	public long getNodeCacheMissCount() {
+		return nodeCache.getMissCount();
+	}
+
+	/**
+	 * Gets the number of nodes that have been evicted from the node cache.
+	 */
+	public long getNodeCacheEvictionCount() {
+		return nodeCache.getEvictionCount();
+	}
+
 	/**
 	 * Closes the BTree and then deletes its data files.
 	 *
@@ -397,6 +555,9 @@ public class BTree implements Closeable {
 					nodeCache.clear();
 				} finally {
 					try {
+						if (mappedReader != null) {
+							mappedReader.close();
+						}
 						nioFile.close();
 					} finally {
 						allocatedNodesList.close(syncChanges);
@@ -424,6 +585,7 @@ public class BTree implements Closeable {
 			}
 
 			allocatedNodesList.sync();
+			fileSizeChanged();
 		} finally {
 			btreeLock.readLock().unlock();
 		}
@@ -949,6 +1111,7 @@ public class BTree implements Closeable {
 	}
 
 	private void balanceChildNode(Node parentNode, Node childNode, int childIdx) throws IOException {
+		int minValueCount = childNode.isLeaf() ? minLeafValueCount : this.minValueCount;
 		if (childNode.getValueCount() < minValueCount) {
 			// Child node contains too few values, try to borrow one from its right
 			// sibling
@@ -995,6 +1158,7 @@ public class BTree implements Closeable {
 		btreeLock.writeLock().lock();
 		try {
 			nodeCache.clear();
+			invalidateMapping();
 			nioFile.truncate(HEADER_LENGTH);
 
 			if (rootNodeID != 0) {
@@ -1008,6 +1172,140 @@ public class BTree implements Closeable {
 		}
 	}
 
+	/**
+	 * Loads sorted values into this B-tree, which must be empty. Instead of inserting the values one by one, the tree is
+	 * built bottom-up: nodes are filled in value order and written to the file in a single sequential pass, without any
+	 * node splits.
+	 *
+	 * @param sortedValues The values to load. The values must be unique and sorted in the order that is defined by the
+	 *                     comparator of this B-tree.
+	 * @param fillFactor   The fraction of the capacity of a node that is filled with values, larger than 0 and at most
+	 *                     1. Nodes are never filled with fewer than the minimum number of values. A fill factor below 1
+	 *                     leaves room for values that are inserted later on without causing node splits.
+	 * @throws IOException              If an I/O error occurred.
+	 * @throws IllegalStateException    If the B-tree is not empty.
+	 * @throws IllegalArgumentException If the values are not unique and sorted, or the fill factor is invalid.
+	 */
+	public void bulkLoad(Iterator<byte[]> sortedValues, float fillFactor) throws IOException {
+		if (!(fillFactor > 0f && fillFactor <= 1f)) {
+			throw new IllegalArgumentException("fill factor must be larger than 0 and at most 1: " + fillFactor);
+		}
+		btreeLock.writeLock().lock();
+		try {
+			if (rootNodeID != 0) {
+				throw new IllegalStateException("Bulk load requires an empty B-tree: " + getFile());
+			}
+			// discard any empty nodes that are still allocated
+			clear();
+
+			int[] rootAndHeight = new BulkLoader(this, fillFactor).load(sortedValues);
+			if (rootAndHeight != null) {
+				rootNodeID = rootAndHeight[0];
+				height = rootAndHeight[1];
+				writeFileHeader();
+			}
+		} finally {
+			btreeLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Converts an existing BTree to the compressed or the uncompressed leaf node format. The BTree is rebuilt bottom-up
+	 * in a temporary file, which then replaces the original file. The BTree must not be in use while it is converted.
+	 *
+	 * @param dataDir          The directory for the BTree data.
+	 * @param filenamePrefix   The prefix for all files used by the BTree.
+	 * @param valueSize        The size (in bytes) of the values that are stored in the B-Tree.
+	 * @param comparator       The <var>RecordComparator</var> that defines the order of the values in the B-Tree.
+	 * @param compressedLeaves Flag indicating whether the converted B-Tree stores its leaf nodes in the compressed
+	 *                         format.
+	 * @return <var>true</var> if the BTree has been converted, <var>false</var> if it already used the requested format.
+	 * @throws IOException              If an I/O error occurred.
+	 * @throws IllegalArgumentException If the leaves of the B-Tree can not be compressed.
+	 */
+	public static boolean convertNodeFormat(File dataDir, String filenamePrefix, int valueSize,
+			RecordComparator comparator, boolean compressedLeaves) throws IOException {
+		File file = new File(dataDir, filenamePrefix + ".dat");
+		if (!file.isFile()) {
+			throw new FileNotFoundException("BTree file not found: " + file);
+		}
+		String tmpPrefix = filenamePrefix + ".convert";
+		File tmpFile = new File(dataDir, tmpPrefix + ".dat");
+		File tmpAllocFile = new File(dataDir, tmpPrefix + ".alloc");
+		Files.deleteIfExists(tmpFile.toPath());
+		Files.deleteIfExists(tmpAllocFile.toPath());
+
+		// the block size of the existing file is used
+		try (BTree source = new BTree(dataDir, filenamePrefix, 3 * valueSize + 20, valueSize, comparator, false,
+				false)) {
+			if (source.hasCompressedLeaves() == compressedLeaves) {
+				return false;
+			}
+
+			BTree target = new BTree(dataDir, tmpPrefix, source.blockSize, valueSize, comparator, false,
+					compressedLeaves);
+			try {
+				if (target.hasCompressedLeaves() != compressedLeaves) {
+					throw new IllegalArgumentException("Leaf nodes can not be compressed for BTree file " + file);
+				}
+				try (RecordIterator iter = source.iterateAll()) {
+					target.bulkLoad(new RecordIteratorAdapter(iter), 1f);
+				}
+				target.close();
+			} catch (Throwable e) {
+				target.delete();
+				throw e;
+			}
+		}
+
+		// A missing allocated nodes file is rebuilt from the BTree file, so that a crash in between does not leave the
+		// BTree file with the allocated nodes of the other format
+		Files.deleteIfExists(new File(dataDir, filenamePrefix + ".alloc").toPath());
+		Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		if (tmpAllocFile.exists()) {
+			Files.move(tmpAllocFile.toPath(), new File(dataDir, filenamePrefix + ".alloc").toPath());
+		}
+		return true;
+	}
+
+	/**
+	 * Adapts a {@link RecordIterator} to an {@link Iterator}, wrapping I/O errors in {@link UncheckedIOException}s.
+	 */
+	private static class RecordIteratorAdapter implements Iterator<byte[]> {
+
+		private final RecordIterator iter;
+
+		private byte[] next;
+
+		RecordIteratorAdapter(RecordIterator iter) throws IOException {
+			this.iter = iter;
+			this.next = iter.next();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public byte[] next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			byte[] result = next;
+			try {
+				next = iter.next();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return result;
+		}
+	}
+
+	int allocateNodeID() throws IOException {
+		return allocatedNodesList.allocateNode();
+	}
+
 	private Node createNewNode() throws IOException {
 		int newNodeID = allocatedNodesList.allocateNode();
 
@@ -1046,6 +1344,7 @@ public class BTree implements Closeable {
 				int maxNodeID = allocatedNodesList.getMaxNodeID();
 				if (node.getID() > maxNodeID) {
 					// Shrink file
+					invalidateMapping();
 					nioFile.truncate(nodeID2offset(maxNodeID) + nodeSize);
 				}
 			}
@@ -1054,10 +1353,22 @@ public class BTree implements Closeable {
 		}
 	}
 
+	private void invalidateMapping() {
+		if (mappedReader != null) {
+			mappedReader.invalidate();
+		}
+	}
+
+	private void fileSizeChanged() throws IOException {
+		if (mappedReader != null) {
+			mappedReader.fileSizeChanged(nioFile.size());
+		}
+	}
+
 	private void writeFileHeader() throws IOException {
 		ByteBuffer buf = ByteBuffer.allocate(HEADER_LENGTH);
 		buf.put(MAGIC_NUMBER);
-		buf.put(FILE_FORMAT_VERSION);
+		buf.put(leafFormat != null ? COMPRESSED_LEAVES_FILE_FORMAT_VERSION : FILE_FORMAT_VERSION);
 		buf.putInt(blockSize);
 		buf.putInt(valueSize);
 		buf.putInt(rootNodeID);
@@ -1087,14 +1398,22 @@ public class BTree implements Closeable {
 		out.println("branch factor   = " + branchFactor);
 		out.println("min value count = " + minValueCount);
 		out.println("node size       = " + nodeSize);
+		out.println("compressed leaves = " + hasCompressedLeaves());
 		out.println();
 
 		int nodeCount = 0;
 		int valueCount = 0;
 
-		ByteBuffer buf = ByteBuffer.allocate(nodeSize);
+		ByteBuffer buf = ByteBuffer.allocate(nodeBufferSize);
 		for (long offset = blockSize; offset < nioFile.size(); offset += blockSize) {
+			buf.limit(nodeSize);
 			nioFile.read(buf, offset);
+			if (buf.getInt(0) < 0) {
+				// compressed leaf, print it in the uncompressed layout
+				byte[] encoded = Arrays.copyOf(buf.array(), nodeSize);
+				Arrays.fill(buf.array(), (byte) 0);
+				leafFormat.decode(encoded, buf.array());
+			}
 			buf.rewind();
 
 			int nodeID = offset2nodeID(offset);
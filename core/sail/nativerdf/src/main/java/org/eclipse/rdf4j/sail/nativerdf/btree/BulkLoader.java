@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+
+/**
+ * Builds a B-tree bottom-up from values that are sorted in the order of the B-tree. The tree is built level by level:
+ * the nodes of a level are filled to a fixed number of values and written in ascending node ID order, while the value
+ * following each node is passed on as a separator to the next level. The separators are spooled to a temporary file,
+ * which is the input of the next level. A level that consists of a single node contains the root node.
+ * <p>
+ * The last node of a level may end up with fewer than the minimum number of values. It is merged with, or its values
+ * are redistributed with, its left sibling, which is therefore written only after the next node of the level has been
+ * completed.
+ * <p>
+ * Compressed leaf nodes are filled up to a fraction of the node size instead of a number of values.
+ *
+ * @see BTree#bulkLoad(Iterator, float)
+ */
+class BulkLoader {
+
+	/**
+	 * The number of nodes that are collected before they are written to the file.
+	 */
+	private static final int WRITE_BUFFER_NODES = 64;
+
+	private final BTree tree;
+
+	private final int fillCount;
+
+	/**
+	 * The encoded size up to which compressed leaf nodes are filled.
+	 */
+	private final int leafFillSize;
+
+	private final ByteBuffer writeBuffer;
+
+	private int writeBufferFirstNodeID;
+
+	private int writeBufferNodeCount;
+
+	/**
+	 * @param tree       The empty B-tree to load.
+	 * @param fillFactor The fraction of the capacity of a node that is filled with values.
+	 */
+	BulkLoader(BTree tree, float fillFactor) {
+		this.tree = tree;
+		this.fillCount = Math.max(tree.minValueCount,
+				Math.min(tree.branchFactor - 1, Math.round(fillFactor * (tree.branchFactor - 1))));
+		this.leafFillSize = Math.round(fillFactor * (tree.nodeSize - 4));
+		this.writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_NODES * tree.blockSize);
+	}
+
+	/**
+	 * Loads the values into the B-tree.
+	 *
+	 * @return The IDs of the root node and the height of the tree, or <var>null</var> if there are no values.
+	 */
+	int[] load(Iterator<byte[]> sortedValues) throws IOException {
+		File dir = tree.getFile().getParentFile();
+		String prefix = tree.getFile().getName();
+
+		File levelFile = File.createTempFile(prefix, ".level", dir);
+		try {
+			Level level;
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(levelFile), 1 << 16))) {
+				level = new Level(out, tree.leafFormat != null);
+				level.start(0);
+
+				byte[] previous = null;
+				while (sortedValues.hasNext()) {
+					byte[] value = sortedValues.next();
+					if (previous != null
+							&& tree.comparator.compareBTreeValues(previous, value, 0, tree.valueSize) >= 0) {
+						throw new IllegalArgumentException(
+								"values must be unique and sorted in the order of the B-tree " + tree.getFile());
+					}
+					level.add(value, 0);
+					previous = value;
+				}
+				if (previous == null) {
+					return null;
+				}
+				level.finish();
+			}
+
+			int height = 1;
+			while (level.nodeCount > 1) {
+				File nextLevelFile = File.createTempFile(prefix, ".level", dir);
+				try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(new FileInputStream(levelFile), 1 << 16));
+						DataOutputStream out = new DataOutputStream(
+								new BufferedOutputStream(new FileOutputStream(nextLevelFile), 1 << 16))) {
+					int separatorCount = level.nodeCount - 1;
+					level = new Level(out, false);
+					level.start(in.readInt());
+
+					byte[] value = new byte[tree.valueSize];
+					for (int i = 0; i < separatorCount; i++) {
+						in.readFully(value);
+						level.add(value, in.readInt());
+					}
+					level.finish();
+				} finally {
+					levelFile.delete();
+				}
+				levelFile = nextLevelFile;
+				height++;
+			}
+
+			flushWriteBuffer();
+
+			return new int[] { level.lastNodeID, height };
+		} finally {
+			levelFile.delete();
+		}
+	}
+
+	private int childOffset(int childIdx) {
+		return 4 + childIdx * tree.slotSize;
+	}
+
+	private int valueOffset(int valueIdx) {
+		return 8 + valueIdx * tree.slotSize;
+	}
+
+	/**
+	 * Writes a completed node and returns its ID.
+	 */
+	private int writeNode(byte[] data, int valueCount, boolean compressedLeaf) throws IOException {
+		int nodeID = tree.allocateNodeID();
+
+		if (writeBufferNodeCount > 0
+				&& (writeBufferNodeCount == WRITE_BUFFER_NODES
+						|| nodeID != writeBufferFirstNodeID + writeBufferNodeCount)) {
+			flushWriteBuffer();
+		}
+		if (writeBufferNodeCount == 0) {
+			writeBufferFirstNodeID = nodeID;
+		}
+
+		ByteArrayUtil.putInt(valueCount, data, 0);
+		writeBuffer.position(writeBufferNodeCount * tree.blockSize);
+		if (compressedLeaf) {
+			if (4 + tree.leafFormat.payloadSize(data, valueCount) > tree.nodeSize) {
+				throw new IllegalStateException("Compressed leaf node exceeds the node size in " + tree.getFile());
+			}
+			byte[] encoded = new byte[tree.nodeSize];
+			tree.leafFormat.encode(data, valueCount, encoded);
+			writeBuffer.put(encoded);
+		} else {
+			writeBuffer.put(data, 0, tree.nodeSize);
+		}
+		writeBufferNodeCount++;
+
+		return nodeID;
+	}
+
+	private void flushWriteBuffer() throws IOException {
+		if (writeBufferNodeCount > 0) {
+			// the last node is written without the unused space at the end of its block
+			writeBuffer.position(0);
+			writeBuffer.limit((writeBufferNodeCount - 1) * tree.blockSize + tree.nodeSize);
+			tree.nioFile.write(writeBuffer, tree.nodeID2offset(writeBufferFirstNodeID));
+			writeBuffer.clear();
+			writeBufferNodeCount = 0;
+		}
+	}
+
+	/**
+	 * The builder for a single level of the tree. Receives the first child node ID followed by pairs of values and the
+	 * IDs of the child nodes to their right, and writes the first node ID of the level followed by pairs of separator
+	 * values and node IDs to the next level.
+	 */
+	private class Level {
+
+		private final DataOutputStream out;
+
+		/**
+		 * Flag indicating whether this level consists of compressed leaf nodes.
+		 */
+		private final boolean compressedLeaves;
+
+		private byte[] current = new byte[tree.nodeBufferSize];
+
+		private int currentCount;
+
+		/**
+		 * The encoded size of the values of the current node, if it is a compressed leaf.
+		 */
+		private int currentSize;
+
+		/**
+		 * The separator between the pending and the current node.
+		 */
+		private byte[] currentSeparator;
+
+		/**
+		 * The completed node preceding the current node that has not been written yet.
+		 */
+		private byte[] pending = new byte[tree.nodeBufferSize];
+
+		private int pendingCount = -1;
+
+		private byte[] pendingSeparator;
+
+		int nodeCount;
+
+		int lastNodeID;
+
+		Level(DataOutputStream out, boolean compressedLeaves) {
+			this.out = out;
+			this.compressedLeaves = compressedLeaves;
+		}
+
+		void start(int firstChildID) {
+			ByteArrayUtil.putInt(firstChildID, current, childOffset(0));
+		}
+
+		/**
+		 * Checks whether the current node is complete before the supplied value is added to it.
+		 */
+		private boolean isComplete(int recordSize) {
+			if (!compressedLeaves) {
+				return currentCount == fillCount;
+			}
+			if (currentCount == tree.maxLeafValueCount || currentSize + recordSize > tree.nodeSize - 4) {
+				return true;
+			}
+			return currentCount >= tree.minLeafValueCount && currentSize + recordSize > leafFillSize;
+		}
+
+		void add(byte[] value, int rightChildID) throws IOException {
+			int recordSize = 0;
+			if (compressedLeaves) {
+				recordSize = tree.leafFormat.recordSize(current, currentCount == 0 ? -1 : valueOffset(currentCount - 1),
+						value, 0);
+			}
+
+			if (isComplete(recordSize)) {
+				// the current node is complete, the value separates it from the next node
+				if (pendingCount >= 0) {
+					writePending();
+				}
+
+				byte[] tmp = pending;
+				pending = current;
+				pendingCount = currentCount;
+				pendingSeparator = currentSeparator;
+
+				current = tmp;
+				Arrays.fill(current, (byte) 0);
+				currentCount = 0;
+				currentSize = 0;
+				currentSeparator = value.clone();
+				ByteArrayUtil.putInt(rightChildID, current, childOffset(0));
+			} else {
+				ByteArrayUtil.put(value, current, valueOffset(currentCount));
+				ByteArrayUtil.putInt(rightChildID, current, childOffset(currentCount + 1));
+				currentCount++;
+				currentSize += recordSize;
+			}
+		}
+
+		void finish() throws IOException {
+			int minValueCount = compressedLeaves ? tree.minLeafValueCount : tree.minValueCount;
+			if (pendingCount >= 0 && currentCount < minValueCount) {
+				// Concatenate the slots of the pending node, the separator and the slots of the current node
+				int totalCount = pendingCount + 1 + currentCount;
+				byte[] slots = new byte[totalCount * tree.slotSize + 4];
+				System.arraycopy(pending, 4, slots, 0, pendingCount * tree.slotSize + 4);
+				System.arraycopy(currentSeparator, 0, slots, pendingCount * tree.slotSize + 4, tree.valueSize);
+				System.arraycopy(current, 4, slots, (pendingCount + 1) * tree.slotSize, currentCount * tree.slotSize
+						+ 4);
+
+				// the concatenated slots in the layout of a node
+				byte[] merged = new byte[slots.length + 4];
+				System.arraycopy(slots, 0, merged, 4, slots.length);
+
+				boolean fits;
+				if (compressedLeaves) {
+					fits = totalCount <= tree.maxLeafValueCount
+							&& 4 + tree.leafFormat.payloadSize(merged, totalCount) <= tree.nodeSize;
+				} else {
+					fits = totalCount < tree.branchFactor;
+				}
+				if (fits) {
+					// merge the current node into the pending node
+					pending = Arrays.copyOf(merged, tree.nodeBufferSize);
+					pendingCount = totalCount;
+					writePending();
+					return;
+				}
+
+				// redistribute the values evenly over both nodes
+				int leftCount = compressedLeaves ? tree.leafFormat.splitIndex(merged, totalCount) : (totalCount - 1) / 2;
+				Arrays.fill(pending, (byte) 0);
+				System.arraycopy(slots, 0, pending, 4, leftCount * tree.slotSize + 4);
+				pendingCount = leftCount;
+
+				currentSeparator = Arrays.copyOfRange(slots, leftCount * tree.slotSize + 4,
+						(leftCount + 1) * tree.slotSize);
+
+				Arrays.fill(current, (byte) 0);
+				System.arraycopy(slots, (leftCount + 1) * tree.slotSize, current, 4,
+						slots.length - (leftCount + 1) * tree.slotSize);
+				currentCount = totalCount - leftCount - 1;
+			}
+
+			if (pendingCount >= 0) {
+				writePending();
+			}
+			emit(currentSeparator, writeNode(current, currentCount, compressedLeaves));
+		}
+
+		private void writePending() throws IOException {
+			emit(pendingSeparator, writeNode(pending, pendingCount, compressedLeaves));
+		}
+
+		private void emit(byte[] separator, int nodeID) throws IOException {
+			if (separator != null) {
+				out.write(separator);
+			}
+			out.writeInt(nodeID);
+			nodeCount++;
+			lastNodeID = nodeID;
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+
+/**
+ * The on-disk encoding of leaf nodes in B-tree files that use compressed leaves. Values are treated as a sequence of
+ * 4-byte words (e.g. the IDs of a triple), optionally followed by a few trailing bytes (e.g. flags). Each value is
+ * encoded relative to the preceding value in the node:
+ * <ul>
+ * <li>a bit mask with one bit per word, indicating which words differ from the preceding value;</li>
+ * <li>for each differing word, the zigzag-encoded difference with the word of the preceding value as a varint;</li>
+ * <li>the trailing bytes, unencoded.</li>
+ * </ul>
+ * The first value of a node is encoded relative to a value of zeros. Because sorted values tend to share their leading
+ * words and have small differences in the first word that differs, most values take just a few bytes. Leaf nodes do
+ * not store child node IDs at all. In memory, nodes always use the uncompressed layout.
+ * <p>
+ * An encoded node starts with its value count, with the high bit set to mark it as a compressed leaf.
+ * <p>
+ * Values that are equal according to the comparator of the B-tree must only differ in their trailing bytes, so that
+ * updating a value in place does not change the size of its encoding.
+ */
+final class CompressedLeafFormat {
+
+	/**
+	 * Marks the value count of compressed leaf nodes.
+	 */
+	static final int LEAF_MARKER = 0x80000000;
+
+	private static final int MAX_VARINT_LENGTH = 5;
+
+	private final int slotSize;
+
+	private final int wordCount;
+
+	private final int trailingBytes;
+
+	private final int maskBytes;
+
+	/**
+	 * The maximum size of an encoded value.
+	 */
+	final int maxRecordSize;
+
+	/**
+	 * The minimum size of an encoded value, ignoring a leading value of zeros.
+	 */
+	final int minRecordSize;
+
+	CompressedLeafFormat(int valueSize) {
+		this.slotSize = 4 + valueSize;
+		this.wordCount = valueSize / 4;
+		this.trailingBytes = valueSize % 4;
+		this.maskBytes = (wordCount + 7) / 8;
+		this.maxRecordSize = maskBytes + wordCount * MAX_VARINT_LENGTH + trailingBytes;
+		this.minRecordSize = maskBytes + Math.max(1, trailingBytes);
+	}
+
+	/**
+	 * Checks whether leaves of the specified node size can be compressed: values must contain at least one word and the
+	 * payload of a node must be large enough to be split evenly by size.
+	 */
+	static boolean isSupported(int nodeSize, int valueSize) {
+		return valueSize >= 4 && nodeSize - 4 >= 8 * new CompressedLeafFormat(valueSize).maxRecordSize;
+	}
+
+	/**
+	 * Gets the size of the encoding of the value at <var>offset</var> in <var>data</var>, relative to the value at
+	 * <var>prevOffset</var> in <var>prevData</var>, or to a value of zeros if <var>prevOffset</var> is negative.
+	 */
+	int recordSize(byte[] prevData, int prevOffset, byte[] data, int offset) {
+		int size = maskBytes + trailingBytes;
+		for (int w = 0; w < wordCount; w++) {
+			int word = ByteArrayUtil.getInt(data, offset + 4 * w);
+			int prev = prevOffset < 0 ? 0 : ByteArrayUtil.getInt(prevData, prevOffset + 4 * w);
+			if (word != prev) {
+				size += varIntLength(zigzag(word - prev));
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Gets the size of the encoding of the value at <var>valueIdx</var> of a node in the uncompressed layout, relative
+	 * to the value at <var>prevIdx</var>, or to a value of zeros if <var>prevIdx</var> is negative.
+	 */
+	int recordSize(byte[] nodeData, int prevIdx, int valueIdx) {
+		return recordSize(nodeData, prevIdx < 0 ? -1 : valueOffset(prevIdx), nodeData, valueOffset(valueIdx));
+	}
+
+	/**
+	 * Gets the size of the encoded values of a node in the uncompressed layout, excluding the value count.
+	 */
+	int payloadSize(byte[] nodeData, int valueCount) {
+		int size = 0;
+		for (int i = 0; i < valueCount; i++) {
+			size += recordSize(nodeData, i - 1, i);
+		}
+		return size;
+	}
+
+	/**
+	 * Determines the index of the median value for splitting a node in two halves of about equal encoded size. Both
+	 * halves contain at least one value.
+	 */
+	int splitIndex(byte[] nodeData, int valueCount) {
+		if (valueCount < 3) {
+			return valueCount / 2;
+		}
+		int halfSize = payloadSize(nodeData, valueCount) / 2;
+		int size = 0;
+		int medianIdx = 0;
+		while (medianIdx < valueCount - 1) {
+			size += recordSize(nodeData, medianIdx - 1, medianIdx);
+			if (size >= halfSize) {
+				break;
+			}
+			medianIdx++;
+		}
+		return Math.max(1, Math.min(valueCount - 2, medianIdx));
+	}
+
+	/**
+	 * Encodes a leaf node in the uncompressed layout. The encoded node must fit in <var>out</var>, which must be filled
+	 * with zeros.
+	 */
+	void encode(byte[] nodeData, int valueCount, byte[] out) {
+		ByteArrayUtil.putInt(valueCount | LEAF_MARKER, out, 0);
+		int pos = 4;
+
+		for (int i = 0; i < valueCount; i++) {
+			int offset = valueOffset(i);
+			int prevOffset = offset - slotSize;
+
+			int maskPos = pos;
+			pos += maskBytes;
+			for (int w = 0; w < wordCount; w++) {
+				int word = ByteArrayUtil.getInt(nodeData, offset + 4 * w);
+				int prev = i == 0 ? 0 : ByteArrayUtil.getInt(nodeData, prevOffset + 4 * w);
+				if (word != prev) {
+					out[maskPos + (w >>> 3)] |= (byte) (1 << (w & 7));
+					int zigzag = zigzag(word - prev);
+					while ((zigzag & ~0x7F) != 0) {
+						out[pos++] = (byte) ((zigzag & 0x7F) | 0x80);
+						zigzag >>>= 7;
+					}
+					out[pos++] = (byte) zigzag;
+				}
+			}
+			System.arraycopy(nodeData, offset + 4 * wordCount, out, pos, trailingBytes);
+			pos += trailingBytes;
+		}
+	}
+
+	/**
+	 * Decodes an encoded leaf node into <var>nodeData</var>, which must be filled with zeros.
+	 *
+	 * @return The number of values in the node.
+	 */
+	int decode(byte[] in, byte[] nodeData) {
+		int valueCount = ByteArrayUtil.getInt(in, 0) & ~LEAF_MARKER;
+		ByteArrayUtil.putInt(valueCount, nodeData, 0);
+		int pos = 4;
+
+		for (int i = 0; i < valueCount; i++) {
+			int offset = valueOffset(i);
+			int prevOffset = offset - slotSize;
+
+			int maskPos = pos;
+			pos += maskBytes;
+			for (int w = 0; w < wordCount; w++) {
+				int word = i == 0 ? 0 : ByteArrayUtil.getInt(nodeData, prevOffset + 4 * w);
+				if ((in[maskPos + (w >>> 3)] & (1 << (w & 7))) != 0) {
+					int zigzag = 0;
+					int shift = 0;
+					byte b;
+					do {
+						b = in[pos++];
+						zigzag |= (b & 0x7F) << shift;
+						shift += 7;
+					} while (b < 0);
+					word += (zigzag >>> 1) ^ -(zigzag & 1);
+				}
+				ByteArrayUtil.putInt(word, nodeData, offset + 4 * w);
+			}
+			System.arraycopy(in, pos, nodeData, offset + 4 * wordCount, trailingBytes);
+			pos += trailingBytes;
+		}
+
+		return valueCount;
+	}
+
+	private int valueOffset(int valueIdx) {
+		return 8 + valueIdx * slotSize;
+	}
+
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int varIntLength(int value) {
+		if ((value & ~0x7F) == 0) {
+			return 1;
+		} else if ((value & ~0x3FFF) == 0) {
+			return 2;
+		} else if ((value & ~0x1FFFFF) == 0) {
+			return 3;
+		} else if ((value & ~0xFFFFFFF) == 0) {
+			return 4;
+		}
+		return MAX_VARINT_LENGTH;
+	}
+}
@@ -11,18 +11,101 @@
 package org.eclipse.rdf4j.sail.nativerdf.btree;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.rdf4j.sail.SailException;
-import org.eclipse.rdf4j.sail.nativerdf.ConcurrentCache;
 
-class ConcurrentNodeCache extends ConcurrentCache<Integer, Node> {
+/**
+ * Cache of the nodes of a {@link BTree}, limited to a number of nodes that is derived from a budget in bytes. Nodes
+ * that are in use are never evicted, and dirty nodes are written to disk when they are evicted.
+ * <p>
+ * The eviction policy is a segmented LRU, which makes the cache resistant to scans: leaf nodes that are read for the
+ * first time enter a <em>probation</em> segment and are only moved to the <em>protected</em> segment when they are
+ * accessed again. Internal nodes, which are accessed by every lookup that passes through them, enter the protected
+ * segment directly. Nodes are evicted from the least recently used end of the probation segment first, so a single
+ * scan over all leaves of an index only evicts other once-used leaves and keeps the upper levels of the tree cached.
+ * <p>
+ * Cache hits do not take the lock of the eviction policy. They are recorded in a lock-free read buffer instead, which
+ * is drained into the segments by the thread that next holds the lock. Hits that are recorded while the buffer is full
+ * are dropped, which only makes the order of the segments slightly less accurate.
+ */
+class ConcurrentNodeCache {
 
 	private final static int CONCURRENCY = Runtime.getRuntime().availableProcessors();
 
+	/**
+	 * The minimum number of nodes that the cache keeps, regardless of its budget.
+	 */
+	private static final int MIN_CAPACITY = 16;
+
+	/**
+	 * The percentage of the capacity that can be used by the protected segment.
+	 */
+	private static final int PROTECTED_PERCENTAGE = 80;
+
+	/**
+	 * The number of cache hits that the read buffer can hold, must be a power of two.
+	 */
+	private static final int READ_BUFFER_SIZE = 128;
+
+	/**
+	 * The number of buffered cache hits at which a reader tries to drain the read buffer.
+	 */
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
 	private final Function<Integer, Node> reader;
 
+	private final int nodeSize;
+
+	/**
+	 * All cached nodes, including the nodes that are currently in use.
+	 */
+	private final ConcurrentHashMap<Integer, Node> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * The IDs of the nodes in the probation and protected segments, from least to most recently used. Both sets are
+	 * guarded by <var>policyLock</var>, which must never be acquired while a mapping of <var>cache</var> is being
+	 * computed.
+	 */
+	private final LinkedHashSet<Integer> probation = new LinkedHashSet<>();
+
+	private final LinkedHashSet<Integer> protectedSegment = new LinkedHashSet<>();
+
+	private final ReentrantLock policyLock = new ReentrantLock();
+
+	/**
+	 * Ring buffer of cache hits that have not yet been recorded in the segments. Slot <var>n % READ_BUFFER_SIZE</var>
+	 * holds the <var>n</var>-th hit once it has been published.
+	 */
+	private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+	/**
+	 * The number of hits that have been added to the read buffer.
+	 */
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+	/**
+	 * The number of hits that have been drained from the read buffer, only written while holding
+	 * <var>policyLock</var>.
+	 */
+	private volatile long readBufferReadCount;
+
+	private volatile int capacity;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
 	private static final Consumer<Node> writeNode = node -> {
 		if (node.dataChanged()) {
 			try {
@@ -33,26 +116,91 @@ class ConcurrentNodeCache extends ConcurrentCache<Integer, Node> {
 		}
 	};
 
-	public ConcurrentNodeCache(Function<Integer, Node> reader) {
-		super(0); // cleanUp, when actually run, will try to completely purge the cache (but retain currently used
-		// nodes)
+	/**
+	 * @param reader    Function that reads a node from disk.
+	 * @param nodeSize  The size of a cached node in bytes.
+	 * @param cacheSize The budget of the cache in bytes.
+	 */
+	public ConcurrentNodeCache(Function<Integer, Node> reader, int nodeSize, long cacheSize) {
 		this.reader = reader;
+		this.nodeSize = nodeSize;
+		setCacheSize(cacheSize);
+	}
+
+	/**
+	 * Sets the budget of the cache in bytes. Nodes are evicted as soon as they are released if the cache exceeds its
+	 * new budget.
+	 */
+	public void setCacheSize(long cacheSize) {
+		capacity = (int) Math.max(MIN_CAPACITY, Math.min(Integer.MAX_VALUE, cacheSize / nodeSize));
+	}
+
+	public long getCacheSize() {
+		return (long) capacity * nodeSize;
 	}
 
 	public void flush() {
 		cache.forEachValue(CONCURRENCY, writeNode);
 	}
 
+	public void clear() {
+		policyLock.lock();
+		try {
+			cache.clear();
+			probation.clear();
+			protectedSegment.clear();
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
 	public void put(Node node) {
 		cache.put(node.getID(), node);
+		policyLock.lock();
+		try {
+			drainReadBuffer();
+			recordAccess(node);
+			evict();
+		} finally {
+			policyLock.unlock();
+		}
 	}
 
 	public Node readAndUse(int id) {
-		return cache.compute(id, (k, v) -> {
-			Node node = v == null ? reader.apply(k) : v;
+		boolean[] hit = new boolean[1];
+		Node result = cache.compute(id, (k, v) -> {
+			Node node;
+			if (v == null) {
+				node = reader.apply(k);
+			} else {
+				node = v;
+				hit[0] = true;
+			}
 			node.use();
 			return node;
 		});
+
+		if (hit[0]) {
+			hitCount.increment();
+			if (offerToReadBuffer(result) >= READ_BUFFER_DRAIN_THRESHOLD && policyLock.tryLock()) {
+				try {
+					drainReadBuffer();
+				} finally {
+					policyLock.unlock();
+				}
+			}
+		} else {
+			missCount.increment();
+			policyLock.lock();
+			try {
+				drainReadBuffer();
+				recordAccess(result);
+				evict();
+			} finally {
+				policyLock.unlock();
+			}
+		}
+		return result;
 	}
 
 	public boolean discardEmptyUnused(int nodeId) {
@@ -66,31 +214,158 @@ class ConcurrentNodeCache extends ConcurrentCache<Integer, Node> {
 				return v;
 			}
 		});
-		return nn == null;
+		if (nn == null) {
+			policyLock.lock();
+			try {
+				probation.remove(nodeId);
+				protectedSegment.remove(nodeId);
+			} finally {
+				policyLock.unlock();
+			}
+			return true;
+		}
+		return false;
 	}
 
 	public void release(Node node, boolean forceSync) {
 		if (forceSync) {
 			writeNode.accept(node);
 		}
-		cleanUp();
+		if (cache.size() > capacity) {
+			policyLock.lock();
+			try {
+				drainReadBuffer();
+				evict();
+			} finally {
+				policyLock.unlock();
+			}
+		}
 	}
 
-	@Override
-	protected boolean onEntryRemoval(Integer key) {
-		Node node = cache.get(key);
+	/**
+	 * Gets the number of node reads that were served from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
 
-		if (node == null) {
-			return true;
+	/**
+	 * Gets the number of node reads that had to read the node from disk.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Gets the number of nodes that have been evicted from the cache.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Gets the number of nodes that are currently cached.
+	 */
+	public int getNodeCount() {
+		return cache.size();
+	}
+
+	/**
+	 * Adds a cache hit to the read buffer without blocking. The hit is dropped if the buffer is full or if another
+	 * reader adds a hit at the same time.
+	 *
+	 * @return the number of hits in the buffer after the hit has been added, or {@link #READ_BUFFER_SIZE} if the hit
+	 *         has been dropped
+	 */
+	private int offerToReadBuffer(Node node) {
+		long readCount = readBufferReadCount;
+		long writeCount = readBufferWriteCount.get();
+		if (writeCount - readCount >= READ_BUFFER_SIZE
+				|| !readBufferWriteCount.compareAndSet(writeCount, writeCount + 1)) {
+			return READ_BUFFER_SIZE;
 		}
+		readBuffer.lazySet((int) (writeCount & (READ_BUFFER_SIZE - 1)), node);
+		return (int) (writeCount + 1 - readCount);
+	}
 
-		if (node.getUsageCount() > 0) {
-			return false;
+	/**
+	 * Records the buffered cache hits in the segments. Hits of nodes that have been evicted since are ignored. Must be
+	 * called while holding <var>policyLock</var>.
+	 */
+	private void drainReadBuffer() {
+		long readCount = readBufferReadCount;
+		long writeCount = readBufferWriteCount.get();
+		for (; readCount < writeCount; readCount++) {
+			int index = (int) (readCount & (READ_BUFFER_SIZE - 1));
+			Node node = readBuffer.get(index);
+			if (node == null) {
+				// the hit has not been published yet, it is drained the next time
+				break;
+			}
+			readBuffer.lazySet(index, null);
+			if (cache.get(node.getID()) == node) {
+				recordAccess(node);
+			}
 		}
+		readBufferReadCount = readCount;
+	}
 
-		writeNode.accept(node);
+	/**
+	 * Moves the node to the most recently used end of its segment, or promotes it from the probation segment to the
+	 * protected segment. Must be called while holding <var>policyLock</var>.
+	 */
+	private void recordAccess(Node node) {
+		Integer id = node.getID();
+		if (protectedSegment.remove(id)) {
+			protectedSegment.add(id);
+		} else if (probation.remove(id) || !node.isLeaf()) {
+			protectedSegment.add(id);
 
-		return true;
+			// demote the least recently used protected nodes if the protected segment is full
+			int maxProtected = (int) ((long) capacity * PROTECTED_PERCENTAGE / 100);
+			Iterator<Integer> iter = protectedSegment.iterator();
+			while (protectedSegment.size() > maxProtected && iter.hasNext()) {
+				Integer demoted = iter.next();
+				iter.remove();
+				probation.add(demoted);
+			}
+		} else {
+			probation.add(id);
+		}
 	}
 
+	/**
+	 * Evicts unused nodes until the cache is within its capacity, starting with the least recently used nodes of the
+	 * probation segment. Must be called while holding <var>policyLock</var>.
+	 */
+	private void evict() {
+		if (cache.size() > capacity) {
+			evict(probation);
+		}
+		if (cache.size() > capacity) {
+			evict(protectedSegment);
+		}
+	}
+
+	private void evict(LinkedHashSet<Integer> segment) {
+		Iterator<Integer> iter = segment.iterator();
+		while (cache.size() > capacity && iter.hasNext()) {
+			Integer id = iter.next();
+			boolean[] evicted = new boolean[1];
+			Node node = cache.computeIfPresent(id, (k, v) -> {
+				if (v.getUsageCount() > 0) {
+					return v;
+				}
+				writeNode.accept(v);
+				evicted[0] = true;
+				return null;
+			});
+			if (node == null) {
+				iter.remove();
+				if (evicted[0]) {
+					evictionCount.increment();
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts fixed-length records in the order of a {@link RecordComparator}, using temporary files for data sets that do
+ * not fit in memory. Records are collected in memory and sorted and written to a run file whenever a configured number
+ * of records has been collected. The sorted records are produced by merging the runs.
+ * <p>
+ * Records that are equal according to the comparator are reduced to the one that has been added last, which matches
+ * the semantics of {@link BTree#insert(byte[])}. The output can therefore be used as input for
+ * {@link BTree#bulkLoad(Iterator, float)}.
+ * <p>
+ * Records can be added concurrently by multiple threads.
+ */
+public class ExternalRecordSorter implements Closeable {
+
+	private final File tmpDir;
+
+	private final int recordSize;
+
+	private final Comparator<byte[]> comparator;
+
+	private final int maxRecordsInMemory;
+
+	private byte[][] records;
+
+	private int recordCount;
+
+	private final List<File> runs = new ArrayList<>();
+
+	private boolean sorted;
+
+	/**
+	 * @param tmpDir             The directory for the temporary run files.
+	 * @param recordSize         The size of the records in bytes.
+	 * @param comparator         The comparator that defines the order of the records.
+	 * @param maxRecordsInMemory The maximum number of records that is kept in memory.
+	 */
+	public ExternalRecordSorter(File tmpDir, int recordSize, RecordComparator comparator, int maxRecordsInMemory) {
+		if (maxRecordsInMemory <= 0) {
+			throw new IllegalArgumentException("maxRecordsInMemory must be larger than 0");
+		}
+		this.tmpDir = tmpDir;
+		this.recordSize = recordSize;
+		this.comparator = (r1, r2) -> comparator.compareBTreeValues(r1, r2, 0, recordSize);
+		this.maxRecordsInMemory = maxRecordsInMemory;
+		this.records = new byte[Math.min(maxRecordsInMemory, 1024)][];
+	}
+
+	/**
+	 * Adds a record. The record must not be modified afterwards.
+	 */
+	public synchronized void add(byte[] record) throws IOException {
+		if (sorted) {
+			throw new IllegalStateException("Records have already been sorted");
+		}
+		if (record.length != recordSize) {
+			throw new IllegalArgumentException("record must be " + recordSize + " bytes");
+		}
+		if (recordCount == records.length) {
+			if (recordCount == maxRecordsInMemory) {
+				writeRun();
+			} else {
+				records = Arrays.copyOf(records, Math.min(maxRecordsInMemory, 2 * records.length));
+			}
+		}
+		records[recordCount++] = record;
+	}
+
+	private void sortRecords() {
+		// the sort is stable, so that the last of several equal records remains last
+		Arrays.sort(records, 0, recordCount, comparator);
+	}
+
+	private void writeRun() throws IOException {
+		sortRecords();
+
+		File run = File.createTempFile("sort", ".run", tmpDir);
+		runs.add(run);
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(run), 1 << 16)) {
+			for (int i = 0; i < recordCount; i++) {
+				out.write(records[i]);
+			}
+		}
+
+		Arrays.fill(records, 0, recordCount, null);
+		recordCount = 0;
+	}
+
+	/**
+	 * Sorts the records that have been added and returns an iterator over the sorted, unique records. No records can
+	 * be added afterwards. The iterator throws an {@link UncheckedIOException} if a temporary file can not be read.
+	 */
+	public synchronized Iterator<byte[]> sort() throws IOException {
+		if (sorted) {
+			throw new IllegalStateException("Records have already been sorted");
+		}
+		sorted = true;
+
+		List<Iterator<byte[]>> sources = new ArrayList<>(runs.size() + 1);
+		for (File run : runs) {
+			sources.add(new RunIterator(run));
+		}
+		sortRecords();
+		sources.add(Arrays.asList(records).subList(0, recordCount).iterator());
+
+		return new MergeIterator(sources);
+	}
+
+	/**
+	 * Deletes the temporary files of this sorter.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		records = null;
+		for (File run : runs) {
+			run.delete();
+		}
+		runs.clear();
+	}
+
+	private class RunIterator implements Iterator<byte[]> {
+
+		private final DataInputStream in;
+
+		private byte[] next;
+
+		RunIterator(File run) throws IOException {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(run), 1 << 16));
+			next = read();
+		}
+
+		private byte[] read() throws IOException {
+			byte[] record = new byte[recordSize];
+			try {
+				in.readFully(record);
+				return record;
+			} catch (EOFException e) {
+				in.close();
+				return null;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public byte[] next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			byte[] result = next;
+			try {
+				next = read();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Merges the sorted sources, keeping the record from the last source if several sources contain equal records.
+	 */
+	private class MergeIterator implements Iterator<byte[]> {
+
+		private final PriorityQueue<Head> queue;
+
+		private byte[] next;
+
+		MergeIterator(List<Iterator<byte[]>> sources) {
+			queue = new PriorityQueue<>(Math.max(1, sources.size()), (h1, h2) -> {
+				int diff = comparator.compare(h1.record, h2.record);
+				return diff != 0 ? diff : Integer.compare(h1.sourceIdx, h2.sourceIdx);
+			});
+			for (int i = 0; i < sources.size(); i++) {
+				Iterator<byte[]> source = sources.get(i);
+				if (source.hasNext()) {
+					queue.add(new Head(source.next(), i, source));
+				}
+			}
+			next = poll();
+		}
+
+		private byte[] poll() {
+			Head head = queue.poll();
+			if (head == null) {
+				return null;
+			}
+			byte[] record = head.record;
+			advance(head);
+
+			// skip equal records, the last one wins
+			while (!queue.isEmpty() && comparator.compare(queue.peek().record, record) == 0) {
+				head = queue.poll();
+				record = head.record;
+				advance(head);
+			}
+			return record;
+		}
+
+		private void advance(Head head) {
+			if (head.source.hasNext()) {
+				head.record = head.source.next();
+				queue.add(head);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public byte[] next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			byte[] result = next;
+			next = poll();
+			return result;
+		}
+	}
+
+	private static class Head {
+
+		byte[] record;
+
+		final int sourceIdx;
+
+		final Iterator<byte[]> source;
+
+		Head(byte[] record, int sourceIdx, Iterator<byte[]> source) {
+			this.record = record;
+			this.sourceIdx = sourceIdx;
+			this.source = source;
+		}
+	}
+}
@@ -49,6 +49,12 @@ class Node {
 	 */
 	private boolean dataChanged;
 
+	/**
+	 * The size of the encoded values of this node if it is a compressed leaf, or <var>-1</var> if it has not been
+	 * calculated yet.
+	 */
+	private int leafSize = -1;
+
 	/**
 	 * Registered listeners that want to be notified of changes to the node.
 	 */
@@ -71,7 +77,7 @@ class Node {
 
 		// Allocate enough room to store one more value and node ID;
 		// this greatly simplifies the algorithm for splitting a node.
-		this.data = new byte[tree.nodeSize + tree.slotSize];
+		this.data = new byte[tree.nodeBufferSize];
 	}
 
 	public int getID() {
@@ -130,9 +136,37 @@ class Node {
 	}
 
 	public boolean isFull() {
+		if (isCompressedLeaf()) {
+			// an inserted value may also increase the encoded size of the value following it
+			return valueCount >= tree.maxLeafValueCount
+					|| 4 + getLeafSize() + 2 * tree.leafFormat.maxRecordSize > tree.nodeSize;
+		}
 		return valueCount == tree.branchFactor - 1;
 	}
 
+	private boolean isCompressedLeaf() {
+		return tree.leafFormat != null && isLeaf();
+	}
+
+	private int getLeafSize() {
+		if (leafSize < 0) {
+			leafSize = tree.leafFormat.payloadSize(data, valueCount);
+		}
+		return leafSize;
+	}
+
+	/**
+	 * Gets the encoded size of the values from <var>fromIdx</var> (inclusive) to <var>toIdx</var> (exclusive) of a
+	 * compressed leaf, with the first value encoded relative to the value preceding it.
+	 */
+	private int getLeafSize(int fromIdx, int toIdx) {
+		int size = 0;
+		for (int i = Math.max(0, fromIdx); i < toIdx && i < valueCount; i++) {
+			size += tree.leafFormat.recordSize(data, i - 1, i);
+		}
+		return size;
+	}
+
 	public byte[] getValue(int valueIdx) {
 		assert valueIdx >= 0 : "valueIdx must be positive, is: " + valueIdx;
 		assert valueIdx < valueCount : "valueIdx out of range (" + valueIdx + " >= " + valueCount + ")";
@@ -145,8 +179,17 @@ class Node {
 		assert valueIdx >= 0 : "valueIdx must be positive, is: " + valueIdx;
 		assert valueIdx < valueCount : "valueIdx out of range (" + valueIdx + " >= " + valueCount + ")";
 
+		boolean updateLeafSize = leafSize >= 0 && isCompressedLeaf();
+		if (updateLeafSize) {
+			leafSize -= getLeafSize(valueIdx, valueIdx + 2);
+		}
+
 		ByteArrayUtil.put(value, data, valueIdx2offset(valueIdx));
 		dataChanged = true;
+
+		if (updateLeafSize) {
+			leafSize += getLeafSize(valueIdx, valueIdx + 2);
+		}
 	}
 
 	/**
@@ -162,6 +205,11 @@ class Node {
 
 		byte[] value = getValue(valueIdx);
 
+		boolean updateLeafSize = leafSize >= 0 && isCompressedLeaf();
+		if (updateLeafSize) {
+			leafSize -= getLeafSize(valueIdx, valueIdx + 2);
+		}
+
 		int endOffset = valueIdx2offset(valueCount);
 
 		if (valueIdx < valueCount - 1) {
@@ -174,6 +222,10 @@ class Node {
 
 		setValueCount(--valueCount);
 
+		if (updateLeafSize) {
+			leafSize += getLeafSize(valueIdx, valueIdx + 1);
+		}
+
 		dataChanged = true;
 
 		notifyValueRemoved(valueIdx);
@@ -194,6 +246,11 @@ class Node {
 
 		byte[] value = getValue(valueIdx);
 
+		boolean updateLeafSize = leafSize >= 0 && isCompressedLeaf();
+		if (updateLeafSize) {
+			leafSize -= getLeafSize(valueIdx, valueIdx + 2);
+		}
+
 		int endOffset = valueIdx2offset(valueCount);
 
 		// Move the rest of the data one slot to the left
@@ -204,6 +261,10 @@ class Node {
 
 		setValueCount(--valueCount);
 
+		if (updateLeafSize) {
+			leafSize += getLeafSize(valueIdx, valueIdx + 1);
+		}
+
 		dataChanged = true;
 
 		notifyValueRemoved(valueIdx);
@@ -271,6 +332,11 @@ class Node {
 
 		int offset = valueIdx2offset(valueIdx);
 
+		boolean updateLeafSize = leafSize >= 0 && nodeID == 0 && isCompressedLeaf();
+		if (updateLeafSize) {
+			leafSize -= getLeafSize(valueIdx, valueIdx + 1);
+		}
+
 		if (valueIdx < valueCount) {
 			// Shift values right of <offset> to the right
 			shiftData(offset, valueIdx2offset(valueCount), tree.slotSize);
@@ -283,6 +349,12 @@ class Node {
 		// Raise the value count
 		setValueCount(++valueCount);
 
+		if (updateLeafSize) {
+			leafSize += getLeafSize(valueIdx, valueIdx + 2);
+		} else {
+			leafSize = -1;
+		}
+
 		notifyValueAdded(valueIdx);
 
 		dataChanged = true;
@@ -296,6 +368,11 @@ class Node {
 
 		int offset = nodeIdx2offset(nodeIdx);
 
+		boolean updateLeafSize = leafSize >= 0 && nodeID == 0 && isCompressedLeaf();
+		if (updateLeafSize) {
+			leafSize -= getLeafSize(nodeIdx, nodeIdx + 1);
+		}
+
 		// Shift values right of <offset> to the right
 		shiftData(offset, valueIdx2offset(valueCount), tree.slotSize);
 
@@ -306,6 +383,12 @@ class Node {
 		// Raise the value count
 		setValueCount(++valueCount);
 
+		if (updateLeafSize) {
+			leafSize += getLeafSize(nodeIdx, nodeIdx + 2);
+		} else {
+			leafSize = -1;
+		}
+
 		notifyValueAdded(nodeIdx);
 
 		dataChanged = true;
@@ -323,14 +406,21 @@ class Node {
 		// can be done because data got one spare slot when it was allocated.
 		insertValueNodeIDPair(newValueIdx, newValue, newNodeID);
 
-		assert valueCount == tree.branchFactor : "Node contains " + valueCount + " values, expected "
-				+ tree.branchFactor;
-
-		// Node now contains exactly [branchFactor] values. The median
-		// value at index [branchFactor/2] is moved to the parent
-		// node, the values left of the median stay in this node, the
-		// values right of the median are moved to the new node.
-		int medianIdx = tree.branchFactor / 2;
+		int totalCount = valueCount;
+		int medianIdx;
+		if (isCompressedLeaf()) {
+			// Compressed leaves are split into halves of about equal encoded size
+			medianIdx = tree.leafFormat.splitIndex(data, totalCount);
+		} else {
+			assert valueCount == tree.branchFactor : "Node contains " + valueCount + " values, expected "
+					+ tree.branchFactor;
+
+			// Node now contains exactly [branchFactor] values. The median
+			// value at index [branchFactor/2] is moved to the parent
+			// node, the values left of the median stay in this node, the
+			// values right of the median are moved to the new node.
+			medianIdx = tree.branchFactor / 2;
+		}
 		int medianOffset = valueIdx2offset(medianIdx);
 		int splitOffset = medianOffset + tree.valueSize;
 
@@ -346,8 +436,10 @@ class Node {
 
 		// Update the value counts
 		setValueCount(medianIdx);
-		newNode.setValueCount(tree.branchFactor - medianIdx - 1);
+		newNode.setValueCount(totalCount - medianIdx - 1);
 		newNode.dataChanged = true;
+		leafSize = -1;
+		newNode.leafSize = -1;
 
 		notifyNodeSplit(newNode, medianIdx);
 
@@ -356,8 +448,8 @@ class Node {
 	}
 
 	public void mergeWithRightSibling(byte[] medianValue, Node rightSibling) throws IOException {
-		assert valueCount + rightSibling.getValueCount()
-				+ 1 < tree.branchFactor : "Nodes contain too many values to be merged; left: " + valueCount
+		assert valueCount + rightSibling.getValueCount() + 1 <= (isLeaf() ? tree.maxLeafValueCount
+				: tree.branchFactor - 1) : "Nodes contain too many values to be merged; left: " + valueCount
 						+ "; right: " + rightSibling.getValueCount();
 
 		// Append median value from parent node
@@ -370,10 +462,12 @@ class Node {
 				valueIdx2offset(rightSibling.valueCount) - 4);
 
 		setValueCount(valueCount + rightSibling.valueCount);
+		leafSize = -1;
 
 		rightSibling.clearData(4, valueIdx2offset(rightSibling.valueCount));
 		rightSibling.setValueCount(0);
 		rightSibling.dataChanged = true;
+		rightSibling.leafSize = -1;
 
 		rightSibling.notifyNodeMerged(this, rightIdx);
 	}
@@ -460,23 +554,47 @@ class Node {
 	}
 
 	public void read() throws IOException {
-		ByteBuffer buf = ByteBuffer.wrap(data);
+		if (tree.mappedReader == null || !tree.mappedReader.read(tree.nodeID2offset(id), data, 0, tree.nodeSize)) {
+			ByteBuffer buf = ByteBuffer.wrap(data);
 
-		// Don't fill the spare slot in data:
-		buf.limit(tree.nodeSize);
+			// Don't fill the spare slot in data:
+			buf.limit(tree.nodeSize);
 
-		int bytesRead = tree.nioFile.read(buf, tree.nodeID2offset(id));
-		assert bytesRead == tree.nodeSize : "Read operation didn't read the entire node (" + bytesRead + " of "
-				+ tree.nodeSize + " bytes)";
+			int bytesRead = tree.nioFile.read(buf, tree.nodeID2offset(id));
+			assert bytesRead == tree.nodeSize : "Read operation didn't read the entire node (" + bytesRead + " of "
+					+ tree.nodeSize + " bytes)";
+		}
+
+		if ((ByteArrayUtil.getInt(data, 0) & CompressedLeafFormat.LEAF_MARKER) != 0) {
+			if (tree.leafFormat == null) {
+				throw new IOException("Unexpected compressed leaf node " + id + " in " + tree.getFile());
+			}
+			byte[] encoded = Arrays.copyOf(data, tree.nodeSize);
+			clearData(0, tree.nodeSize);
+			tree.leafFormat.decode(encoded, data);
+		}
 
 		valueCount = ByteArrayUtil.getInt(data, 0);
+		leafSize = -1;
 	}
 
 	public void write() throws IOException {
-		ByteBuffer buf = ByteBuffer.wrap(data);
+		ByteBuffer buf;
+		if (isCompressedLeaf()) {
+			int encodedSize = 4 + getLeafSize();
+			if (encodedSize > tree.nodeSize) {
+				throw new IllegalStateException("Compressed leaf node " + id + " needs " + encodedSize
+						+ " bytes, which exceeds the node size of " + tree.nodeSize + " bytes in " + tree.getFile());
+			}
+			byte[] encoded = new byte[tree.nodeSize];
+			tree.leafFormat.encode(data, valueCount, encoded);
+			buf = ByteBuffer.wrap(encoded);
+		} else {
+			buf = ByteBuffer.wrap(data);
 
-		// Don't write the spare slot in data to the file:
-		buf.limit(tree.nodeSize);
+			// Don't write the spare slot in data to the file:
+			buf.limit(tree.nodeSize);
+		}
 
 		int bytesWritten = tree.nioFile.write(buf, tree.nodeID2offset(id));
 		assert bytesWritten == tree.nodeSize : "Write operation didn't write the entire node (" + bytesWritten + " of "
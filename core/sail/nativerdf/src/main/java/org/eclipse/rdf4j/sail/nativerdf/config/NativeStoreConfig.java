@@ -37,6 +37,7 @@ public class NativeStoreConfig extends BaseSailConfig {
 	private int valueIDCacheSize = -1;
 	private int namespaceCacheSize = -1;
 	private int namespaceIDCacheSize = -1;
+	private long nodeCacheSize = -1L;
 
 	// WAL: expose max segment bytes via config (optional)
 	private long walMaxSegmentBytes = -1L;
@@ -196,6 +197,14 @@ public class NativeStoreConfig extends BaseSailConfig {
 		this.walAutoRecoverOnOpen = walAutoRecoverOnOpen;
 	}
 
+	public long getNodeCacheSize() {
+		return nodeCacheSize;
+	}
+
+	public void setNodeCacheSize(long nodeCacheSize) {
+		this.nodeCacheSize = nodeCacheSize;
+	}
+
 	public boolean getWalEnabled() {
 		return walEnabled;
 	}
@@ -231,6 +240,9 @@ public class NativeStoreConfig extends BaseSailConfig {
 		if (namespaceIDCacheSize >= 0) {
 			m.add(implNode, CONFIG.Native.namespaceIDCacheSize, literal(namespaceIDCacheSize));
 		}
+		if (nodeCacheSize >= 0) {
+			m.add(implNode, CONFIG.Native.nodeCacheSize, literal(nodeCacheSize));
+		}
 		// WAL configuration properties
 		if (walMaxSegmentBytes >= 0) {
 			m.add(implNode, CONFIG.Native.walMaxSegmentBytes, literal(walMaxSegmentBytes));
@@ -358,6 +370,16 @@ public class NativeStoreConfig extends BaseSailConfig {
 						}
 					});
 
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.nodeCacheSize)
+					.ifPresent(lit -> {
+						try {
+							setNodeCacheSize(lit.longValue());
+						} catch (NumberFormatException e) {
+							throw new SailConfigException("Long value required for "
+									+ CONFIG.Native.nodeCacheSize + " property, found " + lit);
+						}
+					});
+
 			// WAL configuration properties
 			Configurations.getLiteralValue(m, implNode, CONFIG.Native.walMaxSegmentBytes)
 					.ifPresent(lit -> {
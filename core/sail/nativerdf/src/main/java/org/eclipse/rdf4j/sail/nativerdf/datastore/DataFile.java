@@ -15,19 +15,32 @@ import static org.eclipse.rdf4j.sail.nativerdf.NativeStore.SOFT_FAIL_ON_CORRUPT_
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.eclipse.rdf4j.common.annotation.InternalUseOnly;
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
 import org.eclipse.rdf4j.common.io.NioFile;
+import org.eclipse.rdf4j.sail.nativerdf.ConcurrentCache;
+import org.eclipse.rdf4j.sail.nativerdf.MemoryMappedReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class supplying access to a data file. A data file stores data sequentially. Each entry starts with the entry's
  * length (4 bytes), followed by the data itself. File offsets are used to identify entries.
+ * <p>
+ * If compression is enabled, entries of at least {@link #MIN_COMPRESSED_LENGTH} bytes are stored deflated when this
+ * makes them noticeably smaller. The length of a compressed entry has its highest bit set and is followed by the length
+ * of the uncompressed data (4 bytes) and the deflated data. Compressed entries are decompressed transparently by
+ * {@link #getData(long)}, and the most recently used decompressed entries are cached. A data file that contains
+ * compressed entries uses file format version 2, so that older versions refuse to read it.
  *
  * @author Arjohn Kampman
  */
@@ -50,6 +63,27 @@ public class DataFile implements Closeable {
 	 */
 	private static final byte FILE_FORMAT_VERSION = 1;
 
+	/**
+	 * File format version of data files that may contain compressed entries.
+	 */
+	private static final byte COMPRESSED_FILE_FORMAT_VERSION = 2;
+
+	/**
+	 * Flag in the length of an entry that marks the entry as compressed.
+	 */
+	private static final int COMPRESSED_FLAG = 0x80000000;
+
+	/**
+	 * The minimum length of the data of an entry for it to be compressed.
+	 */
+	public static final int MIN_COMPRESSED_LENGTH = 128;
+
+	public static final String COMPRESSION_PROPERTY = "org.eclipse.rdf4j.sail.nativerdf.datastore.DataFile.compression";
+
+	public static final String DECOMPRESSED_CACHE_SIZE_PROPERTY = "org.eclipse.rdf4j.sail.nativerdf.datastore.DataFile.decompressedCacheSize";
+
+	private static final int DECOMPRESSED_CACHE_SIZE = Integer.getInteger(DECOMPRESSED_CACHE_SIZE_PROPERTY, 1024);
+
 	private static final long HEADER_LENGTH = MAGIC_NUMBER.length + 1;
 
 	// Guard parameters
@@ -64,8 +98,29 @@ public class DataFile implements Closeable {
 
 	private final NioFile nioFile;
 
+	/**
+	 * Memory mapping of the file for reads, or <var>null</var> if memory-mapped reads are disabled.
+	 */
+	private final MemoryMappedReader mappedReader;
+
 	private final boolean forceSync;
 
+	/**
+	 * Deflater for compressing stored data, or <var>null</var> if compression is disabled. Guarded by the monitor of
+	 * this data file.
+	 */
+	private final Deflater deflater;
+
+	/**
+	 * The file format version, which is upgraded when the first compressed entry is stored.
+	 */
+	private volatile byte formatVersion;
+
+	/**
+	 * The most recently used decompressed entries, stored by their offset.
+	 */
+	private final ConcurrentCache<Long, byte[]> decompressedCache = new ConcurrentCache<>(DECOMPRESSED_CACHE_SIZE);
+
 	// cached file size, also reflects buffer usage
 	private volatile long nioFileSize;
 
@@ -81,6 +136,14 @@ public class DataFile implements Closeable {
 	}
 
 	public DataFile(File file, boolean forceSync) throws IOException {
+		this(file, forceSync, Boolean.getBoolean(COMPRESSION_PROPERTY));
+	}
+
+	/**
+	 * @param compress Whether long entries should be stored compressed. Compressed entries that are already stored are
+	 *                 always readable, regardless of this setting.
+	 */
+	public DataFile(File file, boolean forceSync, boolean compress) throws IOException {
 		this.nioFile = new NioFile(file);
 		this.forceSync = forceSync;
 
@@ -102,19 +165,22 @@ public class DataFile implements Closeable {
 				}
 
 				byte version = nioFile.readByte(MAGIC_NUMBER.length);
-				if (version > FILE_FORMAT_VERSION) {
+				if (version > COMPRESSED_FILE_FORMAT_VERSION) {
 					throw new IOException("Unable to read data file; it uses a newer file format");
-				} else if (version != FILE_FORMAT_VERSION) {
+				} else if (version != FILE_FORMAT_VERSION && version != COMPRESSED_FILE_FORMAT_VERSION) {
 					throw new IOException("Unable to read data file; invalid file format version: " + version);
 				}
 			}
+			this.formatVersion = nioFile.readByte(MAGIC_NUMBER.length);
 		} catch (IOException e) {
 			this.nioFile.close();
 			throw e;
 		}
 
+		this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
 		this.nioFileSize = nioFile.size();
-
+		this.mappedReader = MemoryMappedReader.createIfEnabled(file);
+		fileSizeChanged();
 	}
 
 	/*---------*
@@ -158,6 +224,45 @@ public class DataFile implements Closeable {
 	synchronized public long storeData(byte[] data) throws IOException {
 		assert data != null : "data must not be null";
 
+		if (deflater != null && data.length >= MIN_COMPRESSED_LENGTH) {
+			byte[] compressed = compress(data);
+			if (compressed != null) {
+				return storeEntry(compressed, compressed.length | COMPRESSED_FLAG);
+			}
+		}
+		return storeEntry(data, data.length);
+	}
+
+	/**
+	 * Compresses the data into the body of a compressed entry.
+	 *
+	 * @return the uncompressed length followed by the deflated data, or <var>null</var> if compressing the data saves
+	 *         less than an eighth of its length
+	 */
+	private byte[] compress(byte[] data) throws IOException {
+		int maxLength = data.length - data.length / 8;
+		byte[] compressed = new byte[maxLength];
+		ByteArrayUtil.putInt(data.length, compressed, 0);
+
+		deflater.reset();
+		deflater.setInput(data);
+		deflater.finish();
+		int length = 4;
+		while (!deflater.finished() && length < maxLength) {
+			length += deflater.deflate(compressed, length, maxLength - length);
+		}
+		if (!deflater.finished()) {
+			return null;
+		}
+
+		if (formatVersion < COMPRESSED_FILE_FORMAT_VERSION) {
+			nioFile.writeByte(COMPRESSED_FILE_FORMAT_VERSION, MAGIC_NUMBER.length);
+			formatVersion = COMPRESSED_FILE_FORMAT_VERSION;
+		}
+		return Arrays.copyOf(compressed, length);
+	}
+
+	private long storeEntry(byte[] data, int storedLength) throws IOException {
 		long offset = nioFileSize;
 
 		if (data.length + 4 > buffer.capacity()) {
@@ -167,20 +272,21 @@ public class DataFile implements Closeable {
 
 			// TODO: two writes could be more efficient since it prevent array copies
 			ByteBuffer buf = ByteBuffer.allocate(data.length + 4);
-			buf.putInt(data.length);
+			buf.putInt(storedLength);
 			buf.put(data);
 			buf.rewind();
 
 			nioFile.write(buf, offset);
 
 			nioFileSize += buf.array().length;
+			fileSizeChanged();
 
 		} else {
 			if (data.length + 4 > remainingBufferCapacity()) {
 				flush();
 			}
 
-			buffer.putInt(data.length);
+			buffer.putInt(storedLength);
 			buffer.put(data);
 			nioFileSize += data.length + 4;
 		}
@@ -202,7 +308,13 @@ public class DataFile implements Closeable {
 		nioFile.write(ByteBuffer.wrap(byteToWrite), nioFileSize - byteToWrite.length);
 
 		buffer.position(0);
+		fileSizeChanged();
+	}
 
+	private void fileSizeChanged() {
+		if (mappedReader != null) {
+			mappedReader.fileSizeChanged(nioFileSize);
+		}
 	}
 
 	synchronized private int remainingBufferCapacity() {
@@ -221,9 +333,26 @@ public class DataFile implements Closeable {
 	 * @throws IOException If an I/O error occurred.
 	 */
 	public byte[] getData(long offset) throws IOException {
+		return getData(offset, null);
+	}
+
+	/**
+	 * Gets the data that is stored at the specified offset.
+	 *
+	 * @param compressedLength If not <var>null</var>, receives the stored length of a compressed entry, which differs
+	 *                         from the length of the returned data. Left untouched for uncompressed entries.
+	 */
+	private byte[] getData(long offset, int[] compressedLength) throws IOException {
 		assert offset > 0 : "offset must be larger than 0, is: " + offset;
 		flush();
 
+		if (mappedReader != null) {
+			byte[] data = getMappedData(offset, compressedLength);
+			if (data != null) {
+				return data;
+			}
+		}
+
 		// Read in twice the average length because multiple small read operations take more time than one single larger
 		// operation even if that larger operation is unnecessarily large (within sensible limits).
 		byte[] data = new byte[(dataLengthApproximateAverage * 2) + 4];
@@ -235,6 +364,10 @@ public class DataFile implements Closeable {
 				(data[2] << 8) & 0x0000ff00 |
 				(data[3]) & 0x000000ff;
 
+		if (isCompressed(dataLength)) {
+			return getCompressedData(offset, dataLength & ~COMPRESSED_FLAG, compressedLength);
+		}
+
 		// Validate and possibly reduce the length before allocating a large array
 		dataLength = guardedDataLength(dataLength);
 
@@ -282,6 +415,111 @@ public class DataFile implements Closeable {
 
 	}
 
+	/**
+	 * Gets the data at the specified offset through the memory mapping, which requires a single copy into the returned
+	 * array.
+	 *
+	 * @return the data or <var>null</var> if the entry is not mapped and must be read from the file
+	 */
+	private byte[] getMappedData(long offset, int[] compressedLength) throws IOException {
+		MemorySegment lengthSlice = mappedReader.slice(offset, 4);
+		if (lengthSlice == null) {
+			return null;
+		}
+		int dataLength;
+		try {
+			dataLength = lengthSlice.get(MemoryMappedReader.INT_LAYOUT, 0);
+		} catch (IllegalStateException e) {
+			// the mapping has been invalidated concurrently
+			return null;
+		}
+		if (isCompressed(dataLength)) {
+			return getCompressedData(offset, dataLength & ~COMPRESSED_FLAG, compressedLength);
+		}
+		if (dataLength < 0) {
+			// let the regular read report the corrupt record
+			return null;
+		}
+		byte[] data = new byte[guardedDataLength(dataLength)];
+		return mappedReader.read(offset + 4L, data, 0, data.length) ? data : null;
+	}
+
+	private boolean isCompressed(int storedLength) {
+		// negative lengths are corrupt in data files that can not contain compressed entries
+		return storedLength < 0 && formatVersion >= COMPRESSED_FILE_FORMAT_VERSION;
+	}
+
+	/**
+	 * Gets the decompressed data of the compressed entry at the specified offset.
+	 *
+	 * @param compressedLength The length of the entry's body, consisting of the uncompressed length and the deflated
+	 *                         data.
+	 * @param storedLength     If not <var>null</var>, receives the compressed length.
+	 */
+	private byte[] getCompressedData(long offset, int compressedLength, int[] storedLength) throws IOException {
+		if (storedLength != null) {
+			storedLength[0] = compressedLength;
+		}
+		byte[] cached = decompressedCache.get(offset);
+		if (cached != null) {
+			return cached.clone();
+		}
+
+		if (compressedLength < 4) {
+			throw new IOException("Corrupt compressed data record at offset " + offset + ". Data length: "
+					+ compressedLength);
+		}
+		byte[] compressed = new byte[guardedDataLength(compressedLength)];
+		if (mappedReader == null || !mappedReader.read(offset + 4L, compressed, 0, compressed.length)) {
+			nioFile.read(ByteBuffer.wrap(compressed), offset + 4L);
+		}
+
+		int dataLength = ByteArrayUtil.getInt(compressed, 0);
+		if (dataLength < 0) {
+			throw new IOException("Corrupt compressed data record at offset " + offset + ". Data length: "
+					+ dataLength);
+		}
+		byte[] data = new byte[guardedDataLength(dataLength)];
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed, 4, compressed.length - 4);
+			int length = 0;
+			while (length < data.length && !inflater.finished()) {
+				int inflated = inflater.inflate(data, length, data.length - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != data.length) {
+				throw new IOException("Corrupt compressed data record at offset " + offset + ". Expected " + data.length
+						+ " bytes but inflated " + length);
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt compressed data record at offset " + offset, e);
+		} finally {
+			inflater.end();
+		}
+
+		decompressedCache.put(offset, data);
+		return data.clone();
+	}
+
+	/**
+	 * Gets the offset of the entry that follows the entry at the specified offset. This reads the entry's header
+	 * again, {@link DataIterator} keeps track of the stored lengths instead.
+	 *
+	 * @param data The data of the entry at the specified offset, as returned by {@link #getData(long)}.
+	 */
+	long getNextOffset(long offset, byte[] data) throws IOException {
+		if (formatVersion < COMPRESSED_FILE_FORMAT_VERSION) {
+			return offset + 4L + data.length;
+		}
+		flush();
+		int storedLength = nioFile.readInt(offset);
+		return offset + 4L + (isCompressed(storedLength) ? storedLength & ~COMPRESSED_FLAG : data.length);
+	}
+
 	/**
 	 * For very large reads, ensure there appears to be sufficient free heap to allocate the requested record. If soft
 	 * fail mode is enabled and insufficient memory is observed, returns a reduced cap to allow recovery; otherwise
@@ -385,9 +623,13 @@ public class DataFile implements Closeable {
 	 * @throws IOException If an I/O error occurred.
 	 */
 	synchronized public void clear() throws IOException {
+		if (mappedReader != null) {
+			mappedReader.invalidate();
+		}
 		nioFile.truncate(HEADER_LENGTH);
 		nioFileSize = HEADER_LENGTH;
 		buffer.clear();
+		decompressedCache.clear();
 	}
 
 	/**
@@ -414,9 +656,15 @@ public class DataFile implements Closeable {
 	 */
 	@Override
 	synchronized public void close() throws IOException {
+		if (mappedReader != null) {
+			mappedReader.close();
+		}
 		flush();
 		nioFile.force(true);
 		nioFile.close();
+		if (deflater != null) {
+			deflater.end();
+		}
 	}
 
 	/**
@@ -441,6 +689,11 @@ public class DataFile implements Closeable {
 
 		private long position = HEADER_LENGTH;
 
+		/**
+		 * The stored length of the last entry if it was compressed, or <var>-1</var>.
+		 */
+		private final int[] compressedLength = new int[1];
+
 		public boolean hasNext() {
 			return position < nioFileSize;
 		}
@@ -450,8 +703,9 @@ public class DataFile implements Closeable {
 				throw new NoSuchElementException();
 			}
 
-			byte[] data = getData(position);
-			position += (4 + data.length);
+			compressedLength[0] = -1;
+			byte[] data = getData(position, compressedLength);
+			position += 4L + (compressedLength[0] >= 0 ? compressedLength[0] : data.length);
 			return data;
 		}
 	}
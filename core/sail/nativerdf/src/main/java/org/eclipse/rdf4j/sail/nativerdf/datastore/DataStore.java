@@ -152,7 +152,7 @@ public class DataStore implements Closeable {
 							}
 						} catch (Exception ignored) {
 						}
-						startData = po + 4L + prevData.length;
+						startData = dataFile.getNextOffset(po, prevData);
 						break;
 					}
 				} catch (Exception ignored) {
@@ -14,6 +14,7 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.Arrays;
@@ -21,6 +22,7 @@ import java.util.BitSet;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.rdf4j.common.io.NioFile;
+import org.eclipse.rdf4j.sail.nativerdf.MemoryMappedReader;
 
 /**
  * Class supplying access to a hash file.
@@ -61,6 +63,11 @@ public class HashFile implements Closeable {
 
 	private final NioFile nioFile;
 
+	/**
+	 * Memory mapping of the file for lookups, or <var>null</var> if memory-mapped reads are disabled.
+	 */
+	private final MemoryMappedReader mappedReader;
+
 	private final boolean forceSync;
 
 	// The number of (non-overflow) buckets in the hash file
@@ -167,6 +174,8 @@ public class HashFile implements Closeable {
 			this.nioFile.close();
 			throw e;
 		}
+		this.mappedReader = MemoryMappedReader.createIfEnabled(file);
+		fileSizeChanged();
 	}
 
 	/*---------*
@@ -269,6 +278,7 @@ public class HashFile implements Closeable {
 		}
 		try {
 			// Truncate the file to remove any overflow buffers
+			invalidateMapping();
 			nioFile.truncate(HEADER_LENGTH + (long) bucketCount * recordSize);
 
 			// Overwrite normal buckets with empty ones
@@ -295,6 +305,7 @@ public class HashFile implements Closeable {
 		if (forceSync) {
 			nioFile.force(false);
 		}
+		fileSizeChanged();
 	}
 
 	public void sync(boolean force) throws IOException {
@@ -311,7 +322,23 @@ public class HashFile implements Closeable {
 		try {
 			sync(true);
 		} finally {
-			nioFile.close();
+			try {
+				invalidateMapping();
+			} finally {
+				nioFile.close();
+			}
+		}
+	}
+
+	private void invalidateMapping() {
+		if (mappedReader != null) {
+			mappedReader.invalidate();
+		}
+	}
+
+	private void fileSizeChanged() throws IOException {
+		if (mappedReader != null) {
+			mappedReader.fileSizeChanged(nioFile.size());
 		}
 	}
 
@@ -417,6 +444,7 @@ public class HashFile implements Closeable {
 			writeEmptyBuckets(oldTableSize, bucketCount);
 			bucketCount *= 2;
 			// Discard any remaining overflow buffers
+			invalidateMapping();
 			nioFile.truncate(newTableSize);
 			ByteBuffer bucket = ByteBuffer.allocate(recordSize);
 			ByteBuffer newBucket = ByteBuffer.allocate(recordSize);
@@ -529,17 +557,26 @@ public class HashFile implements Closeable {
 
 		private ByteBuffer bucketBuffer;
 
+		/**
+		 * View of the current bucket in the memory mapping, or <var>null</var> if the bucket has been read into
+		 * {@link #bucketBuffer}.
+		 */
+		private MemorySegment bucketSegment;
+
+		private long bucketOffset;
+
+		private boolean hasBucket;
+
 		private int slotNo;
 
 		private IDIterator(int hash) throws IOException {
 			queryHash = hash;
-			bucketBuffer = ByteBuffer.allocate(recordSize);
 
 			structureLock.readLock().lock();
 			try {
 				// Read initial bucket
 				long bucketOffset = getBucketOffset(hash);
-				nioFile.read(bucketBuffer, bucketOffset);
+				readBucket(bucketOffset);
 
 				slotNo = -1;
 			} catch (IOException | RuntimeException e) {
@@ -554,34 +591,66 @@ public class HashFile implements Closeable {
 
 		public void close() {
 			bucketBuffer = null;
+			bucketSegment = null;
+			hasBucket = false;
 			structureLock.readLock().unlock();
 		}
 
+		private void readBucket(long bucketOffset) throws IOException {
+			this.bucketOffset = bucketOffset;
+			bucketSegment = mappedReader != null ? mappedReader.slice(bucketOffset, recordSize) : null;
+			if (bucketSegment == null) {
+				readBucketFromFile();
+			}
+			hasBucket = true;
+		}
+
+		private void readBucketFromFile() throws IOException {
+			if (bucketBuffer == null) {
+				bucketBuffer = ByteBuffer.allocate(recordSize);
+			} else {
+				bucketBuffer.clear();
+			}
+			nioFile.read(bucketBuffer, bucketOffset);
+		}
+
+		private int getInt(int position) throws IOException {
+			if (bucketSegment != null) {
+				try {
+					return bucketSegment.get(MemoryMappedReader.INT_LAYOUT, position);
+				} catch (IllegalStateException e) {
+					// the mapping has been replaced concurrently
+					bucketSegment = null;
+					readBucketFromFile();
+				}
+			}
+			return bucketBuffer.getInt(position);
+		}
+
 		/**
 		 * Returns the next ID that has been mapped to the specified hash code, or <var>-1</var> if no more IDs were
 		 * found.
 		 */
 		public int next() throws IOException {
-			while (bucketBuffer != null) {
+			while (hasBucket) {
 				// Search in current bucket
 				while (++slotNo < bucketSize) {
-					if (bucketBuffer.getInt(ITEM_SIZE * slotNo) == queryHash) {
-						return bucketBuffer.getInt(ITEM_SIZE * slotNo + 4);
+					if (getInt(ITEM_SIZE * slotNo) == queryHash) {
+						return getInt(ITEM_SIZE * slotNo + 4);
 					}
 				}
 
 				// No matching hash code in current bucket, check overflow
 				// bucket
-				int overflowID = bucketBuffer.getInt(ITEM_SIZE * bucketSize);
+				int overflowID = getInt(ITEM_SIZE * bucketSize);
 				if (overflowID == 0) {
 					// No overflow bucket, end the search
-					bucketBuffer = null;
+					hasBucket = false;
 					break;
 				} else {
 					// Continue with overflow bucket
-					bucketBuffer.clear();
 					long bucketOffset = getOverflowBucketOffset(overflowID);
-					nioFile.read(bucketBuffer, bucketOffset);
+					readBucket(bucketOffset);
 					slotNo = -1;
 				}
 			}
@@ -12,6 +12,7 @@ package org.eclipse.rdf4j.sail.nativerdf.wal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
@@ -24,6 +25,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.zip.CRC32;
 import java.util.zip.CRC32C;
@@ -80,6 +86,15 @@ public final class ValueStoreWalReader implements AutoCloseable {
 		this.currentSegmentSummarySeen = false;
 	}
 
+	/**
+	 * Creates a reader for a single segment, used to decode segments concurrently.
+	 */
+	private ValueStoreWalReader(ValueStoreWalConfig config, SegmentEntry segment) {
+		this.config = config;
+		this.segments = List.of(segment);
+		this.missingSegments = false;
+	}
+
 	private static JsonFactory createJsonFactory() {
 		return JsonFactory.builder()
 				.streamReadConstraints(StreamReadConstraints.builder()
@@ -107,6 +122,88 @@ public final class ValueStoreWalReader implements AutoCloseable {
 		return new ScanResult(records, this.lastValidLsn(), this.isComplete());
 	}
 
+	/**
+	 * Scan the WAL like {@link #scan()}, but decode and verify up to <var>parallelism</var> segments concurrently. The
+	 * decoded segments are applied in segment sequence order, so the result is the same as that of a sequential scan:
+	 * a segment that fails validation ends the scan and the records of all later segments are discarded.
+	 *
+	 * @param parallelism The maximum number of segments that are decoded at the same time. Segments are decoded on the
+	 *                    calling thread if this is <var>1</var> or less.
+	 * @param listener    Notified on the calling thread after each segment has been applied, may be <var>null</var>.
+	 */
+	public ScanResult scan(int parallelism, ProgressListener listener) throws IOException {
+		List<ValueStoreWalRecord> records = new ArrayList<>();
+		int segmentCount = segments.size();
+		ExecutorService executor = null;
+		List<Future<SegmentScan>> segmentScans = new ArrayList<>(segmentCount);
+		try {
+			if (parallelism > 1 && segmentCount > 1) {
+				AtomicInteger threadCount = new AtomicInteger();
+				executor = Executors.newFixedThreadPool(Math.min(parallelism, segmentCount), r -> {
+					Thread thread = new Thread(r,
+							"ValueStoreWalReader-" + config.storeUuid() + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+				for (SegmentEntry entry : segments) {
+					segmentScans.add(executor.submit(() -> scanSegment(entry)));
+				}
+			}
+
+			for (int i = 0; i < segmentCount && !stop; i++) {
+				SegmentScan segmentScan = executor == null ? scanSegment(segments.get(i))
+						: awaitSegmentScan(segmentScans.get(i));
+				records.addAll(segmentScan.records);
+				if (segmentScan.records.isEmpty()) {
+					// only non-minted records, which never lower the last valid LSN
+					lastValidLsn = Math.max(lastValidLsn, segmentScan.lastValidLsn);
+				} else {
+					lastValidLsn = segmentScan.lastValidLsn;
+				}
+				summaryMissing |= segmentScan.summaryMissing;
+				stop = segmentScan.stopped;
+				if (listener != null) {
+					listener.segmentScanned(i + 1, segmentCount, records.size());
+				}
+			}
+		} finally {
+			if (executor != null) {
+				// segments after an invalid one are not needed
+				executor.shutdownNow();
+			}
+		}
+		return new ScanResult(records, lastValidLsn, isComplete());
+	}
+
+	private SegmentScan scanSegment(SegmentEntry entry) {
+		ValueStoreWalReader reader = new ValueStoreWalReader(config, entry);
+		List<ValueStoreWalRecord> records = new ArrayList<>();
+		Iterator<ValueStoreWalRecord> it = reader.iterator();
+		while (it.hasNext()) {
+			records.add(it.next());
+		}
+		reader.close();
+		return new SegmentScan(records, reader.lastValidLsn, reader.stop, reader.summaryMissing);
+	}
+
+	private static SegmentScan awaitSegmentScan(Future<SegmentScan> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while reading WAL segments");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
 	/** On-demand iterator over minted WAL records. */
 	public Iterator<ValueStoreWalRecord> iterator() {
 		return new RecordIterator();
@@ -471,6 +568,21 @@ public final class ValueStoreWalReader implements AutoCloseable {
 		}
 	}
 
+	/** The outcome of decoding a single segment. */
+	private static final class SegmentScan {
+		final List<ValueStoreWalRecord> records;
+		final long lastValidLsn;
+		final boolean stopped;
+		final boolean summaryMissing;
+
+		SegmentScan(List<ValueStoreWalRecord> records, long lastValidLsn, boolean stopped, boolean summaryMissing) {
+			this.records = records;
+			this.lastValidLsn = lastValidLsn;
+			this.stopped = stopped;
+			this.summaryMissing = summaryMissing;
+		}
+	}
+
 	private static final class Parsed {
 		char type = '?';
 		long lsn = ValueStoreWAL.NO_LSN;
@@ -500,6 +612,20 @@ public final class ValueStoreWalReader implements AutoCloseable {
 		return !missingSegments && !summaryMissing && !stop;
 	}
 
+	/** Receives progress updates while the WAL is scanned. */
+	@FunctionalInterface
+	public interface ProgressListener {
+
+		/**
+		 * Called after a segment has been decoded, verified and applied.
+		 *
+		 * @param segmentsScanned The number of segments that have been applied so far.
+		 * @param segmentCount    The total number of segments in the WAL.
+		 * @param recordCount     The number of minted records that have been applied so far.
+		 */
+		void segmentScanned(int segmentsScanned, int segmentCount, long recordCount);
+	}
+
 	/** Result of a full WAL scan. */
 	public static final class ScanResult {
 		private final List<ValueStoreWalRecord> records;
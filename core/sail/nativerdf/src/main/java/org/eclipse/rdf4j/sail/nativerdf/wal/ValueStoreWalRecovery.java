@@ -15,14 +15,49 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Replays the minted records of a ValueStore WAL into a dictionary of value IDs. Segments are decoded and verified
+ * concurrently and applied in segment sequence order, so the first occurrence of an ID wins as if the WAL was read
+ * sequentially.
+ */
 public final class ValueStoreWalRecovery {
 
+	/**
+	 * System property that sets the number of WAL segments that are decoded concurrently during recovery. Defaults to
+	 * the number of available processors; a value of <var>1</var> replays the segments sequentially.
+	 */
+	public static final String PARALLELISM_PROP = "org.eclipse.rdf4j.sail.nativerdf.wal.recoveryParallelism";
+
+	private final int parallelism;
+
+	private final ValueStoreWalReader.ProgressListener progressListener;
+
+	public ValueStoreWalRecovery() {
+		this(null);
+	}
+
+	/**
+	 * @param progressListener Notified after each replayed segment, may be <var>null</var>.
+	 */
+	public ValueStoreWalRecovery(ValueStoreWalReader.ProgressListener progressListener) {
+		this(Integer.getInteger(PARALLELISM_PROP, Runtime.getRuntime().availableProcessors()), progressListener);
+	}
+
+	/**
+	 * @param parallelism      The maximum number of segments that are decoded concurrently.
+	 * @param progressListener Notified after each replayed segment, may be <var>null</var>.
+	 */
+	public ValueStoreWalRecovery(int parallelism, ValueStoreWalReader.ProgressListener progressListener) {
+		this.parallelism = Math.max(1, parallelism);
+		this.progressListener = progressListener;
+	}
+
 	public Map<Integer, ValueStoreWalRecord> replay(ValueStoreWalReader reader) throws IOException {
 		return replayWithReport(reader).dictionary();
 	}
 
 	public ReplayReport replayWithReport(ValueStoreWalReader reader) throws IOException {
-		ValueStoreWalReader.ScanResult scan = reader.scan();
+		ValueStoreWalReader.ScanResult scan = reader.scan(parallelism, progressListener);
 		Map<Integer, ValueStoreWalRecord> dictionary = new LinkedHashMap<>();
 		for (ValueStoreWalRecord record : scan.records()) {
 			dictionary.putIfAbsent(record.id(), record);
@@ -15,8 +15,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
-import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
@@ -41,15 +44,17 @@ public class ContextStoreTest {
 	@TempDir
 	File dataDir;
 
+	private NativeSailStore sailStore;
+
 	/**
 	 * @throws Exception
 	 */
 	@BeforeEach
 	public void setUp() throws Exception {
-		NativeSailStore sailStore = mock(NativeSailStore.class);
+		sailStore = mock(NativeSailStore.class);
 
 		when(sailStore.getValueFactory()).thenReturn(SimpleValueFactory.getInstance());
-		when(sailStore.getContexts()).thenReturn(new EmptyIteration<>());
+		when(sailStore.countContextStatements()).thenReturn(Collections.emptyMap());
 
 		subject = new ContextStore(sailStore, dataDir);
 	}
@@ -126,6 +131,83 @@ public class ContextStoreTest {
 		assertThat(datafile.length()).isEqualTo(8L);
 	}
 
+	@Test
+	public void testUpdateCounts() throws Exception {
+		Map<Resource, ContextStore.StatementCounts> changes = new HashMap<>();
+		changes.put(g1, new ContextStore.StatementCounts(3, 2));
+		changes.put(g2, new ContextStore.StatementCounts(1, 0));
+		changes.put(null, new ContextStore.StatementCounts(4, 1));
+		subject.update(changes);
+
+		changes.clear();
+		changes.put(g1, new ContextStore.StatementCounts(-1, -2));
+		changes.put(g2, new ContextStore.StatementCounts(-1, 0));
+		subject.update(changes);
+
+		assertThat(countContexts(subject)).isEqualTo(1);
+		assertCounts(subject.getCounts(g1), 2, 0);
+		assertCounts(subject.getCounts(g2), 0, 0);
+		assertCounts(subject.getCounts(null), 4, 1);
+		assertCounts(subject.getTotalCounts(), 6, 1);
+
+		// the counts are persisted
+		subject.sync();
+		ContextStore reopened = new ContextStore(sailStore, dataDir);
+		assertThat(countContexts(reopened)).isEqualTo(1);
+		assertCounts(reopened.getCounts(g1), 2, 0);
+		assertCounts(reopened.getCounts(null), 4, 1);
+		assertCounts(reopened.getTotalCounts(), 6, 1);
+	}
+
+	@Test
+	public void testIncompleteUpdateIsReconstructed() throws Exception {
+		subject.increment(g1);
+		subject.sync();
+		subject.beginUpdate();
+
+		when(sailStore.countContextStatements())
+				.thenReturn(Map.of(g2, new ContextStore.StatementCounts(1, 1)));
+		ContextStore reopened = new ContextStore(sailStore, dataDir);
+		assertThat(countContexts(reopened)).isEqualTo(1);
+		assertCounts(reopened.getCounts(g1), 0, 0);
+		assertCounts(reopened.getCounts(g2), 1, 1);
+
+		// a completed update clears the marker
+		reopened.beginUpdate();
+		reopened.sync();
+		assertCounts(new ContextStore(sailStore, dataDir).getCounts(g2), 1, 1);
+	}
+
+	@Test
+	public void testForcedUpdates() throws Exception {
+		ContextStore forced = new ContextStore(sailStore, dataDir, true);
+		forced.beginUpdate();
+		forced.sync();
+		forced.beginUpdate();
+		forced.increment(g1);
+		forced.sync();
+
+		assertCounts(new ContextStore(sailStore, dataDir).getCounts(g1), 1, 0);
+	}
+
+	@Test
+	public void testOldFileFormatIsReconstructed() throws Exception {
+		try (RandomAccessFile raf = new RandomAccessFile(new File(dataDir, "contexts.dat"), "rw")) {
+			raf.seek(3);
+			raf.writeByte(1);
+		}
+
+		when(sailStore.countContextStatements())
+				.thenReturn(Map.of(g1, new ContextStore.StatementCounts(2, 0)));
+		ContextStore reopened = new ContextStore(sailStore, dataDir);
+		assertCounts(reopened.getCounts(g1), 2, 0);
+	}
+
+	private static void assertCounts(ContextStore.StatementCounts counts, long explicit, long inferred) {
+		assertThat(counts.explicit()).isEqualTo(explicit);
+		assertThat(counts.inferred()).isEqualTo(inferred);
+	}
+
 	private int countContexts(ContextStore subject) {
 		int count = 0;
 		for (Resource c : subject) {
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.io.NioFile;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MemoryMappedReaderTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	@AfterEach
+	public void clearProperty() {
+		System.clearProperty(MemoryMappedReader.ENABLED_PROP);
+	}
+
+	@Test
+	public void readsAcrossChunksAndAfterTruncation() throws Exception {
+		File file = new File(dataDir, "data");
+		byte[] content = new byte[10_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		try (NioFile nioFile = new NioFile(file)) {
+			nioFile.write(ByteBuffer.wrap(content), 0);
+
+			MemoryMappedReader reader = new MemoryMappedReader(file, 4096);
+			try {
+				reader.fileSizeChanged(nioFile.size());
+				byte[] read = new byte[100];
+				assertThat(reader.read(5000, read, 0, 100)).isTrue();
+				assertThat(read[0]).isEqualTo(content[5000]);
+				assertThat(read[99]).isEqualTo(content[5099]);
+
+				// regions that span two chunks or lie beyond the end of the file are read from the file
+				assertThat(reader.read(4090, read, 0, 10)).isFalse();
+				assertThat(reader.slice(9990, 100)).isNull();
+
+				// writes are visible through the mapping
+				nioFile.write(ByteBuffer.wrap(new byte[] { 42 }), 10);
+				assertThat(reader.slice(10, 1).get(ValueLayout.JAVA_BYTE, 0)).isEqualTo((byte) 42);
+
+				reader.invalidate();
+				nioFile.truncate(2000);
+				assertThat(reader.read(1000, read, 0, 100)).isFalse();
+				reader.fileSizeChanged(nioFile.size());
+				assertThat(reader.read(5000, read, 0, 100)).isFalse();
+				assertThat(reader.read(1000, read, 0, 100)).isTrue();
+				assertThat(read[0]).isEqualTo(content[1000]);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	@Test
+	public void remapReleasesSupersededLastChunk() throws Exception {
+		File file = new File(dataDir, "data");
+		int chunkSize = 4 * 1024 * 1024;
+		try (NioFile nioFile = new NioFile(file)) {
+			nioFile.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), chunkSize + 10);
+
+			MemoryMappedReader reader = new MemoryMappedReader(file, chunkSize);
+			try {
+				reader.fileSizeChanged(nioFile.size());
+				MemorySegment first = reader.slice(0, 10);
+				MemorySegment last = reader.slice(chunkSize + 10, 3);
+				assertThat(last.get(ValueLayout.JAVA_BYTE, 0)).isEqualTo((byte) 1);
+
+				// grow the last chunk enough to be mapped again
+				nioFile.write(ByteBuffer.wrap(new byte[] { 4 }), 2L * chunkSize - 1);
+				reader.fileSizeChanged(nioFile.size());
+				MemorySegment grown = reader.slice(2L * chunkSize - 1, 1);
+				assertThat(grown.get(ValueLayout.JAVA_BYTE, 0)).isEqualTo((byte) 4);
+
+				// the complete first chunk is kept, the superseded mapping of the last chunk is released
+				assertThat(first.scope().isAlive()).isTrue();
+				assertThat(last.scope().isAlive()).isFalse();
+				assertThatThrownBy(() -> last.get(ValueLayout.JAVA_BYTE, 0)).isInstanceOf(IllegalStateException.class);
+
+				byte[] read = new byte[3];
+				assertThat(reader.read(chunkSize + 10, read, 0, 3)).isTrue();
+				assertThat(read).containsExactly(1, 2, 3);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	@Test
+	public void appendedRegionsAreMappedWhenTheWriterReportsGrowth() throws Exception {
+		File file = new File(dataDir, "data");
+		try (NioFile nioFile = new NioFile(file)) {
+			nioFile.write(ByteBuffer.wrap(new byte[4096]), 0);
+
+			MemoryMappedReader reader = new MemoryMappedReader(file, 1L << 30);
+			try {
+				// nothing is mapped until the writer reports the size of the file
+				assertThat(reader.slice(0, 10)).isNull();
+				reader.fileSizeChanged(nioFile.size());
+				assertThat(reader.slice(0, 10)).isNotNull();
+
+				// reads of appended regions don't map the file again
+				nioFile.write(ByteBuffer.wrap(new byte[] { 7 }), 2 * 1024 * 1024);
+				assertThat(reader.slice(2 * 1024 * 1024, 1)).isNull();
+
+				// a small growth is read from the file, a larger one is mapped
+				reader.fileSizeChanged(4097);
+				assertThat(reader.slice(4096, 1)).isNull();
+				reader.fileSizeChanged(nioFile.size());
+				assertThat(reader.slice(2 * 1024 * 1024, 1).get(ValueLayout.JAVA_BYTE, 0)).isEqualTo((byte) 7);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	@Test
+	public void storeUsesMemoryMappedReads() throws Exception {
+		System.setProperty(MemoryMappedReader.ENABLED_PROP, "true");
+		IRI pred = vf.createIRI("urn:p");
+
+		SailRepository repository = new SailRepository(new NativeStore(dataDir, "spoc,posc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 5000; i++) {
+				connection.add(vf.createIRI("urn:s" + i), pred, vf.createLiteral("value " + i));
+			}
+			connection.commit();
+		} finally {
+			repository.shutDown();
+		}
+
+		SailRepository reopened = new SailRepository(new NativeStore(dataDir, "spoc,posc"));
+		try (RepositoryConnection connection = reopened.getConnection()) {
+			assertThat(connection.size()).isEqualTo(5000);
+			List<Statement> statements = connection.getStatements(null, pred, vf.createLiteral("value 4711"))
+					.stream()
+					.toList();
+			assertThat(statements).hasSize(1);
+			assertThat(statements.get(0).getSubject()).isEqualTo(vf.createIRI("urn:s4711"));
+
+			Set<String> objects = new HashSet<>();
+			connection.getStatements(null, pred, null).forEach(st -> objects.add(st.getObject().stringValue()));
+			assertThat(objects).hasSize(5000);
+
+			connection.clear();
+			connection.add(vf.createIRI("urn:s"), pred, vf.createLiteral("new"));
+			assertThat(connection.getStatements(null, null, vf.createLiteral("new")).stream().toList()).hasSize(1);
+		} finally {
+			reopened.shutDown();
+		}
+	}
+}
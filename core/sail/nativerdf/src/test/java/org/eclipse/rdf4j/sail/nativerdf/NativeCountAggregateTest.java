@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.testsuite.sail.SailCountAggregateTest;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * An extension of {@link SailCountAggregateTest} for testing the class {@link NativeStore}.
+ */
+public class NativeCountAggregateTest extends SailCountAggregateTest {
+
+	@TempDir
+	public File dataDir;
+
+	@Override
+	protected Sail createSail() {
+		Sail sail = new NativeStore(dataDir, "spoc,posc");
+		sail.init();
+		return sail;
+	}
+}
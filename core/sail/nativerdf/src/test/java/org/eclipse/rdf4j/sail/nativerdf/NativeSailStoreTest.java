@@ -10,11 +10,16 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.nativerdf;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.List;
 
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -24,6 +29,8 @@ import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -126,6 +133,36 @@ public class NativeSailStoreTest {
 		}
 	}
 
+	@Test
+	public void testStatementsFromOffsetInSeveralContexts() throws SailException {
+		try (RepositoryConnection conn = repo.getConnection()) {
+			conn.add(F.createIRI("http://example.org/3"), RDFS.LABEL, F.createLiteral("three"), CTX_1);
+			conn.add(F.createIRI("http://example.org/4"), RDFS.LABEL, F.createLiteral("four"), CTX_2);
+		}
+		NativeStore sail = (NativeStore) ((SailRepository) repo).getSail();
+
+		try (SailDataset dataset = sail.getSailStore().getExplicitSailSource().dataset(IsolationLevels.NONE)) {
+			assertOffsets(dataset);
+			assertOffsets(dataset, null, CTX_1, CTX_2);
+			assertOffsets(dataset, CTX_2, CTX_INV, CTX_1);
+			assertOffsets(dataset, CTX_INV, CTX_2);
+		}
+	}
+
+	private static void assertOffsets(SailDataset dataset, Resource... contexts) throws SailException {
+		List<Statement> all;
+		try (CloseableIteration<? extends Statement> iteration = dataset.getStatements(null, RDFS.LABEL, null,
+				contexts)) {
+			all = Iterations.asList(iteration);
+		}
+		for (int offset = 0; offset <= all.size() + 1; offset++) {
+			try (CloseableIteration<? extends Statement> iteration = dataset.getStatementsFromOffset(offset, null,
+					RDFS.LABEL, null, contexts)) {
+				assertEquals(all.subList(Math.min(offset, all.size()), all.size()), Iterations.asList(iteration));
+			}
+		}
+	}
+
 	@AfterEach
 	public void after() {
 		repo.shutDown();
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeStoreBulkLoaderTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI KNOWS = vf.createIRI("urn:knows");
+
+	private static final IRI GRAPH = vf.createIRI("urn:graph");
+
+	@TempDir
+	File dataDir;
+
+	@Test
+	public void loadedStatementsAreVisibleInStore() throws Exception {
+		try (NativeStoreBulkLoader loader = new NativeStoreBulkLoader(dataDir, "spoc,posc", 4)) {
+			for (int i = 0; i < 50_000; i++) {
+				IRI person = vf.createIRI("urn:person" + i);
+				loader.add(vf.createStatement(person, KNOWS, vf.createIRI("urn:person" + (i + 1) % 1000)));
+				loader.add(vf.createStatement(person, KNOWS, vf.createIRI("urn:person" + (i + 1) % 1000)));
+				if (i % 10 == 0) {
+					loader.add(vf.createStatement(person, KNOWS, vf.createLiteral(i), GRAPH));
+				}
+			}
+		}
+
+		// the store is opened with an additional index, which is built from the loaded indexes
+		SailRepository repository = new SailRepository(new NativeStore(dataDir, "spoc,posc,opsc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.size()).isEqualTo(55_000);
+			assertThat(connection.size(GRAPH)).isEqualTo(5_000);
+			assertThat(connection.getContextIDs().stream().toList()).containsExactly(GRAPH);
+			assertThat(connection.hasStatement(null, KNOWS, vf.createIRI("urn:person42"), false)).isTrue();
+			assertThat(connection.getStatements(null, null, vf.createIRI("urn:person42")).stream().count())
+					.isEqualTo(50);
+
+			connection.add(vf.createIRI("urn:new"), KNOWS, vf.createIRI("urn:person1"));
+			assertThat(connection.size()).isEqualTo(55_001);
+		} finally {
+			repository.shutDown();
+		}
+	}
+
+	@Test
+	public void storeWithStatementsIsRejected() throws Exception {
+		SailRepository repository = new SailRepository(new NativeStore(dataDir, "spoc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.add(vf.createIRI("urn:a"), KNOWS, vf.createIRI("urn:b"));
+		} finally {
+			repository.shutDown();
+		}
+
+		assertThatThrownBy(() -> new NativeStoreBulkLoader(dataDir, "spoc")).isInstanceOf(SailException.class);
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeStoreContextCountsTest {
+
+	private static final ValueFactory F = SimpleValueFactory.getInstance();
+
+	private static final IRI CTX_1 = F.createIRI("urn:one");
+	private static final IRI CTX_2 = F.createIRI("urn:two");
+
+	@TempDir
+	File dataDir;
+
+	private NativeStore store;
+
+	@BeforeEach
+	public void setUp() {
+		store = new NativeStore(dataDir, "spoc,posc");
+		store.init();
+
+		try (SailConnection conn = store.getConnection()) {
+			conn.begin();
+			for (int i = 0; i < 10; i++) {
+				conn.addStatement(F.createIRI("urn:s" + i), RDFS.LABEL, F.createLiteral(i), CTX_1);
+			}
+			for (int i = 0; i < 5; i++) {
+				conn.addStatement(F.createIRI("urn:s" + i), RDFS.LABEL, F.createLiteral(i), CTX_2);
+			}
+			conn.addStatement(F.createIRI("urn:s"), RDFS.LABEL, F.createLiteral("default"));
+			((NativeStoreConnection) conn).addInferredStatement(F.createIRI("urn:s"), RDFS.COMMENT,
+					F.createLiteral("inferred"), CTX_1);
+			conn.commit();
+		}
+	}
+
+	@AfterEach
+	public void tearDown() {
+		store.shutDown();
+	}
+
+	@Test
+	public void sizeUsesCommittedCounts() {
+		assertSizes(10, 5, 1, 16);
+
+		try (SailConnection conn = store.getConnection()) {
+			conn.begin();
+			conn.removeStatements(null, null, F.createLiteral(3), CTX_1);
+			conn.addStatement(F.createIRI("urn:t"), RDFS.LABEL, F.createLiteral("t"), CTX_2);
+			// uncommitted changes are visible within the transaction
+			assertThat(conn.size(CTX_1)).isEqualTo(9);
+			assertThat(conn.size(CTX_2)).isEqualTo(6);
+			conn.commit();
+		}
+		assertSizes(9, 6, 1, 16);
+
+		try (SailConnection conn = store.getConnection()) {
+			conn.begin();
+			conn.clear(CTX_2);
+			conn.rollback();
+		}
+		assertSizes(9, 6, 1, 16);
+	}
+
+	@Test
+	public void countsArePersisted() {
+		store.shutDown();
+		store = new NativeStore(dataDir, "spoc,posc");
+		store.init();
+
+		assertSizes(10, 5, 1, 16);
+	}
+
+	@Test
+	public void countsAreReconstructedFromIncompleteFile() throws Exception {
+		store.shutDown();
+
+		// a commit that did not complete leaves a negative number of contexts
+		try (RandomAccessFile raf = new RandomAccessFile(new File(dataDir, "contexts.dat"), "rw")) {
+			raf.seek(4);
+			raf.writeInt(-1);
+		}
+
+		store = new NativeStore(dataDir, "spoc,posc");
+		store.init();
+
+		assertSizes(10, 5, 1, 16);
+		try (SailConnection conn = store.getConnection()) {
+			assertThat(conn.getContextIDs().stream().map(Resource::stringValue))
+					.containsExactlyInAnyOrder(CTX_1.stringValue(), CTX_2.stringValue());
+		}
+	}
+
+	private void assertSizes(long ctx1, long ctx2, long defaultContext, long total) {
+		try (SailConnection conn = store.getConnection()) {
+			assertThat(conn.size(CTX_1)).isEqualTo(ctx1);
+			assertThat(conn.size(CTX_2)).isEqualTo(ctx2);
+			assertThat(conn.size((IRI) null)).isEqualTo(defaultContext);
+			assertThat(conn.size(CTX_1, CTX_2, CTX_1)).isEqualTo(ctx1 + ctx2);
+			assertThat(conn.size()).isEqualTo(total);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.nativerdf.btree.BTree;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeStoreIndexConverterTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI KNOWS = vf.createIRI("urn:knows");
+
+	@TempDir
+	File dataDir;
+
+	@AfterEach
+	public void clearProperty() {
+		System.clearProperty(BTree.COMPRESSED_LEAVES_PROP);
+	}
+
+	@Test
+	public void convertedIndexesContainAllStatements() throws Exception {
+		SailRepository repository = new SailRepository(new NativeStore(dataDir, "spoc,posc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 10_000; i++) {
+				connection.add(vf.createIRI("urn:person" + i), KNOWS, vf.createIRI("urn:person" + (i + 1) % 100));
+			}
+			connection.commit();
+		} finally {
+			repository.shutDown();
+		}
+		long uncompressedSize = new File(dataDir, "triples-spoc.dat").length();
+
+		NativeStoreIndexConverter.convert(dataDir, true);
+		assertThat(new File(dataDir, "triples-spoc.dat").length()).isLessThan(uncompressedSize);
+
+		repository = new SailRepository(new NativeStore(dataDir, "spoc,posc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.size()).isEqualTo(10_000);
+			assertThat(connection.getStatements(null, KNOWS, vf.createIRI("urn:person42")).stream().count())
+					.isEqualTo(100);
+
+			connection.add(vf.createIRI("urn:new"), KNOWS, vf.createIRI("urn:person42"));
+			connection.remove(vf.createIRI("urn:person41"), KNOWS, null);
+			assertThat(connection.getStatements(null, KNOWS, vf.createIRI("urn:person42")).stream().count())
+					.isEqualTo(100);
+		} finally {
+			repository.shutDown();
+		}
+
+		NativeStoreIndexConverter.convert(dataDir, false);
+
+		repository = new SailRepository(new NativeStore(dataDir, "spoc,posc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.size()).isEqualTo(10_000);
+			assertThat(connection.hasStatement(vf.createIRI("urn:new"), KNOWS, null, false)).isTrue();
+		} finally {
+			repository.shutDown();
+		}
+	}
+
+	@Test
+	public void newIndexesAreCompressedWhenEnabled() throws Exception {
+		System.setProperty(BTree.COMPRESSED_LEAVES_PROP, "true");
+
+		SailRepository repository = new SailRepository(new NativeStore(dataDir, "spoc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < 1000; i++) {
+				connection.add(vf.createIRI("urn:person" + i), KNOWS, vf.createLiteral(i));
+			}
+			assertThat(connection.size()).isEqualTo(1000);
+		} finally {
+			repository.shutDown();
+		}
+
+		// converting to the format that is already in use has no effect
+		NativeStoreIndexConverter.convert(dataDir, true);
+
+		repository = new SailRepository(new NativeStore(dataDir, "spoc"));
+		try (RepositoryConnection connection = repository.getConnection()) {
+			assertThat(connection.size()).isEqualTo(1000);
+		} finally {
+			repository.shutDown();
+		}
+	}
+}
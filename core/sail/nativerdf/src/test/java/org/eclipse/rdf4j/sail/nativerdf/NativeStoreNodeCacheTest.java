@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeStoreNodeCacheTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	@Test
+	public void nodeCacheBudgetIsDividedAmongIndexes() throws Exception {
+		NativeStore store = new NativeStore(dataDir, "spoc,posc");
+		store.setNodeCacheSize(4 * 1024 * 1024);
+		SailRepository repository = new SailRepository(store);
+		try (RepositoryConnection connection = repository.getConnection()) {
+			IRI knows = vf.createIRI("urn:knows");
+			for (int i = 0; i < 1000; i++) {
+				connection.add(vf.createIRI("urn:person" + i), knows, vf.createIRI("urn:person" + (i + 1)));
+			}
+			assertThat(connection.getStatements(null, knows, null).stream().count()).isEqualTo(1000);
+
+			Map<String, NodeCacheStatistics> statistics = store.getNodeCacheStatistics();
+			assertThat(statistics).containsOnlyKeys("spoc", "posc");
+			for (NodeCacheStatistics indexStatistics : statistics.values()) {
+				assertThat(indexStatistics.cacheSize()).isLessThanOrEqualTo(2 * 1024 * 1024);
+				assertThat(indexStatistics.usedBytes()).isLessThanOrEqualTo(indexStatistics.cacheSize());
+			}
+			assertThat(statistics.get("posc").hitCount()).isGreaterThan(0);
+		} finally {
+			repository.shutDown();
+		}
+	}
+}
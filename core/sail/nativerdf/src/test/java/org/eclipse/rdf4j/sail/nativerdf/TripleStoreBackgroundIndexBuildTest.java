@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.nativerdf.btree.RecordIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TripleStoreBackgroundIndexBuildTest {
+
+	private static final int TRIPLE_COUNT = 50_000;
+
+	@TempDir
+	File dataDir;
+
+	@AfterEach
+	public void clearProperty() {
+		System.clearProperty(TripleStore.BACKGROUND_INDEX_BUILDS_DISABLED_PROP);
+	}
+
+	@Test
+	public void addedIndexIsBuiltWhileTransactionsContinue() throws Exception {
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc")) {
+			tripleStore.startTransaction();
+			for (int i = 1; i <= TRIPLE_COUNT; i++) {
+				tripleStore.storeTriple(i, 1, i % 100 + 1, 0);
+			}
+			tripleStore.commit();
+		}
+
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc,ospc")) {
+			CompletableFuture<Void> build = tripleStore.addIndex("ospc");
+
+			// committed and rolled back transactions while the index is built
+			for (int round = 0; round < 20; round++) {
+				tripleStore.startTransaction();
+				for (int i = 1; i <= 100; i++) {
+					tripleStore.storeTriple(TRIPLE_COUNT + round * 100 + i, 1, 7, 0);
+				}
+				tripleStore.removeTriplesByContext(round * 10 + 1, -1, -1, -1);
+				tripleStore.commit();
+
+				tripleStore.startTransaction();
+				tripleStore.storeTriple(1_000_000 + round, 1, 7, 0);
+				tripleStore.removeTriplesByContext(round * 10 + 2, -1, -1, -1);
+				tripleStore.rollback();
+			}
+
+			build.get(2, TimeUnit.MINUTES);
+			assertThat(readIndexSpec()).isEqualTo("spoc,ospc");
+
+			// 500 triples with object 7 plus 2000 added ones, the removed subjects have other objects
+			assertThat(count(tripleStore, -1, -1, 7)).isEqualTo(2500);
+			assertThat(count(tripleStore, -1, -1, 3)).isEqualTo(500);
+			assertThat(count(tripleStore, -1, -1, -1)).isEqualTo(TRIPLE_COUNT + 2000 - 20);
+		}
+
+		// the completed index is kept when the store is opened again
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc,ospc")) {
+			assertThat(readIndexSpec()).isEqualTo("spoc,ospc");
+			assertThat(count(tripleStore, -1, -1, 7)).isEqualTo(2500);
+		}
+	}
+
+	@Test
+	public void explicitlyAddedIndex() throws Exception {
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc")) {
+			tripleStore.startTransaction();
+			for (int i = 1; i <= 1000; i++) {
+				tripleStore.storeTriple(i, i % 10 + 1, 1, 0);
+			}
+			tripleStore.commit();
+
+			tripleStore.addIndex("posc").get(2, TimeUnit.MINUTES);
+			assertThat(readIndexSpec()).isEqualTo("spoc,posc");
+			assertThat(count(tripleStore, -1, 5, -1)).isEqualTo(100);
+
+			// adding an existing index has no effect
+			assertThat(tripleStore.addIndex("posc")).isCompleted();
+			assertThatThrownBy(() -> tripleStore.addIndex("pos")).isInstanceOf(SailException.class);
+		}
+	}
+
+	@Test
+	public void indexesAreBuiltDuringInitializationIfDisabled() throws Exception {
+		System.setProperty(TripleStore.BACKGROUND_INDEX_BUILDS_DISABLED_PROP, "true");
+
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc")) {
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(1, 2, 3, 0);
+			tripleStore.commit();
+		}
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc,ospc")) {
+			assertThat(readIndexSpec()).isIn("spoc,ospc", "ospc,spoc");
+			assertThat(count(tripleStore, -1, -1, 3)).isEqualTo(1);
+		}
+	}
+
+	private String readIndexSpec() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(new File(dataDir, "triples.prop"))) {
+			properties.load(in);
+		}
+		return properties.getProperty("triple-indexes");
+	}
+
+	private static int count(TripleStore tripleStore, int subj, int pred, int obj) throws IOException {
+		int count = 0;
+		try (RecordIterator iter = tripleStore.getTriples(subj, pred, obj, -1, false)) {
+			while (iter.next() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TripleStoreContextCountsTest {
+
+	@TempDir
+	File dataDir;
+
+	@Test
+	public void commitReportsChangesPerContext() throws Exception {
+		try (TripleStore tripleStore = new TripleStore(dataDir, "spoc,posc")) {
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(1, 2, 3, 0, true);
+			tripleStore.storeTriple(1, 2, 4, 0, false);
+			tripleStore.storeTriple(1, 2, 3, 5, true);
+			tripleStore.storeTriple(1, 2, 4, 5, true);
+			tripleStore.storeTriple(1, 2, 6, 5, false);
+			tripleStore.commit();
+
+			assertCounts(tripleStore.getCommittedContextChanges(), 0, 1, 1);
+			assertCounts(tripleStore.getCommittedContextChanges(), 5, 2, 1);
+			assertCounts(tripleStore.countContextStatements(), 0, 1, 1);
+			assertCounts(tripleStore.countContextStatements(), 5, 2, 1);
+
+			// make an inferred statement explicit, remove an explicit one and re-add an existing one
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(1, 2, 6, 5, true);
+			tripleStore.removeTriplesByContext(1, 2, 3, 5, true);
+			tripleStore.storeTriple(1, 2, 3, 0, true);
+			tripleStore.commit();
+
+			assertThat(tripleStore.getCommittedContextChanges()).containsOnlyKeys(5);
+			assertCounts(tripleStore.getCommittedContextChanges(), 5, 0, -1);
+			assertCounts(tripleStore.countContextStatements(), 5, 2, 0);
+
+			// rolled back changes are not counted
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(7, 8, 9, 10, true);
+			tripleStore.removeTriplesByContext(-1, -1, -1, 0, false);
+			tripleStore.rollback();
+
+			Map<Integer, ContextStore.StatementCounts> counts = tripleStore.countContextStatements();
+			assertThat(counts).containsOnlyKeys(0, 5);
+			assertCounts(counts, 0, 1, 1);
+
+			tripleStore.startTransaction();
+			tripleStore.removeTriplesByContext(-1, -1, -1, 5, true);
+			tripleStore.removeTriplesByContext(-1, -1, -1, 0, false);
+			tripleStore.commit();
+
+			assertCounts(tripleStore.getCommittedContextChanges(), 0, 0, -1);
+			assertCounts(tripleStore.getCommittedContextChanges(), 5, -2, 0);
+			assertThat(tripleStore.countContextStatements()).containsOnlyKeys(0);
+		}
+	}
+
+	private static void assertCounts(Map<Integer, ContextStore.StatementCounts> counts, int contextId, long explicit,
+			long inferred) {
+		assertThat(counts).containsKey(contextId);
+		assertThat(counts.get(contextId).explicit()).isEqualTo(explicit);
+		assertThat(counts.get(contextId).inferred()).isEqualTo(inferred);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rdf4j.sail.nativerdf.btree.RecordIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TripleStoreParallelIndexUpdateTest {
+
+	private static final String INDEXES = "spoc,posc,ospc,cspo";
+
+	@TempDir
+	File dataDir;
+
+	@AfterEach
+	public void clearProperty() {
+		System.clearProperty(TripleStore.PARALLEL_INDEX_UPDATES_DISABLED_PROP);
+	}
+
+	@Test
+	public void indexesAreConsistentAfterCommitAndRollback() throws Exception {
+		try (TripleStore tripleStore = new TripleStore(dataDir, INDEXES)) {
+			tripleStore.startTransaction();
+			for (int i = 1; i <= 10_000; i++) {
+				tripleStore.storeTriple(i, i % 7 + 1, i % 100 + 1, i % 3);
+			}
+			// reads within the transaction see the updates of all indexes
+			assertThat(count(tripleStore, -1, 3, -1, -1, true)).isEqualTo(1429);
+			assertThat(count(tripleStore, -1, -1, 42, -1, true)).isEqualTo(100);
+			tripleStore.removeTriplesByContext(-1, -1, 42, -1);
+			tripleStore.commit();
+
+			assertThat(count(tripleStore, -1, -1, -1, -1, false)).isEqualTo(9900);
+			assertThat(count(tripleStore, -1, 3, -1, -1, false)).isEqualTo(1415);
+			assertThat(count(tripleStore, -1, -1, 42, -1, false)).isZero();
+			assertThat(count(tripleStore, -1, -1, -1, 2, false)).isEqualTo(3299);
+			assertThat(count(tripleStore, 5, -1, -1, -1, false)).isEqualTo(1);
+
+			tripleStore.startTransaction();
+			for (int i = 10_001; i <= 12_000; i++) {
+				tripleStore.storeTriple(i, 1, 1, 0);
+			}
+			tripleStore.removeTriplesByContext(-1, 3, -1, -1);
+			tripleStore.rollback();
+
+			assertThat(count(tripleStore, -1, -1, -1, -1, false)).isEqualTo(9900);
+			assertThat(count(tripleStore, -1, 3, -1, -1, false)).isEqualTo(1415);
+			assertThat(count(tripleStore, -1, -1, 1, -1, false)).isEqualTo(100);
+		}
+	}
+
+	@Test
+	public void sequentialUpdatesCanBeEnabled() throws Exception {
+		System.setProperty(TripleStore.PARALLEL_INDEX_UPDATES_DISABLED_PROP, "true");
+
+		try (TripleStore tripleStore = new TripleStore(dataDir, INDEXES)) {
+			tripleStore.startTransaction();
+			for (int i = 1; i <= 1000; i++) {
+				tripleStore.storeTriple(i, 1, i, 0);
+			}
+			tripleStore.commit();
+
+			assertThat(count(tripleStore, -1, -1, 500, -1, false)).isEqualTo(1);
+			assertThat(count(tripleStore, -1, -1, -1, 0, false)).isEqualTo(1000);
+		}
+	}
+
+	private static int count(TripleStore tripleStore, int subj, int pred, int obj, int context,
+			boolean readTransaction) throws IOException {
+		int count = 0;
+		try (RecordIterator iter = tripleStore.getTriples(subj, pred, obj, context, readTransaction)) {
+			while (iter.next() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
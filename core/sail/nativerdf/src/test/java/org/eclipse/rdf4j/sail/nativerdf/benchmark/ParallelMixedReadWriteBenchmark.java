@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.assertj.core.util.Files;
+import org.eclipse.rdf4j.benchmark.common.BenchmarkResources;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the latency of reads while another thread keeps committing large transactions. The sample time mode
+ * reports percentiles (p0.99 and above) for the readers, which shows how long queries are stalled by commits.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 5)
+@BenchmarkMode({ Mode.SampleTime })
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelMixedReadWriteBenchmark {
+
+	private static final String CONCURRENT_READS_DISABLED_PROPERTY = "org.eclipse.rdf4j.sail.nativerdf.concurrentReadsDuringCommit.disabled";
+
+	private static final String QUERY = "PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#>\n"
+			+ "SELECT ?s ?label WHERE { ?s a ?type ; rdfs:label ?label } LIMIT 10";
+
+	private static final int WRITE_BATCH_SIZE = 20_000;
+
+	private static final Model data;
+
+	static {
+		try (InputStream inputStream = BenchmarkResources
+				.openDecompressedStream("benchmarkFiles/datagovbe-valid.ttl.gz")) {
+			data = Rio.parse(inputStream, RDFFormat.TURTLE);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Param({ "true", "false" })
+	public boolean concurrentReadsDuringCommit;
+
+	private SailRepository repository;
+
+	private File file;
+
+	private int batch;
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include("nativerdf.benchmark.ParallelMixedReadWriteBenchmark") // adapt to run other benchmark tests
+				.forks(1)
+				.build();
+
+		new Runner(opt).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		System.setProperty(CONCURRENT_READS_DISABLED_PROPERTY, Boolean.toString(!concurrentReadsDuringCommit));
+		file = Files.newTemporaryFolder();
+
+		repository = new SailRepository(new NativeStore(file, "spoc,ospc,psoc"));
+
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			connection.add(data);
+			connection.commit();
+		}
+
+		System.gc();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		repository.shutDown();
+		FileUtils.deleteDirectory(file);
+		System.clearProperty(CONCURRENT_READS_DISABLED_PROPERTY);
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(4)
+	public boolean hasStatement() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			return connection.hasStatement(null, RDF.TYPE, null, false);
+		}
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(4)
+	public long query() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			return connection.prepareTupleQuery(QUERY).evaluate().stream().count();
+		}
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public void write() {
+		ValueFactory vf = repository.getValueFactory();
+		IRI context = vf.createIRI("urn:batch:" + (batch++ % 2));
+
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.begin(IsolationLevels.READ_COMMITTED);
+			// replace the batch that was written two commits ago
+			connection.clear(context);
+			for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+				IRI subject = vf.createIRI("urn:subject:" + batch + ":" + i);
+				connection.add(subject, RDF.TYPE, RDFS.RESOURCE, context);
+				connection.add(subject, RDFS.LABEL, vf.createLiteral("subject " + i), context);
+			}
+			connection.commit();
+		}
+	}
+
+}
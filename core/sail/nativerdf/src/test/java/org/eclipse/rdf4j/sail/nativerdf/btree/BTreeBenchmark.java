@@ -42,7 +42,11 @@ public class BTreeBenchmark {
 
 	@BeforeEach
 	public void setUp() throws Exception {
-		btree = new BTree(tmpDir, "test", 4096, 8);
+		btree = createBTree(tmpDir);
+	}
+
+	protected BTree createBTree(File dir) throws IOException {
+		return new BTree(dir, "test", 4096, 8, new DefaultRecordComparator(), false, false);
 	}
 
 	@AfterEach
@@ -119,6 +123,7 @@ public class BTreeBenchmark {
 
 		long endTime = System.currentTimeMillis();
 		printTime(startTime, endTime, "testFullScan");
+		System.out.println(btree.getFile().length() + " bytes in B-tree file");
 	}
 
 	@Test
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class BTreeBulkLoadTest {
+
+	@TempDir
+	File tmpDir;
+
+	private static byte[] value(int i) {
+		byte[] value = new byte[4];
+		ByteArrayUtil.putInt(i, value, 0);
+		return value;
+	}
+
+	private static Iterator<byte[]> values(int count) {
+		return IntStream.range(0, count).mapToObj(BTreeBulkLoadTest::value).iterator();
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "1,1.0", "9,1.0", "10,1.0", "11,1.0", "100,1.0", "1000,1.0", "12345,1.0", "12345,0.5",
+			"12345,0.7" })
+	public void bulkLoadBuildsValidTree(int count, float fillFactor) throws Exception {
+		// block size of 85 bytes and values of 4 bytes give a branch factor of 10
+		BTree btree = new BTree(tmpDir, "test", 85, 4);
+		try {
+			btree.bulkLoad(values(count), fillFactor);
+
+			assertTreeInvariants(btree);
+			assertContents(btree, count);
+			assertThat(btree.get(value(count / 2))).isEqualTo(value(count / 2));
+			assertThat(btree.get(value(count))).isNull();
+
+			// the tree can be updated as usual
+			btree.insert(value(count));
+			btree.remove(value(0));
+			assertTreeInvariants(btree);
+			assertThat(btree.get(value(count))).isEqualTo(value(count));
+			assertThat(btree.get(value(0))).isNull();
+		} finally {
+			btree.close();
+		}
+
+		BTree reopened = new BTree(tmpDir, "test", 85, 4);
+		try {
+			assertThat(reopened.get(value(count))).isEqualTo(value(count));
+			assertThat(reopened.get(value(0))).isNull();
+		} finally {
+			reopened.delete();
+		}
+	}
+
+	@Test
+	public void bulkLoadRejectsUnsortedValuesAndNonEmptyTrees() throws Exception {
+		BTree btree = new BTree(tmpDir, "test", 85, 4);
+		try {
+			assertThatThrownBy(() -> btree.bulkLoad(List.of(value(2), value(1)).iterator(), 1f))
+					.isInstanceOf(IllegalArgumentException.class);
+
+			btree.clear();
+			btree.bulkLoad(Collections.emptyIterator(), 1f);
+			assertContents(btree, 0);
+
+			btree.insert(value(1));
+			assertThatThrownBy(() -> btree.bulkLoad(values(10), 1f)).isInstanceOf(IllegalStateException.class);
+		} finally {
+			btree.delete();
+		}
+	}
+
+	@Test
+	public void sorterProducesSortedUniqueRecords() throws Exception {
+		List<Integer> input = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			input.add(i % 3000);
+		}
+		Collections.shuffle(input, new Random(42));
+
+		try (ExternalRecordSorter sorter = new ExternalRecordSorter(tmpDir, 4, new DefaultRecordComparator(), 700)) {
+			for (int i : input) {
+				sorter.add(value(i));
+			}
+
+			List<byte[]> sorted = new ArrayList<>();
+			sorter.sort().forEachRemaining(sorted::add);
+
+			assertThat(sorted).hasSize(3000);
+			for (int i = 0; i < 3000; i++) {
+				assertThat(sorted.get(i)).isEqualTo(value(i));
+			}
+		}
+		assertThat(tmpDir.listFiles()).isEmpty();
+	}
+
+	private static void assertContents(BTree btree, int count) throws Exception {
+		try (RecordIterator iter = btree.iterateAll()) {
+			for (int i = 0; i < count; i++) {
+				assertThat(iter.next()).isEqualTo(value(i));
+			}
+			assertThat(iter.next()).isNull();
+		}
+	}
+
+	private static void assertTreeInvariants(BTree btree) throws Exception {
+		Node root = btree.readRootNode();
+		if (root != null) {
+			assertSubtree(btree, root, true, depth(root));
+		}
+	}
+
+	private static int depth(Node node) throws Exception {
+		int depth = 1;
+		node.use();
+		while (!node.isLeaf()) {
+			Node child = node.getChildNode(0);
+			node.release();
+			node = child;
+			depth++;
+		}
+		node.release();
+		return depth;
+	}
+
+	private static void assertSubtree(BTree btree, Node node, boolean isRoot, int depth) throws Exception {
+		try {
+			if (!isRoot) {
+				assertThat(node.getValueCount()).isGreaterThanOrEqualTo(btree.minValueCount);
+			}
+			assertThat(node.getValueCount()).isLessThan(btree.branchFactor);
+			if (node.isLeaf()) {
+				assertThat(depth).isEqualTo(1);
+			} else {
+				for (int i = 0; i <= node.getValueCount(); i++) {
+					assertSubtree(btree, node.getChildNode(i), false, depth - 1);
+				}
+			}
+		} finally {
+			node.release();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BTreeCompressedLeavesTest {
+
+	private static final int BLOCK_SIZE = 256;
+
+	/**
+	 * Values of two 4-byte words followed by a flag byte that is not compared, like the records of the triple indexes.
+	 */
+	private static final int VALUE_SIZE = 9;
+
+	private static final RecordComparator COMPARATOR = (key, data, offset, length) -> {
+		int diff = Integer.compare(ByteArrayUtil.getInt(key, 0), ByteArrayUtil.getInt(data, offset));
+		return diff != 0 ? diff : Integer.compare(ByteArrayUtil.getInt(key, 4), ByteArrayUtil.getInt(data, offset + 4));
+	};
+
+	@TempDir
+	File tmpDir;
+
+	@AfterEach
+	public void clearProperty() {
+		System.clearProperty(BTree.COMPRESSED_LEAVES_PROP);
+	}
+
+	private static byte[] value(int first, int second, int flag) {
+		byte[] value = new byte[VALUE_SIZE];
+		ByteArrayUtil.putInt(first, value, 0);
+		ByteArrayUtil.putInt(second, value, 4);
+		value[8] = (byte) flag;
+		return value;
+	}
+
+	private static long key(byte[] value) {
+		return ((long) ByteArrayUtil.getInt(value, 0) << 32) | (ByteArrayUtil.getInt(value, 4) & 0xFFFFFFFFL);
+	}
+
+	private BTree open(String name, boolean compressedLeaves) throws Exception {
+		return new BTree(tmpDir, name, BLOCK_SIZE, VALUE_SIZE, COMPARATOR, false, compressedLeaves);
+	}
+
+	@Test
+	public void randomUpdatesMatchModel() throws Exception {
+		TreeMap<Long, byte[]> model = new TreeMap<>();
+		Random random = new Random(42);
+
+		BTree btree = open("test", true);
+		try {
+			assertThat(btree.hasCompressedLeaves()).isTrue();
+			for (int i = 0; i < 20_000; i++) {
+				byte[] value = value(random.nextInt(50), random.nextInt(i % 2 == 0 ? 100 : Integer.MAX_VALUE),
+						random.nextInt(4));
+				if (random.nextInt(3) > 0) {
+					btree.insert(value);
+					model.put(key(value), value);
+				} else {
+					assertThat(btree.remove(value) != null).isEqualTo(model.remove(key(value)) != null);
+				}
+				if (i % 7000 == 6999) {
+					// the compressed format is kept when the file is opened again
+					btree.close();
+					btree = open("test", false);
+					assertThat(btree.hasCompressedLeaves()).isTrue();
+				}
+			}
+			assertContents(btree, model.values());
+
+			for (Long key : new ArrayList<>(model.keySet())) {
+				btree.remove(model.remove(key));
+			}
+			assertContents(btree, model.values());
+		} finally {
+			btree.delete();
+		}
+	}
+
+	@Test
+	public void compressedLeavesNeedFewerNodes() throws Exception {
+		TreeMap<Long, byte[]> model = new TreeMap<>();
+		for (int i = 0; i < 10_000; i++) {
+			byte[] value = value(i / 100, i % 100 * 3, 1);
+			model.put(key(value), value);
+		}
+
+		BTree uncompressed = open("uncompressed", false);
+		BTree compressed = open("compressed", true);
+		try {
+			uncompressed.bulkLoad(model.values().iterator(), 1f);
+			compressed.bulkLoad(model.values().iterator(), 1f);
+			assertContents(compressed, model.values());
+			uncompressed.sync();
+			compressed.sync();
+
+			assertThat(compressed.getFile().length() * 3).isLessThan(uncompressed.getFile().length());
+		} finally {
+			uncompressed.delete();
+			compressed.delete();
+		}
+	}
+
+	@Test
+	public void convertNodeFormat() throws Exception {
+		TreeMap<Long, byte[]> model = new TreeMap<>();
+		Random random = new Random(7);
+
+		BTree btree = open("test", false);
+		for (int i = 0; i < 5000; i++) {
+			byte[] value = value(random.nextInt(20), random.nextInt(1000), 1);
+			btree.insert(value);
+			model.put(key(value), value);
+		}
+		btree.close();
+
+		assertThat(BTree.convertNodeFormat(tmpDir, "test", VALUE_SIZE, COMPARATOR, true)).isTrue();
+		assertThat(BTree.convertNodeFormat(tmpDir, "test", VALUE_SIZE, COMPARATOR, true)).isFalse();
+
+		btree = open("test", false);
+		try {
+			assertThat(btree.hasCompressedLeaves()).isTrue();
+			assertContents(btree, model.values());
+
+			// the converted tree can be updated as usual
+			for (int i = 0; i < 2000; i++) {
+				byte[] value = value(random.nextInt(20), random.nextInt(1000), 2);
+				btree.insert(value);
+				model.put(key(value), value);
+			}
+			assertContents(btree, model.values());
+		} finally {
+			btree.close();
+		}
+
+		assertThat(BTree.convertNodeFormat(tmpDir, "test", VALUE_SIZE, COMPARATOR, false)).isTrue();
+		btree = open("test", true);
+		try {
+			assertThat(btree.hasCompressedLeaves()).isFalse();
+			assertContents(btree, model.values());
+		} finally {
+			btree.delete();
+		}
+		assertThat(tmpDir.listFiles()).isEmpty();
+	}
+
+	@Test
+	public void systemPropertyEnablesCompressedLeavesForNewFiles() throws Exception {
+		System.setProperty(BTree.COMPRESSED_LEAVES_PROP, "true");
+
+		BTree btree = new BTree(tmpDir, "test", BLOCK_SIZE, VALUE_SIZE, COMPARATOR);
+		try {
+			assertThat(btree.hasCompressedLeaves()).isTrue();
+		} finally {
+			btree.delete();
+		}
+
+		// values without a single word can not be compressed
+		btree = new BTree(tmpDir, "small", 85, 1);
+		try {
+			assertThat(btree.hasCompressedLeaves()).isFalse();
+		} finally {
+			btree.delete();
+		}
+	}
+
+	private static void assertContents(BTree btree, Collection<byte[]> expected) throws Exception {
+		try (RecordIterator iter = btree.iterateAll()) {
+			for (byte[] value : expected) {
+				assertThat(iter.next()).isEqualTo(value);
+			}
+			assertThat(iter.next()).isNull();
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BTreeNodeCacheTest {
+
+	private static final int VALUE_COUNT = 50_000;
+
+	@TempDir
+	File tmpDir;
+
+	private BTree btree;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		btree = new BTree(tmpDir, "test", 256, 4);
+		btree.bulkLoad(IntStream.range(0, VALUE_COUNT).mapToObj(BTreeNodeCacheTest::value).iterator(), 1f);
+		btree.close();
+		btree = new BTree(tmpDir, "test", 256, 4);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		btree.delete();
+	}
+
+	private static byte[] value(int i) {
+		byte[] value = new byte[4];
+		ByteArrayUtil.putInt(i, value, 0);
+		return value;
+	}
+
+	@Test
+	public void countsHitsAndMisses() throws Exception {
+		assertThat(btree.get(value(42))).isEqualTo(value(42));
+		long misses = btree.getNodeCacheMissCount();
+		assertThat(misses).isGreaterThan(0);
+		assertThat(btree.getNodeCacheHitCount()).isZero();
+
+		assertThat(btree.get(value(43))).isEqualTo(value(43));
+		assertThat(btree.getNodeCacheMissCount()).isEqualTo(misses);
+		assertThat(btree.getNodeCacheHitCount()).isEqualTo(misses);
+	}
+
+	@Test
+	public void cacheStaysWithinBudget() throws Exception {
+		btree.setNodeCacheSize(100 * 1024);
+		for (int i = 0; i < VALUE_COUNT; i += 7) {
+			btree.get(value(i));
+		}
+		assertThat(btree.getNodeCacheUsage()).isLessThanOrEqualTo(btree.getNodeCacheSize());
+		assertThat(btree.getNodeCacheEvictionCount()).isGreaterThan(0);
+	}
+
+	@Test
+	public void scanDoesNotEvictFrequentlyUsedNodes() throws Exception {
+		btree.setNodeCacheSize(200 * 1024);
+		for (int round = 0; round < 2; round++) {
+			for (int i = 0; i < 10; i++) {
+				btree.get(value(i * 4999));
+			}
+		}
+
+		int scanned = 0;
+		try (RecordIterator iter = btree.iterateAll()) {
+			while (iter.next() != null) {
+				scanned++;
+			}
+		}
+		assertThat(scanned).isEqualTo(VALUE_COUNT);
+		assertThat(btree.getNodeCacheEvictionCount()).isGreaterThan(0);
+
+		long misses = btree.getNodeCacheMissCount();
+		for (int i = 0; i < 10; i++) {
+			btree.get(value(i * 4999));
+		}
+		assertThat(btree.getNodeCacheMissCount()).isEqualTo(misses);
+	}
+
+	@Test
+	public void concurrentReads() throws Exception {
+		btree.setNodeCacheSize(100 * 1024);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int i = 0; i < 20_000; i++) {
+						// mostly hits on a small set of values, with misses on the rest of the tree
+						int v = random.nextInt(10) < 8 ? random.nextInt(100) : random.nextInt(VALUE_COUNT);
+						assertThat(btree.get(value(v))).isEqualTo(value(v));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(btree.getNodeCacheHitCount()).isGreaterThan(btree.getNodeCacheMissCount());
+		assertThat(btree.getNodeCacheEvictionCount()).isGreaterThan(0);
+		assertThat(btree.getNodeCacheUsage()).isLessThanOrEqualTo(btree.getNodeCacheSize());
+
+		// the frequently used nodes are still cached
+		long misses = btree.getNodeCacheMissCount();
+		for (int v = 0; v < 100; v++) {
+			btree.get(value(v));
+		}
+		assertThat(btree.getNodeCacheMissCount()).isEqualTo(misses);
+	}
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Runs the {@link BTreeBenchmark} on a B-tree with compressed leaf nodes.
+ */
+public class CompressedLeavesBTreeBenchmark extends BTreeBenchmark {
+
+	@Override
+	protected BTree createBTree(File dir) throws IOException {
+		return new BTree(dir, "test", 4096, 8, new DefaultRecordComparator(), false, true);
+	}
+}
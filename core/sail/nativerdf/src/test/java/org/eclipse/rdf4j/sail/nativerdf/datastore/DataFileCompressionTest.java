@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.datastore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileCompressionTest {
+
+	@TempDir
+	File tmpDir;
+
+	private static byte[] longLiteral(int i) {
+		return ("{\"description\": \"A long and repetitive description of item " + i
+				+ ", which is stored as a literal value in the native store.\", \"tags\": [\"one\", \"two\", \"three\"]}")
+				.repeat(3)
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] randomData(Random random, int length) {
+		byte[] data = new byte[length];
+		random.nextBytes(data);
+		return data;
+	}
+
+	@Test
+	public void compressedEntriesAreReadTransparently() throws Exception {
+		File file = new File(tmpDir, "values.dat");
+		Random random = new Random(42);
+
+		List<byte[]> values = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			values.add(longLiteral(i));
+			values.add(("short " + i).getBytes(StandardCharsets.UTF_8));
+			values.add(randomData(random, 200));
+			values.add(randomData(random, 10_000));
+		}
+
+		List<Long> offsets = new ArrayList<>();
+		long uncompressedSize;
+		try (DataFile dataFile = new DataFile(file, false, true)) {
+			for (byte[] value : values) {
+				offsets.add(dataFile.storeData(value));
+			}
+			for (int i = 0; i < values.size(); i++) {
+				assertThat(dataFile.getData(offsets.get(i))).isEqualTo(values.get(i));
+			}
+			// the random data does not compress, the long literals shrink to less than half their size
+			uncompressedSize = values.stream().mapToLong(value -> value.length + 4).sum();
+			long literalSize = values.stream().filter(value -> value[0] == '{').mapToLong(value -> value.length).sum();
+			assertThat(dataFile.getFileSize()).isLessThan(uncompressedSize - literalSize / 2);
+		}
+
+		// compressed entries remain readable without compression, and new entries are stored uncompressed
+		try (DataFile dataFile = new DataFile(file, false, false)) {
+			for (int i = 0; i < values.size(); i++) {
+				assertThat(dataFile.getData(offsets.get(i))).isEqualTo(values.get(i));
+			}
+			long sizeBefore = dataFile.getFileSize();
+			byte[] value = longLiteral(-1);
+			long offset = dataFile.storeData(value);
+			assertThat(dataFile.getFileSize()).isEqualTo(sizeBefore + value.length + 4);
+			assertThat(dataFile.getData(offset)).isEqualTo(value);
+
+			DataFile.DataIterator iter = dataFile.iterator();
+			int count = 0;
+			while (iter.hasNext()) {
+				byte[] data = iter.next();
+				assertThat(data).isEqualTo(count < values.size() ? values.get(count) : value);
+				count++;
+			}
+			assertThat(count).isEqualTo(values.size() + 1);
+		}
+	}
+
+	@Test
+	public void uncompressedFilesAreUpgradedOnFirstCompressedEntry() throws Exception {
+		File file = new File(tmpDir, "values.dat");
+
+		long plainOffset;
+		try (DataFile dataFile = new DataFile(file, false, false)) {
+			plainOffset = dataFile.storeData(longLiteral(1));
+		}
+		assertThat(formatVersion(file)).isEqualTo((byte) 1);
+
+		long compressedOffset;
+		try (DataFile dataFile = new DataFile(file, false, true)) {
+			// short values are never compressed and do not change the format
+			dataFile.storeData("short".getBytes(StandardCharsets.UTF_8));
+			dataFile.sync();
+			assertThat(formatVersion(file)).isEqualTo((byte) 1);
+
+			compressedOffset = dataFile.storeData(longLiteral(2));
+		}
+		assertThat(formatVersion(file)).isEqualTo((byte) 2);
+
+		try (DataFile dataFile = new DataFile(file)) {
+			assertThat(dataFile.getData(plainOffset)).isEqualTo(longLiteral(1));
+			assertThat(dataFile.getData(compressedOffset)).isEqualTo(longLiteral(2));
+		}
+	}
+
+	@Test
+	public void dataStoreFindsCompressedValues() throws Exception {
+		System.setProperty(DataFile.COMPRESSION_PROPERTY, "true");
+		try (DataStore dataStore = new DataStore(tmpDir, "values")) {
+			int id = dataStore.storeData(longLiteral(7));
+			assertThat(dataStore.storeData(longLiteral(7))).isEqualTo(id);
+			assertThat(dataStore.getID(longLiteral(7))).isEqualTo(id);
+			assertThat(dataStore.getData(id)).isEqualTo(longLiteral(7));
+			assertThat(formatVersion(new File(tmpDir, "values.dat"))).isEqualTo((byte) 2);
+		} finally {
+			System.clearProperty(DataFile.COMPRESSION_PROPERTY);
+		}
+	}
+
+	private static byte formatVersion(File file) throws Exception {
+		return Files.readAllBytes(file.toPath())[3];
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Ensures that decoding WAL segments concurrently yields the same result as a sequential scan.
+ */
+@Tag("slow")
+class ValueStoreWalParallelRecoveryTest {
+
+	private static final int VALUE_COUNT = 20_000;
+
+	@TempDir
+	Path tempDir;
+
+	private ValueStoreWalConfig config;
+
+	@BeforeEach
+	void writeWal() throws Exception {
+		config = ValueStoreWalConfig.builder()
+				.walDirectory(tempDir.resolve(ValueStoreWalConfig.DEFAULT_DIRECTORY_NAME))
+				.storeUuid(UUID.randomUUID().toString())
+				.maxSegmentBytes(64 * 1024)
+				.build();
+		try (ValueStoreWAL wal = ValueStoreWAL.open(config)) {
+			long lsn = ValueStoreWAL.NO_LSN;
+			for (int id = 1; id <= VALUE_COUNT; id++) {
+				lsn = wal.logMint(id, ValueStoreWalValueKind.IRI, "http://example.org/" + id, "", "", id);
+			}
+			wal.awaitDurable(lsn);
+		}
+		assertThat(segments()).hasSizeGreaterThan(10);
+	}
+
+	@Test
+	void parallelScanMatchesSequentialScan() throws Exception {
+		ValueStoreWalReader.ScanResult sequential;
+		try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
+			sequential = reader.scan();
+		}
+
+		List<long[]> progress = new ArrayList<>();
+		ValueStoreWalReader.ScanResult parallel;
+		try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
+			parallel = reader.scan(4, (scanned, count, records) -> progress.add(new long[] { scanned, count, records }));
+		}
+
+		assertThat(parallel.records()).hasSize(VALUE_COUNT)
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyElementsOf(sequential.records());
+		assertThat(parallel.lastValidLsn()).isEqualTo(sequential.lastValidLsn());
+		assertThat(parallel.complete()).isTrue().isEqualTo(sequential.complete());
+
+		int segmentCount = segments().size();
+		assertThat(progress).hasSize(segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			assertThat(progress.get(i)[0]).isEqualTo(i + 1);
+			assertThat(progress.get(i)[1]).isEqualTo(segmentCount);
+		}
+		assertThat(progress.get(segmentCount - 1)[2]).isEqualTo(VALUE_COUNT);
+	}
+
+	@Test
+	void corruptSegmentEndsParallelScan() throws Exception {
+		List<Path> segments = segments();
+		Path corrupt = segments.get(segments.size() / 2);
+		try (FileChannel channel = FileChannel.open(corrupt, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+
+		ValueStoreWalReader.ScanResult sequential;
+		try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
+			sequential = reader.scan();
+		}
+		Map<Integer, ValueStoreWalRecord> dictionary;
+		ValueStoreWalRecovery.ReplayReport report;
+		try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
+			report = new ValueStoreWalRecovery(4, null).replayWithReport(reader);
+			dictionary = report.dictionary();
+		}
+
+		assertThat(sequential.complete()).isFalse();
+		assertThat(report.complete()).isFalse();
+		assertThat(sequential.records()).hasSizeLessThan(VALUE_COUNT);
+		assertThat(dictionary.keySet()).containsExactlyElementsOf(
+				sequential.records().stream().map(ValueStoreWalRecord::id).collect(Collectors.toList()));
+	}
+
+	private List<Path> segments() throws Exception {
+		try (Stream<Path> files = Files.list(config.walDirectory())) {
+			return files.filter(p -> p.getFileName().toString().startsWith("wal-"))
+					.sorted((a, b) -> {
+						try {
+							return Integer.compare(ValueStoreWAL.readSegmentSequence(a),
+									ValueStoreWAL.readSegmentSequence(b));
+						} catch (Exception e) {
+							throw new IllegalStateException(e);
+						}
+					})
+					.collect(Collectors.toList());
+		}
+	}
+}
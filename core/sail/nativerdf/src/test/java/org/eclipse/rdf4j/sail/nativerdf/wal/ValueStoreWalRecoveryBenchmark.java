@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.nativerdf.wal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to replay a large ValueStore WAL, sequentially and with segments decoded concurrently.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueStoreWalRecoveryBenchmark {
+
+	@Param({ "1", "4", "8" })
+	public int parallelism;
+
+	@Param({ "1000000" })
+	public int valueCount;
+
+	@Param({ "8388608" })
+	public long segmentBytes;
+
+	private Path walDir;
+	private ValueStoreWalConfig config;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, InterruptedException {
+		walDir = Files.createTempDirectory("wal-recovery-bench-");
+		config = ValueStoreWalConfig.builder()
+				.walDirectory(walDir)
+				.storeUuid(UUID.randomUUID().toString())
+				.maxSegmentBytes(segmentBytes)
+				.build();
+		try (ValueStoreWAL wal = ValueStoreWAL.open(config)) {
+			long lsn = ValueStoreWAL.NO_LSN;
+			for (int id = 1; id <= valueCount; id++) {
+				if (id % 2 == 0) {
+					lsn = wal.logMint(id, ValueStoreWalValueKind.LITERAL, "literal value " + id,
+							"http://www.w3.org/2001/XMLSchema#string", "", id);
+				} else {
+					lsn = wal.logMint(id, ValueStoreWalValueKind.IRI, "http://example.com/resource/" + id, "", "", id);
+				}
+			}
+			wal.awaitDurable(lsn);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(walDir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public int replay() throws IOException {
+		try (ValueStoreWalReader reader = ValueStoreWalReader.open(config)) {
+			return new ValueStoreWalRecovery(parallelism, null).replay(reader).size();
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.testsuite.sail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.inferencer.InferencerConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that <code>COUNT</code> aggregates over a single statement pattern, which stores may answer from their indexes,
+ * give the same results as evaluating the pattern and counting the solutions.
+ */
+public abstract class SailCountAggregateTest {
+
+	private static final String EXAMPLE_NS = "http://example.org/";
+
+	private static final String PREFIX = "PREFIX ex: <" + EXAMPLE_NS + ">\n";
+
+	protected Sail sail;
+
+	protected SailConnection con;
+
+	private IRI s1, s2, s3, p, q, o1, o2, g1, g2;
+
+	/**
+	 * Gets an instance of the Sail that should be tested.
+	 *
+	 * @return a Sail.
+	 */
+	protected abstract Sail createSail();
+
+	@BeforeEach
+	public void setUp() {
+		sail = createSail();
+		con = sail.getConnection();
+
+		ValueFactory vf = sail.getValueFactory();
+		s1 = vf.createIRI(EXAMPLE_NS, "s1");
+		s2 = vf.createIRI(EXAMPLE_NS, "s2");
+		s3 = vf.createIRI(EXAMPLE_NS, "s3");
+		p = vf.createIRI(EXAMPLE_NS, "p");
+		q = vf.createIRI(EXAMPLE_NS, "q");
+		o1 = vf.createIRI(EXAMPLE_NS, "o1");
+		o2 = vf.createIRI(EXAMPLE_NS, "o2");
+		g1 = vf.createIRI(EXAMPLE_NS, "g1");
+		g2 = vf.createIRI(EXAMPLE_NS, "g2");
+
+		con.begin();
+		con.addStatement(s1, p, o1);
+		con.addStatement(s1, p, o2);
+		con.addStatement(s2, p, o1);
+		con.addStatement(s2, q, o2);
+		con.addStatement(s1, p, o1, g1);
+		con.addStatement(s2, p, o2, g1);
+		con.addStatement(s3, q, o1, g1);
+		con.addStatement(s1, p, o1, g2);
+		con.addStatement(s3, p, o2, g2);
+		con.commit();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		try {
+			if (con.isActive()) {
+				con.rollback();
+			}
+			con.close();
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	@Test
+	public void testCountBoundPattern() {
+		assertEquals(7, assertCounts("?s ex:p ?o", true, "s", "o"));
+		assertEquals(4, assertCounts("ex:s1 ?p ?o", true, "p", "o"));
+		assertEquals(5, assertCounts("?s ?p ex:o1", true, "s", "p"));
+		assertEquals(4, assertCounts("ex:s1 ex:p ?o", true, "o"));
+		assertEquals(0, assertCounts("ex:s3 ex:p ex:o1", true));
+	}
+
+	@Test
+	public void testCountNamedContexts() {
+		assertEquals(9, assertCounts("?s ?p ?o", true, "s", "p", "o"));
+		assertEquals(3, assertCounts("GRAPH ex:g1 { ?s ?p ?o }", true, "s", "p", "o"));
+		assertEquals(2, assertCounts("GRAPH ex:g1 { ?s ex:p ?o }", true, "s", "o"));
+		assertEquals(1, assertCounts("GRAPH ex:g2 { ex:s1 ?p ?o }", true, "p", "o"));
+		assertEquals(0, assertCounts("GRAPH ex:g3 { ?s ?p ?o }", true, "s"));
+	}
+
+	@Test
+	public void testCountInferredStatements() {
+		con.begin();
+		InferencerConnection inferencerCon = (InferencerConnection) con;
+		inferencerCon.addInferredStatement(s3, p, o1);
+		inferencerCon.addInferredStatement(s3, q, o2, g1);
+		// an inferred statement that is also explicit is only counted once
+		inferencerCon.addInferredStatement(s2, q, o2);
+		con.commit();
+
+		assertEquals(7, assertCounts("?s ex:p ?o", false, "s", "o"));
+		assertEquals(8, assertCounts("?s ex:p ?o", true, "s", "o"));
+		assertEquals(11, assertCounts("?s ?p ?o", true, "s", "p", "o"));
+		assertEquals(3, assertCounts("GRAPH ex:g1 { ?s ?p ?o }", false, "s", "o"));
+		assertEquals(4, assertCounts("GRAPH ex:g1 { ?s ?p ?o }", true, "s", "o"));
+	}
+
+	@Test
+	public void testCountUncommittedChanges() {
+		con.begin();
+		con.addStatement(s3, p, o1);
+		con.addStatement(s3, p, o1, g1);
+		con.removeStatements(s1, p, null);
+		con.removeStatements(null, null, null, g2);
+
+		assertEquals(4, assertCounts("?s ex:p ?o", true, "s", "o"));
+		assertEquals(6, assertCounts("?s ?p ?o", true, "s", "p", "o"));
+		assertEquals(3, assertCounts("GRAPH ex:g1 { ?s ?p ?o }", true, "s", "p", "o"));
+		assertEquals(0, assertCounts("GRAPH ex:g2 { ?s ?p ?o }", true, "s"));
+		con.rollback();
+
+		assertEquals(7, assertCounts("?s ex:p ?o", true, "s", "o"));
+	}
+
+	/**
+	 * Asserts that <code>COUNT(*)</code>, and <code>COUNT(?x)</code> and <code>COUNT(DISTINCT ?x)</code> for each of the
+	 * supplied variables, over the pattern are equal to the number of solutions of the pattern.
+	 *
+	 * @return the number of solutions of the pattern
+	 */
+	private long assertCounts(String pattern, boolean includeInferred, String... vars) {
+		long solutions = countSolutions("SELECT * WHERE { " + pattern + " }", includeInferred);
+		assertEquals(solutions, count("SELECT (COUNT(*) AS ?c) WHERE { " + pattern + " }", includeInferred),
+				"COUNT(*) over " + pattern);
+		for (String var : vars) {
+			assertTrue(pattern.contains("?" + var));
+			assertEquals(solutions,
+					count("SELECT (COUNT(?" + var + ") AS ?c) WHERE { " + pattern + " }", includeInferred),
+					"COUNT(?" + var + ") over " + pattern);
+			assertEquals(countSolutions("SELECT DISTINCT ?" + var + " WHERE { " + pattern + " }", includeInferred),
+					count("SELECT (COUNT(DISTINCT ?" + var + ") AS ?c) WHERE { " + pattern + " }", includeInferred),
+					"COUNT(DISTINCT ?" + var + ") over " + pattern);
+		}
+		return solutions;
+	}
+
+	private long count(String query, boolean includeInferred) {
+		try (CloseableIteration<? extends BindingSet> iter = evaluate(query, includeInferred)) {
+			return ((Literal) iter.next().getValue("c")).longValue();
+		}
+	}
+
+	private long countSolutions(String query, boolean includeInferred) {
+		long count = 0;
+		try (CloseableIteration<? extends BindingSet> iter = evaluate(query, includeInferred)) {
+			while (iter.hasNext()) {
+				iter.next();
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private CloseableIteration<? extends BindingSet> evaluate(String query, boolean includeInferred) {
+		ParsedTupleQuery tupleQuery = QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, PREFIX + query, null);
+		return con.evaluate(tupleQuery.getTupleExpr(), null, EmptyBindingSet.getInstance(), includeInferred);
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.testsuite.sail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that <code>OFFSET</code> over a single statement pattern, which stores may apply while scanning their indexes,
+ * skips exactly the leading solutions of the pattern.
+ */
+public abstract class SailOffsetTest {
+
+	private static final String EXAMPLE_NS = "http://example.org/";
+
+	private static final String PREFIX = "PREFIX ex: <" + EXAMPLE_NS + ">\n";
+
+	protected Sail sail;
+
+	protected SailConnection con;
+
+	private IRI s1, s2, s3, p, q, o1, o2, g1, g2;
+
+	/**
+	 * Gets an instance of the Sail that should be tested.
+	 *
+	 * @return a Sail.
+	 */
+	protected abstract Sail createSail();
+
+	@BeforeEach
+	public void setUp() {
+		sail = createSail();
+		con = sail.getConnection();
+
+		ValueFactory vf = sail.getValueFactory();
+		s1 = vf.createIRI(EXAMPLE_NS, "s1");
+		s2 = vf.createIRI(EXAMPLE_NS, "s2");
+		s3 = vf.createIRI(EXAMPLE_NS, "s3");
+		p = vf.createIRI(EXAMPLE_NS, "p");
+		q = vf.createIRI(EXAMPLE_NS, "q");
+		o1 = vf.createIRI(EXAMPLE_NS, "o1");
+		o2 = vf.createIRI(EXAMPLE_NS, "o2");
+		g1 = vf.createIRI(EXAMPLE_NS, "g1");
+		g2 = vf.createIRI(EXAMPLE_NS, "g2");
+
+		con.begin();
+		con.addStatement(s1, p, o1);
+		con.addStatement(s1, p, o2);
+		con.addStatement(s2, q, o2);
+		con.addStatement(s1, p, o1, g1);
+		con.addStatement(s2, p, o2, g1);
+		con.addStatement(s3, q, o1, g1);
+		con.addStatement(s1, p, o1, g2);
+		con.addStatement(s3, p, o2, g2);
+		con.commit();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		try {
+			if (con.isActive()) {
+				con.rollback();
+			}
+			con.close();
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	@Test
+	public void testOffsetAcrossContexts() {
+		assertEquals(8, assertOffsets("?s ?p ?o"));
+		assertEquals(6, assertOffsets("?s ex:p ?o"));
+		assertEquals(4, assertOffsets("ex:s1 ?p ?o"));
+	}
+
+	@Test
+	public void testOffsetInNamedContext() {
+		assertEquals(3, assertOffsets("GRAPH ex:g1 { ?s ?p ?o }"));
+		assertEquals(2, assertOffsets("GRAPH ex:g2 { ?s ex:p ?o }"));
+		assertEquals(0, assertOffsets("GRAPH ex:g3 { ?s ?p ?o }"));
+	}
+
+	@Test
+	public void testOffsetUncommittedChanges() {
+		con.begin();
+		con.addStatement(s3, p, o1);
+		con.addStatement(s3, p, o1, g1);
+		con.removeStatements(s1, p, null);
+		con.removeStatements(null, null, null, g2);
+
+		assertEquals(5, assertOffsets("?s ?p ?o"));
+		assertEquals(3, assertOffsets("?s ex:p ?o"));
+		assertEquals(3, assertOffsets("GRAPH ex:g1 { ?s ?p ?o }"));
+		con.rollback();
+
+		assertEquals(6, assertOffsets("?s ex:p ?o"));
+	}
+
+	/**
+	 * Asserts that every <code>OFFSET</code> over the pattern, with and without a <code>LIMIT</code>, returns the
+	 * corresponding part of the solutions of the pattern without an offset.
+	 *
+	 * @return the number of solutions of the pattern
+	 */
+	private int assertOffsets(String pattern) {
+		String query = "SELECT * WHERE { " + pattern + " }";
+		List<BindingSet> solutions = evaluate(query);
+		int size = solutions.size();
+		for (int offset = 1; offset <= size + 1; offset++) {
+			assertEquals(solutions.subList(Math.min(offset, size), size), evaluate(query + " OFFSET " + offset),
+					"OFFSET " + offset + " over " + pattern);
+			assertEquals(solutions.subList(Math.min(offset, size), Math.min(offset + 2, size)),
+					evaluate(query + " LIMIT 2 OFFSET " + offset),
+					"LIMIT 2 OFFSET " + offset + " over " + pattern);
+		}
+		return size;
+	}
+
+	private List<BindingSet> evaluate(String query) {
+		ParsedTupleQuery tupleQuery = QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, PREFIX + query, null);
+		List<BindingSet> solutions = new ArrayList<>();
+		try (CloseableIteration<? extends BindingSet> iter = con.evaluate(tupleQuery.getTupleExpr(), null,
+				EmptyBindingSet.getInstance(), false)) {
+			while (iter.hasNext()) {
+				solutions.add(iter.next());
+			}
+		}
+		return solutions;
+	}
+}
@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 import org.eclipse.rdf4j.RDF4J;
 import org.eclipse.rdf4j.common.app.AppConfiguration;
 import org.eclipse.rdf4j.common.app.AppVersion;
+import org.eclipse.rdf4j.console.command.Backup;
 import org.eclipse.rdf4j.console.command.Clear;
 import org.eclipse.rdf4j.console.command.Close;
 import org.eclipse.rdf4j.console.command.Connect;
@@ -242,6 +243,7 @@ public class Console {
 		register(new Clear(consoleIO, STATE));
 		register(new Export(consoleIO, STATE, settingMap));
 		register(new Convert(consoleIO, STATE, settingMap));
+		register(new Backup(consoleIO, STATE, settingMap));
 		// parameters
 		register(new SetParameters(consoleIO, STATE, settingMap));
 	}
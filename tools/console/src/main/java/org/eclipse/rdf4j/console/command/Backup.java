@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.console.command;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.rdf4j.console.ConsoleIO;
+import org.eclipse.rdf4j.console.ConsoleState;
+import org.eclipse.rdf4j.console.Util;
+import org.eclipse.rdf4j.console.setting.ConsoleSetting;
+import org.eclipse.rdf4j.console.setting.WorkDir;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
+
+/**
+ * Backup command, copies an LMDB repository to a directory while it remains available.
+ */
+public class Backup extends ConsoleCommand {
+	@Override
+	public String getName() {
+		return "backup";
+	}
+
+	@Override
+	public String getHelpShort() {
+		return "Copies an LMDB repository to a directory";
+	}
+
+	@Override
+	public String getHelpLong() {
+		return PrintHelp.USAGE + "backup <dir> [compact]\n"
+				+ "  <dir>           The directory to copy the repository to, must be empty\n"
+				+ "  compact         Omit free pages from the copy, which takes longer but produces smaller files\n"
+				+ "Copies the committed data of the current LMDB repository to a directory that can be opened as a new\n"
+				+ "LMDB store. The repository remains available for reads and writes during the copy.\n";
+	}
+
+	@Override
+	public String[] usesSettings() {
+		return new String[] { WorkDir.NAME };
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param consoleIO
+	 * @param state
+	 * @param settings
+	 */
+	public Backup(ConsoleIO consoleIO, ConsoleState state, Map<String, ConsoleSetting> settings) {
+		super(consoleIO, state, settings);
+	}
+
+	@Override
+	public void execute(String... tokens) {
+		Repository repository = state.getRepository();
+
+		if (repository == null) {
+			writeUnopenedError();
+			return;
+		}
+		boolean compact = tokens.length == 3 && tokens[2].equalsIgnoreCase("compact");
+		if (tokens.length < 2 || tokens.length > 3 || tokens.length == 3 && !compact) {
+			writeln(getHelpLong());
+			return;
+		}
+		if (!(repository instanceof SailRepository)
+				|| !(((SailRepository) repository).getSail() instanceof LmdbStore)) {
+			writeError("Backups are only supported for LMDB repositories");
+			return;
+		}
+
+		Path path = Util.getNormalizedPath(getWorkDir(), tokens[1]);
+		if (path == null) {
+			writeError("Invalid directory name " + tokens[1]);
+			return;
+		}
+		backup((LmdbStore) ((SailRepository) repository).getSail(), path, compact);
+	}
+
+	/**
+	 * Get working dir setting.
+	 *
+	 * @return path of working dir
+	 */
+	private Path getWorkDir() {
+		return ((WorkDir) settings.get(WorkDir.NAME)).get();
+	}
+
+	/**
+	 * Copy the store to a directory
+	 *
+	 * @param store   LMDB store
+	 * @param path    target directory
+	 * @param compact whether to omit free pages
+	 */
+	private void backup(LmdbStore store, Path path, boolean compact) {
+		writeln("Copying repository...");
+		long startTime = System.nanoTime();
+		try {
+			store.backup(path.toFile(), compact);
+		} catch (SailException e) {
+			writeError("Failed to back up repository", e);
+			return;
+		}
+		long diff = (System.nanoTime() - startTime) / 1_000_000;
+		writeln("Repository has been copied to " + path + " (" + diff + " ms)");
+	}
+}
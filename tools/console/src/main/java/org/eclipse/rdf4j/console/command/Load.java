@@ -26,12 +26,22 @@ import org.eclipse.rdf4j.console.Util;
 import org.eclipse.rdf4j.console.setting.ConsoleSetting;
 import org.eclipse.rdf4j.console.setting.WorkDir;
 import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryReadOnlyException;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.util.RDFLoader;
+import org.eclipse.rdf4j.rio.ParserConfig;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.UnsupportedRDFormatException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.LmdbBulkLoader;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
 
 /**
  * Load command
@@ -51,11 +61,13 @@ public class Load extends ConsoleCommand {
 
 	@Override
 	public String getHelpLong() {
-		return PrintHelp.USAGE + "load <file-or-url> [from <base-uri>] [into <context-id>] [isolation <level>]\n"
+		return PrintHelp.USAGE
+				+ "load <file-or-url> [from <base-uri>] [into <context-id>] [isolation <level>] [bulk]\n"
 				+ "  <file-or-url>   The path or URL identifying the data file\n"
 				+ "  <base-uri>      The base URI to use for resolving relative references, defaults to <file-or-url>\n"
 				+ "  <context-id>    The ID of the context to add the data to, e.g. foo:bar or _:n123\n"
 				+ "  <level>         Isolation level to use when loading data (defaults to NONE)\n"
+				+ "  bulk            Use the bulk loader of an empty LMDB repository instead of a transaction\n"
 				+ "Loads the specified data file into the current repository\n";
 	}
 
@@ -87,6 +99,7 @@ public class Load extends ConsoleCommand {
 				String baseURI = null;
 				String context = null;
 				IsolationLevel isolationLevel = null;
+				boolean bulk = false;
 
 				int index = 2;
 				while (index < tokens.length) {
@@ -116,13 +129,16 @@ public class Load extends ConsoleCommand {
 							return;
 						}
 						index += 2;
+					} else if (tokens[index].equalsIgnoreCase("bulk")) {
+						bulk = true;
+						index++;
 					} else {
 						writeln(getHelpLong());
 						return;
 					}
 				}
 
-				load(repository, baseURI, context, isolationLevel, tokens);
+				load(repository, baseURI, context, isolationLevel, bulk, tokens);
 			}
 		}
 	}
@@ -143,10 +159,11 @@ public class Load extends ConsoleCommand {
 	 * @param baseURI
 	 * @param context
 	 * @param isolationLevel explicit isolation level, or null to prompt for default
+	 * @param bulk           whether to use the bulk loader of an LMDB store
 	 * @param tokens
 	 */
 	private void load(Repository repository, String baseURI, String context, IsolationLevel isolationLevel,
-			final String... tokens) {
+			boolean bulk, final String... tokens) {
 		final String dataPath = tokens[1];
 		URL dataURL = null;
 		File dataFile = null;
@@ -163,6 +180,11 @@ public class Load extends ConsoleCommand {
 		}
 
 		try {
+			if (bulk) {
+				bulkLoadData(repository, baseURI, context, dataURL, dataFile);
+				return;
+			}
+
 			IsolationLevel levelToUse = isolationLevel;
 			if (levelToUse == null) {
 				boolean confirmed = consoleIO
@@ -187,7 +209,7 @@ public class Load extends ConsoleCommand {
 			writeError("No parser available for this RDF format");
 		} catch (RDFParseException e) {
 			writeError("Malformed document", e);
-		} catch (RepositoryException e) {
+		} catch (RepositoryException | SailException | RDFHandlerException e) {
 			writeError("Unable to add data to repository", e);
 		}
 	}
@@ -253,6 +275,54 @@ public class Load extends ConsoleCommand {
 		writeln("Data has been added to the repository (" + (endTime - startTime) / 1_000_000 + " ms)");
 	}
 
+	/**
+	 * Add data from a URL or local file to an empty LMDB store using its bulk loader. If the dataURL is null, then the
+	 * datafile will be used.
+	 *
+	 * @param repository repository
+	 * @param baseURI    base URI
+	 * @param context    context (can be null)
+	 * @param dataURL    url of the data
+	 * @param dataFile   file containing data
+	 * @throws IOException
+	 * @throws RDFParseException
+	 */
+	private void bulkLoadData(Repository repository, String baseURI, String context, URL dataURL, File dataFile)
+			throws IOException, RDFParseException {
+		if (!(repository instanceof SailRepository)
+				|| !(((SailRepository) repository).getSail() instanceof LmdbStore)) {
+			writeError("Bulk loading is only supported for LMDB repositories");
+			return;
+		}
+		LmdbStore store = (LmdbStore) ((SailRepository) repository).getSail();
+		Resource[] contexts = getContexts(repository, context);
+		writeln("Bulk loading data...");
+
+		final long startTime = System.nanoTime();
+		long added;
+		try (LmdbBulkLoader loader = store.createBulkLoader()) {
+			RDFHandler handler = loader;
+			if (contexts.length > 0) {
+				handler = new AbstractRDFHandler() {
+					@Override
+					public void handleStatement(Statement st) {
+						loader.add(st.getSubject(), st.getPredicate(), st.getObject(), contexts[0]);
+					}
+				};
+			}
+			RDFLoader rdfLoader = new RDFLoader(new ParserConfig(), store.getValueFactory());
+			if (dataURL == null) {
+				rdfLoader.load(dataFile, baseURI, null, handler);
+			} else {
+				rdfLoader.load(dataURL, baseURI, null, handler);
+			}
+			added = loader.finish();
+		}
+		final long endTime = System.nanoTime();
+		writeln(added + " statements have been added to the repository (" + (endTime - startTime) / 1_000_000
+				+ " ms)");
+	}
+
 	/**
 	 * Get context as resource
 	 *
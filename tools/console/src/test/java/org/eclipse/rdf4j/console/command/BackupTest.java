@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.console.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BackupTest extends AbstractCommandTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private SailRepository repository;
+
+	private Backup cmd;
+
+	@BeforeEach
+	public void setUp() {
+		repository = new SailRepository(
+				new LmdbStore(new File(locationFile, "store"), new LmdbStoreConfig("spoc,posc")));
+		try (RepositoryConnection con = repository.getConnection()) {
+			for (int i = 0; i < 10; i++) {
+				con.add(vf.createIRI("urn:s" + i), vf.createIRI("urn:p"), vf.createLiteral(i));
+			}
+		}
+		when(mockConsoleState.getRepository()).thenReturn(repository);
+
+		cmd = new Backup(mockConsoleIO, mockConsoleState, defaultSettings);
+	}
+
+	@AfterEach
+	public void shutDownRepository() {
+		repository.shutDown();
+	}
+
+	@Test
+	public final void testBackup() {
+		assertBackup(new File(locationFile, "backup"), "backup");
+	}
+
+	@Test
+	public final void testCompactingBackup() {
+		assertBackup(new File(locationFile, "backup"), "backup", "compact");
+	}
+
+	@Test
+	public final void testBackupWorkDir() {
+		setWorkingDir(cmd);
+		File backupDir = new File(locationFile, "backup");
+		cmd.execute("backup", backupDir.getName());
+		verify(mockConsoleIO, never()).writeError(anyString());
+		assertStatements(backupDir);
+	}
+
+	@Test
+	public final void testBackupToNonEmptyDirectory() throws IOException {
+		File backupDir = new File(locationFile, "backup");
+		Files.createDirectories(backupDir.toPath());
+		Files.writeString(backupDir.toPath().resolve("data"), "data");
+
+		cmd.execute("backup", backupDir.getAbsolutePath());
+		verify(mockConsoleIO).writeError(startsWith("Failed to back up repository"));
+	}
+
+	@Test
+	public final void testBackupOtherStore() {
+		SailRepository memory = new SailRepository(new MemoryStore());
+		try {
+			when(mockConsoleState.getRepository()).thenReturn(memory);
+			cmd.execute("backup", new File(locationFile, "backup").getAbsolutePath());
+			verify(mockConsoleIO).writeError("Backups are only supported for LMDB repositories");
+		} finally {
+			memory.shutDown();
+		}
+	}
+
+	private void assertBackup(File backupDir, String... tokens) {
+		String[] args = new String[tokens.length + 1];
+		args[0] = tokens[0];
+		args[1] = backupDir.getAbsolutePath();
+		System.arraycopy(tokens, 1, args, 2, tokens.length - 1);
+		cmd.execute(args);
+		verify(mockConsoleIO, never()).writeError(anyString());
+		assertStatements(backupDir);
+	}
+
+	private static void assertStatements(File backupDir) {
+		SailRepository copy = new SailRepository(new LmdbStore(backupDir, new LmdbStoreConfig("spoc,posc")));
+		try (RepositoryConnection con = copy.getConnection()) {
+			assertEquals(10, con.size());
+		} finally {
+			copy.shutDown();
+		}
+	}
+}